@@ -0,0 +1,165 @@
+package com.example.tournament.benchmark;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.MatchService;
+import com.example.tournament.service.ScoreUpdate;
+import com.example.tournament.service.ScoreUpdateResult;
+import com.example.tournament.service.ScoringService;
+import com.example.tournament.service.TournamentService;
+import com.example.tournament.util.JPAUtil;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the TournamentService and MatchService queries, and posting a
+ * tournament's results one by one or as a batch, against a seeded in-memory
+ * H2 database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersistenceBenchmark {
+    
+    @Param({"10", "50"})
+    private int tournaments;
+    
+    @Param({"16"})
+    private int teamsPerTournament;
+    
+    private TournamentService tournamentService;
+    private MatchService matchService;
+    private ScoringService scoringService;
+    private final List<Long> tournamentIds = new ArrayList<>();
+    private final Map<Long, List<Long>> matchIds = new HashMap<>();
+    private int next;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Separate database, and no SQL echo to distort the timings
+        JPAUtil.initialize("TournamentPU-H2", Map.of(
+                "jakarta.persistence.jdbc.url", "jdbc:h2:mem:benchmarkdb;DB_CLOSE_DELAY=-1",
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.show_sql", "false",
+                "hibernate.format_sql", "false"));
+        tournamentService = new TournamentService();
+        matchService = new MatchService();
+        scoringService = new ScoringService();
+        seed(new SyntheticData(42, LocalDate.of(2025, 1, 1), 180));
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        JPAUtil.shutdown();
+    }
+    
+    @Benchmark
+    public List<Tournament> viewAllTournaments() {
+        return tournamentService.viewAllTournaments();
+    }
+    
+    @Benchmark
+    public Tournament getTournamentById() {
+        return tournamentService.getTournamentById(nextTournamentId());
+    }
+    
+    @Benchmark
+    public List<Match> getMatchesByTournament() {
+        return matchService.getMatchesByTournament(nextTournamentId());
+    }
+    
+    @Benchmark
+    public List<Match> getAllMatches() {
+        return matchService.getAllMatches();
+    }
+    
+    @Benchmark
+    public int postScoresOneByOne() {
+        int posted = 0;
+        for (ScoreUpdate update : nextScoreUpdates()) {
+            if (scoringService.postScores(update.getMatchId(), update.getTeam1Score(), update.getTeam2Score())) {
+                posted++;
+            }
+        }
+        return posted;
+    }
+    
+    @Benchmark
+    public List<ScoreUpdateResult> postScoresBatch() {
+        return scoringService.postScoresBatch(nextScoreUpdates());
+    }
+    
+    /**
+     * Gets new scores for every match of the next tournament, so each post changes the standings.
+     */
+    private List<ScoreUpdate> nextScoreUpdates() {
+        List<ScoreUpdate> updates = new ArrayList<>();
+        int offset = next;
+        for (Long matchId : matchIds.get(nextTournamentId())) {
+            updates.add(new ScoreUpdate(matchId, (int) ((matchId + offset) % 4), (int) (matchId % 3)));
+        }
+        return updates;
+    }
+    
+    private Long nextTournamentId() {
+        Long id = tournamentIds.get(next);
+        next = (next + 1) % tournamentIds.size();
+        return id;
+    }
+    
+    /**
+     * Persists league tournaments with generated, played and scheduled fixtures.
+     */
+    private void seed(SyntheticData data) {
+        EntityManager em = JPAUtil.getEntityManager();
+        try {
+            em.getTransaction().begin();
+            Sport sport = data.sport();
+            em.persist(sport);
+            List<Venue> venues = data.venues(8);
+            venues.forEach(em::persist);
+            
+            for (int t = 0; t < tournaments; t++) {
+                List<Team> teams = data.teams(teamsPerTournament, 0);
+                teams.forEach(em::persist);
+                
+                LeagueTournament tournament = data.league(teams);
+                tournament.setSport(sport);
+                tournament.setStatus(TournamentStatus.ONGOING);
+                tournament.generateSchedule();
+                data.playAll(tournament);
+                for (int m = 0; m < tournament.getMatches().size(); m++) {
+                    Match match = tournament.getMatches().get(m);
+                    match.setVenue(venues.get(m % venues.size()));
+                    match.setScheduledTime(tournament.getStartDate().atTime(9, 0).plusHours(3L * m));
+                }
+                em.persist(tournament);
+            }
+            em.getTransaction().commit();
+            
+            tournamentIds.addAll(em.createQuery("SELECT t.id FROM Tournament t WHERE t.name = :name", Long.class)
+                                   .setParameter("name", "Benchmark League")
+                                   .getResultList());
+            for (Object[] row : em.createQuery("SELECT m.tournament.id, m.id FROM Match m", Object[].class)
+                                  .getResultList()) {
+                matchIds.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+            }
+        } catch (RuntimeException e) {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            throw e;
+        } finally {
+            em.close();
+        }
+    }
+}
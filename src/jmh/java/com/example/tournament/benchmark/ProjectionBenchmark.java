@@ -0,0 +1,57 @@
+package com.example.tournament.benchmark;
+
+import com.example.tournament.model.KnockoutTournament;
+import com.example.tournament.model.LeagueTournament;
+import com.example.tournament.service.TournamentProjection;
+import com.example.tournament.service.TournamentSimulator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Monte Carlo projection of a half-played league and a knockout bracket
+ * whose first round is still to be played.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectionBenchmark {
+    
+    @Param({"20", "40"})
+    private int teams;
+    
+    @Param({"100000"})
+    private int simulations;
+    
+    private LeagueTournament league;
+    private KnockoutTournament knockout;
+    private TournamentSimulator simulator;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticData data = new SyntheticData(42, LocalDate.of(2025, 1, 1), 180);
+        
+        league = data.league(data.teams(teams, 0));
+        league.generateSchedule();
+        data.play(league, league.getMatches().size() / 2);
+        
+        knockout = data.knockout(data.teams(teams, 0));
+        knockout.generateSchedule();
+        
+        simulator = new TournamentSimulator(simulations, 42);
+    }
+    
+    @Benchmark
+    public TournamentProjection leagueProjection() {
+        return simulator.project(league);
+    }
+    
+    @Benchmark
+    public TournamentProjection knockoutProjection() {
+        return simulator.project(knockout);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.tournament.benchmark;
+
+import com.example.tournament.model.LeagueTournament;
+import com.example.tournament.model.Venue;
+import com.example.tournament.service.SchedulingManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full SchedulingManager.scheduleMatches run for a league,
+ * from fixture generation to validation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SchedulingBenchmark {
+    
+    @Param({"16", "64"})
+    private int teams;
+    
+    @Param({"4", "16"})
+    private int venues;
+    
+    @Param({"0", "3"})
+    private int preferencesPerTeam;
+    
+    private SchedulingManager scheduler;
+    private LeagueTournament tournament;
+    private List<Venue> venuePool;
+    
+    // Scheduling books venues and adds matches, so every run starts from fresh data
+    @Setup(Level.Invocation)
+    public void setUp() {
+        SyntheticData data = new SyntheticData(42, LocalDate.of(2025, 1, 1), 180);
+        scheduler = new SchedulingManager();
+        tournament = data.league(data.teams(teams, preferencesPerTeam));
+        venuePool = data.venues(venues);
+    }
+    
+    @Benchmark
+    public LeagueTournament scheduleMatches() {
+        scheduler.scheduleMatches(tournament, venuePool);
+        return tournament;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.tournament.benchmark;
+
+import com.example.tournament.model.KnockoutTournament;
+import com.example.tournament.model.LeagueTournament;
+import com.example.tournament.model.RoundRobinTournament;
+import com.example.tournament.model.Team;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures getStandings for each tournament type over a fully played schedule.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StandingsBenchmark {
+    
+    @Param({"16", "128"})
+    private int teams;
+    
+    private LeagueTournament league;
+    private RoundRobinTournament roundRobin;
+    private KnockoutTournament knockout;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticData data = new SyntheticData(42, LocalDate.of(2025, 1, 1), 180);
+        
+        league = data.league(data.teams(teams, 0));
+        league.generateSchedule();
+        data.playAll(league);
+        
+        roundRobin = data.roundRobin(data.teams(teams, 0));
+        roundRobin.generateSchedule();
+        data.playAll(roundRobin);
+        
+        knockout = data.knockout(data.teams(teams, 0));
+        knockout.generateSchedule();
+        data.playAll(knockout);
+    }
+    
+    @Benchmark
+    public Map<Team, Integer> leagueStandings() {
+        return league.getStandings();
+    }
+    
+    @Benchmark
+    public Map<Team, Integer> roundRobinStandings() {
+        return roundRobin.getStandings();
+    }
+    
+    @Benchmark
+    public Map<Team, Integer> knockoutStandings() {
+        return knockout.getStandings();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.tournament.benchmark;
+
+import com.example.tournament.model.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible tournaments, teams, venues and time slot preferences
+ * for the benchmarks. The same seed always produces the same data.
+ */
+public class SyntheticData {
+    
+    private static final int FIRST_HOUR = 9;
+    private static final int LAST_HOUR = 21;
+    
+    private final Random random;
+    private final LocalDate startDate;
+    private final int days;
+    
+    /**
+     * @param seed Random seed
+     * @param startDate First day of the generated tournaments
+     * @param days Number of days the tournaments and preferences span
+     */
+    public SyntheticData(long seed, LocalDate startDate, int days) {
+        this.random = new Random(seed);
+        this.startDate = startDate;
+        this.days = days;
+    }
+    
+    public Sport sport() {
+        return new Sport("Benchmark Sport", "Synthetic sport for benchmarks");
+    }
+    
+    /**
+     * Creates teams with the given number of preferred time slots each,
+     * spread over random days between 9:00 and 21:00.
+     */
+    public List<Team> teams(int count, int preferencesPerTeam) {
+        List<Team> teams = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Team team = new Team("Team " + i);
+            team.setHomeLatitude(51.0 + random.nextDouble());
+            team.setHomeLongitude(-1.0 + random.nextDouble());
+            for (int p = 0; p < preferencesPerTeam; p++) {
+                LocalDateTime start = startDate.plusDays(random.nextInt(days))
+                                               .atTime(FIRST_HOUR + random.nextInt(LAST_HOUR - FIRST_HOUR - 4), 0);
+                team.addPreferredTimeSlot(new TimeSlot(start, start.plusHours(2 + random.nextInt(3))));
+            }
+            teams.add(team);
+        }
+        return teams;
+    }
+    
+    /**
+     * Creates venues with random capacities and locations.
+     */
+    public List<Venue> venues(int count) {
+        List<Venue> venues = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Venue venue = new Venue("Venue " + i, "Location " + i, 500 + random.nextInt(20_000));
+            venue.setLatitude(51.0 + random.nextDouble());
+            venue.setLongitude(-1.0 + random.nextDouble());
+            venues.add(venue);
+        }
+        return venues;
+    }
+    
+    /**
+     * Creates a venue with back-to-back bookings separated by random gaps.
+     */
+    public Venue bookedVenue(int bookings, Duration length) {
+        Venue venue = new Venue("Booked Venue", "Benchmark", 1000);
+        LocalDateTime start = startDate.atTime(FIRST_HOUR, 0);
+        for (int i = 0; i < bookings; i++) {
+            TimeSlot slot = new TimeSlot(start, start.plus(length));
+            slot.setVenue(venue);
+            venue.bookTimeSlot(slot);
+            start = slot.getEndTime().plusMinutes(15L * random.nextInt(8));
+        }
+        return venue;
+    }
+    
+    /**
+     * Creates a time slot of the given length at a random time inside the
+     * span of a venue created by bookedVenue.
+     */
+    public TimeSlot probe(Duration span, Duration length) {
+        long offset = (long) (random.nextDouble() * span.toMinutes());
+        LocalDateTime start = startDate.atTime(FIRST_HOUR, 0).plusMinutes(offset);
+        return new TimeSlot(start, start.plus(length));
+    }
+    
+    public LeagueTournament league(List<Team> teams) {
+        LeagueTournament tournament = new LeagueTournament("Benchmark League", sport(), startDate, startDate.plusDays(days - 1));
+        teams.forEach(tournament::addTeam);
+        return tournament;
+    }
+    
+    public RoundRobinTournament roundRobin(List<Team> teams) {
+        RoundRobinTournament tournament = new RoundRobinTournament("Benchmark Round-Robin", sport(), startDate, startDate.plusDays(days - 1));
+        teams.forEach(tournament::addTeam);
+        return tournament;
+    }
+    
+    public KnockoutTournament knockout(List<Team> teams) {
+        KnockoutTournament tournament = new KnockoutTournament("Benchmark Knockout", sport(), startDate, startDate.plusDays(days - 1));
+        teams.forEach(tournament::addTeam);
+        return tournament;
+    }
+    
+    /**
+     * Completes the first matches of the tournament with random scores, leaving
+     * the rest scheduled.
+     */
+    public void play(Tournament tournament, int matches) {
+        List<Match> all = tournament.getMatches();
+        for (Match match : all.subList(0, Math.min(matches, all.size()))) {
+            match.setTeam1Score(random.nextInt(5));
+            match.setTeam2Score(random.nextInt(5));
+            match.setStatus(Match.MatchStatus.COMPLETED);
+        }
+    }
+    
+    /**
+     * Completes every match of the tournament with a random score.
+     */
+    public void playAll(Tournament tournament) {
+        for (Match match : tournament.getMatches()) {
+            match.setTeam1Score(random.nextInt(5));
+            match.setTeam2Score(random.nextInt(5));
+            match.setStatus(Match.MatchStatus.COMPLETED);
+        }
+    }
+}
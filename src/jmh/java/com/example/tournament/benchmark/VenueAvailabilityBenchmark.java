@@ -0,0 +1,52 @@
+package com.example.tournament.benchmark;
+
+import com.example.tournament.model.TimeSlot;
+import com.example.tournament.model.Venue;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Venue.isAvailable against venues with many bookings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VenueAvailabilityBenchmark {
+    
+    private static final Duration MATCH_LENGTH = Duration.ofHours(2);
+    private static final int PROBES = 1024;
+    
+    @Param({"100", "10000"})
+    private int bookings;
+    
+    private Venue venue;
+    private TimeSlot[] probes;
+    private int next;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticData data = new SyntheticData(42, LocalDate.of(2025, 1, 1), 180);
+        venue = data.bookedVenue(bookings, MATCH_LENGTH);
+        
+        // Probe times spread over the whole booked span, cycled through by the benchmark
+        Duration span = Duration.between(venue.getBookings().get(0).getStartTime(),
+                                         venue.getBookings().get(bookings - 1).getEndTime());
+        probes = new TimeSlot[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = data.probe(span, MATCH_LENGTH);
+        }
+    }
+    
+    @Benchmark
+    public boolean isAvailable() {
+        TimeSlot probe = probes[next];
+        next = (next + 1) & (PROBES - 1);
+        return venue.isAvailable(probe);
+    }
+}
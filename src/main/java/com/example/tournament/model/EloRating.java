@@ -0,0 +1,45 @@
+package com.example.tournament.model;
+
+/**
+ * Elo rating arithmetic for match results, with the goal-margin weighting of the
+ * World Football Elo Ratings.
+ * 
+ * A team's expected score against an opponent is 1 / (1 + 10^((opponent - rating) / 400)),
+ * and after a match it gains K * G * (actual - expected), where actual is 1 for a
+ * win, 0.5 for a draw and 0 for a loss and G grows with the goal margin. The
+ * opponent loses the same amount, so the exchange of a match is one number.
+ */
+public final class EloRating {
+    
+    public static final double INITIAL_RATING = 1500.0;
+    public static final double K_FACTOR = 20.0;
+    
+    private EloRating() {
+    }
+    
+    /**
+     * Gets the expected score (win probability plus half the draw probability)
+     * of a team rated rating against one rated opponent.
+     */
+    public static double expectedScore(double rating, double opponent) {
+        return 1.0 / (1.0 + Math.pow(10.0, (opponent - rating) / 400.0));
+    }
+    
+    /**
+     * Gets the rating team 1 gains, and team 2 loses, for a result.
+     */
+    public static double delta(double rating1, double rating2, int score1, int score2) {
+        double actual = score1 > score2 ? 1.0 : score1 < score2 ? 0.0 : 0.5;
+        return K_FACTOR * marginWeight(Math.abs(score1 - score2)) * (actual - expectedScore(rating1, rating2));
+    }
+    
+    /**
+     * Weights wins by more than one goal more heavily: 1, 1.5, then (11 + margin) / 8.
+     */
+    static double marginWeight(int margin) {
+        if (margin <= 1) {
+            return 1.0;
+        }
+        return margin == 2 ? 1.5 : (11.0 + margin) / 8.0;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.tournament.model;
+
+/**
+ * Map keys for entities, so that the same team, venue or match loaded by
+ * different EntityManagers is grouped together.
+ * 
+ * Persisted entities are keyed by ID and transient ones by identity.
+ */
+public final class EntityKeys {
+    
+    private EntityKeys() {
+    }
+    
+    public static Object of(Team team) {
+        return team.getId() != null ? (Object) team.getId() : team;
+    }
+    
+    public static Object of(Venue venue) {
+        return venue.getId() != null ? (Object) venue.getId() : venue;
+    }
+    
+    public static Object of(Match match) {
+        return match.getId() != null ? (Object) match.getId() : match;
+    }
+}
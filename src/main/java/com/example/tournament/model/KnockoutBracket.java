@@ -0,0 +1,268 @@
+package com.example.tournament.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-elimination bracket derived from a knockout tournament's seeds and matches.
+ * 
+ * Entrants are padded with byes to the next power of two and placed in standard
+ * seeding order, so byes go to the top seeds and the top two seeds can only meet in
+ * the final. Each position is decided by the winner of its match (Match.getWinner)
+ * or by a bye. The round every team reached is kept in an array indexed by seed, so
+ * round-reached standings cost O(1) per team once the bracket is built.
+ */
+public class KnockoutBracket {
+    
+    private final Team[] teams;
+    private final Map<Object, Integer> index = new HashMap<>();
+    private final int roundCount;
+    
+    // participants[r][slot] for round r + 1; participants[roundCount][0] is the champion
+    private final Team[][] participants;
+    private final Match[][] matches;
+    private final int[] roundReached;
+    private int currentRound;
+    
+    // Constructors
+    private KnockoutBracket(List<Team> seeds) {
+        this.teams = seeds.toArray(new Team[0]);
+        for (int i = 0; i < teams.length; i++) {
+            index.put(EntityKeys.of(teams[i]), i);
+        }
+        
+        int size = 1;
+        while (size < teams.length) {
+            size <<= 1;
+        }
+        this.roundCount = Integer.numberOfTrailingZeros(size);
+        this.participants = new Team[roundCount + 1][];
+        this.matches = new Match[roundCount][];
+        this.roundReached = new int[teams.length];
+        
+        // Seeds beyond the number of teams are byes
+        int[] order = seedOrder(size);
+        participants[0] = new Team[size];
+        for (int slot = 0; slot < size; slot++) {
+            int seed = order[slot];
+            participants[0][slot] = seed <= teams.length ? teams[seed - 1] : null;
+        }
+        for (int i = 0; i < teams.length; i++) {
+            roundReached[i] = 1;
+        }
+    }
+    
+    /**
+     * Builds the bracket for teams in seed order (top seed first) from the matches
+     * played so far. Matches are recognised by their round number and teams.
+     */
+    public static KnockoutBracket of(List<Team> seeds, List<Match> matches) {
+        KnockoutBracket bracket = new KnockoutBracket(seeds);
+        bracket.resolve(matches);
+        return bracket;
+    }
+    
+    /**
+     * Gets the slot order of seeds 1..size in a bracket of the given power-of-two size,
+     * e.g. 1, 8, 4, 5, 2, 7, 3, 6 for eight, so that seed s always meets seed size + 1 - s
+     * in the first round.
+     */
+    static int[] seedOrder(int size) {
+        int[] order = {1};
+        while (order.length < size) {
+            int length = order.length * 2;
+            int[] next = new int[length];
+            for (int i = 0; i < order.length; i++) {
+                next[2 * i] = order[i];
+                next[2 * i + 1] = length + 1 - order[i];
+            }
+            order = next;
+        }
+        return order;
+    }
+    
+    private void resolve(List<Match> played) {
+        // Index the matches by round and the seeds of both teams
+        Map<Long, Match> byPairing = new HashMap<>();
+        for (Match match : played) {
+            int a = indexOf(match.getTeam1());
+            int b = indexOf(match.getTeam2());
+            if (match.getRound() != null && a >= 0 && b >= 0) {
+                byPairing.put(pairing(match.getRound(), a, b), match);
+            }
+        }
+        
+        for (int r = 1; r <= roundCount; r++) {
+            Team[] current = participants[r - 1];
+            Team[] next = new Team[current.length / 2];
+            matches[r - 1] = new Match[next.length];
+            boolean decided = true;
+            
+            for (int p = 0; p < next.length; p++) {
+                Team a = current[2 * p];
+                Team b = current[2 * p + 1];
+                if (r == 1 && (a == null || b == null)) {
+                    // Bye: the seeded team goes straight through
+                    next[p] = a != null ? a : b;
+                } else if (a == null || b == null) {
+                    // Waiting for an earlier round
+                    decided = false;
+                } else {
+                    Match match = byPairing.get(pairing(r, indexOf(a), indexOf(b)));
+                    matches[r - 1][p] = match;
+                    int winner = match != null ? indexOf(match.getWinner()) : -1;
+                    if (winner >= 0) {
+                        next[p] = teams[winner];
+                    } else {
+                        decided = false;
+                    }
+                }
+                if (next[p] != null) {
+                    roundReached[indexOf(next[p])] = r + 1;
+                }
+            }
+            
+            participants[r] = next;
+            if (!decided && currentRound == 0) {
+                currentRound = r;
+            }
+        }
+        if (currentRound == 0) {
+            currentRound = roundCount + 1;
+        }
+    }
+    
+    /**
+     * Gets the pairings of a round whose teams are known but which have no match yet.
+     * @param round the round, starting at 1
+     * @return pairs of teams, higher-placed slot first
+     */
+    public List<Team[]> getUnscheduledPairings(int round) {
+        List<Team[]> pairings = new ArrayList<>();
+        if (round < 1 || round > roundCount) {
+            return pairings;
+        }
+        Team[] current = participants[round - 1];
+        for (int p = 0; p < current.length / 2; p++) {
+            Team a = current[2 * p];
+            Team b = current[2 * p + 1];
+            if (a != null && b != null && matches[round - 1][p] == null) {
+                pairings.add(new Team[] {a, b});
+            }
+        }
+        return pairings;
+    }
+    
+    /**
+     * Checks whether the winner of a match already has its match in the next round,
+     * so that a different winner would leave that match with the wrong team.
+     */
+    public boolean hasNextRoundMatch(Match match) {
+        for (int r = 1; r < roundCount; r++) {
+            for (int p = 0; p < matches[r - 1].length; p++) {
+                Match played = matches[r - 1][p];
+                if (played != null && EntityKeys.of(played).equals(EntityKeys.of(match))) {
+                    return matches[r][p / 2] != null;
+                }
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Gets the round each team reached, best first and in seed order within a round.
+     * The champion is given one more than the number of rounds.
+     */
+    public Map<Team, Integer> getStandings() {
+        // Counting sort by round reached keeps seed order within each round
+        int[] start = new int[roundCount + 3];
+        for (int reached : roundReached) {
+            start[roundCount + 1 - reached + 1]++;
+        }
+        for (int i = 1; i < start.length; i++) {
+            start[i] += start[i - 1];
+        }
+        Team[] ordered = new Team[teams.length];
+        for (int i = 0; i < teams.length; i++) {
+            ordered[start[roundCount + 1 - roundReached[i]]++] = teams[i];
+        }
+        
+        Map<Team, Integer> standings = new LinkedHashMap<>();
+        for (Team team : ordered) {
+            standings.put(team, getRoundReached(team));
+        }
+        return standings;
+    }
+    
+    /**
+     * Gets the furthest round a team reached, or 0 if it is not in the bracket.
+     */
+    public int getRoundReached(Team team) {
+        int i = indexOf(team);
+        return i >= 0 ? roundReached[i] : 0;
+    }
+    
+    /**
+     * Gets the teams of the bracket in seed order.
+     */
+    public List<Team> getTeams() {
+        return Collections.unmodifiableList(Arrays.asList(teams));
+    }
+    
+    /**
+     * Gets the seed index (0 for the top seed) of the team in each slot of a round,
+     * or -1 where the slot is not decided yet. Round roundCount + 1 has the champion
+     * as its only slot.
+     * @param round the round, starting at 1
+     */
+    public int[] getEntrants(int round) {
+        Team[] slots = participants[round - 1];
+        int[] entrants = new int[slots.length];
+        for (int slot = 0; slot < slots.length; slot++) {
+            entrants[slot] = indexOf(slots[slot]);
+        }
+        return entrants;
+    }
+    
+    public int getRoundCount() {
+        return roundCount;
+    }
+    
+    /**
+     * Gets the first round that still has undecided positions, or one more than
+     * the number of rounds once the champion is known.
+     */
+    public int getCurrentRound() {
+        return currentRound;
+    }
+    
+    public boolean isComplete() {
+        return currentRound > roundCount;
+    }
+    
+    /**
+     * Gets the winner of the final, or null while it is undecided.
+     */
+    public Team getChampion() {
+        return teams.length > 0 ? participants[roundCount][0] : null;
+    }
+    
+    private int indexOf(Team team) {
+        if (team == null) {
+            return -1;
+        }
+        Integer i = index.get(EntityKeys.of(team));
+        return i != null ? i : -1;
+    }
+    
+    private long pairing(int round, int a, int b) {
+        long low = Math.min(a, b);
+        long high = Math.max(a, b);
+        return ((long) round * teams.length + low) * teams.length + high;
+    }
+}
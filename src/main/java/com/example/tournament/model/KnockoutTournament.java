@@ -1,19 +1,42 @@
 package com.example.tournament.model;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.Table;
+import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.time.LocalDate;
 import java.util.*;
 
 /**
  * Entity representing a knockout tournament.
+ * Teams are placed in a single-elimination bracket by seed, with byes for the top
+ * seeds when the team count is not a power of 2. Each round is generated as soon
+ * as every match of the previous round has a winner.
  */
 @Entity
 @Table(name = "knockout_tournaments")
 public class KnockoutTournament extends Tournament {
     
+    private static final Logger logger = LoggerFactory.getLogger(KnockoutTournament.class);
+    
     private Integer currentRound;
     
+    // Bracket seeding, top seed first; fixed when the schedule is generated
+    // Loaded in batches, so listing many knockout tournaments reads their seeds together
+    @ManyToMany(fetch = FetchType.EAGER)
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @JoinTable(
+        name = "knockout_seeds",
+        joinColumns = @JoinColumn(name = "tournament_id"),
+        inverseJoinColumns = @JoinColumn(name = "team_id")
+    )
+    @OrderColumn(name = "seed_index")
+    private List<Team> seeds = new ArrayList<>();
+    
     // Constructors
     public KnockoutTournament() {
         super();
@@ -34,70 +57,116 @@ public class KnockoutTournament extends Tournament {
         this.currentRound = currentRound;
     }
     
+    /**
+     * Gets the teams in seed order, top seed first. Until seeds are set, teams are
+     * seeded in the order they joined the tournament.
+     */
+    public List<Team> getSeeds() {
+        return seeds;
+    }
+    
+    public void setSeeds(List<Team> seeds) {
+        this.seeds = seeds;
+    }
+    
+    /**
+     * Builds the bracket from the seeds and the matches played so far.
+     */
+    public KnockoutBracket getBracket() {
+        return KnockoutBracket.of(seeds.isEmpty() ? getTeams() : seeds, getMatches());
+    }
+    
     @Override
     public void generateSchedule() {
-        System.out.println("=== Generating Knockout Tournament Schedule ===");
-        System.out.println("Tournament: " + getName());
-        System.out.println("Number of teams: " + getTeams().size());
-        
-        List<Team> teams = new ArrayList<>(getTeams());
-        
-        // Check if number of teams is a power of 2
-        int teamCount = teams.size();
-        if (teamCount == 0 || (teamCount & (teamCount - 1)) != 0) {
-            System.out.println("Warning: Team count is not a power of 2. Some teams will get byes.");
+        int teamCount = getTeams().size();
+        if (teamCount < 2) {
+            logger.warn("Cannot generate schedule for '{}': a knockout tournament needs at least 2 teams", getName());
+            return;
         }
         
-        // Shuffle teams for random pairing
-        Collections.shuffle(teams);
-        
-        // Generate first round matches
-        System.out.println("\n--- Round 1 Matches ---");
-        for (int i = 0; i < teams.size() - 1; i += 2) {
-            Team team1 = teams.get(i);
-            Team team2 = teams.get(i + 1);
-            Match match = new Match(this, team1, team2);
-            addMatch(match);
-            System.out.println("Match " + (i/2 + 1) + ": " + team1.getName() + " vs " + team2.getName());
+        if (seeds.isEmpty()) {
+            seeds.addAll(getTeams());
+        }
+        if ((teamCount & (teamCount - 1)) != 0) {
+            logger.warn("Team count {} of '{}' is not a power of 2. The top seeds will get byes.", teamCount, getName());
         }
         
-        System.out.println("\nKnockout schedule generated with " + getMatches().size() + " matches in round 1.");
-        System.out.println("Subsequent rounds will be generated as matches are completed.");
+        // Subsequent rounds are generated as matches are completed
+        currentRound = 0;
+        List<Match> created = advanceToNextRound();
+        logger.info("Generated knockout schedule for '{}': {} teams, {} rounds, {} matches in round 1",
+                    getName(), teamCount, getBracket().getRoundCount(), created.size());
     }
     
     @Override
     public Map<Team, Integer> getStandings() {
-        System.out.println("=== Knockout Tournament Standings ===");
-        System.out.println("Tournament: " + getName());
+        logger.debug("Computing standings for '{}'", getName());
         
-        Map<Team, Integer> standings = new LinkedHashMap<>();
-        
-        // In knockout tournaments, standings are based on round reached
-        // Teams still in competition get higher scores
-        for (Team team : getTeams()) {
-            // Placeholder logic: all teams start with round 1 standing
-            standings.put(team, currentRound);
-            System.out.println(team.getName() + " - Round " + currentRound);
+        // In knockout tournaments, standings are based on round reached;
+        // the champion is placed one round beyond the final
+        Map<Team, Integer> standings = getBracket().getStandings();
+        if (logger.isDebugEnabled()) {
+            for (Map.Entry<Team, Integer> entry : standings.entrySet()) {
+                logger.debug("{} - reached round {}", entry.getKey().getName(), entry.getValue());
+            }
         }
         
         return standings;
     }
     
     /**
-     * Advances to the next round with winners from current round.
+     * Generates the matches of the next round once every position of the current
+     * round is decided, by a winner (Match.getWinner) or a bye. Does nothing while a
+     * match of the current round has no winner or after the final.
+     * 
+     * @return the matches created, empty if the round is not complete yet
      */
-    public void advanceToNextRound(List<Team> winners) {
-        System.out.println("Advancing to round " + (currentRound + 1));
-        currentRound++;
+    public List<Match> advanceToNextRound() {
+        KnockoutBracket bracket = getBracket();
+        int round = bracket.getCurrentRound();
+        if (bracket.isComplete()) {
+            currentRound = round;
+            return Collections.emptyList();
+        }
         
-        // Generate matches for next round
-        for (int i = 0; i < winners.size() - 1; i += 2) {
-            Team team1 = winners.get(i);
-            Team team2 = winners.get(i + 1);
-            Match match = new Match(this, team1, team2);
+        List<Match> created = new ArrayList<>();
+        boolean debug = logger.isDebugEnabled();
+        for (Team[] pairing : bracket.getUnscheduledPairings(round)) {
+            Match match = new Match(this, pairing[0], pairing[1]);
+            match.setRound(round);
             addMatch(match);
-            System.out.println("Round " + currentRound + " Match: " + team1.getName() + " vs " + team2.getName());
+            created.add(match);
+            if (debug) {
+                logger.debug("Round {} match: {} vs {}", round, pairing[0].getName(), pairing[1].getName());
+            }
+        }
+        
+        if (!created.isEmpty()) {
+            currentRound = round;
+            logger.info("Advanced '{}' to round {} of {} with {} matches",
+                        getName(), round, bracket.getRoundCount(), created.size());
+        }
+        return created;
+    }
+    
+    /**
+     * Checks a result before it is recorded for one of this tournament's matches.
+     * A knockout match must have a winner, and the winner of a match cannot change
+     * once the next-round match it decides has been created.
+     * 
+     * @return why the result cannot be recorded, or null if it can
+     */
+    public String checkResult(Match match, int team1Score, int team2Score) {
+        if (team1Score == team2Score) {
+            return "A knockout match cannot end in a draw; enter the result after extra time or penalties";
+        }
+        Team winner = team1Score > team2Score ? match.getTeam1() : match.getTeam2();
+        Team previousWinner = match.getStatus() == Match.MatchStatus.COMPLETED ? match.getWinner() : null;
+        if (previousWinner != null && previousWinner != winner && getBracket().hasNextRoundMatch(match)) {
+            return previousWinner.getName() + " already plays in round " + (match.getRound() + 1)
+                   + "; the winner of this match can no longer change";
         }
+        return null;
     }
     
     @Override
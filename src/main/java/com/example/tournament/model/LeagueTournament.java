@@ -2,6 +2,9 @@ package com.example.tournament.model;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.time.LocalDate;
 import java.util.*;
 
@@ -12,10 +15,14 @@ import java.util.*;
 @Table(name = "league_tournaments")
 public class LeagueTournament extends Tournament {
     
+    private static final Logger logger = LoggerFactory.getLogger(LeagueTournament.class);
+    
     private Integer pointsForWin = 3;
     private Integer pointsForDraw = 1;
     private Integer pointsForLoss = 0;
     
+    private Boolean doubleRoundRobin = false;
+    
     // Constructors
     public LeagueTournament() {
         super();
@@ -50,86 +57,58 @@ public class LeagueTournament extends Tournament {
         this.pointsForLoss = pointsForLoss;
     }
     
+    public Boolean getDoubleRoundRobin() {
+        return doubleRoundRobin;
+    }
+    
+    public void setDoubleRoundRobin(Boolean doubleRoundRobin) {
+        this.doubleRoundRobin = doubleRoundRobin;
+    }
+    
     @Override
     public void generateSchedule() {
-        System.out.println("=== Generating League Tournament Schedule (Round-Robin) ===");
-        System.out.println("Tournament: " + getName());
-        System.out.println("Number of teams: " + getTeams().size());
-        
         List<Team> teams = new ArrayList<>(getTeams());
         
         if (teams.size() < 2) {
-            System.out.println("Error: Need at least 2 teams for a league tournament.");
+            logger.warn("Cannot generate schedule for '{}': a league tournament needs at least 2 teams", getName());
             return;
         }
         
+        boolean doubleLeg = Boolean.TRUE.equals(doubleRoundRobin);
+        int currentRound = 0;
         int matchNumber = 1;
         
-        // Generate round-robin schedule: each team plays every other team once
-        for (int i = 0; i < teams.size(); i++) {
-            for (int j = i + 1; j < teams.size(); j++) {
-                Team team1 = teams.get(i);
-                Team team2 = teams.get(j);
-                Match match = new Match(this, team1, team2);
-                addMatch(match);
-                System.out.println("Match " + matchNumber + ": " + team1.getName() + " vs " + team2.getName());
-                matchNumber++;
+        boolean debug = logger.isDebugEnabled();
+        
+        // Generate circle-method rounds: every team plays at most once per round
+        for (Match match : RoundRobinGenerator.generate(this, teams, doubleLeg)) {
+            currentRound = match.getRound();
+            addMatch(match);
+            if (debug) {
+                logger.debug("Round {} match {}: {} vs {}", currentRound, matchNumber,
+                             match.getTeam1().getName(), match.getTeam2().getName());
             }
+            matchNumber++;
         }
         
-        System.out.println("\nLeague schedule generated with " + getMatches().size() + " total matches.");
-        System.out.println("Each team will play " + (teams.size() - 1) + " matches.");
+        logger.info("Generated league schedule for '{}': {} teams, {} matches in {} rounds, {} matches per team",
+                    getName(), teams.size(), getMatches().size(), currentRound, (teams.size() - 1) * (doubleLeg ? 2 : 1));
     }
     
     @Override
     public Map<Team, Integer> getStandings() {
-        System.out.println("=== League Tournament Standings ===");
-        System.out.println("Tournament: " + getName());
-        
-        Map<Team, Integer> standings = new HashMap<>();
-        
-        // Initialize all teams with 0 points
-        for (Team team : getTeams()) {
-            standings.put(team, 0);
-        }
+        logger.debug("Computing standings for '{}'", getName());
         
-        // Calculate points based on match results
-        for (Match match : getMatches()) {
-            if (match.getStatus() == Match.MatchStatus.COMPLETED && 
-                match.getTeam1Score() != null && match.getTeam2Score() != null) {
-                
-                Team team1 = match.getTeam1();
-                Team team2 = match.getTeam2();
-                
-                if (match.getTeam1Score() > match.getTeam2Score()) {
-                    // Team 1 wins
-                    standings.put(team1, standings.get(team1) + pointsForWin);
-                    standings.put(team2, standings.get(team2) + pointsForLoss);
-                } else if (match.getTeam2Score() > match.getTeam1Score()) {
-                    // Team 2 wins
-                    standings.put(team2, standings.get(team2) + pointsForWin);
-                    standings.put(team1, standings.get(team1) + pointsForLoss);
-                } else {
-                    // Draw
-                    standings.put(team1, standings.get(team1) + pointsForDraw);
-                    standings.put(team2, standings.get(team2) + pointsForDraw);
-                }
+        // Totals are kept in primitive columns; the map is only built for the ranked result
+        StandingsAccumulator totals = accumulateStandings(pointsForWin, pointsForDraw, pointsForLoss);
+        Map<Team, Integer> orderedStandings = totals.toRankedPoints(getRankingPolicy());
+        if (logger.isDebugEnabled()) {
+            int rank = 1;
+            for (Map.Entry<Team, Integer> entry : orderedStandings.entrySet()) {
+                logger.debug("{}. {} - {} points", rank++, entry.getKey().getName(), entry.getValue());
             }
         }
         
-        // Sort standings by points (descending)
-        List<Map.Entry<Team, Integer>> sortedStandings = new ArrayList<>(standings.entrySet());
-        sortedStandings.sort((a, b) -> b.getValue().compareTo(a.getValue()));
-        
-        // Create ordered map
-        Map<Team, Integer> orderedStandings = new LinkedHashMap<>();
-        int rank = 1;
-        for (Map.Entry<Team, Integer> entry : sortedStandings) {
-            orderedStandings.put(entry.getKey(), entry.getValue());
-            System.out.println(rank + ". " + entry.getKey().getName() + " - " + entry.getValue() + " points");
-            rank++;
-        }
-        
         return orderedStandings;
     }
     
@@ -1,13 +1,39 @@
 package com.example.tournament.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 
 /**
  * Entity representing a match between two teams.
+ * 
+ * Schedule listings page by (scheduledTime, id), so that pair is indexed on its
+ * own and behind each venue and team filter.
+ * 
+ * All of a match's associations are eager, and services hand matches out after
+ * their EntityManager has closed. The Match.details graph fetches them in the
+ * match query itself rather than one select per association per row.
  */
 @Entity
-@Table(name = "matches")
+@NamedEntityGraph(
+    name = "Match.details",
+    attributeNodes = {
+        @NamedAttributeNode(value = "tournament", subgraph = "tournament"),
+        @NamedAttributeNode("team1"),
+        @NamedAttributeNode("team2"),
+        @NamedAttributeNode("venue"),
+        @NamedAttributeNode("timeSlot"),
+        @NamedAttributeNode("schedule")
+    },
+    subgraphs = @NamedSubgraph(name = "tournament", attributeNodes = @NamedAttributeNode("sport"))
+)
+@Table(name = "matches",
+       indexes = {
+           @Index(name = "idx_matches_time", columnList = "scheduledTime, id"),
+           @Index(name = "idx_matches_venue_time", columnList = "venue_id, scheduledTime, id"),
+           @Index(name = "idx_matches_team1_time", columnList = "team1_id, scheduledTime, id"),
+           @Index(name = "idx_matches_team2_time", columnList = "team2_id, scheduledTime, id")
+       })
 public class Match {
     
     @Id
@@ -40,6 +66,9 @@ public class Match {
     
     private LocalDateTime scheduledTime;
     
+    @Column(name = "round_number")
+    private Integer round;
+    
     private Integer team1Score;
     
     private Integer team2Score;
@@ -47,6 +76,13 @@ public class Match {
     @Enumerated(EnumType.STRING)
     private MatchStatus status;
     
+    // Incremented on every update, so concurrent edits of the same match are detected
+    // Existing rows start at 0 when the column is added
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+    
     // Constructors
     public Match() {
     }
@@ -129,6 +165,14 @@ public class Match {
         this.scheduledTime = scheduledTime;
     }
     
+    public Integer getRound() {
+        return round;
+    }
+    
+    public void setRound(Integer round) {
+        this.round = round;
+    }
+    
     public Integer getTeam1Score() {
         return team1Score;
     }
@@ -153,6 +197,18 @@ public class Match {
         this.status = status;
     }
     
+    /**
+     * Gets the version the match had when it was loaded; an update made from an
+     * older version fails instead of overwriting a newer one.
+     */
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
     /**
      * Determines the winner of the match.
      */
@@ -175,6 +231,7 @@ public class Match {
                 ", team1=" + (team1 != null ? team1.getName() : "null") +
                 ", team2=" + (team2 != null ? team2.getName() : "null") +
                 ", venue=" + (venue != null ? venue.getName() : "null") +
+                ", round=" + round +
                 ", scheduledTime=" + scheduledTime +
                 ", status=" + status +
                 '}';
@@ -0,0 +1,385 @@
+package com.example.tournament.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Orders the teams of a standings table by a configurable list of tiebreakers.
+ * 
+ * The criteria before HEAD_TO_HEAD are packed into one long sort key per team, each
+ * field taking only as many bits as its range in the table needs, so ranking is a
+ * single primitive sort. Head-to-head mini-leagues are computed only for groups of
+ * teams still tied on those criteria, and the criteria after HEAD_TO_HEAD only break
+ * ties within such a group. Teams tied on every criterion keep their table order.
+ */
+public class RankingPolicy {
+    
+    /**
+     * A tiebreaker; for every criterion a higher value ranks first.
+     */
+    public enum Criterion {
+        POINTS,
+        GOAL_DIFFERENCE,
+        GOALS_FOR,
+        HEAD_TO_HEAD,
+        WINS
+    }
+    
+    /**
+     * Read access to the totals and results of a table, by dense team index.
+     * Results are only read when teams are tied before HEAD_TO_HEAD.
+     */
+    public interface Standings {
+        int getTeamCount();
+        int getPoints(int team);
+        int getGoalsFor(int team);
+        int getGoalsAgainst(int team);
+        int getWins(int team);
+        int getResultCount();
+        int getHomeTeam(int result);
+        int getAwayTeam(int result);
+        int getHomeScore(int result);
+        int getAwayScore(int result);
+        int pointsFor(int scored, int conceded);
+    }
+    
+    private static final RankingPolicy STANDARD = new RankingPolicy(
+            Criterion.POINTS, Criterion.GOAL_DIFFERENCE, Criterion.GOALS_FOR,
+            Criterion.HEAD_TO_HEAD, Criterion.WINS);
+    
+    private final Criterion[] criteria;
+    private final int headToHead;
+    
+    // Constructors
+    public RankingPolicy(Criterion... criteria) {
+        if (criteria.length == 0) {
+            throw new IllegalArgumentException("A ranking policy needs at least one criterion");
+        }
+        EnumSet<Criterion> seen = EnumSet.noneOf(Criterion.class);
+        for (Criterion criterion : criteria) {
+            if (!seen.add(criterion)) {
+                throw new IllegalArgumentException("Criterion listed twice: " + criterion);
+            }
+        }
+        this.criteria = criteria.clone();
+        this.headToHead = Arrays.asList(this.criteria).indexOf(Criterion.HEAD_TO_HEAD);
+    }
+    
+    /**
+     * Gets the default policy: points, goal difference, goals scored,
+     * head-to-head, then wins.
+     */
+    public static RankingPolicy standard() {
+        return STANDARD;
+    }
+    
+    /**
+     * Parses a comma-separated list of criteria as written by format.
+     * Null or blank gives the standard policy.
+     */
+    public static RankingPolicy parse(String criteria) {
+        if (criteria == null || criteria.isBlank()) {
+            return STANDARD;
+        }
+        String[] names = criteria.split(",");
+        Criterion[] parsed = new Criterion[names.length];
+        for (int i = 0; i < names.length; i++) {
+            parsed[i] = Criterion.valueOf(names[i].trim());
+        }
+        return new RankingPolicy(parsed);
+    }
+    
+    /**
+     * Writes the criteria as a comma-separated list.
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        for (Criterion criterion : criteria) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(criterion.name());
+        }
+        return sb.toString();
+    }
+    
+    public List<Criterion> getCriteria() {
+        return Collections.unmodifiableList(Arrays.asList(criteria));
+    }
+    
+    /**
+     * Ranks the teams of a table.
+     * @return the team indices from first to last
+     */
+    public int[] rank(Standings standings) {
+        int teamCount = standings.getTeamCount();
+        int[] order = new int[teamCount];
+        for (int i = 0; i < teamCount; i++) {
+            order[i] = i;
+        }
+        
+        int prefix = prefixLength();
+        long[][] columns = new long[prefix][];
+        for (int c = 0; c < prefix; c++) {
+            columns[c] = column(standings, criteria[c], order);
+        }
+        sort(order, 0, teamCount, columns);
+        breakTies(standings, order);
+        return order;
+    }
+    
+    /**
+     * Compares two teams on the criteria before HEAD_TO_HEAD; negative if the first
+     * ranks ahead, 0 if they are tied on all of them. Lets a table keep its teams
+     * in order as results arrive, leaving only breakTies to do when it is read.
+     */
+    public int compare(Standings standings, int a, int b) {
+        int prefix = prefixLength();
+        for (int c = 0; c < prefix; c++) {
+            int compare = Long.compare(value(standings, criteria[c], b), value(standings, criteria[c], a));
+            if (compare != 0) {
+                return compare;
+            }
+        }
+        return 0;
+    }
+    
+    /**
+     * Orders each group of teams tied under compare by its head-to-head mini-league,
+     * then by the criteria after HEAD_TO_HEAD. Does nothing without HEAD_TO_HEAD.
+     * 
+     * @param order the team indices already ordered by compare; reordered in place
+     */
+    public void breakTies(Standings standings, int[] order) {
+        int teamCount = order.length;
+        if (headToHead < 0 || teamCount < 2) {
+            return;
+        }
+        
+        // Only groups still tied on every criterion before HEAD_TO_HEAD need a mini-league
+        HeadToHead miniLeague = null;
+        int start = 0;
+        for (int i = 1; i <= teamCount; i++) {
+            if (i < teamCount && compare(standings, order[start], order[i]) == 0) {
+                continue;
+            }
+            if (i - start > 1) {
+                if (miniLeague == null) {
+                    miniLeague = new HeadToHead(standings);
+                }
+                breakTie(standings, miniLeague, order, start, i);
+            }
+            start = i;
+        }
+    }
+    
+    private int prefixLength() {
+        return headToHead >= 0 ? headToHead : criteria.length;
+    }
+    
+    /**
+     * Orders a tied group by its head-to-head mini-league, then by the criteria
+     * after HEAD_TO_HEAD.
+     */
+    private void breakTie(Standings standings, HeadToHead miniLeague, int[] order, int from, int to) {
+        int size = to - from;
+        int[] group = Arrays.copyOfRange(order, from, to);
+        long[][] columns = new long[3 + criteria.length - headToHead - 1][];
+        
+        miniLeague.compute(group);
+        columns[0] = new long[size];
+        columns[1] = new long[size];
+        columns[2] = new long[size];
+        for (int p = 0; p < size; p++) {
+            columns[0][p] = miniLeague.points[p];
+            columns[1][p] = miniLeague.goalsFor[p] - miniLeague.goalsAgainst[p];
+            columns[2][p] = miniLeague.goalsFor[p];
+        }
+        for (int c = headToHead + 1; c < criteria.length; c++) {
+            columns[3 + c - headToHead - 1] = column(standings, criteria[c], group);
+        }
+        
+        // Columns are indexed by position in the group, so sort positions and map back
+        int[] positions = new int[size];
+        for (int p = 0; p < size; p++) {
+            positions[p] = p;
+        }
+        sort(positions, 0, size, columns);
+        for (int p = 0; p < size; p++) {
+            order[from + p] = group[positions[p]];
+        }
+    }
+    
+    /**
+     * Sorts ids[from, to) by the columns, higher values first, keeping the current
+     * order for ties. Column values are looked up by id.
+     */
+    private static void sort(int[] ids, int from, int to, long[][] columns) {
+        int size = to - from;
+        if (size < 2 || columns.length == 0) {
+            return;
+        }
+        
+        long[] min = new long[columns.length];
+        int[] widths = new int[columns.length];
+        int totalWidth = bitsFor(size - 1);
+        for (int c = 0; c < columns.length; c++) {
+            long lo = Long.MAX_VALUE;
+            long hi = Long.MIN_VALUE;
+            for (int i = from; i < to; i++) {
+                long value = columns[c][ids[i]];
+                lo = Math.min(lo, value);
+                hi = Math.max(hi, value);
+            }
+            min[c] = lo;
+            widths[c] = bitsFor(hi - lo);
+            totalWidth += widths[c];
+        }
+        
+        if (totalWidth > 63) {
+            sortBoxed(ids, from, to, columns);
+            return;
+        }
+        
+        // Key: inverted column values from most to least significant, then the current position
+        int positionBits = bitsFor(size - 1);
+        long[] keys = new long[size];
+        for (int p = 0; p < size; p++) {
+            int id = ids[from + p];
+            long key = 0;
+            for (int c = 0; c < columns.length; c++) {
+                long offset = columns[c][id] - min[c];
+                key = (key << widths[c]) | (((1L << widths[c]) - 1) - offset);
+            }
+            keys[p] = (key << positionBits) | p;
+        }
+        Arrays.sort(keys);
+        
+        int[] sorted = new int[size];
+        long positionMask = (1L << positionBits) - 1;
+        for (int p = 0; p < size; p++) {
+            sorted[p] = ids[from + (int) (keys[p] & positionMask)];
+        }
+        System.arraycopy(sorted, 0, ids, from, size);
+    }
+    
+    /**
+     * Fallback for value ranges too wide to pack into one long.
+     */
+    private static void sortBoxed(int[] ids, int from, int to, long[][] columns) {
+        Integer[] boxed = new Integer[to - from];
+        for (int i = from; i < to; i++) {
+            boxed[i - from] = ids[i];
+        }
+        Arrays.sort(boxed, (a, b) -> {
+            for (long[] column : columns) {
+                int compare = Long.compare(column[b], column[a]);
+                if (compare != 0) {
+                    return compare;
+                }
+            }
+            return 0;
+        });
+        for (int i = from; i < to; i++) {
+            ids[i] = boxed[i - from];
+        }
+    }
+    
+    private static long[] column(Standings standings, Criterion criterion, int[] teams) {
+        long[] values = new long[teams.length];
+        for (int i = 0; i < teams.length; i++) {
+            values[i] = value(standings, criterion, teams[i]);
+        }
+        return values;
+    }
+    
+    private static long value(Standings standings, Criterion criterion, int team) {
+        switch (criterion) {
+            case POINTS:
+                return standings.getPoints(team);
+            case GOAL_DIFFERENCE:
+                return (long) standings.getGoalsFor(team) - standings.getGoalsAgainst(team);
+            case GOALS_FOR:
+                return standings.getGoalsFor(team);
+            case WINS:
+                return standings.getWins(team);
+            default:
+                throw new IllegalArgumentException("Not a per-team criterion: " + criterion);
+        }
+    }
+    
+    private static int bitsFor(long value) {
+        return 64 - Long.numberOfLeadingZeros(value);
+    }
+    
+    /**
+     * Mini-league of a group of teams over the results between them. Results are
+     * indexed by team once, so each group only reads its own teams' results.
+     */
+    private static final class HeadToHead {
+        private final Standings standings;
+        private final int[] resultStart;
+        private final int[] resultsByTeam;
+        private final int[] position;
+        long[] points;
+        long[] goalsFor;
+        long[] goalsAgainst;
+        
+        HeadToHead(Standings standings) {
+            this.standings = standings;
+            int teamCount = standings.getTeamCount();
+            int resultCount = standings.getResultCount();
+            
+            // Each result listed under its home team
+            resultStart = new int[teamCount + 1];
+            for (int r = 0; r < resultCount; r++) {
+                resultStart[standings.getHomeTeam(r) + 1]++;
+            }
+            for (int t = 0; t < teamCount; t++) {
+                resultStart[t + 1] += resultStart[t];
+            }
+            resultsByTeam = new int[resultCount];
+            int[] next = Arrays.copyOf(resultStart, teamCount);
+            for (int r = 0; r < resultCount; r++) {
+                resultsByTeam[next[standings.getHomeTeam(r)]++] = r;
+            }
+            
+            position = new int[teamCount];
+            Arrays.fill(position, -1);
+        }
+        
+        void compute(int[] group) {
+            points = new long[group.length];
+            goalsFor = new long[group.length];
+            goalsAgainst = new long[group.length];
+            for (int p = 0; p < group.length; p++) {
+                position[group[p]] = p;
+            }
+            
+            for (int home = 0; home < group.length; home++) {
+                int team = group[home];
+                for (int i = resultStart[team]; i < resultStart[team + 1]; i++) {
+                    int r = resultsByTeam[i];
+                    int away = position[standings.getAwayTeam(r)];
+                    if (away < 0) {
+                        continue;
+                    }
+                    int homeScore = standings.getHomeScore(r);
+                    int awayScore = standings.getAwayScore(r);
+                    points[home] += standings.pointsFor(homeScore, awayScore);
+                    points[away] += standings.pointsFor(awayScore, homeScore);
+                    goalsFor[home] += homeScore;
+                    goalsAgainst[home] += awayScore;
+                    goalsFor[away] += awayScore;
+                    goalsAgainst[away] += homeScore;
+                }
+            }
+            
+            for (int team : group) {
+                position[team] = -1;
+            }
+        }
+    }
+}
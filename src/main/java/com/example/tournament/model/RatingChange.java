@@ -0,0 +1,120 @@
+package com.example.tournament.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Entity recording the rating exchange of one match, for history and so that it
+ * can be reversed exactly when the result is corrected or the match deleted.
+ * 
+ * Elo exchanges are zero-sum, so a single row per match holds both sides: team 1
+ * gained delta and team 2 lost it. Ratings are stored as REAL, which is precise
+ * enough for display and history while keeping the rows small.
+ */
+@Entity
+@Table(name = "rating_changes",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"match_id"}),
+       indexes = {
+           @Index(name = "idx_rating_changes_team1", columnList = "team1_id"),
+           @Index(name = "idx_rating_changes_team2", columnList = "team2_id")
+       })
+public class RatingChange {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "match_id", nullable = false)
+    private Match match;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team1_id", nullable = false)
+    private Team team1;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team2_id", nullable = false)
+    private Team team2;
+    
+    // The result that was rated, to tell whether a re-posted result changed
+    @Column(name = "team1_score", nullable = false)
+    private int team1Score;
+    
+    @Column(name = "team2_score", nullable = false)
+    private int team2Score;
+    
+    @Column(name = "team1_before", nullable = false)
+    private float team1Before;
+    
+    @Column(name = "team2_before", nullable = false)
+    private float team2Before;
+    
+    @Column(nullable = false)
+    private float delta;
+    
+    // Constructors
+    public RatingChange() {
+    }
+    
+    public RatingChange(Match match, Team team1, Team team2, int team1Score, int team2Score,
+                        double team1Before, double team2Before, double delta) {
+        this.match = match;
+        this.team1 = team1;
+        this.team2 = team2;
+        this.team1Score = team1Score;
+        this.team2Score = team2Score;
+        this.team1Before = (float) team1Before;
+        this.team2Before = (float) team2Before;
+        this.delta = (float) delta;
+    }
+    
+    // Getters
+    public Long getId() {
+        return id;
+    }
+    
+    public Match getMatch() {
+        return match;
+    }
+    
+    public Team getTeam1() {
+        return team1;
+    }
+    
+    public Team getTeam2() {
+        return team2;
+    }
+    
+    public int getTeam1Score() {
+        return team1Score;
+    }
+    
+    public int getTeam2Score() {
+        return team2Score;
+    }
+    
+    public float getTeam1Before() {
+        return team1Before;
+    }
+    
+    public float getTeam2Before() {
+        return team2Before;
+    }
+    
+    /**
+     * Gets the rating team 1 gained and team 2 lost.
+     */
+    public float getDelta() {
+        return delta;
+    }
+    
+    @Override
+    public String toString() {
+        return "RatingChange{" +
+                "id=" + id +
+                ", team1Before=" + team1Before +
+                ", team2Before=" + team2Before +
+                ", score=" + team1Score + "-" + team2Score +
+                ", delta=" + delta +
+                '}';
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.tournament.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates round-robin fixtures with the circle (Berger) method.
+ * 
+ * One team is held fixed while the others rotate around it, so every round
+ * pairs each team at most once and its matches can be played in parallel.
+ * With an odd number of teams one team has a bye each round. Home and away
+ * alternate with the distance between the paired positions, which keeps every
+ * team within one home match of its away count and gives the minimum number
+ * of consecutive home or away matches.
+ */
+public final class RoundRobinGenerator {
+    
+    private RoundRobinGenerator() {
+    }
+    
+    /**
+     * Generates the fixtures of a round-robin tournament ordered by round.
+     * Rounds are numbered from 1. In a double round-robin the second half
+     * repeats the first with home and away swapped.
+     * @param tournament The tournament the matches belong to
+     * @param teams The participating teams
+     * @param doubleRoundRobin Whether every pairing is played home and away
+     * @return the generated matches with their round set
+     */
+    public static List<Match> generate(Tournament tournament, List<Team> teams, boolean doubleRoundRobin) {
+        List<Match> matches = new ArrayList<>();
+        if (teams.size() < 2) {
+            return matches;
+        }
+        
+        // Pad to an even number of positions; pairings with the padding position are byes
+        int positions = teams.size() + teams.size() % 2;
+        int rotating = positions - 1;
+        
+        for (int round = 0; round < rotating; round++) {
+            // The fixed position meets whichever team the rotation brings to it
+            if (round % 2 == 0) {
+                addMatch(matches, tournament, teams, round, rotating, round + 1);
+            } else {
+                addMatch(matches, tournament, teams, rotating, round, round + 1);
+            }
+            
+            for (int k = 1; k < positions / 2; k++) {
+                int a = (round + k) % rotating;
+                int b = (round - k + rotating) % rotating;
+                if (k % 2 == 1) {
+                    addMatch(matches, tournament, teams, a, b, round + 1);
+                } else {
+                    addMatch(matches, tournament, teams, b, a, round + 1);
+                }
+            }
+        }
+        
+        if (doubleRoundRobin) {
+            int firstLeg = matches.size();
+            for (int i = 0; i < firstLeg; i++) {
+                Match first = matches.get(i);
+                Match second = new Match(tournament, first.getTeam2(), first.getTeam1());
+                second.setRound(first.getRound() + rotating);
+                matches.add(second);
+            }
+        }
+        return matches;
+    }
+    
+    /**
+     * Adds a match unless one side is the padding position.
+     */
+    private static void addMatch(List<Match> matches, Tournament tournament, List<Team> teams,
+                                 int home, int away, int round) {
+        if (home < teams.size() && away < teams.size()) {
+            Match match = new Match(tournament, teams.get(home), teams.get(away));
+            match.setRound(round);
+            matches.add(match);
+        }
+    }
+}
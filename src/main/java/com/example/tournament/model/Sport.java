@@ -1,12 +1,16 @@
 package com.example.tournament.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Entity representing a sport.
  */
 @Entity
 @Table(name = "sports")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Sport {
     
     @Id
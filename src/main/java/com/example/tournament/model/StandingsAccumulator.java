@@ -0,0 +1,262 @@
+package com.example.tournament.model;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Totals of completed matches for a fixed set of teams, shared by the tournament
+ * types that award points.
+ * 
+ * Teams are given dense indices up front and every total is a primitive int[]
+ * column indexed by team, so counting a match only does two index lookups and
+ * array increments with no boxing or allocation. Results are also kept in a packed
+ * int[] for head-to-head tiebreakers. Maps keyed by Team are only built at the edge,
+ * when the ranked standings are read.
+ */
+public class StandingsAccumulator implements RankingPolicy.Standings {
+    
+    private final Team[] teams;
+    private final Map<Team, Integer> index;
+    private final int pointsForWin;
+    private final int pointsForDraw;
+    private final int pointsForLoss;
+    
+    private final int[] played;
+    private final int[] wins;
+    private final int[] draws;
+    private final int[] losses;
+    private final int[] goalsFor;
+    private final int[] goalsAgainst;
+    private final int[] points;
+    
+    // Home team, away team, home score, away score per result
+    private int[] results;
+    private int resultCount;
+    
+    // Constructors
+    public StandingsAccumulator(List<Team> teams, int pointsForWin, int pointsForDraw, int pointsForLoss) {
+        this(teams, pointsForWin, pointsForDraw, pointsForLoss, 16);
+    }
+    
+    /**
+     * @param expectedResults number of results to reserve room for, e.g. the
+     *                        number of scheduled matches
+     */
+    public StandingsAccumulator(List<Team> teams, int pointsForWin, int pointsForDraw, int pointsForLoss,
+                                int expectedResults) {
+        int teamCount = teams.size();
+        this.teams = teams.toArray(new Team[0]);
+        
+        // Teams have no equals/hashCode of their own, so index them by identity explicitly
+        this.index = new IdentityHashMap<>(teamCount);
+        for (int i = 0; i < teamCount; i++) {
+            index.put(this.teams[i], i);
+        }
+        
+        this.pointsForWin = pointsForWin;
+        this.pointsForDraw = pointsForDraw;
+        this.pointsForLoss = pointsForLoss;
+        this.played = new int[teamCount];
+        this.wins = new int[teamCount];
+        this.draws = new int[teamCount];
+        this.losses = new int[teamCount];
+        this.goalsFor = new int[teamCount];
+        this.goalsAgainst = new int[teamCount];
+        this.points = new int[teamCount];
+        this.results = new int[Math.max(expectedResults, 1) * 4];
+    }
+    
+    /**
+     * Creates a copy with the same teams, points and totals; the team index is
+     * shared since it never changes.
+     */
+    public StandingsAccumulator(StandingsAccumulator other) {
+        this.teams = other.teams;
+        this.index = other.index;
+        this.pointsForWin = other.pointsForWin;
+        this.pointsForDraw = other.pointsForDraw;
+        this.pointsForLoss = other.pointsForLoss;
+        this.played = other.played.clone();
+        this.wins = other.wins.clone();
+        this.draws = other.draws.clone();
+        this.losses = other.losses.clone();
+        this.goalsFor = other.goalsFor.clone();
+        this.goalsAgainst = other.goalsAgainst.clone();
+        this.points = other.points.clone();
+        this.results = other.results.clone();
+        this.resultCount = other.resultCount;
+    }
+    
+    /**
+     * Counts the match if it is completed and between two teams of the table.
+     * 
+     * @return true if the match was counted
+     */
+    public boolean add(Match match) {
+        if (match.getStatus() != Match.MatchStatus.COMPLETED
+                || match.getTeam1Score() == null || match.getTeam2Score() == null) {
+            return false;
+        }
+        int home = indexOf(match.getTeam1());
+        int away = indexOf(match.getTeam2());
+        if (home < 0 || away < 0) {
+            return false;
+        }
+        add(home, away, match.getTeam1Score(), match.getTeam2Score());
+        return true;
+    }
+    
+    /**
+     * Counts a result between two teams given by index.
+     */
+    public void add(int home, int away, int homeScore, int awayScore) {
+        count(home, homeScore, awayScore);
+        count(away, awayScore, homeScore);
+        
+        if (resultCount * 4 == results.length) {
+            results = Arrays.copyOf(results, results.length * 2);
+        }
+        int slot = resultCount++ * 4;
+        results[slot] = home;
+        results[slot + 1] = away;
+        results[slot + 2] = homeScore;
+        results[slot + 3] = awayScore;
+    }
+    
+    /**
+     * Replaces the totals and results with those of another accumulator over the
+     * same teams, reusing this one's arrays. Lets one accumulator per worker replay
+     * many simulated seasons from the same starting table without allocating.
+     */
+    public void copyFrom(StandingsAccumulator other) {
+        if (other.teams.length != teams.length) {
+            throw new IllegalArgumentException("Accumulators have different teams");
+        }
+        System.arraycopy(other.played, 0, played, 0, teams.length);
+        System.arraycopy(other.wins, 0, wins, 0, teams.length);
+        System.arraycopy(other.draws, 0, draws, 0, teams.length);
+        System.arraycopy(other.losses, 0, losses, 0, teams.length);
+        System.arraycopy(other.goalsFor, 0, goalsFor, 0, teams.length);
+        System.arraycopy(other.goalsAgainst, 0, goalsAgainst, 0, teams.length);
+        System.arraycopy(other.points, 0, points, 0, teams.length);
+        if (results.length < other.resultCount * 4) {
+            results = Arrays.copyOf(other.results, other.results.length);
+        } else {
+            System.arraycopy(other.results, 0, results, 0, other.resultCount * 4);
+        }
+        resultCount = other.resultCount;
+    }
+    
+    /**
+     * Gets the dense index of a team, or -1 if it is not in the table.
+     */
+    public int indexOf(Team team) {
+        Integer i = index.get(team);
+        return i != null ? i : -1;
+    }
+    
+    public Team getTeam(int team) {
+        return teams[team];
+    }
+    
+    /**
+     * Gets every team's points, ranked by the policy.
+     */
+    public Map<Team, Integer> toRankedPoints(RankingPolicy policy) {
+        Map<Team, Integer> ranked = new LinkedHashMap<>();
+        for (int team : policy.rank(this)) {
+            ranked.put(teams[team], points[team]);
+        }
+        return ranked;
+    }
+    
+    private void count(int team, int scored, int conceded) {
+        played[team]++;
+        goalsFor[team] += scored;
+        goalsAgainst[team] += conceded;
+        if (scored > conceded) {
+            wins[team]++;
+            points[team] += pointsForWin;
+        } else if (scored < conceded) {
+            losses[team]++;
+            points[team] += pointsForLoss;
+        } else {
+            draws[team]++;
+            points[team] += pointsForDraw;
+        }
+    }
+    
+    @Override
+    public int pointsFor(int scored, int conceded) {
+        if (scored > conceded) {
+            return pointsForWin;
+        }
+        return scored < conceded ? pointsForLoss : pointsForDraw;
+    }
+    
+    // Getters
+    @Override
+    public int getTeamCount() {
+        return teams.length;
+    }
+    
+    public int getPlayed(int team) {
+        return played[team];
+    }
+    
+    @Override
+    public int getWins(int team) {
+        return wins[team];
+    }
+    
+    public int getDraws(int team) {
+        return draws[team];
+    }
+    
+    public int getLosses(int team) {
+        return losses[team];
+    }
+    
+    @Override
+    public int getGoalsFor(int team) {
+        return goalsFor[team];
+    }
+    
+    @Override
+    public int getGoalsAgainst(int team) {
+        return goalsAgainst[team];
+    }
+    
+    @Override
+    public int getPoints(int team) {
+        return points[team];
+    }
+    
+    @Override
+    public int getResultCount() {
+        return resultCount;
+    }
+    
+    @Override
+    public int getHomeTeam(int result) {
+        return results[result * 4];
+    }
+    
+    @Override
+    public int getAwayTeam(int result) {
+        return results[result * 4 + 1];
+    }
+    
+    @Override
+    public int getHomeScore(int result) {
+        return results[result * 4 + 2];
+    }
+    
+    @Override
+    public int getAwayScore(int result) {
+        return results[result * 4 + 3];
+    }
+}
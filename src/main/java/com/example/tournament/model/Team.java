@@ -1,6 +1,8 @@
 package com.example.tournament.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -9,6 +11,8 @@ import java.util.List;
  */
 @Entity
 @Table(name = "teams")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Team {
     
     @Id
@@ -35,6 +39,13 @@ public class Team {
     
     private String contactInfo;
     
+    // Home ground coordinates in decimal degrees, used to estimate travel to venues
+    @Column(name = "home_latitude")
+    private Double homeLatitude;
+    
+    @Column(name = "home_longitude")
+    private Double homeLongitude;
+    
     // Approval status constants
     public static final String STATUS_NOT_REQUESTED = "NOT_REQUESTED";
     public static final String STATUS_PENDING = "PENDING";
@@ -98,6 +109,22 @@ public class Team {
         this.contactInfo = contactInfo;
     }
     
+    public Double getHomeLatitude() {
+        return homeLatitude;
+    }
+    
+    public void setHomeLatitude(Double homeLatitude) {
+        this.homeLatitude = homeLatitude;
+    }
+    
+    public Double getHomeLongitude() {
+        return homeLongitude;
+    }
+    
+    public void setHomeLongitude(Double homeLongitude) {
+        this.homeLongitude = homeLongitude;
+    }
+    
     public String getApprovalStatus() {
         return approvalStatus;
     }
@@ -155,21 +182,6 @@ public class Team {
         this.players = players;
     }
     
-    /**
-     * Gets the team statistics.
-     * @return team statistics
-     */
-    public TeamStats getTeamStats() {
-        // This is a placeholder implementation
-        // In a real application, this would calculate stats from match results
-        TeamStats stats = new TeamStats();
-        stats.setGamesPlayed(0);
-        stats.setWins(0);
-        stats.setLosses(0);
-        stats.setDraws(0);
-        return stats;
-    }
-    
     /**
      * Checks if the team has a player with the given ID.
      * @param playerId the ID of the player to check
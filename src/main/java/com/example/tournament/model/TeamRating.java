@@ -0,0 +1,99 @@
+package com.example.tournament.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * Entity holding a team's current strength rating across all tournaments.
+ * Rows are kept up to date by RatingService as results are posted; each
+ * adjustment is recorded as a RatingChange.
+ */
+@Entity
+@Table(name = "team_ratings",
+       uniqueConstraints = @UniqueConstraint(name = TeamRating.UNIQUE_TEAM, columnNames = {"team_id"}))
+public class TeamRating {
+    
+    /** Unique key on team_id, hit when two transactions create a team's rating at once. */
+    public static final String UNIQUE_TEAM = "uk_team_ratings_team";
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    // One row per team, enforced by the named unique key rather than a one-to-one
+    // mapping, whose generated key name could not be told apart from others
+    @ManyToOne
+    @JoinColumn(name = "team_id", nullable = false)
+    private Team team;
+    
+    @Column(nullable = false)
+    private double rating = EloRating.INITIAL_RATING;
+    
+    @Column(name = "matches_rated", nullable = false)
+    private int matchesRated;
+    
+    // Ratings are adjusted by read-modify-write, so concurrent results must not overwrite each other
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+    
+    // Constructors
+    public TeamRating() {
+    }
+    
+    public TeamRating(Team team) {
+        this.team = team;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Team getTeam() {
+        return team;
+    }
+    
+    public void setTeam(Team team) {
+        this.team = team;
+    }
+    
+    public double getRating() {
+        return rating;
+    }
+    
+    public void setRating(double rating) {
+        this.rating = rating;
+    }
+    
+    public int getMatchesRated() {
+        return matchesRated;
+    }
+    
+    public void setMatchesRated(int matchesRated) {
+        this.matchesRated = matchesRated;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
+    @Override
+    public String toString() {
+        return "TeamRating{" +
+                "id=" + id +
+                ", team=" + (team != null ? team.getName() : null) +
+                ", rating=" + rating +
+                ", matchesRated=" + matchesRated +
+                '}';
+    }
+}
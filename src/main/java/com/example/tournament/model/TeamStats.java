@@ -1,14 +1,21 @@
 package com.example.tournament.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * Entity representing statistics for a team in a tournament.
+ * Rows are kept up to date by TeamStatsService as results are posted.
  */
 @Entity
-@Table(name = "team_stats")
+@Table(name = "team_stats",
+       uniqueConstraints = @UniqueConstraint(name = TeamStats.UNIQUE_TOURNAMENT_TEAM,
+                                             columnNames = {"tournament_id", "team_id"}))
 public class TeamStats {
     
+    /** Unique key on (tournament_id, team_id), hit when two transactions create the same row at once. */
+    public static final String UNIQUE_TOURNAMENT_TEAM = "uk_team_stats_tournament_team";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -29,10 +36,22 @@ public class TeamStats {
     private int goalsAgainst;
     private int points;
     
+    // Rows are adjusted by read-modify-write, so concurrent deltas must not overwrite each other
+    // Existing rows start at 0 when the column is added
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+    
     // Constructors
     public TeamStats() {
     }
     
+    public TeamStats(Team team, Tournament tournament) {
+        this.team = team;
+        this.tournament = tournament;
+    }
+    
     public TeamStats(int matchesPlayed, int wins, int losses, int draws) {
         this.matchesPlayed = matchesPlayed;
         this.wins = wins;
@@ -145,6 +164,14 @@ public class TeamStats {
         this.points = points;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
     public int getGoalDifference() {
         return goalsFor - goalsAgainst;
     }
@@ -1,6 +1,8 @@
 package com.example.tournament.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -12,6 +14,8 @@ import java.util.Map;
  */
 @Entity
 @Table(name = "tournaments")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Inheritance(strategy = InheritanceType.JOINED)
 public abstract class Tournament {
     
@@ -48,6 +52,13 @@ public abstract class Tournament {
     @JoinColumn(name = "organizer_id")
     private TournamentOrganizer organizer;
     
+    /**
+     * Comma-separated ranking criteria, e.g. "POINTS,HEAD_TO_HEAD,GOAL_DIFFERENCE";
+     * null for the standard policy.
+     */
+    @Column(name = "tiebreakers")
+    private String tiebreakers;
+    
     // Constructors
     public Tournament() {
     }
@@ -133,6 +144,25 @@ public abstract class Tournament {
         this.organizer = organizer;
     }
     
+    public String getTiebreakers() {
+        return tiebreakers;
+    }
+    
+    public void setTiebreakers(String tiebreakers) {
+        this.tiebreakers = tiebreakers;
+    }
+    
+    /**
+     * Gets the policy that orders teams in the standings.
+     */
+    public RankingPolicy getRankingPolicy() {
+        return RankingPolicy.parse(tiebreakers);
+    }
+    
+    public void setRankingPolicy(RankingPolicy rankingPolicy) {
+        this.tiebreakers = rankingPolicy != null ? rankingPolicy.format() : null;
+    }
+    
     /**
      * Adds a team to the tournament.
      */
@@ -159,6 +189,19 @@ public abstract class Tournament {
         }
     }
     
+    /**
+     * Totals the completed matches with the given points rules, for the
+     * tournament types that award points.
+     */
+    protected StandingsAccumulator accumulateStandings(int pointsForWin, int pointsForDraw, int pointsForLoss) {
+        StandingsAccumulator totals = new StandingsAccumulator(teams, pointsForWin, pointsForDraw, pointsForLoss,
+                                                               matches.size());
+        for (Match match : matches) {
+            totals.add(match);
+        }
+        return totals;
+    }
+    
     /**
      * Abstract method to generate the tournament schedule.
      * Must be implemented by subclasses.
@@ -4,6 +4,10 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -12,6 +16,8 @@ import java.util.List;
  */
 @Entity
 @Table(name = "venues")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Venue {
     
     @Id
@@ -25,12 +31,21 @@ public class Venue {
     
     private Integer capacity;
     
+    // Coordinates in decimal degrees, used to estimate travel from team home grounds
+    private Double latitude;
+    
+    private Double longitude;
+    
     @OneToMany(mappedBy = "venue", cascade = CascadeType.ALL)
     private List<TimeSlot> bookings = new ArrayList<>();
     
     @Transient
     private ObservableList<TimeSlot> observableBookings;
     
+    // Sorted index over bookings, rebuilt lazily from the persisted list
+    @Transient
+    private VenueCalendar calendar;
+    
     // Constructors
     public Venue() {
     }
@@ -79,12 +94,29 @@ public class Venue {
         this.capacity = capacity;
     }
     
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+    
     public List<TimeSlot> getBookings() {
         return bookings;
     }
     
     public void setBookings(List<TimeSlot> bookings) {
         this.bookings = bookings;
+        this.calendar = null;
         syncObservableBookings();
     }
     
@@ -95,16 +127,39 @@ public class Venue {
         return observableBookings;
     }
     
+    /**
+     * Gets the sorted booking index of this venue.
+     * Bookings should be changed through bookTimeSlot and releaseTimeSlot
+     * so that the index stays in step with the persisted list.
+     */
+    public VenueCalendar getCalendar() {
+        if (calendar == null) {
+            calendar = new VenueCalendar(bookings);
+        }
+        return calendar;
+    }
+    
     /**
      * Checks if the venue is available during a specific time slot.
      */
     public boolean isAvailable(TimeSlot requestedSlot) {
-        for (TimeSlot booking : bookings) {
-            if (booking.overlapsWith(requestedSlot)) {
-                return false;
-            }
-        }
-        return true;
+        return getCalendar().isAvailable(requestedSlot);
+    }
+    
+    /**
+     * Finds the earliest start time at or after notBefore at which the venue
+     * is free for the given length of time.
+     */
+    public LocalDateTime findNextAvailableStart(LocalDateTime notBefore, Duration length) {
+        return getCalendar().findNextFreeStart(notBefore, length);
+    }
+    
+    /**
+     * Finds the earliest free start as above, ignoring one booking, e.g. the
+     * current booking of a match that is being moved within this venue.
+     */
+    public LocalDateTime findNextAvailableStart(LocalDateTime notBefore, Duration length, TimeSlot ignored) {
+        return getCalendar().findNextFreeStart(notBefore, length, ignored);
     }
     
     /**
@@ -112,6 +167,7 @@ public class Venue {
      */
     public boolean bookTimeSlot(TimeSlot timeSlot) {
         if (isAvailable(timeSlot)) {
+            getCalendar().add(timeSlot);
             bookings.add(timeSlot);
             syncObservableBookings();
             return true;
@@ -119,6 +175,20 @@ public class Venue {
         return false;
     }
     
+    /**
+     * Releases a previously booked time slot at this venue.
+     * @return true if the booking was found and removed
+     */
+    public boolean releaseTimeSlot(TimeSlot timeSlot) {
+        VenueCalendar index = getCalendar();
+        if (bookings.remove(timeSlot)) {
+            index.remove(timeSlot);
+            syncObservableBookings();
+            return true;
+        }
+        return false;
+    }
+    
     /**
      * Synchronizes the observable list with the persisted list.
      */
@@ -132,6 +202,7 @@ public class Venue {
     @PostPersist
     @PostUpdate
     private void syncAfterDatabaseOperation() {
+        calendar = null;
         syncObservableBookings();
     }
     
@@ -0,0 +1,158 @@
+package com.example.tournament.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Sorted index over the bookings of a venue.
+ * Bookings are keyed by start time, so overlap checks and next-free-slot lookups
+ * only visit bookings that start within one booking length of the requested
+ * window instead of scanning every booking of the season.
+ */
+public class VenueCalendar {
+    
+    private final NavigableMap<LocalDateTime, List<TimeSlot>> bookingsByStart = new TreeMap<>();
+    
+    // Upper bound on booking length; bounds how far back an overlapping booking can start
+    private Duration longestBooking = Duration.ZERO;
+    
+    private int size;
+    
+    // Constructors
+    public VenueCalendar() {
+    }
+    
+    public VenueCalendar(Collection<TimeSlot> bookings) {
+        for (TimeSlot booking : bookings) {
+            add(booking);
+        }
+    }
+    
+    /**
+     * Adds a booking to the index. Bookings without start or end time are ignored.
+     */
+    public void add(TimeSlot booking) {
+        if (booking.getStartTime() == null || booking.getEndTime() == null) {
+            return;
+        }
+        bookingsByStart.computeIfAbsent(booking.getStartTime(), start -> new ArrayList<>(1)).add(booking);
+        Duration length = Duration.between(booking.getStartTime(), booking.getEndTime());
+        if (length.compareTo(longestBooking) > 0) {
+            longestBooking = length;
+        }
+        size++;
+    }
+    
+    /**
+     * Removes a booking from the index.
+     * @return true if the booking was indexed
+     */
+    public boolean remove(TimeSlot booking) {
+        if (booking.getStartTime() == null) {
+            return false;
+        }
+        List<TimeSlot> sameStart = bookingsByStart.get(booking.getStartTime());
+        if (sameStart == null || !sameStart.remove(booking)) {
+            return false;
+        }
+        if (sameStart.isEmpty()) {
+            bookingsByStart.remove(booking.getStartTime());
+        }
+        size--;
+        return true;
+    }
+    
+    /**
+     * Checks whether no booking overlaps the given time slot.
+     */
+    public boolean isAvailable(TimeSlot requestedSlot) {
+        return isFree(requestedSlot.getStartTime(), requestedSlot.getEndTime());
+    }
+    
+    /**
+     * Checks whether no booking overlaps the window [start, end).
+     */
+    public boolean isFree(LocalDateTime start, LocalDateTime end) {
+        for (List<TimeSlot> sameStart : candidates(start, end).values()) {
+            for (TimeSlot booking : sameStart) {
+                if (booking.getEndTime().isAfter(start)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Returns the bookings overlapping the window [start, end), ordered by start time.
+     */
+    public List<TimeSlot> getOverlapping(LocalDateTime start, LocalDateTime end) {
+        List<TimeSlot> overlapping = new ArrayList<>();
+        for (List<TimeSlot> sameStart : candidates(start, end).values()) {
+            for (TimeSlot booking : sameStart) {
+                if (booking.getEndTime().isAfter(start)) {
+                    overlapping.add(booking);
+                }
+            }
+        }
+        return overlapping;
+    }
+    
+    /**
+     * Finds the earliest start time at or after notBefore at which a booking of
+     * the given length would not overlap any existing booking.
+     */
+    public LocalDateTime findNextFreeStart(LocalDateTime notBefore, Duration length) {
+        return findNextFreeStart(notBefore, length, null);
+    }
+    
+    /**
+     * Finds the earliest free start as above, ignoring one booking, e.g. the
+     * current booking of a match that is being moved.
+     * @param ignored the booking to ignore, matched by ID once saved, or null
+     */
+    public LocalDateTime findNextFreeStart(LocalDateTime notBefore, Duration length, TimeSlot ignored) {
+        LocalDateTime cursor = notBefore;
+        for (Map.Entry<LocalDateTime, List<TimeSlot>> entry
+                : bookingsByStart.tailMap(notBefore.minus(longestBooking), false).entrySet()) {
+            if (!entry.getKey().isBefore(cursor.plus(length))) {
+                break;
+            }
+            for (TimeSlot booking : entry.getValue()) {
+                if (booking.getEndTime().isAfter(cursor) && !isSameBooking(booking, ignored)) {
+                    cursor = booking.getEndTime();
+                }
+            }
+        }
+        return cursor;
+    }
+    
+    /**
+     * Returns the number of indexed bookings.
+     */
+    public int size() {
+        return size;
+    }
+    
+    private static boolean isSameBooking(TimeSlot booking, TimeSlot other) {
+        return booking == other
+            || (other != null && booking.getId() != null && booking.getId().equals(other.getId()));
+    }
+    
+    /**
+     * Bookings that start late enough to reach into the window and early enough
+     * to begin before it ends.
+     */
+    private NavigableMap<LocalDateTime, List<TimeSlot>> candidates(LocalDateTime start, LocalDateTime end) {
+        if (end.isBefore(start)) {
+            return new TreeMap<>();
+        }
+        return bookingsByStart.subMap(start.minus(longestBooking), false, end, false);
+    }
+}
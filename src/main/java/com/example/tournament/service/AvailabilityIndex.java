@@ -0,0 +1,166 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.EntityKeys;
+import com.example.tournament.model.Team;
+import com.example.tournament.model.TimeSlot;
+import com.example.tournament.model.Venue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Team preferences and venue availability compiled into bitsets over fixed-length
+ * time buckets of a scheduling window.
+ * 
+ * Each team's preferred time slots are compiled once; finding a time that suits both
+ * teams is then a single AND of their bitsets, and a time that also suits a venue a
+ * three-way AND with the venue's free buckets. Bookings made during a run clear the
+ * affected buckets so later matches see them.
+ */
+class AvailabilityIndex {
+    
+    static final Duration DEFAULT_BUCKET = Duration.ofMinutes(15);
+    
+    private final LocalDateTime origin;
+    private final long bucketMinutes;
+    private final int bucketCount;
+    
+    // Teams without preferences map to null: they accept any time
+    private final Map<Object, BitSet> teamPreferences = new HashMap<>();
+    private final Map<Object, BitSet> venueFree = new HashMap<>();
+    
+    /**
+     * @param origin start of the first bucket
+     * @param end end of the scheduling window
+     * @param bucket length of one bucket
+     */
+    AvailabilityIndex(LocalDateTime origin, LocalDateTime end, Duration bucket) {
+        if (bucket.toMinutes() < 1) {
+            throw new IllegalArgumentException("bucket must be at least one minute");
+        }
+        this.origin = origin;
+        this.bucketMinutes = bucket.toMinutes();
+        long minutes = Math.max(0, Duration.between(origin, end).toMinutes());
+        this.bucketCount = (int) ((minutes + bucketMinutes - 1) / bucketMinutes);
+    }
+    
+    int getBucketCount() {
+        return bucketCount;
+    }
+    
+    /**
+     * Returns the bucket containing the given time; may lie outside the window.
+     */
+    int bucketOf(LocalDateTime time) {
+        return (int) Math.floorDiv(Duration.between(origin, time).toMinutes(), bucketMinutes);
+    }
+    
+    /**
+     * Returns the number of buckets needed to cover the given length.
+     */
+    int bucketsFor(Duration length) {
+        return (int) ((length.toMinutes() + bucketMinutes - 1) / bucketMinutes);
+    }
+    
+    LocalDateTime startOf(int bucket) {
+        return origin.plusMinutes(bucket * bucketMinutes);
+    }
+    
+    /**
+     * Gets the buckets lying entirely inside one of the team's preferred time slots,
+     * or null when the team has no preferences.
+     */
+    BitSet getTeamPreferences(Team team) {
+        Object key = EntityKeys.of(team);
+        if (!teamPreferences.containsKey(key)) {
+            teamPreferences.put(key, compile(team.getPreferredTimeSlots()));
+        }
+        return teamPreferences.get(key);
+    }
+    
+    /**
+     * Gets the buckets in which the venue has no booking.
+     */
+    BitSet getVenueFree(Venue venue) {
+        return venueFree.computeIfAbsent(EntityKeys.of(venue), k -> {
+            BitSet free = new BitSet(bucketCount);
+            free.set(0, bucketCount);
+            for (TimeSlot booking : venue.getCalendar().getOverlapping(origin, startOf(bucketCount))) {
+                clear(free, booking.getStartTime(), booking.getEndTime());
+            }
+            return free;
+        });
+    }
+    
+    /**
+     * Records a booking made after the venue was compiled.
+     */
+    void markVenueBooked(Venue venue, LocalDateTime start, LocalDateTime end) {
+        BitSet free = venueFree.get(EntityKeys.of(venue));
+        if (free != null) {
+            clear(free, start, end);
+        }
+    }
+    
+    /**
+     * Removes a time the team is now playing from its preferred buckets.
+     */
+    void markTeamBusy(Team team, LocalDateTime start, LocalDateTime end) {
+        BitSet preferred = getTeamPreferences(team);
+        if (preferred != null) {
+            clear(preferred, start, end);
+        }
+    }
+    
+    /**
+     * Finds the first bucket at or after from that starts a run of at least
+     * length set bits, or -1 if there is none.
+     */
+    static int findRun(BitSet bits, int from, int length) {
+        int start = bits.nextSetBit(Math.max(from, 0));
+        while (start >= 0) {
+            int end = bits.nextClearBit(start);
+            if (end - start >= length) {
+                return start;
+            }
+            start = bits.nextSetBit(end);
+        }
+        return -1;
+    }
+    
+    private BitSet compile(List<TimeSlot> windows) {
+        if (windows == null || windows.isEmpty()) {
+            return null;
+        }
+        BitSet preferred = new BitSet(bucketCount);
+        for (TimeSlot window : windows) {
+            if (window.getStartTime() == null || window.getEndTime() == null) {
+                continue;
+            }
+            // Only buckets fully inside the window count as preferred
+            long startMinutes = Duration.between(origin, window.getStartTime()).toMinutes();
+            int from = (int) Math.max(0, Math.floorDiv(startMinutes + bucketMinutes - 1, bucketMinutes));
+            int to = Math.min(bucketCount, bucketOf(window.getEndTime()));
+            if (from < to) {
+                preferred.set(from, to);
+            }
+        }
+        return preferred;
+    }
+    
+    /**
+     * Clears every bucket the interval touches.
+     */
+    private void clear(BitSet bits, LocalDateTime start, LocalDateTime end) {
+        long endMinutes = Duration.between(origin, end).toMinutes();
+        int from = Math.max(0, bucketOf(start));
+        int to = (int) Math.min(bucketCount, Math.floorDiv(endMinutes + bucketMinutes - 1, bucketMinutes));
+        if (from < to) {
+            bits.clear(from, to);
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.Match;
+import com.example.tournament.model.Team;
+import com.example.tournament.model.TimeSlot;
+import com.example.tournament.model.Tournament;
+import com.example.tournament.model.Venue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Schedules many tournaments at once over a shared venue pool.
+ * 
+ * Each tournament is split into work units: one per round when its fixtures carry
+ * round numbers, otherwise one for the whole tournament. Rounds get disjoint day
+ * windows, so units never share a team and can run on separate threads. All venue
+ * bookings go through a {@link VenueReservations} arbiter, which keeps parallel
+ * workers from double-booking a venue.
+ */
+public class BatchSchedulingManager {
+    
+    private static final Logger logger = LoggerFactory.getLogger(BatchSchedulingManager.class);
+    
+    private final VenueReservations reservations;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private Duration matchDuration = Duration.ofHours(2);
+    private Duration changeoverTime = Duration.ofHours(1);
+    private Duration minimumRest = Duration.ofHours(12);
+    private LocalTime dayStart = LocalTime.of(9, 0);
+    private LocalTime dayEnd = LocalTime.of(21, 0);
+    private int roundSpacingDays = 1;
+    private int maxHorizonDays = 365;
+    
+    // Constructors
+    public BatchSchedulingManager() {
+        this(new VenueReservations());
+    }
+    
+    public BatchSchedulingManager(VenueReservations reservations) {
+        this.reservations = Objects.requireNonNull(reservations, "reservations");
+    }
+    
+    // Getters and Setters
+    public int getParallelism() {
+        return parallelism;
+    }
+    
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+    
+    public Duration getMatchDuration() {
+        return matchDuration;
+    }
+    
+    public void setMatchDuration(Duration matchDuration) {
+        if (matchDuration == null || matchDuration.isZero() || matchDuration.isNegative()) {
+            throw new IllegalArgumentException("matchDuration must be positive");
+        }
+        this.matchDuration = matchDuration;
+    }
+    
+    public Duration getChangeoverTime() {
+        return changeoverTime;
+    }
+    
+    public void setChangeoverTime(Duration changeoverTime) {
+        if (changeoverTime == null || changeoverTime.isNegative()) {
+            throw new IllegalArgumentException("changeoverTime must not be negative");
+        }
+        this.changeoverTime = changeoverTime;
+    }
+    
+    public Duration getMinimumRest() {
+        return minimumRest;
+    }
+    
+    public void setMinimumRest(Duration minimumRest) {
+        if (minimumRest == null || minimumRest.isNegative()) {
+            throw new IllegalArgumentException("minimumRest must not be negative");
+        }
+        this.minimumRest = minimumRest;
+    }
+    
+    public LocalTime getDayStart() {
+        return dayStart;
+    }
+    
+    public void setDayStart(LocalTime dayStart) {
+        this.dayStart = Objects.requireNonNull(dayStart, "dayStart");
+    }
+    
+    public LocalTime getDayEnd() {
+        return dayEnd;
+    }
+    
+    public void setDayEnd(LocalTime dayEnd) {
+        this.dayEnd = Objects.requireNonNull(dayEnd, "dayEnd");
+    }
+    
+    public int getRoundSpacingDays() {
+        return roundSpacingDays;
+    }
+    
+    /**
+     * Sets the number of days each round may use; 7 gives weekly matchdays.
+     */
+    public void setRoundSpacingDays(int roundSpacingDays) {
+        if (roundSpacingDays < 1) {
+            throw new IllegalArgumentException("roundSpacingDays must be at least 1");
+        }
+        this.roundSpacingDays = roundSpacingDays;
+    }
+    
+    public int getMaxHorizonDays() {
+        return maxHorizonDays;
+    }
+    
+    /**
+     * Sets the number of days scheduled when a tournament has no usable end date.
+     */
+    public void setMaxHorizonDays(int maxHorizonDays) {
+        if (maxHorizonDays < 1) {
+            throw new IllegalArgumentException("maxHorizonDays must be at least 1");
+        }
+        this.maxHorizonDays = maxHorizonDays;
+    }
+    
+    /**
+     * Schedules all tournaments in parallel over the given venues.
+     * Fixtures are generated for tournaments that have none yet; matches that
+     * already have a venue and time are left where they are.
+     * @param tournaments The tournaments to schedule
+     * @param venues The venue pool shared by all tournaments
+     * @return validation report per tournament, in the order given
+     */
+    public Map<Tournament, ScheduleValidationReport> scheduleTournaments(List<Tournament> tournaments,
+                                                                         List<Venue> venues) {
+        Map<Tournament, ScheduleValidationReport> reports = new LinkedHashMap<>();
+        if (venues.isEmpty()) {
+            logger.warn("No venues available for scheduling {} tournaments", tournaments.size());
+            return reports;
+        }
+        
+        long started = System.nanoTime();
+        List<WorkUnit> units = new ArrayList<>();
+        for (Tournament tournament : tournaments) {
+            if (tournament.getMatches().isEmpty()) {
+                tournament.generateSchedule();
+            }
+            units.addAll(partition(tournament));
+        }
+        
+        // Build the booking indexes up front rather than lazily on the worker threads
+        for (Venue venue : venues) {
+            venue.getCalendar();
+        }
+        
+        int placed = runUnits(units, venues);
+        
+        ScheduleValidator validator = new ScheduleValidator(minimumRest, matchDuration);
+        int unscheduled = 0;
+        for (Tournament tournament : tournaments) {
+            ScheduleValidationReport report = validator.validate(tournament);
+            unscheduled += report.getUnscheduledMatches();
+            reports.put(tournament, report);
+        }
+        
+        logger.info("Batch scheduled {} matches for {} tournaments in {} work units across {} venues in {} ms; {} unscheduled",
+                    placed, tournaments.size(), units.size(), venues.size(),
+                    (System.nanoTime() - started) / 1_000_000, unscheduled);
+        return reports;
+    }
+    
+    private int runUnits(List<WorkUnit> units, List<Venue> venues) {
+        if (units.isEmpty()) {
+            return 0;
+        }
+        
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (WorkUnit unit : units) {
+            tasks.add(() -> unit.schedule(venues));
+        }
+        
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, units.size()));
+        int placed = 0;
+        try {
+            List<Future<Integer>> results = executor.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    placed += results.get(i).get();
+                } catch (ExecutionException e) {
+                    logger.error("Scheduling failed for {}", units.get(i), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Batch scheduling interrupted");
+        } finally {
+            executor.shutdown();
+        }
+        return placed;
+    }
+    
+    /**
+     * Splits a tournament into independently schedulable work units.
+     */
+    private List<WorkUnit> partition(Tournament tournament) {
+        LocalDate firstDay = tournament.getStartDate() != null ? tournament.getStartDate() : LocalDate.now();
+        LocalDate lastDay = tournament.getEndDate() != null && !tournament.getEndDate().isBefore(firstDay)
+                          ? tournament.getEndDate()
+                          : firstDay.plusDays(maxHorizonDays - 1);
+        
+        List<Match> matches = tournament.getMatches();
+        boolean byRound = !matches.isEmpty();
+        for (Match match : matches) {
+            if (match.getRound() == null) {
+                byRound = false;
+                break;
+            }
+        }
+        if (!byRound) {
+            return List.of(new WorkUnit(tournament, "all matches", matches, firstDay, lastDay));
+        }
+        
+        SortedMap<Integer, List<Match>> rounds = new TreeMap<>();
+        for (Match match : matches) {
+            rounds.computeIfAbsent(match.getRound(), r -> new ArrayList<>()).add(match);
+        }
+        
+        List<WorkUnit> units = new ArrayList<>();
+        int index = 0;
+        for (Map.Entry<Integer, List<Match>> round : rounds.entrySet()) {
+            LocalDate from = firstDay.plusDays((long) index * roundSpacingDays);
+            LocalDate to = from.plusDays(roundSpacingDays - 1);
+            if (to.isAfter(lastDay)) {
+                to = lastDay;
+            }
+            if (from.isAfter(lastDay)) {
+                logger.warn("Tournament '{}' ends before round {}; its matches stay unscheduled",
+                            tournament.getName(), round.getKey());
+            }
+            units.add(new WorkUnit(tournament, "round " + round.getKey(), round.getValue(), from, to));
+            index++;
+        }
+        return units;
+    }
+    
+    private static boolean isPlaced(Match match) {
+        return match.getVenue() != null && match.getScheduledTime() != null;
+    }
+    
+    private static boolean isSchedulable(Match match) {
+        return match.getStatus() != Match.MatchStatus.COMPLETED
+            && match.getStatus() != Match.MatchStatus.CANCELLED;
+    }
+    
+    private static LocalDateTime later(LocalDateTime first, LocalDateTime second) {
+        return second != null && second.isAfter(first) ? second : first;
+    }
+    
+    /**
+     * A set of matches of one tournament scheduled sequentially within a day window.
+     */
+    private class WorkUnit {
+        private final Tournament tournament;
+        private final String label;
+        private final List<Match> matches;
+        private final LocalDate firstDay;
+        private final LocalDate lastDay;
+        
+        // Earliest time each team may start its next match in this unit
+        private final Map<Team, LocalDateTime> teamFreeFrom = new HashMap<>();
+        
+        WorkUnit(Tournament tournament, String label, List<Match> matches, LocalDate firstDay, LocalDate lastDay) {
+            this.tournament = tournament;
+            this.label = label;
+            this.matches = matches;
+            this.firstDay = firstDay;
+            this.lastDay = lastDay;
+        }
+        
+        /**
+         * Places the unit's matches at the earliest free slots.
+         * @return the number of matches placed
+         */
+        int schedule(List<Venue> venues) {
+            for (Match match : matches) {
+                if (isPlaced(match)) {
+                    markTeamsBusy(match, match.getTimeSlot() != null
+                                         ? match.getTimeSlot().getEndTime()
+                                         : match.getScheduledTime().plus(matchDuration));
+                }
+            }
+            
+            int placed = 0;
+            for (Match match : matches) {
+                if (!isPlaced(match) && isSchedulable(match) && place(match, venues)) {
+                    placed++;
+                }
+            }
+            return placed;
+        }
+        
+        private boolean place(Match match, List<Venue> venues) {
+            LocalDateTime notBefore = firstDay.atTime(dayStart);
+            notBefore = later(notBefore, teamFreeFrom.get(match.getTeam1()));
+            notBefore = later(notBefore, teamFreeFrom.get(match.getTeam2()));
+            
+            while (true) {
+                Venue bestVenue = null;
+                LocalDateTime bestStart = null;
+                for (Venue venue : venues) {
+                    LocalDateTime start = findStartWithinHours(venue, notBefore);
+                    if (start != null && (bestStart == null || start.isBefore(bestStart))) {
+                        bestVenue = venue;
+                        bestStart = start;
+                    }
+                }
+                if (bestVenue == null) {
+                    return false;
+                }
+                
+                TimeSlot timeSlot = new TimeSlot(bestStart, bestStart.plus(matchDuration));
+                if (reservations.tryReserve(bestVenue, timeSlot, changeoverTime)) {
+                    match.setVenue(bestVenue);
+                    match.setTimeSlot(timeSlot);
+                    match.setScheduledTime(bestStart);
+                    markTeamsBusy(match, timeSlot.getEndTime());
+                    return true;
+                }
+                // Another worker booked the slot after we found it; search again
+            }
+        }
+        
+        /**
+         * Finds the earliest free start at the venue that keeps the match within
+         * daily hours and inside this unit's window.
+         */
+        private LocalDateTime findStartWithinHours(Venue venue, LocalDateTime notBefore) {
+            LocalDateTime windowEnd = lastDay.atTime(dayEnd);
+            LocalDateTime start = notBefore;
+            while (!start.plus(matchDuration).isAfter(windowEnd)) {
+                start = reservations.findNextFreeStart(venue, start, matchDuration, changeoverTime);
+                LocalDate day = start.toLocalDate();
+                if (start.toLocalTime().isBefore(dayStart)) {
+                    start = day.atTime(dayStart);
+                } else if (start.plus(matchDuration).isAfter(day.atTime(dayEnd))) {
+                    start = day.plusDays(1).atTime(dayStart);
+                } else {
+                    return start.plus(matchDuration).isAfter(windowEnd) ? null : start;
+                }
+            }
+            return null;
+        }
+        
+        private void markTeamsBusy(Match match, LocalDateTime end) {
+            LocalDateTime freeFrom = end.plus(minimumRest);
+            for (Team team : Arrays.asList(match.getTeam1(), match.getTeam2())) {
+                if (team != null) {
+                    teamFreeFrom.merge(team, freeFrom, BatchSchedulingManager::later);
+                }
+            }
+        }
+        
+        @Override
+        public String toString() {
+            return "'" + tournament.getName() + "' " + label;
+        }
+    }
+}
@@ -0,0 +1,613 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * SchedulingService implementation that treats venues, time slots and team
+ * preferences together as a constraint problem.
+ * 
+ * The tournament window is discretised into a grid of match slots. Hard constraints
+ * are one match per venue per slot and a minimum rest period between two matches
+ * of the same team; team time slot preferences are soft constraints used to rank
+ * candidate slots. Matches are placed greedily, most constrained first, and the
+ * ones left over are repaired by a local search that ejects and relocates a single
+ * blocking match, until every match is placed or the time budget runs out.
+ */
+public class ConstraintSchedulingManager extends SchedulingManager {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ConstraintSchedulingManager.class);
+    
+    private Duration timeBudget = Duration.ofSeconds(5);
+    private Duration matchDuration = Duration.ofHours(2);
+    private Duration changeoverTime = Duration.ofHours(1);
+    private Duration minimumRest = Duration.ofHours(12);
+    private LocalTime dayStart = LocalTime.of(9, 0);
+    private LocalTime dayEnd = LocalTime.of(21, 0);
+    private int maxHorizonDays = 365;
+    
+    // Constructors
+    public ConstraintSchedulingManager() {
+    }
+    
+    public ConstraintSchedulingManager(Duration timeBudget) {
+        setTimeBudget(timeBudget);
+    }
+    
+    // Getters and Setters
+    public Duration getTimeBudget() {
+        return timeBudget;
+    }
+    
+    public void setTimeBudget(Duration timeBudget) {
+        this.timeBudget = requirePositive(timeBudget, "timeBudget");
+    }
+    
+    public Duration getMatchDuration() {
+        return matchDuration;
+    }
+    
+    public void setMatchDuration(Duration matchDuration) {
+        this.matchDuration = requirePositive(matchDuration, "matchDuration");
+    }
+    
+    public Duration getChangeoverTime() {
+        return changeoverTime;
+    }
+    
+    public void setChangeoverTime(Duration changeoverTime) {
+        if (changeoverTime == null || changeoverTime.isNegative()) {
+            throw new IllegalArgumentException("changeoverTime must not be negative");
+        }
+        this.changeoverTime = changeoverTime;
+    }
+    
+    public Duration getMinimumRest() {
+        return minimumRest;
+    }
+    
+    public void setMinimumRest(Duration minimumRest) {
+        if (minimumRest == null || minimumRest.isNegative()) {
+            throw new IllegalArgumentException("minimumRest must not be negative");
+        }
+        this.minimumRest = minimumRest;
+    }
+    
+    public LocalTime getDayStart() {
+        return dayStart;
+    }
+    
+    public void setDayStart(LocalTime dayStart) {
+        this.dayStart = Objects.requireNonNull(dayStart, "dayStart");
+    }
+    
+    public LocalTime getDayEnd() {
+        return dayEnd;
+    }
+    
+    public void setDayEnd(LocalTime dayEnd) {
+        this.dayEnd = Objects.requireNonNull(dayEnd, "dayEnd");
+    }
+    
+    public int getMaxHorizonDays() {
+        return maxHorizonDays;
+    }
+    
+    /**
+     * Sets the number of days scheduled when a tournament has no usable end date.
+     */
+    public void setMaxHorizonDays(int maxHorizonDays) {
+        if (maxHorizonDays < 1) {
+            throw new IllegalArgumentException("maxHorizonDays must be at least 1");
+        }
+        this.maxHorizonDays = maxHorizonDays;
+    }
+    
+    @Override
+    public void scheduleMatches(Tournament tournament, List<Venue> venues) {
+        if (venues.isEmpty()) {
+            logger.warn("No venues available for scheduling tournament '{}'", tournament.getName());
+            return;
+        }
+        
+        // Only generate fixtures once; re-running the scheduler must not duplicate them
+        if (tournament.getMatches().isEmpty()) {
+            tournament.generateSchedule();
+        }
+        
+        LocalDate firstDay = tournament.getStartDate() != null ? tournament.getStartDate() : LocalDate.now();
+        SlotModel model = new SlotModel(venues, firstDay, lastDay(firstDay, tournament.getEndDate()));
+        
+        List<Match> pending = new ArrayList<>();
+        for (Match match : tournament.getMatches()) {
+            if (isPlaced(match)) {
+                model.fix(match);
+            } else if (isSchedulable(match)) {
+                pending.add(match);
+            }
+        }
+        
+        long started = System.nanoTime();
+        int placed = model.solve(pending, started + timeBudget.toNanos());
+        int applied = model.apply();
+        
+        logger.info("Scheduled {} of {} pending matches for '{}' across {} venues in {} ms",
+                    applied, pending.size(), tournament.getName(), venues.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        if (applied < placed) {
+            logger.warn("{} placed matches could not be booked at their venue", placed - applied);
+        }
+        
+        validateSchedule(tournament);
+    }
+    
+    /**
+     * Picks the best scoring venue among those free at the match's current
+     * time slot when it has one.
+     */
+    @Override
+    public Venue findOptimalVenue(Match match, List<Venue> venues) {
+        TimeSlot timeSlot = match.getTimeSlot();
+        return getVenueScoringModel().selectBest(match, venues,
+                                                 venue -> timeSlot == null || venue.isAvailable(timeSlot));
+    }
+    
+    /**
+     * Repairs with the same match length, rest period and daily hours as the scheduler.
+     */
+    @Override
+    protected IncrementalRescheduler createRescheduler(List<Match> fixtures, List<Venue> venues) {
+        return new IncrementalRescheduler(matchDuration, minimumRest, changeoverTime,
+                                          dayStart, dayEnd, fixtures, venues);
+    }
+    
+    /**
+     * Validates against the same rest period the scheduler enforces.
+     */
+    @Override
+    protected ScheduleValidator createValidator() {
+        return new ScheduleValidator(minimumRest, matchDuration);
+    }
+    
+    private LocalDate lastDay(LocalDate firstDay, LocalDate endDate) {
+        if (endDate == null || endDate.isBefore(firstDay)) {
+            return firstDay.plusDays(maxHorizonDays - 1);
+        }
+        return endDate;
+    }
+    
+    private static boolean isPlaced(Match match) {
+        return match.getVenue() != null && match.getScheduledTime() != null;
+    }
+    
+    private static boolean isSchedulable(Match match) {
+        return match.getStatus() != Match.MatchStatus.COMPLETED
+            && match.getStatus() != Match.MatchStatus.CANCELLED;
+    }
+    
+    private static Duration requirePositive(Duration value, String name) {
+        if (value == null || value.isZero() || value.isNegative()) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+        return value;
+    }
+    
+    private static long toMinutes(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+    
+    /**
+     * Slot grid and occupancy state for one scheduling run.
+     * Slots are identified by their index in start-time order.
+     */
+    private class SlotModel {
+        
+        private final List<Venue> venues;
+        private final LocalDateTime[] slotStarts;
+        private final long[] slotMinutes;
+        private final long durationMinutes;
+        private final long gapMinutes;
+        
+        // Slots a team may not use when it plays at slot s: conflictLo[s]..conflictHi[s]
+        private final int[] conflictLo;
+        private final int[] conflictHi;
+        
+        private final boolean[][] venueBusy;
+        private final int[] venueLoad;
+        private final int[] freeVenues;
+        
+        private final Map<Team, Integer> teamIndex = new HashMap<>();
+        private final List<int[]> teamConflicts = new ArrayList<>();
+        private final List<BitSet> teamPreferred = new ArrayList<>();
+        private final BitSet allSlots;
+        private final List<List<Integer>> teamMatches = new ArrayList<>();
+        
+        private final List<Match> matches = new ArrayList<>();
+        private int[] matchTeamA = new int[16];
+        private int[] matchTeamB = new int[16];
+        private int[] matchSlot = new int[16];
+        private int[] matchVenue = new int[16];
+        private final List<List<Integer>> slotOccupants = new ArrayList<>();
+        
+        SlotModel(List<Venue> venues, LocalDate firstDay, LocalDate lastDay) {
+            this.venues = venues;
+            this.durationMinutes = matchDuration.toMinutes();
+            this.gapMinutes = matchDuration.plus(minimumRest).toMinutes();
+            
+            List<LocalDateTime> grid = new ArrayList<>();
+            Duration step = matchDuration.plus(changeoverTime);
+            for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+                LocalDateTime close = day.atTime(dayEnd);
+                for (LocalDateTime start = day.atTime(dayStart);
+                     !start.plus(matchDuration).isAfter(close);
+                     start = start.plus(step)) {
+                    grid.add(start);
+                }
+            }
+            
+            int slotCount = grid.size();
+            slotStarts = grid.toArray(new LocalDateTime[0]);
+            slotMinutes = new long[slotCount];
+            for (int s = 0; s < slotCount; s++) {
+                slotMinutes[s] = toMinutes(slotStarts[s]);
+                slotOccupants.add(new ArrayList<>());
+            }
+            allSlots = new BitSet(slotCount);
+            allSlots.set(0, slotCount);
+            
+            conflictLo = new int[slotCount];
+            conflictHi = new int[slotCount];
+            for (int s = 0; s < slotCount; s++) {
+                conflictLo[s] = ceil(slotMinutes[s] - gapMinutes + 1);
+                conflictHi[s] = ceil(slotMinutes[s] + gapMinutes) - 1;
+            }
+            
+            venueBusy = new boolean[venues.size()][slotCount];
+            venueLoad = new int[venues.size()];
+            freeVenues = new int[slotCount];
+            Arrays.fill(freeVenues, venues.size());
+            if (slotCount > 0) {
+                LocalDateTime windowStart = slotStarts[0];
+                LocalDateTime windowEnd = slotStarts[slotCount - 1].plus(matchDuration);
+                for (int v = 0; v < venues.size(); v++) {
+                    for (TimeSlot booking : venues.get(v).getCalendar().getOverlapping(windowStart, windowEnd)) {
+                        markVenueBusy(v, toMinutes(booking.getStartTime()), toMinutes(booking.getEndTime()));
+                    }
+                }
+            }
+        }
+        
+        /**
+         * Registers an already scheduled match that must not be moved.
+         */
+        void fix(Match match) {
+            long start = toMinutes(match.getScheduledTime());
+            long end = match.getTimeSlot() != null && match.getTimeSlot().getEndTime() != null
+                ? toMinutes(match.getTimeSlot().getEndTime())
+                : start + durationMinutes;
+            
+            int v = venues.indexOf(match.getVenue());
+            if (v >= 0) {
+                markVenueBusy(v, start, end);
+            }
+            
+            int from = ceil(start - gapMinutes + 1);
+            int to = ceil(start + gapMinutes) - 1;
+            for (Team team : Arrays.asList(match.getTeam1(), match.getTeam2())) {
+                if (team != null) {
+                    int[] conflicts = teamConflicts.get(indexOf(team));
+                    for (int s = from; s <= to; s++) {
+                        conflicts[s]++;
+                    }
+                }
+            }
+        }
+        
+        /**
+         * Places as many of the given matches as possible before the deadline.
+         * @return the number of matches placed
+         */
+        int solve(List<Match> toPlace, long deadlineNanos) {
+            for (Match match : toPlace) {
+                add(match);
+            }
+            
+            // Most constrained first: matches whose teams accept the fewest slots,
+            // then by round so each round is spread across the venues together
+            Integer[] order = new Integer[matches.size()];
+            int[] weight = new int[matches.size()];
+            int[] round = new int[matches.size()];
+            for (int m = 0; m < matches.size(); m++) {
+                order[m] = m;
+                weight[m] = Math.min(preferredCount(matchTeamA[m]), preferredCount(matchTeamB[m]));
+                Integer matchRound = matches.get(m).getRound();
+                round[m] = matchRound != null ? matchRound : 0;
+            }
+            Arrays.sort(order, Comparator.<Integer>comparingInt(m -> weight[m]).thenComparingInt(m -> round[m]));
+            
+            List<Integer> unplaced = new ArrayList<>();
+            for (int m : order) {
+                int slot = findSlot(m);
+                if (slot >= 0) {
+                    place(m, slot, pickVenue(slot));
+                } else {
+                    unplaced.add(m);
+                }
+            }
+            
+            int repaired = 0;
+            for (int m : unplaced) {
+                if (System.nanoTime() >= deadlineNanos) {
+                    logger.warn("Scheduling time budget exhausted with {} matches left to repair",
+                                unplaced.size() - repaired);
+                    break;
+                }
+                if (repair(m, deadlineNanos)) {
+                    repaired++;
+                }
+            }
+            
+            return matches.size() - unplaced.size() + repaired;
+        }
+        
+        /**
+         * Writes placed slots back to the matches and books their venues.
+         * @return the number of matches that were booked
+         */
+        int apply() {
+            int applied = 0;
+            for (int m = 0; m < matches.size(); m++) {
+                if (matchSlot[m] < 0) {
+                    continue;
+                }
+                Match match = matches.get(m);
+                Venue venue = venues.get(matchVenue[m]);
+                LocalDateTime start = slotStarts[matchSlot[m]];
+                TimeSlot timeSlot = new TimeSlot(start, start.plus(matchDuration));
+                timeSlot.setVenue(venue);
+                
+                if (venue.bookTimeSlot(timeSlot)) {
+                    match.setVenue(venue);
+                    match.setTimeSlot(timeSlot);
+                    match.setScheduledTime(start);
+                    applied++;
+                }
+            }
+            return applied;
+        }
+        
+        private void add(Match match) {
+            int m = matches.size();
+            if (m == matchSlot.length) {
+                int size = m * 2;
+                matchTeamA = Arrays.copyOf(matchTeamA, size);
+                matchTeamB = Arrays.copyOf(matchTeamB, size);
+                matchSlot = Arrays.copyOf(matchSlot, size);
+                matchVenue = Arrays.copyOf(matchVenue, size);
+            }
+            matches.add(match);
+            matchTeamA[m] = match.getTeam1() != null ? indexOf(match.getTeam1()) : -1;
+            matchTeamB[m] = match.getTeam2() != null ? indexOf(match.getTeam2()) : -1;
+            matchSlot[m] = -1;
+            matchVenue[m] = -1;
+        }
+        
+        /**
+         * Finds the earliest free slot with the best preference score, or -1.
+         */
+        private int findSlot(int m) {
+            BitSet preferredA = preferredSlots(matchTeamA[m]);
+            BitSet preferredB = preferredSlots(matchTeamB[m]);
+            
+            // Slots both teams prefer, then slots either prefers, then any slot
+            BitSet both = (BitSet) preferredA.clone();
+            both.and(preferredB);
+            int slot = firstFit(m, both);
+            if (slot < 0) {
+                BitSet either = (BitSet) preferredA.clone();
+                either.or(preferredB);
+                slot = firstFit(m, either);
+            }
+            return slot >= 0 ? slot : firstFit(m, allSlots);
+        }
+        
+        private int firstFit(int m, BitSet candidates) {
+            for (int s = candidates.nextSetBit(0); s >= 0; s = candidates.nextSetBit(s + 1)) {
+                if (fits(m, s)) {
+                    return s;
+                }
+            }
+            return -1;
+        }
+        
+        private boolean fits(int m, int s) {
+            return freeVenues[s] > 0 && !teamBlocked(matchTeamA[m], s) && !teamBlocked(matchTeamB[m], s);
+        }
+        
+        /**
+         * Tries to place an unplaced match by ejecting one blocking match and
+         * relocating it elsewhere. Leaves the model unchanged on failure.
+         */
+        private boolean repair(int m, long deadlineNanos) {
+            for (int s = 0; s < slotStarts.length; s++) {
+                if (System.nanoTime() >= deadlineNanos) {
+                    return false;
+                }
+                for (int blocker : blockers(m, s)) {
+                    int oldSlot = matchSlot[blocker];
+                    int oldVenue = matchVenue[blocker];
+                    unplace(blocker);
+                    if (fits(m, s)) {
+                        place(m, s, pickVenue(s));
+                        int alternative = findSlot(blocker);
+                        if (alternative >= 0) {
+                            place(blocker, alternative, pickVenue(alternative));
+                            return true;
+                        }
+                        unplace(m);
+                    }
+                    place(blocker, oldSlot, oldVenue);
+                }
+            }
+            return false;
+        }
+        
+        /**
+         * Collects the movable matches that keep match m out of slot s.
+         */
+        private Set<Integer> blockers(int m, int s) {
+            Set<Integer> result = new LinkedHashSet<>();
+            if (freeVenues[s] == 0) {
+                result.addAll(slotOccupants.get(s));
+            }
+            for (int team : new int[] {matchTeamA[m], matchTeamB[m]}) {
+                if (teamBlocked(team, s)) {
+                    for (int other : teamMatches.get(team)) {
+                        if (matchSlot[other] >= conflictLo[s] && matchSlot[other] <= conflictHi[s]) {
+                            result.add(other);
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+        
+        private void place(int m, int s, int v) {
+            matchSlot[m] = s;
+            matchVenue[m] = v;
+            venueBusy[v][s] = true;
+            venueLoad[v]++;
+            freeVenues[s]--;
+            slotOccupants.get(s).add(m);
+            updateTeam(matchTeamA[m], m, s, 1);
+            updateTeam(matchTeamB[m], m, s, 1);
+        }
+        
+        private void unplace(int m) {
+            int s = matchSlot[m];
+            int v = matchVenue[m];
+            venueBusy[v][s] = false;
+            venueLoad[v]--;
+            freeVenues[s]++;
+            slotOccupants.get(s).remove(Integer.valueOf(m));
+            updateTeam(matchTeamA[m], m, s, -1);
+            updateTeam(matchTeamB[m], m, s, -1);
+            matchSlot[m] = -1;
+            matchVenue[m] = -1;
+        }
+        
+        private void updateTeam(int team, int m, int s, int delta) {
+            if (team < 0) {
+                return;
+            }
+            int[] conflicts = teamConflicts.get(team);
+            for (int t = conflictLo[s]; t <= conflictHi[s]; t++) {
+                conflicts[t] += delta;
+            }
+            if (delta > 0) {
+                teamMatches.get(team).add(m);
+            } else {
+                teamMatches.get(team).remove(Integer.valueOf(m));
+            }
+        }
+        
+        /**
+         * Picks the free venue with the lowest load at slot s.
+         */
+        private int pickVenue(int s) {
+            int best = -1;
+            for (int v = 0; v < venues.size(); v++) {
+                if (!venueBusy[v][s] && (best < 0 || venueLoad[v] < venueLoad[best])) {
+                    best = v;
+                }
+            }
+            return best;
+        }
+        
+        private boolean teamBlocked(int team, int s) {
+            return team >= 0 && teamConflicts.get(team)[s] > 0;
+        }
+        
+        private int preferredCount(int team) {
+            return preferredSlots(team).cardinality();
+        }
+        
+        /**
+         * Gets the slots the team prefers; teams without preferences accept every slot.
+         */
+        private BitSet preferredSlots(int team) {
+            BitSet preferred = team >= 0 ? teamPreferred.get(team) : null;
+            return preferred != null ? preferred : allSlots;
+        }
+        
+        private int indexOf(Team team) {
+            Integer index = teamIndex.get(team);
+            if (index == null) {
+                index = teamConflicts.size();
+                teamIndex.put(team, index);
+                teamConflicts.add(new int[slotStarts.length]);
+                teamMatches.add(new ArrayList<>());
+                teamPreferred.add(compilePreferences(team));
+            }
+            return index;
+        }
+        
+        /**
+         * Marks the slots that lie entirely inside one of the team's preferred
+         * windows, or returns null when the team has no preferences.
+         */
+        private BitSet compilePreferences(Team team) {
+            if (team.getPreferredTimeSlots() == null || team.getPreferredTimeSlots().isEmpty()) {
+                return null;
+            }
+            BitSet preferred = new BitSet(slotStarts.length);
+            for (TimeSlot window : team.getPreferredTimeSlots()) {
+                if (window.getStartTime() == null || window.getEndTime() == null) {
+                    continue;
+                }
+                int from = ceil(toMinutes(window.getStartTime()));
+                int to = ceil(toMinutes(window.getEndTime()) - durationMinutes + 1);
+                if (from < to) {
+                    preferred.set(from, to);
+                }
+            }
+            return preferred;
+        }
+        
+        private void markVenueBusy(int v, long start, long end) {
+            int from = ceil(start - durationMinutes + 1);
+            int to = ceil(end) - 1;
+            for (int s = from; s <= to; s++) {
+                if (!venueBusy[v][s]) {
+                    venueBusy[v][s] = true;
+                    freeVenues[s]--;
+                }
+            }
+        }
+        
+        /**
+         * Returns the index of the first slot starting at or after the given minute.
+         */
+        private int ceil(long minute) {
+            int low = 0;
+            int high = slotMinutes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (slotMinutes[mid] < minute) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
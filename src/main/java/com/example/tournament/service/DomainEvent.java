@@ -0,0 +1,13 @@
+package com.example.tournament.service;
+
+/**
+ * Something that happened to a tournament's data, published on the
+ * DomainEventBus after the change was committed.
+ */
+public interface DomainEvent {
+    
+    /**
+     * Gets the tournament the event belongs to, or null if it has none.
+     */
+    Long getTournamentId();
+}
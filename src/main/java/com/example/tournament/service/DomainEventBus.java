@@ -0,0 +1,90 @@
+package com.example.tournament.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process publish/subscribe of domain events, so open views can apply
+ * changes as they happen instead of reloading.
+ * 
+ * Events are delivered synchronously on the publishing thread, after the
+ * change was committed; subscribers that touch the UI hand the event over to
+ * the FX thread themselves. A failing subscriber is logged and does not affect
+ * the publisher or the other subscribers.
+ */
+public class DomainEventBus {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DomainEventBus.class);
+    private static final DomainEventBus INSTANCE = new DomainEventBus();
+    
+    private final List<Handler<?>> handlers = new CopyOnWriteArrayList<>();
+    
+    /**
+     * Gets the bus shared by the services and dialogs.
+     */
+    public static DomainEventBus getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Registers a handler for events of a type and its subtypes.
+     * @return the subscription; close it to stop receiving events
+     */
+    public <E extends DomainEvent> Subscription subscribe(Class<E> type, Consumer<? super E> consumer) {
+        Handler<E> handler = new Handler<>(type, consumer);
+        handlers.add(handler);
+        return () -> handlers.remove(handler);
+    }
+    
+    /**
+     * Delivers an event to every handler registered for its type.
+     */
+    public void publish(DomainEvent event) {
+        for (Handler<?> handler : handlers) {
+            try {
+                handler.deliver(event);
+            } catch (RuntimeException e) {
+                logger.warn("Handler for {} failed", event, e);
+            }
+        }
+    }
+    
+    /**
+     * Gets the number of registered handlers.
+     */
+    public int getSubscriberCount() {
+        return handlers.size();
+    }
+    
+    /**
+     * A registration on the bus.
+     */
+    public interface Subscription extends AutoCloseable {
+        
+        /**
+         * Stops delivery to the handler; closing twice has no effect.
+         */
+        @Override
+        void close();
+    }
+    
+    private static final class Handler<E extends DomainEvent> {
+        private final Class<E> type;
+        private final Consumer<? super E> consumer;
+        
+        Handler(Class<E> type, Consumer<? super E> consumer) {
+            this.type = type;
+            this.consumer = consumer;
+        }
+        
+        void deliver(DomainEvent event) {
+            if (type.isInstance(event)) {
+                consumer.accept(type.cast(event));
+            }
+        }
+    }
+}
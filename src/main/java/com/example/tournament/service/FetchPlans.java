@@ -0,0 +1,29 @@
+package com.example.tournament.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.SpecHints;
+
+/**
+ * Fetch plans shared by the services that return matches, so every listing
+ * loads the same associations the same way.
+ * 
+ * Plans are named entity graphs applied as load graphs: the associations they
+ * name are joined into the query, and anything else keeps its mapped fetch
+ * type. Queries using a plan should not also JOIN FETCH the same associations.
+ */
+final class FetchPlans {
+    
+    /** A match with its tournament and sport, teams, venue, time slot and schedule. */
+    static final String MATCH_DETAILS = "Match.details";
+    
+    private FetchPlans() {
+    }
+    
+    /**
+     * Loads the results of a query with the given plan.
+     */
+    static <T> TypedQuery<T> load(TypedQuery<T> query, EntityManager em, String plan) {
+        return query.setHint(SpecHints.HINT_SPEC_LOAD_GRAPH, em.getEntityGraph(plan));
+    }
+}
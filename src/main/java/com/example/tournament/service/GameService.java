@@ -14,6 +14,8 @@ import java.util.List;
  */
 public class GameService {
     
+    private final MatchService matchService = new MatchService();
+    
     /**
      * Adds a new game/match to the system.
      * Implements AddGames use case.
@@ -56,6 +58,7 @@ public class GameService {
                 "SELECT m FROM Match m ORDER BY m.scheduledTime",
                 Match.class
             );
+            FetchPlans.load(query, em, FetchPlans.MATCH_DETAILS);
             return query.getResultList();
             
         } finally {
@@ -63,6 +66,19 @@ public class GameService {
         }
     }
     
+    /**
+     * Views one page of the games, filtered by time window, venue and team.
+     * See MatchService.getMatches for the ordering and paging.
+     * 
+     * @param filter the matches to list, or null for all
+     * @param after the last match of the previous page, or null for the first page
+     * @param limit the page size, or 0 for no limit
+     * @return the page of matches
+     */
+    public List<Match> viewGames(MatchFilter filter, Match after, int limit) {
+        return matchService.getMatches(filter, after, limit);
+    }
+    
     /**
      * Views games for a specific tournament.
      * 
@@ -77,6 +93,7 @@ public class GameService {
                 "SELECT m FROM Match m WHERE m.tournament.id = :tournamentId ORDER BY m.scheduledTime",
                 Match.class
             );
+            FetchPlans.load(query, em, FetchPlans.MATCH_DETAILS);
             query.setParameter("tournamentId", tournamentId);
             return query.getResultList();
             
@@ -0,0 +1,392 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.EntityKeys;
+import com.example.tournament.model.Match;
+import com.example.tournament.model.Team;
+import com.example.tournament.model.TimeSlot;
+import com.example.tournament.model.Venue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Repairs a schedule after one match moves, touching as few fixtures as possible.
+ * 
+ * The moved match gets its old booking released and is placed either at the
+ * nearest feasible slot or at a requested slot. In the latter case only the
+ * fixtures that directly clash with it (same venue within the changeover time,
+ * or a shared team within the rest period) are displaced, and each of those is
+ * moved to its own nearest feasible slot. All changes are undone if any match
+ * cannot be placed.
+ * 
+ * An instance holds the state of a single reschedule and is not reused.
+ */
+class IncrementalRescheduler {
+    
+    private static final int MAX_SEARCH_DAYS = 365;
+    
+    private final Duration defaultMatchDuration;
+    private final Duration minimumRest;
+    private final Duration changeoverTime;
+    private final LocalTime dayStart;
+    private final LocalTime dayEnd;
+    private final List<Match> fixtures;
+    private final List<Venue> venues;
+    
+    private final List<Match> matches = new ArrayList<>();
+    private final Map<Object, List<Match>> matchesByTeam = new HashMap<>();
+    private final Map<Match, Placement> undoLog = new LinkedHashMap<>();
+    
+    IncrementalRescheduler(Duration defaultMatchDuration, Duration minimumRest, Duration changeoverTime,
+                           LocalTime dayStart, LocalTime dayEnd, List<Match> fixtures, List<Venue> venues) {
+        this.defaultMatchDuration = defaultMatchDuration;
+        this.minimumRest = minimumRest;
+        this.changeoverTime = changeoverTime;
+        this.dayStart = dayStart;
+        this.dayEnd = dayEnd;
+        this.fixtures = fixtures;
+        this.venues = venues;
+    }
+    
+    /**
+     * Moves the match to the nearest feasible slot starting no earlier than notBefore.
+     * No other fixture is moved.
+     */
+    RescheduleResult moveToNearest(Match match, LocalDateTime notBefore) {
+        index(match);
+        Venue previousVenue = resolve(match.getVenue());
+        record(match);
+        release(match);
+        
+        if (!placeNearest(match, notBefore, previousVenue)) {
+            rollback();
+            return new RescheduleResult(match, false, List.of(),
+                                        "No free slot within " + MAX_SEARCH_DAYS + " days");
+        }
+        return new RescheduleResult(match, true, List.of(), "Moved to " + match.getScheduledTime());
+    }
+    
+    /**
+     * Moves the match to the given start and venue, then shifts only the fixtures
+     * that clash with it to their nearest feasible slots.
+     */
+    RescheduleResult moveTo(Match match, LocalDateTime start, Venue venue) {
+        index(match);
+        Venue target = resolve(venue);
+        LocalDateTime end = start.plus(lengthOf(match));
+        record(match);
+        release(match);
+        
+        // Fixtures in the way, in their original order
+        List<Match> displaced = new ArrayList<>();
+        for (Match other : matches) {
+            if (other == match || !isPlaced(other)) {
+                continue;
+            }
+            boolean venueClash = isSameVenue(resolve(other.getVenue()), target)
+                              && other.getScheduledTime().isBefore(end.plus(changeoverTime))
+                              && endOf(other).plus(changeoverTime).isAfter(start);
+            boolean teamClash = sharesTeam(other, match)
+                             && other.getScheduledTime().isBefore(end.plus(minimumRest))
+                             && endOf(other).plus(minimumRest).isAfter(start);
+            if (venueClash || teamClash) {
+                displaced.add(other);
+            }
+        }
+        displaced.sort(Comparator.comparing(Match::getScheduledTime));
+        
+        List<LocalDateTime> originalStarts = new ArrayList<>();
+        for (Match other : displaced) {
+            originalStarts.add(other.getScheduledTime());
+            record(other);
+            release(other);
+        }
+        
+        if (!target.getCalendar().isFree(start.minus(changeoverTime), end.plus(changeoverTime))) {
+            rollback();
+            return new RescheduleResult(match, false, List.of(),
+                                        target.getName() + " is booked by another event at that time");
+        }
+        book(match, target, start);
+        
+        for (int i = 0; i < displaced.size(); i++) {
+            Match other = displaced.get(i);
+            if (!placeNearest(other, originalStarts.get(i), null)) {
+                rollback();
+                return new RescheduleResult(match, false, List.of(),
+                                            "No free slot for displaced match " + describe(other));
+            }
+        }
+        return new RescheduleResult(match, true, displaced,
+                                    "Moved to " + start + ", shifted " + displaced.size() + " fixture(s)");
+    }
+    
+    /**
+     * Places the match at the earliest start from notBefore where a venue is free and
+     * both teams are rested, trying the preferred venue first on ties.
+     */
+    private boolean placeNearest(Match match, LocalDateTime notBefore, Venue preferredVenue) {
+        Duration length = lengthOf(match);
+        LocalDateTime limit = notBefore.plusDays(MAX_SEARCH_DAYS);
+        LocalDateTime cursor = withinHours(notBefore, length);
+        
+        while (cursor.isBefore(limit)) {
+            LocalDateTime teamsFree = teamsFreeFrom(match, cursor, length);
+            if (teamsFree.isAfter(cursor)) {
+                cursor = withinHours(teamsFree, length);
+                continue;
+            }
+            
+            Venue bestVenue = null;
+            LocalDateTime bestStart = null;
+            for (Venue venue : orderedVenues(preferredVenue)) {
+                LocalDateTime start = nextFreeStart(venue, cursor, length);
+                if (bestStart == null || start.isBefore(bestStart)) {
+                    bestVenue = venue;
+                    bestStart = start;
+                }
+            }
+            if (bestVenue == null) {
+                return false;
+            }
+            if (bestStart.equals(cursor)) {
+                book(match, bestVenue, cursor);
+                return true;
+            }
+            cursor = withinHours(bestStart, length);
+        }
+        return false;
+    }
+    
+    /**
+     * Finds the next start at the venue that leaves the changeover time clear on both sides.
+     */
+    private LocalDateTime nextFreeStart(Venue venue, LocalDateTime notBefore, Duration length) {
+        return venue.findNextAvailableStart(notBefore.minus(changeoverTime),
+                                            length.plus(changeoverTime).plus(changeoverTime))
+                    .plus(changeoverTime);
+    }
+    
+    /**
+     * Returns start if both teams are rested for a match at that time, otherwise
+     * the earliest time after the first clashing fixture.
+     */
+    private LocalDateTime teamsFreeFrom(Match match, LocalDateTime start, Duration length) {
+        LocalDateTime end = start.plus(length);
+        LocalDateTime free = start;
+        for (Team team : Arrays.asList(match.getTeam1(), match.getTeam2())) {
+            if (team == null) {
+                continue;
+            }
+            for (Match other : matchesByTeam.getOrDefault(EntityKeys.of(team), List.of())) {
+                if (other == match || !isPlaced(other)) {
+                    continue;
+                }
+                LocalDateTime restedAfter = endOf(other).plus(minimumRest);
+                if (other.getScheduledTime().isBefore(end.plus(minimumRest)) && restedAfter.isAfter(start)
+                    && restedAfter.isAfter(free)) {
+                    free = restedAfter;
+                }
+            }
+        }
+        return free;
+    }
+    
+    /**
+     * Moves a start time into the daily playing hours.
+     */
+    private LocalDateTime withinHours(LocalDateTime start, Duration length) {
+        LocalDate day = start.toLocalDate();
+        if (start.toLocalTime().isBefore(dayStart)) {
+            return day.atTime(dayStart);
+        }
+        if (start.plus(length).isAfter(day.atTime(dayEnd))) {
+            return day.plusDays(1).atTime(dayStart);
+        }
+        return start;
+    }
+    
+    private List<Venue> orderedVenues(Venue preferredVenue) {
+        if (preferredVenue == null || !venues.contains(preferredVenue)) {
+            return venues;
+        }
+        List<Venue> ordered = new ArrayList<>(venues.size());
+        ordered.add(preferredVenue);
+        for (Venue venue : venues) {
+            if (venue != preferredVenue) {
+                ordered.add(venue);
+            }
+        }
+        return ordered;
+    }
+    
+    /**
+     * Indexes the fixtures by team, using the given instance of the moved match
+     * in place of any copy of it among the fixtures.
+     */
+    private void index(Match moved) {
+        matches.add(moved);
+        for (Match fixture : fixtures) {
+            if (!isSameMatch(fixture, moved) && fixture.getStatus() != Match.MatchStatus.CANCELLED) {
+                matches.add(fixture);
+            }
+        }
+        for (Match match : matches) {
+            for (Team team : Arrays.asList(match.getTeam1(), match.getTeam2())) {
+                if (team != null) {
+                    matchesByTeam.computeIfAbsent(EntityKeys.of(team), k -> new ArrayList<>()).add(match);
+                }
+            }
+        }
+    }
+    
+    private void book(Match match, Venue venue, LocalDateTime start) {
+        Duration length = lengthOf(match);
+        TimeSlot timeSlot = match.getTimeSlot() != null ? match.getTimeSlot() : new TimeSlot();
+        timeSlot.setStartTime(start);
+        timeSlot.setEndTime(start.plus(length));
+        timeSlot.setVenue(venue);
+        venue.bookTimeSlot(timeSlot);
+        
+        match.setTimeSlot(timeSlot);
+        match.setVenue(venue);
+        match.setScheduledTime(start);
+    }
+    
+    /**
+     * Frees the match's booking at its venue. The time slot is kept so that it
+     * can be reused when the match is booked again.
+     */
+    private void release(Match match) {
+        Venue venue = resolve(match.getVenue());
+        TimeSlot timeSlot = match.getTimeSlot();
+        if (venue != null && timeSlot != null) {
+            for (TimeSlot booking : venue.getBookings()) {
+                if (booking == timeSlot || (booking.getId() != null && booking.getId().equals(timeSlot.getId()))) {
+                    venue.releaseTimeSlot(booking);
+                    break;
+                }
+            }
+        }
+        match.setVenue(null);
+        match.setScheduledTime(null);
+    }
+    
+    private void record(Match match) {
+        undoLog.computeIfAbsent(match, Placement::new);
+    }
+    
+    /**
+     * Restores every recorded match to where it was before this reschedule.
+     */
+    private void rollback() {
+        for (Match match : undoLog.keySet()) {
+            if (isPlaced(match)) {
+                release(match);
+            }
+        }
+        for (Placement placement : undoLog.values()) {
+            placement.restore();
+        }
+        undoLog.clear();
+    }
+    
+    /**
+     * Maps a venue to the instance in the venue list, so that bookings made while
+     * rescheduling go to the calendars being searched.
+     */
+    private Venue resolve(Venue venue) {
+        if (venue == null) {
+            return null;
+        }
+        for (Venue candidate : venues) {
+            if (isSameVenue(candidate, venue)) {
+                return candidate;
+            }
+        }
+        return venue;
+    }
+    
+    private Duration lengthOf(Match match) {
+        TimeSlot timeSlot = match.getTimeSlot();
+        if (timeSlot != null && timeSlot.getStartTime() != null && timeSlot.getEndTime() != null) {
+            return Duration.between(timeSlot.getStartTime(), timeSlot.getEndTime());
+        }
+        return defaultMatchDuration;
+    }
+    
+    private LocalDateTime endOf(Match match) {
+        return match.getScheduledTime().plus(lengthOf(match));
+    }
+    
+    private static boolean isPlaced(Match match) {
+        return match.getVenue() != null && match.getScheduledTime() != null;
+    }
+    
+    private static boolean isSameMatch(Match a, Match b) {
+        return a == b || (a.getId() != null && a.getId().equals(b.getId()));
+    }
+    
+    private static boolean isSameVenue(Venue a, Venue b) {
+        return a == b || (a != null && b != null && a.getId() != null && a.getId().equals(b.getId()));
+    }
+    
+    private static boolean sharesTeam(Match a, Match b) {
+        for (Team team : Arrays.asList(a.getTeam1(), a.getTeam2())) {
+            if (team != null && (isSameTeam(team, b.getTeam1()) || isSameTeam(team, b.getTeam2()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static boolean isSameTeam(Team a, Team b) {
+        return b != null && EntityKeys.of(a).equals(EntityKeys.of(b));
+    }
+    
+    private static String describe(Match match) {
+        String team1 = match.getTeam1() != null ? match.getTeam1().getName() : "TBD";
+        String team2 = match.getTeam2() != null ? match.getTeam2().getName() : "TBD";
+        return team1 + " vs " + team2;
+    }
+    
+    /**
+     * Where a match was before this reschedule touched it.
+     */
+    private class Placement {
+        private final Match match;
+        private final Venue venue;
+        private final TimeSlot timeSlot;
+        private final LocalDateTime slotStart;
+        private final LocalDateTime slotEnd;
+        private final LocalDateTime scheduledTime;
+        
+        Placement(Match match) {
+            this.match = match;
+            this.venue = match.getVenue();
+            this.timeSlot = match.getTimeSlot();
+            this.slotStart = timeSlot != null ? timeSlot.getStartTime() : null;
+            this.slotEnd = timeSlot != null ? timeSlot.getEndTime() : null;
+            this.scheduledTime = match.getScheduledTime();
+        }
+        
+        void restore() {
+            if (timeSlot != null) {
+                timeSlot.setStartTime(slotStart);
+                timeSlot.setEndTime(slotEnd);
+                timeSlot.setVenue(venue);
+            }
+            match.setTimeSlot(timeSlot);
+            match.setVenue(venue);
+            match.setScheduledTime(scheduledTime);
+            
+            Venue bookedVenue = resolve(venue);
+            if (bookedVenue != null && timeSlot != null && scheduledTime != null) {
+                bookedVenue.bookTimeSlot(timeSlot);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.Match;
+
+import java.time.LocalDateTime;
+
+/**
+ * A match was added to a tournament, e.g. the next knockout round drawn
+ * once the last result of a round was posted.
+ */
+public class MatchCreated implements DomainEvent {
+    
+    private final Long tournamentId;
+    private final Long matchId;
+    private final String team1Name;
+    private final String team2Name;
+    private final LocalDateTime scheduledTime;
+    private final Match.MatchStatus status;
+    
+    // Constructors
+    public MatchCreated(Long tournamentId, Long matchId, String team1Name, String team2Name,
+                        LocalDateTime scheduledTime, Match.MatchStatus status) {
+        this.tournamentId = tournamentId;
+        this.matchId = matchId;
+        this.team1Name = team1Name;
+        this.team2Name = team2Name;
+        this.scheduledTime = scheduledTime;
+        this.status = status;
+    }
+    
+    static MatchCreated of(Match match) {
+        return new MatchCreated(
+            match.getTournament() != null ? match.getTournament().getId() : null,
+            match.getId(),
+            match.getTeam1() != null ? match.getTeam1().getName() : null,
+            match.getTeam2() != null ? match.getTeam2().getName() : null,
+            match.getScheduledTime(), match.getStatus());
+    }
+    
+    // Getters
+    @Override
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+    
+    public Long getMatchId() {
+        return matchId;
+    }
+    
+    public String getTeam1Name() {
+        return team1Name;
+    }
+    
+    public String getTeam2Name() {
+        return team2Name;
+    }
+    
+    public LocalDateTime getScheduledTime() {
+        return scheduledTime;
+    }
+    
+    public Match.MatchStatus getStatus() {
+        return status;
+    }
+    
+    @Override
+    public String toString() {
+        return "MatchCreated{" +
+                "tournamentId=" + tournamentId +
+                ", matchId=" + matchId +
+                ", teams=" + team1Name + " vs " + team2Name +
+                '}';
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.Match;
+
+/**
+ * A match was deleted, together with the result it counted, if any.
+ */
+public class MatchDeleted implements DomainEvent {
+    
+    private final Long tournamentId;
+    private final Long matchId;
+    private final boolean completed;
+    private final Integer team1Score;
+    private final Integer team2Score;
+    
+    // Constructors
+    public MatchDeleted(Long tournamentId, Long matchId, boolean completed, Integer team1Score, Integer team2Score) {
+        this.tournamentId = tournamentId;
+        this.matchId = matchId;
+        this.completed = completed;
+        this.team1Score = team1Score;
+        this.team2Score = team2Score;
+    }
+    
+    static MatchDeleted of(Match match) {
+        return new MatchDeleted(
+            match.getTournament() != null ? match.getTournament().getId() : null,
+            match.getId(), match.getStatus() == Match.MatchStatus.COMPLETED,
+            match.getTeam1Score(), match.getTeam2Score());
+    }
+    
+    // Getters
+    @Override
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+    
+    public Long getMatchId() {
+        return matchId;
+    }
+    
+    public boolean isCompleted() {
+        return completed;
+    }
+    
+    public Integer getTeam1Score() {
+        return team1Score;
+    }
+    
+    public Integer getTeam2Score() {
+        return team2Score;
+    }
+    
+    @Override
+    public String toString() {
+        return "MatchDeleted{" +
+                "tournamentId=" + tournamentId +
+                ", matchId=" + matchId +
+                ", completed=" + completed +
+                '}';
+    }
+}
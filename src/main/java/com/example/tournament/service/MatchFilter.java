@@ -0,0 +1,64 @@
+package com.example.tournament.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Which matches a schedule listing covers: a window of scheduled times, and
+ * optionally a single venue or a single team. Any part left null is not filtered on.
+ */
+public class MatchFilter {
+    
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final Long venueId;
+    private final Long teamId;
+    
+    // Constructors
+    public MatchFilter() {
+        this(null, null, null, null);
+    }
+    
+    public MatchFilter(LocalDateTime from, LocalDateTime to) {
+        this(from, to, null, null);
+    }
+    
+    /**
+     * @param from    earliest scheduled time, inclusive
+     * @param to      latest scheduled time, exclusive
+     * @param venueId only matches at this venue
+     * @param teamId  only matches this team plays in, on either side
+     */
+    public MatchFilter(LocalDateTime from, LocalDateTime to, Long venueId, Long teamId) {
+        this.from = from;
+        this.to = to;
+        this.venueId = venueId;
+        this.teamId = teamId;
+    }
+    
+    // Getters
+    public LocalDateTime getFrom() {
+        return from;
+    }
+    
+    public LocalDateTime getTo() {
+        return to;
+    }
+    
+    public Long getVenueId() {
+        return venueId;
+    }
+    
+    public Long getTeamId() {
+        return teamId;
+    }
+    
+    @Override
+    public String toString() {
+        return "MatchFilter{" +
+                "from=" + from +
+                ", to=" + to +
+                ", venueId=" + venueId +
+                ", teamId=" + teamId +
+                '}';
+    }
+}
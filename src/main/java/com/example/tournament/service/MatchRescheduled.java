@@ -0,0 +1,66 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.Match;
+
+import java.time.LocalDateTime;
+
+/**
+ * A match was moved to another time or venue.
+ */
+public class MatchRescheduled implements DomainEvent {
+    
+    private final Long tournamentId;
+    private final Long matchId;
+    private final LocalDateTime previousScheduledTime;
+    private final LocalDateTime scheduledTime;
+    private final String venueName;
+    
+    // Constructors
+    public MatchRescheduled(Long tournamentId, Long matchId, LocalDateTime previousScheduledTime,
+                            LocalDateTime scheduledTime, String venueName) {
+        this.tournamentId = tournamentId;
+        this.matchId = matchId;
+        this.previousScheduledTime = previousScheduledTime;
+        this.scheduledTime = scheduledTime;
+        this.venueName = venueName;
+    }
+    
+    static MatchRescheduled of(Match match, LocalDateTime previousScheduledTime) {
+        return new MatchRescheduled(
+            match.getTournament() != null ? match.getTournament().getId() : null,
+            match.getId(), previousScheduledTime, match.getScheduledTime(),
+            match.getVenue() != null ? match.getVenue().getName() : null);
+    }
+    
+    // Getters
+    @Override
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+    
+    public Long getMatchId() {
+        return matchId;
+    }
+    
+    public LocalDateTime getPreviousScheduledTime() {
+        return previousScheduledTime;
+    }
+    
+    public LocalDateTime getScheduledTime() {
+        return scheduledTime;
+    }
+    
+    public String getVenueName() {
+        return venueName;
+    }
+    
+    @Override
+    public String toString() {
+        return "MatchRescheduled{" +
+                "tournamentId=" + tournamentId +
+                ", matchId=" + matchId +
+                ", scheduledTime=" + previousScheduledTime + " -> " + scheduledTime +
+                ", venue='" + venueName + '\'' +
+                '}';
+    }
+}
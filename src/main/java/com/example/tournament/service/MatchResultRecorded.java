@@ -0,0 +1,111 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.Match;
+
+/**
+ * A match's result was recorded or corrected. Carries the previous result as
+ * well, so views can apply the change as a delta, and the match's status after
+ * the change, which may no longer be COMPLETED.
+ */
+public class MatchResultRecorded implements DomainEvent {
+    
+    private final Long tournamentId;
+    private final Long matchId;
+    private final Long team1Id;
+    private final Long team2Id;
+    private final boolean previouslyCompleted;
+    private final Integer previousTeam1Score;
+    private final Integer previousTeam2Score;
+    private final boolean completed;
+    private final Integer team1Score;
+    private final Integer team2Score;
+    private final Match.MatchStatus status;
+    
+    // Constructors
+    public MatchResultRecorded(Long tournamentId, Long matchId, Long team1Id, Long team2Id,
+                               boolean previouslyCompleted, Integer previousTeam1Score, Integer previousTeam2Score,
+                               Integer team1Score, Integer team2Score, Match.MatchStatus status) {
+        this.tournamentId = tournamentId;
+        this.matchId = matchId;
+        this.team1Id = team1Id;
+        this.team2Id = team2Id;
+        this.previouslyCompleted = previouslyCompleted;
+        this.previousTeam1Score = previousTeam1Score;
+        this.previousTeam2Score = previousTeam2Score;
+        this.completed = status == Match.MatchStatus.COMPLETED;
+        this.team1Score = team1Score;
+        this.team2Score = team2Score;
+        this.status = status;
+    }
+    
+    /**
+     * Describes the change of a match from its previous state to its current one.
+     */
+    static MatchResultRecorded of(Match match, boolean previouslyCompleted,
+                                  Integer previousTeam1Score, Integer previousTeam2Score) {
+        return new MatchResultRecorded(
+            match.getTournament() != null ? match.getTournament().getId() : null,
+            match.getId(),
+            match.getTeam1() != null ? match.getTeam1().getId() : null,
+            match.getTeam2() != null ? match.getTeam2().getId() : null,
+            previouslyCompleted, previousTeam1Score, previousTeam2Score,
+            match.getTeam1Score(), match.getTeam2Score(), match.getStatus());
+    }
+    
+    // Getters
+    @Override
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+    
+    public Long getMatchId() {
+        return matchId;
+    }
+    
+    public Long getTeam1Id() {
+        return team1Id;
+    }
+    
+    public Long getTeam2Id() {
+        return team2Id;
+    }
+    
+    public boolean isPreviouslyCompleted() {
+        return previouslyCompleted;
+    }
+    
+    public Integer getPreviousTeam1Score() {
+        return previousTeam1Score;
+    }
+    
+    public Integer getPreviousTeam2Score() {
+        return previousTeam2Score;
+    }
+    
+    public boolean isCompleted() {
+        return completed;
+    }
+    
+    public Integer getTeam1Score() {
+        return team1Score;
+    }
+    
+    public Integer getTeam2Score() {
+        return team2Score;
+    }
+    
+    public Match.MatchStatus getStatus() {
+        return status;
+    }
+    
+    @Override
+    public String toString() {
+        return "MatchResultRecorded{" +
+                "tournamentId=" + tournamentId +
+                ", matchId=" + matchId +
+                ", previous=" + (previouslyCompleted ? previousTeam1Score + "-" + previousTeam2Score : "none") +
+                ", result=" + (completed ? team1Score + "-" + team2Score : "none") +
+                ", status=" + status +
+                '}';
+    }
+}
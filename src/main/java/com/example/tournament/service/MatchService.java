@@ -1,11 +1,28 @@
 package com.example.tournament.service;
 
 import com.example.tournament.model.Match;
+import com.example.tournament.model.TimeSlot;
 import com.example.tournament.model.Tournament;
 import com.example.tournament.util.JPAUtil;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Service class for match-related operations.
@@ -17,6 +34,17 @@ import java.util.List;
  */
 public class MatchService {
     
+    private final TeamStatsService teamStatsService = new TeamStatsService();
+    private final RatingService ratingService = new RatingService();
+    
+    // Matches read per round trip when streaming, and between clears of the persistence context
+    static final int STREAM_FETCH_SIZE = 500;
+    
+    // Listing order: scheduled time, then ID, unscheduled matches last
+    private static final Comparator<Match> LISTING_ORDER = Comparator
+        .comparing(Match::getScheduledTime, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+        .thenComparing(Match::getId);
+    
     /**
      * Retrieves all matches from the database.
      * 
@@ -28,12 +56,10 @@ public class MatchService {
         try {
             TypedQuery<Match> query = em.createQuery(
                 "SELECT m FROM Match m " +
-                "LEFT JOIN FETCH m.team1 " +
-                "LEFT JOIN FETCH m.team2 " +
-                "LEFT JOIN FETCH m.venue " +
                 "ORDER BY m.scheduledTime",
                 Match.class
             );
+            FetchPlans.load(query, em, FetchPlans.MATCH_DETAILS);
             return query.getResultList();
             
         } finally {
@@ -41,6 +67,275 @@ public class MatchService {
         }
     }
     
+    /**
+     * Retrieves one page of matches, in order of scheduled time and then ID, with
+     * unscheduled matches last.
+     * 
+     * Pages are read by keyset: pass the last match of the previous page as
+     * after, or null for the first page, so each page seeks straight to its
+     * start on the (scheduledTime, id) indexes instead of skipping the rows
+     * before it. Scheduled matches are read first; once they run out, the page
+     * is filled with unscheduled matches in order of ID. Each query seeks its
+     * index with a range on the scheduled time; the OR on the ID only breaks ties
+     * among matches at the cursor's time, so the index is still used for the seek.
+     * 
+     * @param filter time window, venue and team to list, or null for all matches
+     * @param after the last match of the previous page, or null to start at the beginning
+     * @param limit the page size, or 0 for no limit
+     * @return the page of matches, with teams and venue loaded
+     */
+    public List<Match> getMatches(MatchFilter filter, Match after, int limit) {
+        EntityManager em = JPAUtil.getEntityManager();
+        
+        try {
+            List<Match> page = new ArrayList<>();
+            for (boolean scheduled : phases(filter, after)) {
+                int remaining = limit > 0 ? limit - page.size() : 0;
+                if (limit > 0 && remaining == 0) {
+                    break;
+                }
+                // The cursor only applies within its own phase
+                Match phaseAfter = after != null && (after.getScheduledTime() != null) == scheduled ? after : null;
+                List<Iterator<Match>> sides = new ArrayList<>();
+                for (String side : sides(filter)) {
+                    TypedQuery<Match> query = createMatchQuery(em, filter, phaseAfter, scheduled, side);
+                    if (remaining > 0) {
+                        query.setMaxResults(remaining);
+                    }
+                    sides.add(query.getResultList().iterator());
+                }
+                Iterator<Match> matches = merge(sides);
+                while (matches.hasNext() && (limit <= 0 || page.size() < limit)) {
+                    page.add(matches.next());
+                }
+            }
+            return page;
+            
+        } finally {
+            em.close();
+        }
+    }
+    
+    /**
+     * Streams the matches of a filter in the same order as getMatches, reading
+     * them from forward-only cursors, for season-wide views and exports.
+     * 
+     * Matches are handed out detached in batches: the persistence context is
+     * cleared every STREAM_FETCH_SIZE matches, so memory stays bounded however
+     * many matches are read. The stream holds a connection until it is closed,
+     * so use it in a try-with-resources block.
+     * 
+     * @param filter time window, venue and team to list, or null for all matches
+     * @return the matches, with teams and venue loaded
+     */
+    public Stream<Match> streamMatches(MatchFilter filter) {
+        EntityManager em = JPAUtil.getEntityManager();
+        
+        try {
+            Session session = em.unwrap(Session.class);
+            List<Stream<Match>> opened = new ArrayList<>();
+            Spliterator<Match> matches = new Spliterators.AbstractSpliterator<Match>(
+                    Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+                private final Iterator<Boolean> phases = phases(filter, null).iterator();
+                private Iterator<Match> current = Collections.emptyIterator();
+                private int read;
+                
+                @Override
+                public boolean tryAdvance(Consumer<? super Match> action) {
+                    // The cursors of a phase are opened once the previous phase is read
+                    while (!current.hasNext()) {
+                        if (!phases.hasNext()) {
+                            return false;
+                        }
+                        boolean scheduled = phases.next();
+                        List<Iterator<Match>> sides = new ArrayList<>();
+                        for (String side : sides(filter)) {
+                            Stream<Match> results = createMatchQuery(em, filter, null, scheduled, side)
+                                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                                .getResultStream();
+                            opened.add(results);
+                            sides.add(results.iterator());
+                        }
+                        current = merge(sides);
+                    }
+                    action.accept(current.next());
+                    if (++read % STREAM_FETCH_SIZE == 0) {
+                        session.clear();
+                    }
+                    return true;
+                }
+            };
+            return StreamSupport.stream(matches, false).onClose(() -> {
+                for (Stream<Match> results : opened) {
+                    results.close();
+                }
+                em.close();
+            });
+            
+        } catch (RuntimeException e) {
+            em.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * The phases a listing reads, scheduled matches first; a time window
+     * excludes unscheduled matches, and a cursor on an unscheduled match is
+     * past every scheduled one.
+     */
+    private static List<Boolean> phases(MatchFilter filter, Match after) {
+        boolean windowed = filter != null && (filter.getFrom() != null || filter.getTo() != null);
+        if (after != null && after.getScheduledTime() == null) {
+            return windowed ? List.of() : List.of(false);
+        }
+        return windowed ? List.of(true) : List.of(true, false);
+    }
+    
+    /**
+     * The team columns a listing reads: both sides of the team filter, each
+     * on its own index, or a single query without one.
+     */
+    private static List<String> sides(MatchFilter filter) {
+        return filter != null && filter.getTeamId() != null ? List.of("team1", "team2") : Collections.singletonList(null);
+    }
+    
+    /**
+     * Merges listings that are each in listing order into one, dropping a
+     * match listed by more than one of them.
+     */
+    private static Iterator<Match> merge(List<Iterator<Match>> sides) {
+        if (sides.size() == 1) {
+            return sides.get(0);
+        }
+        List<PeekingIterator> heads = new ArrayList<>();
+        for (Iterator<Match> side : sides) {
+            heads.add(new PeekingIterator(side));
+        }
+        return new Iterator<Match>() {
+            private Match last;
+            
+            @Override
+            public boolean hasNext() {
+                for (PeekingIterator head : heads) {
+                    while (head.peek() != null && last != null && head.peek().getId().equals(last.getId())) {
+                        head.next();
+                    }
+                    if (head.peek() != null) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            
+            @Override
+            public Match next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                PeekingIterator first = null;
+                for (PeekingIterator head : heads) {
+                    if (head.peek() != null && (first == null || LISTING_ORDER.compare(head.peek(), first.peek()) < 0)) {
+                        first = head;
+                    }
+                }
+                last = first.next();
+                return last;
+            }
+        };
+    }
+    
+    /**
+     * An iterator that shows its next match without taking it.
+     */
+    private static final class PeekingIterator {
+        private final Iterator<Match> matches;
+        private Match next;
+        
+        PeekingIterator(Iterator<Match> matches) {
+            this.matches = matches;
+        }
+        
+        Match peek() {
+            if (next == null && matches.hasNext()) {
+                next = matches.next();
+            }
+            return next;
+        }
+        
+        Match next() {
+            Match match = peek();
+            next = null;
+            return match;
+        }
+    }
+    
+    /**
+     * Builds the query of one phase of a listing, starting after a keyset cursor
+     * within that phase.
+     * 
+     * @param scheduled whether to read scheduled matches by time and ID, or
+     *                  unscheduled ones by ID
+     * @param side "team1" or "team2" to read the team filter on that column,
+     *             or null when the filter has no team
+     */
+    private TypedQuery<Match> createMatchQuery(EntityManager em, MatchFilter filter, Match after,
+                                              boolean scheduled, String side) {
+        StringBuilder jpql = new StringBuilder(
+            "SELECT m FROM Match m WHERE 1 = 1"
+        );
+        if (side != null) {
+            jpql.append(" AND m.").append(side).append(".id = :teamId");
+        }
+        if (filter != null && filter.getVenueId() != null) {
+            jpql.append(" AND m.venue.id = :venueId");
+        }
+        if (scheduled) {
+            if (filter != null && filter.getFrom() != null) {
+                jpql.append(" AND m.scheduledTime >= :from");
+            }
+            if (filter != null && filter.getTo() != null) {
+                jpql.append(" AND m.scheduledTime < :to");
+            }
+            if (after != null) {
+                // The range on the time seeks the index; the ID only breaks ties within the first time
+                jpql.append(" AND m.scheduledTime >= :afterTime")
+                    .append(" AND (m.scheduledTime > :afterTime OR m.id > :afterId)");
+            } else {
+                jpql.append(" AND m.scheduledTime IS NOT NULL");
+            }
+            jpql.append(" ORDER BY m.scheduledTime ASC, m.id ASC");
+        } else {
+            jpql.append(" AND m.scheduledTime IS NULL");
+            if (after != null) {
+                jpql.append(" AND m.id > :afterId");
+            }
+            jpql.append(" ORDER BY m.id ASC");
+        }
+        
+        TypedQuery<Match> query = FetchPlans.load(
+            em.createQuery(jpql.toString(), Match.class), em, FetchPlans.MATCH_DETAILS);
+        if (side != null) {
+            query.setParameter("teamId", filter.getTeamId());
+        }
+        if (filter != null && filter.getVenueId() != null) {
+            query.setParameter("venueId", filter.getVenueId());
+        }
+        if (scheduled && filter != null && filter.getFrom() != null) {
+            query.setParameter("from", filter.getFrom());
+        }
+        if (scheduled && filter != null && filter.getTo() != null) {
+            query.setParameter("to", filter.getTo());
+        }
+        if (after != null) {
+            if (scheduled) {
+                query.setParameter("afterTime", after.getScheduledTime());
+            }
+            query.setParameter("afterId", after.getId());
+        }
+        return query;
+    }
+    
     /**
      * Retrieves matches for a specific tournament.
      * 
@@ -53,13 +348,11 @@ public class MatchService {
         try {
             TypedQuery<Match> query = em.createQuery(
                 "SELECT m FROM Match m " +
-                "LEFT JOIN FETCH m.team1 " +
-                "LEFT JOIN FETCH m.team2 " +
-                "LEFT JOIN FETCH m.venue " +
                 "WHERE m.tournament.id = :tournamentId " +
                 "ORDER BY m.scheduledTime",
                 Match.class
             );
+            FetchPlans.load(query, em, FetchPlans.MATCH_DETAILS);
             query.setParameter("tournamentId", tournamentId);
             return query.getResultList();
             
@@ -80,12 +373,10 @@ public class MatchService {
         try {
             TypedQuery<Match> query = em.createQuery(
                 "SELECT m FROM Match m " +
-                "LEFT JOIN FETCH m.team1 " +
-                "LEFT JOIN FETCH m.team2 " +
-                "LEFT JOIN FETCH m.venue " +
                 "WHERE m.id = :id",
                 Match.class
             );
+            FetchPlans.load(query, em, FetchPlans.MATCH_DETAILS);
             query.setParameter("id", matchId);
             List<Match> results = query.getResultList();
             return results.isEmpty() ? null : results.get(0);
@@ -123,7 +414,8 @@ public class MatchService {
     }
     
     /**
-     * Saves multiple matches to the database.
+     * Saves multiple matches to the database. Nothing is saved if any existing
+     * match was changed since it was loaded.
      * 
      * @param matches the list of matches to save
      * @return true if successful, false otherwise
@@ -134,15 +426,19 @@ public class MatchService {
         try {
             em.getTransaction().begin();
             
+            Map<Match, Match> merged = new IdentityHashMap<>();
             for (Match match : matches) {
                 if (match.getId() == null) {
                     em.persist(match);
                 } else {
-                    em.merge(match);
+                    merged.put(match, em.merge(match));
                 }
             }
             
             em.getTransaction().commit();
+            
+            // Let the caller save these instances again without a version conflict
+            merged.forEach((match, managed) -> match.setVersion(managed.getVersion()));
             return true;
             
         } catch (Exception e) {
@@ -158,7 +454,58 @@ public class MatchService {
     }
     
     /**
-     * Updates an existing match.
+     * Saves rescheduled matches and their time slots in one transaction.
+     * Existing time slots are updated in place; new ones are created.
+     * 
+     * @param matches the matches whose venue or time changed
+     * @return true if successful, false otherwise
+     */
+    public boolean saveRescheduledMatches(List<Match> matches) {
+        EntityManager em = JPAUtil.getEntityManager();
+        
+        try {
+            em.getTransaction().begin();
+            
+            Map<Match, Match> merged = new IdentityHashMap<>();
+            List<LocalDateTime> previousTimes = new ArrayList<>(matches.size());
+            for (Match match : matches) {
+                Match stored = match.getId() != null ? em.find(Match.class, match.getId()) : null;
+                previousTimes.add(stored != null ? stored.getScheduledTime() : null);
+                
+                TimeSlot timeSlot = match.getTimeSlot();
+                if (timeSlot != null) {
+                    if (timeSlot.getId() == null) {
+                        em.persist(timeSlot);
+                    } else {
+                        match.setTimeSlot(em.merge(timeSlot));
+                    }
+                }
+                merged.put(match, em.merge(match));
+            }
+            
+            em.getTransaction().commit();
+            
+            merged.forEach((match, managed) -> match.setVersion(managed.getVersion()));
+            for (int i = 0; i < matches.size(); i++) {
+                DomainEventBus.getInstance().publish(MatchRescheduled.of(matches.get(i), previousTimes.get(i)));
+            }
+            return true;
+            
+        } catch (Exception e) {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            e.printStackTrace();
+            return false;
+            
+        } finally {
+            em.close();
+        }
+    }
+    
+    /**
+     * Updates an existing match. The update fails if the match was changed since
+     * it was loaded (its version is out of date).
      * 
      * @param match the match to update
      * @return true if successful, false otherwise
@@ -168,8 +515,38 @@ public class MatchService {
         
         try {
             em.getTransaction().begin();
-            em.merge(match);
+            
+            // Merging updates the stored instance in place, so capture its state first
+            Match stored = match.getId() != null ? em.find(Match.class, match.getId()) : null;
+            TeamStatsService.CountedResult before = TeamStatsService.CountedResult.of(stored);
+            boolean previouslyCompleted = stored != null && stored.getStatus() == Match.MatchStatus.COMPLETED;
+            Integer previousTeam1Score = stored != null ? stored.getTeam1Score() : null;
+            Integer previousTeam2Score = stored != null ? stored.getTeam2Score() : null;
+            LocalDateTime previousTime = stored != null ? stored.getScheduledTime() : null;
+            Long previousVenueId = stored != null && stored.getVenue() != null ? stored.getVenue().getId() : null;
+            
+            Match merged = em.merge(match);
+            teamStatsService.applyChange(em, merged.getTournament(), before,
+                                         TeamStatsService.CountedResult.of(merged));
+            ratingService.applyResults(em, Collections.singletonList(merged));
+            
             em.getTransaction().commit();
+            match.setVersion(merged.getVersion());
+            
+            MatchResultRecorded result =
+                MatchResultRecorded.of(merged, previouslyCompleted, previousTeam1Score, previousTeam2Score);
+            StandingsEngine.getInstance().recordResult(result);
+            
+            boolean completed = merged.getStatus() == Match.MatchStatus.COMPLETED;
+            if (completed != previouslyCompleted || !Objects.equals(previousTeam1Score, merged.getTeam1Score())
+                    || !Objects.equals(previousTeam2Score, merged.getTeam2Score())) {
+                DomainEventBus.getInstance().publish(result);
+            }
+            Long venueId = merged.getVenue() != null ? merged.getVenue().getId() : null;
+            if (stored != null && (!Objects.equals(previousTime, merged.getScheduledTime())
+                    || !Objects.equals(previousVenueId, venueId))) {
+                DomainEventBus.getInstance().publish(MatchRescheduled.of(merged, previousTime));
+            }
             return true;
             
         } catch (Exception e) {
@@ -202,8 +579,15 @@ public class MatchService {
                 return false;
             }
             
+            teamStatsService.applyChange(em, match.getTournament(),
+                                         TeamStatsService.CountedResult.of(match), null);
+            ratingService.removeResult(em, match);
             em.remove(match);
             em.getTransaction().commit();
+            
+            MatchDeleted deleted = MatchDeleted.of(match);
+            StandingsEngine.getInstance().removeResult(deleted);
+            DomainEventBus.getInstance().publish(deleted);
             return true;
             
         } catch (Exception e) {
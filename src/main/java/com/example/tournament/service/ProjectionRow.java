@@ -0,0 +1,72 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.Team;
+
+/**
+ * One team's projected finish, summarised over all simulated completions of a
+ * tournament.
+ * 
+ * Places are the final league positions, or for knockout tournaments the place
+ * implied by the round a team went out in: 1 for the champion, 2 for the runner-up,
+ * 3 for the semi-final losers, 5 for the quarter-final losers, and so on.
+ */
+public class ProjectionRow {
+    
+    private final Team team;
+    private final double expectedPoints;
+    private final double averagePlace;
+    private final double[] placeProbabilities;
+    
+    // Constructors
+    public ProjectionRow(Team team, double expectedPoints, double averagePlace, double[] placeProbabilities) {
+        this.team = team;
+        this.expectedPoints = expectedPoints;
+        this.averagePlace = averagePlace;
+        this.placeProbabilities = placeProbabilities.clone();
+    }
+    
+    // Getters
+    public Team getTeam() {
+        return team;
+    }
+    
+    /**
+     * Gets the average final points; 0 for knockout tournaments.
+     */
+    public double getExpectedPoints() {
+        return expectedPoints;
+    }
+    
+    public double getAveragePlace() {
+        return averagePlace;
+    }
+    
+    /**
+     * Gets the probability of finishing exactly in a place, starting at 1.
+     */
+    public double getProbability(int place) {
+        return place >= 1 && place <= placeProbabilities.length ? placeProbabilities[place - 1] : 0.0;
+    }
+    
+    /**
+     * Gets the probability of finishing in one of the top places, e.g. the odds of
+     * qualifying when the top four go through, or of reaching the semi-finals.
+     */
+    public double getTopProbability(int places) {
+        double probability = 0.0;
+        for (int place = 1; place <= Math.min(places, placeProbabilities.length); place++) {
+            probability += placeProbabilities[place - 1];
+        }
+        return Math.min(probability, 1.0);
+    }
+    
+    @Override
+    public String toString() {
+        return "ProjectionRow{" +
+                "team=" + (team != null ? team.getName() : null) +
+                ", expectedPoints=" + String.format("%.2f", expectedPoints) +
+                ", averagePlace=" + String.format("%.2f", averagePlace) +
+                ", first=" + String.format("%.3f", getProbability(1)) +
+                '}';
+    }
+}
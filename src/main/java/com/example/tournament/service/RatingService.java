@@ -0,0 +1,370 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.EloRating;
+import com.example.tournament.model.KnockoutTournament;
+import com.example.tournament.model.Match;
+import com.example.tournament.model.RatingChange;
+import com.example.tournament.model.Team;
+import com.example.tournament.model.TeamRating;
+import com.example.tournament.util.JPAUtil;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service class for team strength ratings (Elo).
+ * 
+ * Every posted, corrected or deleted result adjusts the team_ratings rows of the
+ * two teams inside the same transaction that changes the match, and the exchange
+ * is recorded as one rating_changes row per match. A corrected result first
+ * reverses the recorded exchange, so ratings can be read directly without scanning
+ * match history. Ratings depend on the order results are applied in; replayAll
+ * recomputes them from every completed match in chronological order.
+ * 
+ * Thread-Safety: This service is thread-safe as each public method creates
+ * its own EntityManager instance.
+ */
+public class RatingService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RatingService.class);
+    
+    /**
+     * Matches persisted between flushes during a replay.
+     */
+    private static final int REPLAY_CHUNK = 500;
+    
+    /**
+     * Gets a team's current rating.
+     * 
+     * @param teamId the team ID
+     * @return the rating, or the initial rating if the team has no rated matches
+     */
+    public double getRating(Long teamId) {
+        return getRatings(Collections.singleton(teamId)).get(teamId);
+    }
+    
+    /**
+     * Gets the current ratings of several teams with one query.
+     * 
+     * @param teamIds the team IDs
+     * @return the rating of every requested team; teams without rated matches get the initial rating
+     */
+    public Map<Long, Double> getRatings(Collection<Long> teamIds) {
+        Map<Long, Double> ratings = new HashMap<>();
+        if (teamIds.isEmpty()) {
+            return ratings;
+        }
+        EntityManager em = JPAUtil.getEntityManager();
+        
+        try {
+            for (Object[] row : em.createQuery(
+                    "SELECT r.team.id, r.rating FROM TeamRating r WHERE r.team.id IN :teamIds", Object[].class)
+                    .setParameter("teamIds", teamIds)
+                    .getResultList()) {
+                ratings.put((Long) row[0], (Double) row[1]);
+            }
+        } finally {
+            em.close();
+        }
+        for (Long teamId : teamIds) {
+            ratings.putIfAbsent(teamId, EloRating.INITIAL_RATING);
+        }
+        return ratings;
+    }
+    
+    /**
+     * Gets the rating history of a team, oldest first.
+     * 
+     * @param teamId the team ID
+     * @return the exchanges of the team's rated matches, in the order they were applied
+     */
+    public List<RatingChange> getHistory(Long teamId) {
+        EntityManager em = JPAUtil.getEntityManager();
+        
+        try {
+            return em.createQuery(
+                "SELECT c FROM RatingChange c " +
+                "JOIN FETCH c.team1 JOIN FETCH c.team2 " +
+                "WHERE c.team1.id = :teamId OR c.team2.id = :teamId " +
+                "ORDER BY c.id",
+                RatingChange.class
+            ).setParameter("teamId", teamId).getResultList();
+            
+        } finally {
+            em.close();
+        }
+    }
+    
+    /**
+     * Seeds a knockout tournament by rating, strongest team first, unless its
+     * seeds were already set. Call before generating the schedule.
+     * 
+     * @param tournament the knockout tournament
+     */
+    public void seedByRating(KnockoutTournament tournament) {
+        if (!tournament.getSeeds().isEmpty()) {
+            return;
+        }
+        List<Team> teams = new ArrayList<>(tournament.getTeams());
+        Set<Long> teamIds = new HashSet<>();
+        for (Team team : teams) {
+            if (team.getId() != null) {
+                teamIds.add(team.getId());
+            }
+        }
+        Map<Long, Double> ratings = getRatings(teamIds);
+        
+        // Stable sort: equally rated teams keep their registration order
+        teams.sort(Comparator.comparingDouble(
+            (Team team) -> ratings.getOrDefault(team.getId(), EloRating.INITIAL_RATING)).reversed());
+        tournament.getSeeds().addAll(teams);
+    }
+    
+    /**
+     * Recomputes every rating from all completed matches in chronological order
+     * (scheduled time, then ID; unscheduled matches last), replacing the ratings
+     * and their history. Meant for backfills and after bulk corrections, while no
+     * results are being posted.
+     * 
+     * @return the number of matches rated, or -1 if the replay failed
+     */
+    public int replayAll() {
+        long started = System.nanoTime();
+        EntityManager em = JPAUtil.getEntityManager();
+        
+        try {
+            em.getTransaction().begin();
+            
+            em.createQuery("DELETE FROM RatingChange").executeUpdate();
+            em.createQuery("DELETE FROM TeamRating").executeUpdate();
+            
+            // Scalar rows, so the replay does not load the match entities
+            List<Object[]> results = em.createQuery(
+                "SELECT m.id, m.team1.id, m.team2.id, m.team1Score, m.team2Score FROM Match m " +
+                "WHERE m.status = :status AND m.team1Score IS NOT NULL AND m.team2Score IS NOT NULL " +
+                "AND m.team1 IS NOT NULL AND m.team2 IS NOT NULL " +
+                "ORDER BY m.scheduledTime ASC NULLS LAST, m.id",
+                Object[].class
+            ).setParameter("status", Match.MatchStatus.COMPLETED).getResultList();
+            
+            Map<Long, double[]> ratings = new HashMap<>();
+            Map<Long, int[]> rated = new HashMap<>();
+            int persisted = 0;
+            for (Object[] row : results) {
+                Long team1Id = (Long) row[1];
+                Long team2Id = (Long) row[2];
+                int score1 = (Integer) row[3];
+                int score2 = (Integer) row[4];
+                double[] rating1 = ratings.computeIfAbsent(team1Id, id -> new double[] {EloRating.INITIAL_RATING});
+                double[] rating2 = ratings.computeIfAbsent(team2Id, id -> new double[] {EloRating.INITIAL_RATING});
+                
+                float delta = (float) EloRating.delta(rating1[0], rating2[0], score1, score2);
+                em.persist(new RatingChange(em.getReference(Match.class, row[0]),
+                                            em.getReference(Team.class, team1Id), em.getReference(Team.class, team2Id),
+                                            score1, score2, rating1[0], rating2[0], delta));
+                rating1[0] += delta;
+                rating2[0] -= delta;
+                rated.computeIfAbsent(team1Id, id -> new int[1])[0]++;
+                rated.computeIfAbsent(team2Id, id -> new int[1])[0]++;
+                
+                // Keep the persistence context small on long histories
+                if (++persisted % REPLAY_CHUNK == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+            
+            for (Map.Entry<Long, double[]> entry : ratings.entrySet()) {
+                TeamRating rating = new TeamRating(em.getReference(Team.class, entry.getKey()));
+                rating.setRating(entry.getValue()[0]);
+                rating.setMatchesRated(rated.get(entry.getKey())[0]);
+                em.persist(rating);
+            }
+            
+            em.getTransaction().commit();
+            logger.info("Replayed ratings of {} teams from {} matches in {} ms", ratings.size(), results.size(),
+                        (System.nanoTime() - started) / 1_000_000);
+            return results.size();
+            
+        } catch (Exception e) {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            e.printStackTrace();
+            return -1;
+            
+        } finally {
+            em.close();
+        }
+    }
+    
+    /**
+     * Brings the ratings in line with the current results of managed matches, in
+     * order, within the caller's transaction. For each match the exchange recorded
+     * before is reversed and, if the match now counts, a new one is applied. Matches
+     * whose rated result did not change are left alone. The exchanges and ratings
+     * involved are loaded with one query each.
+     * 
+     * @param matches the changed matches, in the order their results were posted
+     */
+    void applyResults(EntityManager em, List<Match> matches) {
+        if (matches.isEmpty()) {
+            return;
+        }
+        
+        Set<Long> matchIds = new HashSet<>();
+        Set<Long> teamIds = new HashSet<>();
+        for (Match match : matches) {
+            if (match.getId() != null) {
+                matchIds.add(match.getId());
+            }
+            if (match.getTeam1() != null && match.getTeam2() != null) {
+                teamIds.add(match.getTeam1().getId());
+                teamIds.add(match.getTeam2().getId());
+            }
+        }
+        
+        Map<Long, RatingChange> changes = new HashMap<>();
+        for (RatingChange change : matchIds.isEmpty() ? List.<RatingChange>of() : em.createQuery(
+                "SELECT c FROM RatingChange c WHERE c.match.id IN :matchIds", RatingChange.class)
+                .setParameter("matchIds", matchIds)
+                .getResultList()) {
+            changes.put(change.getMatch().getId(), change);
+            teamIds.add(change.getTeam1().getId());
+            teamIds.add(change.getTeam2().getId());
+        }
+        Map<Long, TeamRating> ratings = loadRatings(em, teamIds);
+        
+        for (Match match : matches) {
+            RatingChange previous = match.getId() != null ? changes.get(match.getId()) : null;
+            boolean counted = StandingsTable.isCounted(match);
+            if (previous != null && counted && sameResult(previous, match)) {
+                continue;
+            }
+            if (previous != null) {
+                reverse(ratings, previous);
+                em.remove(previous);
+                changes.remove(match.getId());
+                
+                // Hibernate inserts before it deletes; the new row would clash with the old one
+                if (counted) {
+                    em.flush();
+                }
+            }
+            if (counted) {
+                changes.put(match.getId(), rate(em, ratings, match));
+            }
+        }
+    }
+    
+    /**
+     * Reverses the exchange recorded for a match that is about to be deleted,
+     * within the caller's transaction.
+     */
+    void removeResult(EntityManager em, Match match) {
+        List<RatingChange> changes = em.createQuery(
+            "SELECT c FROM RatingChange c WHERE c.match.id = :matchId", RatingChange.class)
+            .setParameter("matchId", match.getId())
+            .getResultList();
+        removeChanges(em, changes);
+    }
+    
+    /**
+     * Reverses and deletes the exchanges of every match of a tournament that is
+     * about to be deleted, within the caller's transaction.
+     */
+    void removeForTournament(EntityManager em, Long tournamentId) {
+        List<RatingChange> changes = em.createQuery(
+            "SELECT c FROM RatingChange c WHERE c.match.tournament.id = :tournamentId ORDER BY c.id DESC",
+            RatingChange.class
+        ).setParameter("tournamentId", tournamentId).getResultList();
+        removeChanges(em, changes);
+    }
+    
+    private void removeChanges(EntityManager em, List<RatingChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Set<Long> teamIds = new HashSet<>();
+        for (RatingChange change : changes) {
+            teamIds.add(change.getTeam1().getId());
+            teamIds.add(change.getTeam2().getId());
+        }
+        Map<Long, TeamRating> ratings = loadRatings(em, teamIds);
+        for (RatingChange change : changes) {
+            reverse(ratings, change);
+            em.remove(change);
+        }
+        
+        // Deleted before the matches they reference
+        em.flush();
+    }
+    
+    /**
+     * Loads the rating rows of the teams, creating rows for teams without one.
+     */
+    private static Map<Long, TeamRating> loadRatings(EntityManager em, Set<Long> teamIds) {
+        Map<Long, TeamRating> ratings = new HashMap<>();
+        if (teamIds.isEmpty()) {
+            return ratings;
+        }
+        for (TeamRating rating : em.createQuery(
+                "SELECT r FROM TeamRating r WHERE r.team.id IN :teamIds", TeamRating.class)
+                .setParameter("teamIds", teamIds)
+                .getResultList()) {
+            ratings.put(rating.getTeam().getId(), rating);
+        }
+        for (Long teamId : teamIds) {
+            ratings.computeIfAbsent(teamId, id -> {
+                TeamRating rating = new TeamRating(em.getReference(Team.class, id));
+                em.persist(rating);
+                return rating;
+            });
+        }
+        return ratings;
+    }
+    
+    private static RatingChange rate(EntityManager em, Map<Long, TeamRating> ratings, Match match) {
+        TeamRating rating1 = ratings.get(match.getTeam1().getId());
+        TeamRating rating2 = ratings.get(match.getTeam2().getId());
+        
+        // Apply the stored precision, so reversing the change later restores the ratings exactly
+        float delta = (float) EloRating.delta(rating1.getRating(), rating2.getRating(),
+                                              match.getTeam1Score(), match.getTeam2Score());
+        RatingChange change = new RatingChange(match, match.getTeam1(), match.getTeam2(),
+                                               match.getTeam1Score(), match.getTeam2Score(),
+                                               rating1.getRating(), rating2.getRating(), delta);
+        em.persist(change);
+        
+        rating1.setRating(rating1.getRating() + delta);
+        rating1.setMatchesRated(rating1.getMatchesRated() + 1);
+        rating2.setRating(rating2.getRating() - delta);
+        rating2.setMatchesRated(rating2.getMatchesRated() + 1);
+        return change;
+    }
+    
+    private static void reverse(Map<Long, TeamRating> ratings, RatingChange change) {
+        TeamRating rating1 = ratings.get(change.getTeam1().getId());
+        TeamRating rating2 = ratings.get(change.getTeam2().getId());
+        rating1.setRating(rating1.getRating() - change.getDelta());
+        rating1.setMatchesRated(rating1.getMatchesRated() - 1);
+        rating2.setRating(rating2.getRating() + change.getDelta());
+        rating2.setMatchesRated(rating2.getMatchesRated() - 1);
+    }
+    
+    private static boolean sameResult(RatingChange change, Match match) {
+        return change.getTeam1Score() == match.getTeam1Score() && change.getTeam2Score() == match.getTeam2Score()
+            && change.getTeam1().getId().equals(match.getTeam1().getId())
+            && change.getTeam2().getId().equals(match.getTeam2().getId());
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.tournament.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.HibernateHints;
+
+/**
+ * Query cache regions of the lookups that dialogs run every time they open:
+ * sports, venues and teams change rarely, so their lists are served from memory
+ * until one of them is written.
+ * 
+ * Hibernate already invalidates cached results whose tables were written through
+ * this factory; the services also evict their region once a write has committed,
+ * so the stale lists are dropped right away instead of lingering until the next
+ * read rejects them.
+ */
+final class ReferenceDataCache {
+    
+    static final String SPORTS = "query.sports";
+    static final String VENUES = "query.venues";
+    static final String TEAMS = "query.teams";
+    
+    private ReferenceDataCache() {
+    }
+    
+    /**
+     * Marks a query as cacheable in the given region.
+     */
+    static <T> TypedQuery<T> cacheable(TypedQuery<T> query, String region) {
+        return query.setHint(HibernateHints.HINT_CACHEABLE, true)
+                    .setHint(HibernateHints.HINT_CACHE_REGION, region);
+    }
+    
+    /**
+     * Drops the cached query results of a region, after a committed write.
+     */
+    static void evict(EntityManager em, String region) {
+        em.getEntityManagerFactory().unwrap(SessionFactory.class).getCache().evictQueryRegion(region);
+    }
+}
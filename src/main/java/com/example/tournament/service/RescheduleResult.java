@@ -0,0 +1,69 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.Match;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of rescheduling a match: whether it succeeded and which other
+ * fixtures had to be shifted to make room for it.
+ */
+public class RescheduleResult {
+    
+    private final Match match;
+    private final boolean successful;
+    private final List<Match> shiftedMatches;
+    private final String message;
+    
+    // Constructors
+    public RescheduleResult(Match match, boolean successful, List<Match> shiftedMatches, String message) {
+        this.match = match;
+        this.successful = successful;
+        this.shiftedMatches = new ArrayList<>(shiftedMatches);
+        this.message = message;
+    }
+    
+    // Getters
+    public Match getMatch() {
+        return match;
+    }
+    
+    public boolean isSuccessful() {
+        return successful;
+    }
+    
+    /**
+     * Gets the fixtures moved to make room for the rescheduled match.
+     */
+    public List<Match> getShiftedMatches() {
+        return Collections.unmodifiableList(shiftedMatches);
+    }
+    
+    /**
+     * Gets every match whose venue or time changed and needs saving.
+     */
+    public List<Match> getChangedMatches() {
+        List<Match> changed = new ArrayList<>();
+        if (successful) {
+            changed.add(match);
+            changed.addAll(shiftedMatches);
+        }
+        return changed;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    @Override
+    public String toString() {
+        return "RescheduleResult{" +
+                "matchId=" + (match != null ? match.getId() : null) +
+                ", successful=" + successful +
+                ", shiftedMatches=" + shiftedMatches.size() +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
@@ -5,6 +5,7 @@ import com.example.tournament.util.JPAUtil;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Service class for schedule-related operations.
@@ -12,6 +13,8 @@ import java.util.List;
  */
 public class ScheduleService {
     
+    private final MatchService matchService = new MatchService();
+    
     /**
      * Retrieves all scheduled matches.
      * Implements ViewSchedule use case.
@@ -26,6 +29,7 @@ public class ScheduleService {
                 "SELECT m FROM Match m ORDER BY m.scheduledTime",
                 Match.class
             );
+            FetchPlans.load(query, em, FetchPlans.MATCH_DETAILS);
             return query.getResultList();
             
         } finally {
@@ -33,6 +37,30 @@ public class ScheduleService {
         }
     }
     
+    /**
+     * Views one page of the schedule, filtered by time window, venue and team.
+     * See MatchService.getMatches for the ordering and paging.
+     * 
+     * @param filter the matches to list, or null for all
+     * @param after the last match of the previous page, or null for the first page
+     * @param limit the page size, or 0 for no limit
+     * @return the page of matches
+     */
+    public List<Match> viewSchedule(MatchFilter filter, Match after, int limit) {
+        return matchService.getMatches(filter, after, limit);
+    }
+    
+    /**
+     * Streams the whole schedule of a filter in bounded memory, e.g. for a
+     * season-wide export. The stream must be closed.
+     * 
+     * @param filter the matches to list, or null for all
+     * @return the matches, in schedule order
+     */
+    public Stream<Match> streamSchedule(MatchFilter filter) {
+        return matchService.streamMatches(filter);
+    }
+    
     /**
      * Retrieves schedule for a specific tournament.
      * 
@@ -47,6 +75,7 @@ public class ScheduleService {
                 "SELECT m FROM Match m WHERE m.tournament.id = :tournamentId ORDER BY m.scheduledTime",
                 Match.class
             );
+            FetchPlans.load(query, em, FetchPlans.MATCH_DETAILS);
             query.setParameter("tournamentId", tournamentId);
             return query.getResultList();
             
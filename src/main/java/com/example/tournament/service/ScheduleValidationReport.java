@@ -0,0 +1,168 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.Match;
+import com.example.tournament.model.Team;
+import com.example.tournament.model.Venue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of validating a schedule: every issue found, grouped by type,
+ * plus scheduled and unscheduled match counts.
+ */
+public class ScheduleValidationReport {
+    
+    private final List<Issue> issues = new ArrayList<>();
+    private final Map<IssueType, Integer> issueCounts = new EnumMap<>(IssueType.class);
+    private int scheduledMatches;
+    private int unscheduledMatches;
+    
+    // Getters
+    public int getScheduledMatches() {
+        return scheduledMatches;
+    }
+    
+    public int getUnscheduledMatches() {
+        return unscheduledMatches;
+    }
+    
+    public List<Issue> getIssues() {
+        return Collections.unmodifiableList(issues);
+    }
+    
+    /**
+     * Gets the issues of one type.
+     */
+    public List<Issue> getIssues(IssueType type) {
+        List<Issue> result = new ArrayList<>();
+        for (Issue issue : issues) {
+            if (issue.getType() == type) {
+                result.add(issue);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Gets the issues that involve the given match.
+     */
+    public List<Issue> getIssues(Match match) {
+        List<Issue> result = new ArrayList<>();
+        for (Issue issue : issues) {
+            if (issue.getFirst() == match || issue.getSecond() == match) {
+                result.add(issue);
+            }
+        }
+        return result;
+    }
+    
+    public int getIssueCount(IssueType type) {
+        return issueCounts.getOrDefault(type, 0);
+    }
+    
+    /**
+     * Checks whether any venue, team or rest conflict was found.
+     */
+    public boolean hasConflicts() {
+        return issues.size() > getIssueCount(IssueType.UNSCHEDULED);
+    }
+    
+    /**
+     * A schedule is valid when every match is scheduled and there are no conflicts.
+     */
+    public boolean isValid() {
+        return issues.isEmpty();
+    }
+    
+    void recordScheduled() {
+        scheduledMatches++;
+    }
+    
+    void recordUnscheduled(Match match) {
+        unscheduledMatches++;
+        addIssue(new Issue(IssueType.UNSCHEDULED, match, null, null, null));
+    }
+    
+    void addIssue(Issue issue) {
+        issues.add(issue);
+        issueCounts.merge(issue.getType(), 1, Integer::sum);
+    }
+    
+    @Override
+    public String toString() {
+        return "ScheduleValidationReport{" +
+                "scheduledMatches=" + scheduledMatches +
+                ", unscheduledMatches=" + unscheduledMatches +
+                ", venueConflicts=" + getIssueCount(IssueType.VENUE_CONFLICT) +
+                ", teamConflicts=" + getIssueCount(IssueType.TEAM_CONFLICT) +
+                ", restViolations=" + getIssueCount(IssueType.REST_VIOLATION) +
+                '}';
+    }
+    
+    /**
+     * Enum for the kinds of schedule issue.
+     */
+    public enum IssueType {
+        UNSCHEDULED,
+        VENUE_CONFLICT,
+        TEAM_CONFLICT,
+        REST_VIOLATION
+    }
+    
+    /**
+     * A single schedule issue. Conflicts refer to the two matches involved;
+     * an unscheduled match has no second match.
+     */
+    public static class Issue {
+        private final IssueType type;
+        private final Match first;
+        private final Match second;
+        private final Venue venue;
+        private final Team team;
+        
+        public Issue(IssueType type, Match first, Match second, Venue venue, Team team) {
+            this.type = type;
+            this.first = first;
+            this.second = second;
+            this.venue = venue;
+            this.team = team;
+        }
+        
+        public IssueType getType() { return type; }
+        public Match getFirst() { return first; }
+        public Match getSecond() { return second; }
+        public Venue getVenue() { return venue; }
+        public Team getTeam() { return team; }
+        
+        /**
+         * Describes the issue in one line for display.
+         */
+        public String getDescription() {
+            switch (type) {
+                case UNSCHEDULED:
+                    return describe(first) + " is not scheduled";
+                case VENUE_CONFLICT:
+                    return venue.getName() + " is double-booked by " + describe(first) + " and " + describe(second);
+                case TEAM_CONFLICT:
+                    return team.getName() + " plays " + describe(first) + " and " + describe(second) + " at the same time";
+                default:
+                    return team.getName() + " has too little rest between " + describe(first) + " and " + describe(second);
+            }
+        }
+        
+        private static String describe(Match match) {
+            String team1 = match.getTeam1() != null ? match.getTeam1().getName() : "TBD";
+            String team2 = match.getTeam2() != null ? match.getTeam2().getName() : "TBD";
+            return team1 + " vs " + team2;
+        }
+        
+        @Override
+        public String toString() {
+            return type + ": " + getDescription();
+        }
+    }
+}
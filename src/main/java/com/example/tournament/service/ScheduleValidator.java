@@ -0,0 +1,169 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.EntityKeys;
+import com.example.tournament.model.Match;
+import com.example.tournament.model.Team;
+import com.example.tournament.model.Tournament;
+import com.example.tournament.model.Venue;
+import com.example.tournament.service.ScheduleValidationReport.Issue;
+import com.example.tournament.service.ScheduleValidationReport.IssueType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.BiConsumer;
+
+/**
+ * Validates a schedule with a sort-and-sweep pass per venue and per team.
+ * 
+ * Matches sharing a venue or a team are sorted by start time and swept while
+ * keeping the still-running matches in a heap ordered by end time, so every
+ * overlap is reported in O(n log n + k) instead of comparing every pair.
+ * The same sweep reports team rest-time violations between consecutive matches.
+ */
+public class ScheduleValidator {
+    
+    private static final Duration DEFAULT_MATCH_DURATION = Duration.ofHours(2);
+    
+    private final Duration minimumRest;
+    private final Duration defaultMatchDuration;
+    
+    // Constructors
+    public ScheduleValidator() {
+        this(Duration.ZERO, DEFAULT_MATCH_DURATION);
+    }
+    
+    public ScheduleValidator(Duration minimumRest) {
+        this(minimumRest, DEFAULT_MATCH_DURATION);
+    }
+    
+    /**
+     * @param minimumRest minimum time a team needs between the end of one match and the start of the next
+     * @param defaultMatchDuration assumed duration of matches that have no time slot
+     */
+    public ScheduleValidator(Duration minimumRest, Duration defaultMatchDuration) {
+        this.minimumRest = minimumRest;
+        this.defaultMatchDuration = defaultMatchDuration;
+    }
+    
+    public Duration getMinimumRest() {
+        return minimumRest;
+    }
+    
+    /**
+     * Validates all matches of a tournament.
+     */
+    public ScheduleValidationReport validate(Tournament tournament) {
+        return validate(tournament.getMatches());
+    }
+    
+    /**
+     * Validates a set of matches and reports every issue found.
+     * Cancelled matches are ignored.
+     */
+    public ScheduleValidationReport validate(Collection<Match> matches) {
+        ScheduleValidationReport report = new ScheduleValidationReport();
+        Map<Object, List<Booking>> byVenue = new LinkedHashMap<>();
+        Map<Object, List<Booking>> byTeam = new LinkedHashMap<>();
+        
+        for (Match match : matches) {
+            if (match.getStatus() == Match.MatchStatus.CANCELLED) {
+                continue;
+            }
+            if (match.getVenue() == null || match.getScheduledTime() == null) {
+                report.recordUnscheduled(match);
+            } else {
+                report.recordScheduled();
+                byVenue.computeIfAbsent(EntityKeys.of(match.getVenue()), k -> new ArrayList<>())
+                       .add(new Booking(match));
+            }
+            if (match.getScheduledTime() != null) {
+                addTeamBooking(byTeam, match, match.getTeam1());
+                if (match.getTeam2() != match.getTeam1()) {
+                    addTeamBooking(byTeam, match, match.getTeam2());
+                }
+            }
+        }
+        
+        for (List<Booking> bookings : byVenue.values()) {
+            Venue venue = bookings.get(0).match.getVenue();
+            sweep(bookings,
+                  (a, b) -> report.addIssue(new Issue(IssueType.VENUE_CONFLICT, a, b, venue, null)),
+                  null);
+        }
+        for (Map.Entry<Object, List<Booking>> entry : byTeam.entrySet()) {
+            Team team = teamOf(entry.getValue().get(0).match, entry.getKey());
+            sweep(entry.getValue(),
+                  (a, b) -> report.addIssue(new Issue(IssueType.TEAM_CONFLICT, a, b, null, team)),
+                  (a, b) -> report.addIssue(new Issue(IssueType.REST_VIOLATION, a, b, null, team)));
+        }
+        
+        return report;
+    }
+    
+    /**
+     * Sweeps bookings in start order. Every pair of overlapping bookings is passed to
+     * onOverlap; a booking that starts less than the minimum rest after the latest
+     * earlier booking ended is passed to onShortRest.
+     */
+    private void sweep(List<Booking> bookings, BiConsumer<Match, Match> onOverlap,
+                       BiConsumer<Match, Match> onShortRest) {
+        bookings.sort(Comparator.comparing((Booking b) -> b.start));
+        PriorityQueue<Booking> running = new PriorityQueue<>(Comparator.comparing((Booking b) -> b.end));
+        Booking latestEnding = null;
+        
+        for (Booking booking : bookings) {
+            while (!running.isEmpty() && !running.peek().end.isAfter(booking.start)) {
+                running.poll();
+            }
+            
+            if (!running.isEmpty()) {
+                for (Booking other : running) {
+                    onOverlap.accept(other.match, booking.match);
+                }
+            } else if (onShortRest != null && latestEnding != null
+                       && Duration.between(latestEnding.end, booking.start).compareTo(minimumRest) < 0) {
+                onShortRest.accept(latestEnding.match, booking.match);
+            }
+            
+            running.add(booking);
+            if (latestEnding == null || booking.end.isAfter(latestEnding.end)) {
+                latestEnding = booking;
+            }
+        }
+    }
+    
+    private void addTeamBooking(Map<Object, List<Booking>> byTeam, Match match, Team team) {
+        if (team != null) {
+            byTeam.computeIfAbsent(EntityKeys.of(team), k -> new ArrayList<>()).add(new Booking(match));
+        }
+    }
+    
+    private static Team teamOf(Match match, Object key) {
+        return match.getTeam1() != null && key.equals(EntityKeys.of(match.getTeam1()))
+            ? match.getTeam1() : match.getTeam2();
+    }
+    
+    /**
+     * A match with its resolved start and end time.
+     */
+    private class Booking {
+        private final Match match;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        
+        Booking(Match match) {
+            this.match = match;
+            this.start = match.getScheduledTime();
+            this.end = match.getTimeSlot() != null && match.getTimeSlot().getEndTime() != null
+                ? match.getTimeSlot().getEndTime()
+                : start.plus(defaultMatchDuration);
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.tournament.service;
 
 import com.example.tournament.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.time.LocalTime;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -11,44 +16,84 @@ import java.util.List;
  */
 public class SchedulingManager implements SchedulingService {
     
+    private static final Logger logger = LoggerFactory.getLogger(SchedulingManager.class);
+    
+    private static final Duration DEFAULT_MATCH_DURATION = Duration.ofHours(2);
+    private static final LocalTime DAY_START = LocalTime.of(9, 0);
+    private static final LocalTime DAY_END = LocalTime.of(21, 0);
+    
+    private VenueScoringModel venueScoringModel = VenueScoringModel.standard();
+    
+    // Getters and Setters
+    public VenueScoringModel getVenueScoringModel() {
+        return venueScoringModel;
+    }
+    
+    public void setVenueScoringModel(VenueScoringModel venueScoringModel) {
+        if (venueScoringModel == null) {
+            throw new IllegalArgumentException("venueScoringModel must not be null");
+        }
+        this.venueScoringModel = venueScoringModel;
+    }
+    
     @Override
     public void scheduleMatches(Tournament tournament, List<Venue> venues) {
-        System.out.println("=== Advanced Scheduling System ===");
-        System.out.println("Tournament: " + tournament.getName());
-        System.out.println("Available venues: " + venues.size());
-        System.out.println("Matches to schedule: " + tournament.getMatches().size());
-        
         if (venues.isEmpty()) {
-            System.out.println("Error: No venues available for scheduling.");
+            logger.warn("Cannot schedule '{}': no venues available", tournament.getName());
             return;
         }
         
+        long started = System.nanoTime();
+        boolean debug = logger.isDebugEnabled();
+        
         // Generate base schedule using tournament-specific logic
         tournament.generateSchedule();
         
+        // Per-run outcome counts for the summary
+        int atPreferredTime = 0;
+        int atAlternativeVenue = 0;
+        int atNextFreeSlot = 0;
+        int unscheduled = 0;
+        
         // Now assign venues and time slots to each match
         LocalDateTime currentTime = tournament.getStartDate().atTime(9, 0);
-        int matchDurationHours = 2;
+        LocalDateTime roundEnd = currentTime;
+        int matchDurationHours = (int) DEFAULT_MATCH_DURATION.toHours();
+        Match previous = null;
+        
+        // Preferences and venue bookings are compiled once for the whole run
+        LocalDate lastDay = tournament.getEndDate() != null ? tournament.getEndDate() : tournament.getStartDate().plusDays(365);
+        AvailabilityIndex availability = new AvailabilityIndex(tournament.getStartDate().atStartOfDay(),
+                                                               lastDay.plusDays(1).atStartOfDay(),
+                                                               AvailabilityIndex.DEFAULT_BUCKET);
         
         for (Match match : tournament.getMatches()) {
-            System.out.println("\n--- Scheduling Match: " + match.getTeam1().getName() + " vs " + match.getTeam2().getName() + " ---");
-            
-            // Step 1: Find team time slot preferences
-            List<TimeSlot> team1Preferences = match.getTeam1().getPreferredTimeSlots();
-            List<TimeSlot> team2Preferences = match.getTeam2().getPreferredTimeSlots();
+            // Matches of the same round share a start time across venues;
+            // the next round starts after the last default-time match of this one
+            if (previous != null && !isSameRound(previous, match)) {
+                currentTime = later(currentTime.plusHours(matchDurationHours + 1), roundEnd.plusHours(1));
+            }
+            previous = match;
             
-            System.out.println("Team 1 has " + team1Preferences.size() + " time slot preferences");
-            System.out.println("Team 2 has " + team2Preferences.size() + " time slot preferences");
+            if (debug) {
+                logger.debug("Scheduling {} vs {} ({} and {} time slot preferences)",
+                             match.getTeam1().getName(), match.getTeam2().getName(),
+                             match.getTeam1().getPreferredTimeSlots().size(),
+                             match.getTeam2().getPreferredTimeSlots().size());
+            }
             
-            // Step 2: Find common time preferences
-            TimeSlot selectedTimeSlot = findCommonTimeSlot(team1Preferences, team2Preferences);
+            // Steps 1 and 2: Find a time inside both teams' preferences
+            TimeSlot selectedTimeSlot = findCommonTimeSlot(availability, match.getTeam1(), match.getTeam2(),
+                                                           venues, DEFAULT_MATCH_DURATION);
+            boolean defaultTime = selectedTimeSlot == null;
             
             if (selectedTimeSlot == null) {
                 // No common preference, create a default time slot
                 selectedTimeSlot = new TimeSlot(currentTime, currentTime.plusHours(matchDurationHours));
-                System.out.println("No common preference found. Using default time: " + currentTime);
+                logger.debug("No common preference found. Using default time: {}", currentTime);
             } else {
-                System.out.println("Found common time slot preference: " + selectedTimeSlot.getStartTime());
+                atPreferredTime++;
+                logger.debug("Found common time slot preference: {}", selectedTimeSlot.getStartTime());
             }
             
             // Step 3: Find optimal venue
@@ -57,8 +102,6 @@ public class SchedulingManager implements SchedulingService {
             if (optimalVenue != null) {
                 // Step 4: Check venue availability
                 if (optimalVenue.isAvailable(selectedTimeSlot)) {
-                    System.out.println("Venue '" + optimalVenue.getName() + "' is available.");
-                    
                     // Assign venue and time slot
                     match.setVenue(optimalVenue);
                     match.setTimeSlot(selectedTimeSlot);
@@ -67,9 +110,9 @@ public class SchedulingManager implements SchedulingService {
                     // Book the venue
                     optimalVenue.bookTimeSlot(selectedTimeSlot);
                     
-                    System.out.println("✓ Match scheduled at " + optimalVenue.getName() + " on " + selectedTimeSlot.getStartTime());
+                    logger.debug("Match scheduled at {} on {}", optimalVenue.getName(), selectedTimeSlot.getStartTime());
                 } else {
-                    System.out.println("Venue '" + optimalVenue.getName() + "' is not available. Finding alternative...");
+                    logger.debug("Venue '{}' is not available. Finding alternative...", optimalVenue.getName());
                     
                     // Try to find another venue
                     Venue alternativeVenue = findAlternativeVenue(selectedTimeSlot, venues);
@@ -78,124 +121,191 @@ public class SchedulingManager implements SchedulingService {
                         match.setTimeSlot(selectedTimeSlot);
                         match.setScheduledTime(selectedTimeSlot.getStartTime());
                         alternativeVenue.bookTimeSlot(selectedTimeSlot);
-                        System.out.println("✓ Match scheduled at alternative venue " + alternativeVenue.getName());
+                        atAlternativeVenue++;
+                        logger.debug("Match scheduled at alternative venue {}", alternativeVenue.getName());
                     } else {
-                        System.out.println("⚠ No venue available. Match remains unscheduled.");
+                        // Every venue is booked at this time: take the earliest free slot at any venue
+                        TimeSlot nextSlot = findNextAvailableTimeSlot(selectedTimeSlot, venues);
+                        Venue nextVenue = nextSlot.getVenue();
+                        match.setVenue(nextVenue);
+                        match.setTimeSlot(nextSlot);
+                        match.setScheduledTime(nextSlot.getStartTime());
+                        nextVenue.bookTimeSlot(nextSlot);
+                        atNextFreeSlot++;
+                        logger.debug("Match scheduled at next free slot {} at {}", nextSlot.getStartTime(), nextVenue.getName());
                     }
                 }
             } else {
-                System.out.println("⚠ No optimal venue found. Match remains unscheduled.");
+                unscheduled++;
+                logger.debug("No optimal venue found. Match remains unscheduled.");
             }
             
-            // Move to next time slot
-            currentTime = currentTime.plusHours(matchDurationHours + 1);
+            TimeSlot booked = match.getTimeSlot();
+            if (booked != null) {
+                venueScoringModel.recordUsage(match);
+                availability.markVenueBooked(match.getVenue(), booked.getStartTime(), booked.getEndTime());
+                availability.markTeamBusy(match.getTeam1(), booked.getStartTime(), booked.getEndTime());
+                availability.markTeamBusy(match.getTeam2(), booked.getStartTime(), booked.getEndTime());
+                if (defaultTime) {
+                    roundEnd = later(roundEnd, booked.getEndTime());
+                }
+            }
         }
         
-        System.out.println("\n=== Scheduling Complete ===");
-        validateSchedule(tournament);
+        boolean valid = validateSchedule(tournament);
+        
+        int total = tournament.getMatches().size();
+        logger.info("Scheduled {} of {} matches for '{}' across {} venues in {} ms: {} at preferred times, "
+                    + "{} at alternative venues, {} moved to the next free slot, {} unscheduled; schedule {}",
+                    total - unscheduled, total, tournament.getName(), venues.size(),
+                    (System.nanoTime() - started) / 1_000_000, atPreferredTime, atAlternativeVenue,
+                    atNextFreeSlot, unscheduled, valid ? "valid" : "has issues");
     }
     
     @Override
     public boolean rescheduleMatch(Match match, List<Venue> venues) {
-        System.out.println("=== Rescheduling Match ===");
-        System.out.println("Match: " + match.getTeam1().getName() + " vs " + match.getTeam2().getName());
+        if (venues.isEmpty()) {
+            logger.warn("Failed to reschedule {} vs {}: no venues available",
+                        match.getTeam1().getName(), match.getTeam2().getName());
+            return false;
+        }
+        
+        // Postponed matches move to the next day at the earliest
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        LocalDate firstDay = match.getScheduledTime() != null && match.getScheduledTime().toLocalDate().isAfter(tomorrow)
+                           ? match.getScheduledTime().toLocalDate().plusDays(1)
+                           : tomorrow;
+        List<Match> fixtures = match.getTournament() != null ? match.getTournament().getMatches() : List.of();
         
-        // Free up the current venue booking if exists
-        if (match.getVenue() != null && match.getTimeSlot() != null) {
-            System.out.println("Releasing current booking at " + match.getVenue().getName());
+        RescheduleResult result = createRescheduler(fixtures, venues).moveToNearest(match, firstDay.atTime(DAY_START));
+        if (result.isSuccessful()) {
+            logger.info("Rescheduled {} vs {} to {} on {}", match.getTeam1().getName(), match.getTeam2().getName(),
+                        match.getVenue().getName(), match.getScheduledTime());
+        } else {
+            logger.warn("Failed to reschedule {} vs {}: {}", match.getTeam1().getName(), match.getTeam2().getName(),
+                        result.getMessage());
+        }
+        return result.isSuccessful();
+    }
+    
+    @Override
+    public RescheduleResult rescheduleMatch(Match match, LocalDateTime newStart, Venue venue,
+                                            List<Match> fixtures, List<Venue> venues) {
+        if (venue == null) {
+            return new RescheduleResult(match, false, List.of(), "No venue selected");
         }
         
-        // Find new venue
-        Venue newVenue = findOptimalVenue(match, venues);
-        if (newVenue != null) {
-            // Create new time slot
-            TimeSlot newTimeSlot = new TimeSlot(
-                LocalDateTime.now().plusDays(1).withHour(14).withMinute(0),
-                LocalDateTime.now().plusDays(1).withHour(16).withMinute(0)
-            );
-            
-            if (newVenue.isAvailable(newTimeSlot)) {
-                match.setVenue(newVenue);
-                match.setTimeSlot(newTimeSlot);
-                match.setScheduledTime(newTimeSlot.getStartTime());
-                newVenue.bookTimeSlot(newTimeSlot);
-                
-                System.out.println("✓ Match rescheduled successfully to " + newVenue.getName());
-                return true;
+        long started = System.nanoTime();
+        RescheduleResult result = createRescheduler(fixtures, venues).moveTo(match, newStart, venue);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        
+        if (result.isSuccessful()) {
+            logger.info("Moved match to {}: {} in {} ms", newStart, result.getMessage(), elapsedMillis);
+            if (logger.isDebugEnabled()) {
+                for (Match shifted : result.getShiftedMatches()) {
+                    logger.debug("Shifted {} vs {} to {} at {}", shifted.getTeam1().getName(), shifted.getTeam2().getName(),
+                                 shifted.getScheduledTime(), shifted.getVenue().getName());
+                }
             }
+        } else {
+            logger.warn("Failed to move match to {}: {}", newStart, result.getMessage());
         }
-        
-        System.out.println("✗ Failed to reschedule match");
-        return false;
+        return result;
     }
     
     @Override
     public Venue findOptimalVenue(Match match, List<Venue> venues) {
-        System.out.println("Finding optimal venue...");
-        
         if (venues.isEmpty()) {
             return null;
         }
         
-        // Placeholder logic: select first available venue
-        // In a real implementation, this would consider:
-        // - Distance to teams
-        // - Venue capacity
-        // - Venue facilities
-        // - Historical preferences
-        
-        for (Venue venue : venues) {
-            System.out.println("Considering venue: " + venue.getName() + " (capacity: " + venue.getCapacity() + ")");
-        }
-        
-        Venue optimal = venues.get(0);
-        System.out.println("Selected optimal venue: " + optimal.getName());
+        // Capacity fit, utilisation balance, travel distance and historical usage
+        Venue optimal = venueScoringModel.selectBest(match, venues);
+        logger.debug("Selected optimal venue: {}", optimal.getName());
         return optimal;
     }
     
     @Override
     public boolean validateSchedule(Tournament tournament) {
-        System.out.println("\n=== Validating Schedule ===");
-        
-        int scheduledMatches = 0;
-        int unscheduledMatches = 0;
+        ScheduleValidationReport report = getValidationReport(tournament);
         
-        for (Match match : tournament.getMatches()) {
-            if (match.getVenue() != null && match.getScheduledTime() != null) {
-                scheduledMatches++;
-            } else {
-                unscheduledMatches++;
-            }
-        }
-        
-        System.out.println("Scheduled matches: " + scheduledMatches);
-        System.out.println("Unscheduled matches: " + unscheduledMatches);
-        
-        // Check for venue conflicts
-        boolean hasConflicts = checkVenueConflicts(tournament);
-        
-        if (!hasConflicts && unscheduledMatches == 0) {
-            System.out.println("✓ Schedule is valid with no conflicts");
+        if (report.isValid()) {
+            logger.debug("Schedule of '{}' is valid with no conflicts: {} scheduled matches",
+                         tournament.getName(), report.getScheduledMatches());
             return true;
         } else {
-            System.out.println("⚠ Schedule has issues");
+            logger.warn("Schedule of '{}' has issues: {}", tournament.getName(), report);
             return false;
         }
     }
     
+    @Override
+    public ScheduleValidationReport getValidationReport(Tournament tournament) {
+        return createValidator().validate(tournament);
+    }
+    
     /**
-     * Finds a common time slot between two teams' preferences.
+     * Creates the rescheduler used to repair the schedule after a match moves.
      */
-    private TimeSlot findCommonTimeSlot(List<TimeSlot> team1Prefs, List<TimeSlot> team2Prefs) {
-        for (TimeSlot slot1 : team1Prefs) {
-            for (TimeSlot slot2 : team2Prefs) {
-                if (slot1.overlapsWith(slot2)) {
-                    System.out.println("Found overlapping preference window");
-                    return slot1;
-                }
+    protected IncrementalRescheduler createRescheduler(List<Match> fixtures, List<Venue> venues) {
+        return new IncrementalRescheduler(DEFAULT_MATCH_DURATION, Duration.ZERO, Duration.ZERO,
+                                          DAY_START, DAY_END, fixtures, venues);
+    }
+    
+    /**
+     * Creates the validator used to check schedules produced by this manager.
+     */
+    protected ScheduleValidator createValidator() {
+        return new ScheduleValidator();
+    }
+    
+    /**
+     * Finds the earliest time slot of the given length that lies inside both teams'
+     * preferences while some venue is free, or null if there is none.
+     */
+    private TimeSlot findCommonTimeSlot(AvailabilityIndex availability, Team team1, Team team2,
+                                        List<Venue> venues, Duration length) {
+        BitSet team1Prefs = availability.getTeamPreferences(team1);
+        BitSet team2Prefs = availability.getTeamPreferences(team2);
+        if (team1Prefs == null || team2Prefs == null) {
+            return null;
+        }
+        
+        BitSet common = (BitSet) team1Prefs.clone();
+        common.and(team2Prefs);
+        if (common.isEmpty()) {
+            return null;
+        }
+        
+        // Earliest run of common buckets long enough for the match at any free venue
+        int needed = availability.bucketsFor(length);
+        int earliest = -1;
+        for (Venue venue : venues) {
+            BitSet candidates = (BitSet) common.clone();
+            candidates.and(availability.getVenueFree(venue));
+            int start = AvailabilityIndex.findRun(candidates, 0, needed);
+            if (start >= 0 && (earliest < 0 || start < earliest)) {
+                earliest = start;
             }
         }
-        return null;
+        if (earliest < 0) {
+            return null;
+        }
+        
+        LocalDateTime start = availability.startOf(earliest);
+        return new TimeSlot(start, start.plus(length));
+    }
+    
+    /**
+     * Checks whether two matches belong to the same round. Matches without a
+     * round are each treated as a round of their own.
+     */
+    private boolean isSameRound(Match first, Match second) {
+        return first.getRound() != null && first.getRound().equals(second.getRound());
+    }
+    
+    private LocalDateTime later(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
     }
     
     /**
@@ -211,31 +321,24 @@ public class SchedulingManager implements SchedulingService {
     }
     
     /**
-     * Checks for venue booking conflicts in the tournament schedule.
+     * Finds the earliest time slot of the same length, starting no earlier than
+     * the requested one, that is free at any of the venues.
      */
-    private boolean checkVenueConflicts(Tournament tournament) {
-        List<Match> scheduledMatches = new ArrayList<>();
-        
-        for (Match match : tournament.getMatches()) {
-            if (match.getVenue() != null && match.getTimeSlot() != null) {
-                scheduledMatches.add(match);
-            }
-        }
+    private TimeSlot findNextAvailableTimeSlot(TimeSlot requestedSlot, List<Venue> venues) {
+        Duration length = Duration.between(requestedSlot.getStartTime(), requestedSlot.getEndTime());
+        Venue earliestVenue = null;
+        LocalDateTime earliestStart = null;
         
-        // Check each pair of matches for conflicts
-        for (int i = 0; i < scheduledMatches.size(); i++) {
-            for (int j = i + 1; j < scheduledMatches.size(); j++) {
-                Match match1 = scheduledMatches.get(i);
-                Match match2 = scheduledMatches.get(j);
-                
-                if (match1.getVenue().equals(match2.getVenue()) && 
-                    match1.getTimeSlot().overlapsWith(match2.getTimeSlot())) {
-                    System.out.println("⚠ Conflict detected: Same venue booked for overlapping times");
-                    return true;
-                }
+        for (Venue venue : venues) {
+            LocalDateTime start = venue.findNextAvailableStart(requestedSlot.getStartTime(), length);
+            if (earliestStart == null || start.isBefore(earliestStart)) {
+                earliestVenue = venue;
+                earliestStart = start;
             }
         }
         
-        return false;
+        TimeSlot nextSlot = new TimeSlot(earliestStart, earliestStart.plus(length));
+        nextSlot.setVenue(earliestVenue);
+        return nextSlot;
     }
 }
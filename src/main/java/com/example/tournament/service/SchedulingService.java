@@ -4,6 +4,7 @@ import com.example.tournament.model.Match;
 import com.example.tournament.model.Tournament;
 import com.example.tournament.model.Venue;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -26,6 +27,19 @@ public interface SchedulingService {
      */
     boolean rescheduleMatch(Match match, List<Venue> venues);
     
+    /**
+     * Moves a match to a new start time and venue, shifting only the fixtures that
+     * clash with it. Nothing is changed if the match or a shifted fixture cannot be placed.
+     * @param match The match to move
+     * @param newStart The new start time
+     * @param venue The new venue
+     * @param fixtures The other matches of the tournament
+     * @param venues Available venues, with their bookings loaded
+     * @return the outcome, including the fixtures that were shifted
+     */
+    RescheduleResult rescheduleMatch(Match match, LocalDateTime newStart, Venue venue,
+                                     List<Match> fixtures, List<Venue> venues);
+    
     /**
      * Finds optimal venue for a match based on team preferences and availability.
      * @param match The match to find a venue for
@@ -40,4 +54,12 @@ public interface SchedulingService {
      * @return true if schedule is valid
      */
     boolean validateSchedule(Tournament tournament);
+    
+    /**
+     * Validates the schedule and reports every venue conflict, team double-booking,
+     * rest-time violation and unscheduled match.
+     * @param tournament The tournament to validate
+     * @return report of all schedule issues
+     */
+    ScheduleValidationReport getValidationReport(Tournament tournament);
 }
@@ -0,0 +1,56 @@
+package com.example.tournament.service;
+
+/**
+ * A score to post for a match, optionally tied to the match version it was
+ * entered against.
+ */
+public class ScoreUpdate {
+    
+    private final Long matchId;
+    private final Integer team1Score;
+    private final Integer team2Score;
+    private final Long expectedVersion;
+    
+    // Constructors
+    public ScoreUpdate(Long matchId, Integer team1Score, Integer team2Score) {
+        this(matchId, team1Score, team2Score, null);
+    }
+    
+    /**
+     * @param expectedVersion the version of the match the scores were entered
+     *                        against (Match.getVersion), or null to skip the check
+     */
+    public ScoreUpdate(Long matchId, Integer team1Score, Integer team2Score, Long expectedVersion) {
+        this.matchId = matchId;
+        this.team1Score = team1Score;
+        this.team2Score = team2Score;
+        this.expectedVersion = expectedVersion;
+    }
+    
+    // Getters
+    public Long getMatchId() {
+        return matchId;
+    }
+    
+    public Integer getTeam1Score() {
+        return team1Score;
+    }
+    
+    public Integer getTeam2Score() {
+        return team2Score;
+    }
+    
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+    
+    @Override
+    public String toString() {
+        return "ScoreUpdate{" +
+                "matchId=" + matchId +
+                ", team1Score=" + team1Score +
+                ", team2Score=" + team2Score +
+                ", expectedVersion=" + expectedVersion +
+                '}';
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.tournament.service;
+
+/**
+ * Outcome of one score update in a batch.
+ */
+public class ScoreUpdateResult {
+    
+    /**
+     * What happened to the update.
+     */
+    public enum Status {
+        POSTED,
+        MATCH_NOT_FOUND,
+        INVALID_SCORE,
+        /** The match changed since the scores were entered; reload it and re-enter */
+        CONFLICT,
+        FAILED
+    }
+    
+    private final ScoreUpdate update;
+    private final Status status;
+    private final String message;
+    
+    // Constructors
+    public ScoreUpdateResult(ScoreUpdate update, Status status, String message) {
+        this.update = update;
+        this.status = status;
+        this.message = message;
+    }
+    
+    // Getters
+    public ScoreUpdate getUpdate() {
+        return update;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public boolean isSuccessful() {
+        return status == Status.POSTED;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    @Override
+    public String toString() {
+        return "ScoreUpdateResult{" +
+                "matchId=" + (update != null ? update.getMatchId() : null) +
+                ", status=" + status +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
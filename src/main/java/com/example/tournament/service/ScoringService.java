@@ -1,8 +1,28 @@
 package com.example.tournament.service;
 
+import com.example.tournament.model.KnockoutTournament;
 import com.example.tournament.model.Match;
+import com.example.tournament.model.TeamRating;
+import com.example.tournament.model.TeamStats;
+import com.example.tournament.model.Tournament;
 import com.example.tournament.util.JPAUtil;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.StaleStateException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Service class for scoring-related operations.
@@ -10,6 +30,24 @@ import jakarta.persistence.EntityManager;
  */
 public class ScoringService {
     
+    private static final Logger logger = LoggerFactory.getLogger(ScoringService.class);
+    
+    private final TeamStatsService teamStatsService = new TeamStatsService();
+    private final RatingService ratingService = new RatingService();
+    
+    /**
+     * Attempts made when a concurrent transaction updated or created the same
+     * team_stats or team_ratings rows first. A match changed concurrently is
+     * never retried, as that would overwrite the other coordinator's result.
+     */
+    private static final int MAX_ATTEMPTS = 3;
+    
+    // Unique key violations: SQLState 23505 on H2 and PostgreSQL, error 1062 with the
+    // generic SQLState 23000 on MySQL, and SQLITE_CONSTRAINT (19) without a SQLState on SQLite
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+    private static final int SQLITE_CONSTRAINT = 19;
+    
     /**
      * Posts scores for a match.
      * Implements PostScores use case.
@@ -20,34 +58,273 @@ public class ScoringService {
      * @return true if successful, false otherwise
      */
     public boolean postScores(Long matchId, Integer team1Score, Integer team2Score) {
+        return postScore(new ScoreUpdate(matchId, team1Score, team2Score)).isSuccessful();
+    }
+    
+    /**
+     * Posts scores for a match, checking the version they were entered against.
+     * If another coordinator changed the match since, nothing is written and
+     * CONFLICT is returned; without an expected version, the version read here is
+     * the one checked. A concurrent update that only touched the same team_stats
+     * or team_ratings rows is retried, as the deltas can be re-applied on fresh rows.
+     * 
+     * @param update the scores and, optionally, the expected match version
+     * @return the outcome of the update
+     */
+    public ScoreUpdateResult postScore(ScoreUpdate update) {
+        ScoreUpdateResult invalid = validateScores(update);
+        if (invalid != null) {
+            return invalid;
+        }
+        
+        for (int attempt = 1; ; attempt++) {
+            EntityManager em = JPAUtil.getEntityManager();
+            
+            try {
+                em.getTransaction().begin();
+                
+                Match match = em.find(Match.class, update.getMatchId());
+                ScoreUpdateResult rejected = validateMatch(update, match);
+                if (rejected != null) {
+                    em.getTransaction().rollback();
+                    return rejected;
+                }
+                
+                TeamStatsService.CountedResult before = TeamStatsService.CountedResult.of(match);
+                boolean previouslyCompleted = match.getStatus() == Match.MatchStatus.COMPLETED;
+                Integer previousTeam1Score = match.getTeam1Score();
+                Integer previousTeam2Score = match.getTeam2Score();
+                
+                // Update scores (implements UpdateScore)
+                match.setTeam1Score(update.getTeam1Score());
+                match.setTeam2Score(update.getTeam2Score());
+                
+                // Update game status (implements UpdateGame)
+                match.setStatus(Match.MatchStatus.COMPLETED);
+                
+                if (!writeMatches(em)) {
+                    em.getTransaction().rollback();
+                    return new ScoreUpdateResult(update, ScoreUpdateResult.Status.CONFLICT,
+                                                 "Match " + match.getId() + " was changed by another user while the scores were posted");
+                }
+                
+                // Keep team_stats in step with the match in the same transaction
+                teamStatsService.applyChange(em, match.getTournament(), before,
+                                             TeamStatsService.CountedResult.of(match));
+                ratingService.applyResults(em, Collections.singletonList(match));
+                
+                // The last result of a knockout round draws the next round; new matches cascade from the tournament
+                List<Match> created = Collections.emptyList();
+                if (match.getTournament() instanceof KnockoutTournament) {
+                    created = ((KnockoutTournament) match.getTournament()).advanceToNextRound();
+                }
+                em.getTransaction().commit();
+                
+                // Reverses the previous result, if any, and counts the new one
+                MatchResultRecorded event =
+                    MatchResultRecorded.of(match, previouslyCompleted, previousTeam1Score, previousTeam2Score);
+                StandingsEngine.getInstance().recordResult(event);
+                DomainEventBus.getInstance().publish(event);
+                for (Match next : created) {
+                    DomainEventBus.getInstance().publish(MatchCreated.of(next));
+                }
+                return new ScoreUpdateResult(update, ScoreUpdateResult.Status.POSTED, "Scores posted");
+                
+            } catch (Exception e) {
+                if (em.getTransaction().isActive()) {
+                    em.getTransaction().rollback();
+                }
+                if (isConflict(e) && attempt < MAX_ATTEMPTS) {
+                    logger.info("Concurrent update of match {}, retrying (attempt {})", update.getMatchId(), attempt + 1);
+                    continue;
+                }
+                e.printStackTrace();
+                return failed(update, e);
+                
+            } finally {
+                em.close();
+            }
+        }
+    }
+    
+    /**
+     * Records match results.
+     * Implements RecordMatchResults use case.
+     * This includes both UpdateGame and UpdateScore.
+     * 
+     * @param matchId the match ID
+     * @param team1Score the score for team 1
+     * @param team2Score the score for team 2
+     * @return true if successful, false otherwise
+     */
+    public boolean recordMatchResults(Long matchId, Integer team1Score, Integer team2Score) {
+        return postScores(matchId, team1Score, team2Score);
+    }
+    
+    /**
+     * Posts many scores in one transaction, e.g. a weekend's results entered together.
+     * The matches are loaded with one query and the updates are flushed as JDBC
+     * batches (hibernate.jdbc.batch_size); team_stats rows are adjusted with one
+     * query per tournament. Updates that name an unknown match, lack a valid score
+     * or were entered against an older version of their match are skipped and
+     * reported without affecting the rest. If another coordinator changes one of
+     * the matches while the batch is written, no score is posted and every
+     * applicable update is reported as CONFLICT. A batch that only loses a race
+     * on team_stats or team_ratings rows is retried; if it still fails, no score
+     * is posted and every applicable update is reported as CONFLICT or FAILED.
+     * 
+     * @param updates the scores to post, applied in order
+     * @return one result per update, in the same order
+     */
+    public List<ScoreUpdateResult> postScoresBatch(List<ScoreUpdate> updates) {
+        List<ScoreUpdateResult> results = new ArrayList<>(updates.size());
+        for (int attempt = 1; ; attempt++) {
+            results.clear();
+            List<MatchResultRecorded> events = new ArrayList<>();
+            List<Match> created = new ArrayList<>();
+            try {
+                List<Match> posted = applyBatch(updates, results, events, created);
+                
+                for (MatchResultRecorded event : events) {
+                    StandingsEngine.getInstance().recordResult(event);
+                    DomainEventBus.getInstance().publish(event);
+                }
+                for (Match next : created) {
+                    DomainEventBus.getInstance().publish(MatchCreated.of(next));
+                }
+                logger.info("Posted {} of {} scores in one batch", posted.size(), updates.size());
+                return results;
+                
+            } catch (Exception e) {
+                if (isConflict(e) && attempt < MAX_ATTEMPTS) {
+                    logger.info("Concurrent update during score batch, retrying (attempt {})", attempt + 1);
+                    continue;
+                }
+                e.printStackTrace();
+                
+                // Nothing was committed
+                for (int i = 0; i < results.size(); i++) {
+                    ScoreUpdateResult result = results.get(i);
+                    if (result.isSuccessful()) {
+                        results.set(i, failed(result.getUpdate(), e));
+                    }
+                }
+                for (int i = results.size(); i < updates.size(); i++) {
+                    results.add(failed(updates.get(i), e));
+                }
+                return results;
+            }
+        }
+    }
+    
+    /**
+     * Applies a batch in one transaction, adding each update's result and the
+     * event to publish for it, and the knockout matches the results drew.
+     * 
+     * @return the matches whose scores were committed
+     */
+    private List<Match> applyBatch(List<ScoreUpdate> updates, List<ScoreUpdateResult> results,
+                                   List<MatchResultRecorded> events, List<Match> created) {
+        Set<Long> matchIds = new HashSet<>();
+        for (ScoreUpdate update : updates) {
+            if (update.getMatchId() != null) {
+                matchIds.add(update.getMatchId());
+            }
+        }
+        if (matchIds.isEmpty()) {
+            for (ScoreUpdate update : updates) {
+                ScoreUpdateResult invalid = validateScores(update);
+                results.add(invalid != null ? invalid : validateMatch(update, null));
+            }
+            return Collections.emptyList();
+        }
+        
         EntityManager em = JPAUtil.getEntityManager();
+        List<Match> posted = new ArrayList<>();
         
         try {
             em.getTransaction().begin();
             
-            Match match = em.find(Match.class, matchId);
-            if (match == null) {
-                em.getTransaction().rollback();
-                return false;
+            Map<Long, Match> matches = new HashMap<>();
+            for (Match match : FetchPlans.load(em.createQuery(
+                    "SELECT m FROM Match m WHERE m.id IN :matchIds", Match.class), em, FetchPlans.MATCH_DETAILS)
+                    .setParameter("matchIds", matchIds)
+                    .getResultList()) {
+                matches.put(match.getId(), match);
+            }
+            
+            // Results reversed and counted per tournament, applied once all scores are set
+            Map<Tournament, List<TeamStatsService.CountedResult>> reversed = new IdentityHashMap<>();
+            Map<Tournament, List<TeamStatsService.CountedResult>> counted = new IdentityHashMap<>();
+            for (ScoreUpdate update : updates) {
+                Match match = update.getMatchId() != null ? matches.get(update.getMatchId()) : null;
+                ScoreUpdateResult invalid = validateScores(update);
+                if (invalid == null) {
+                    invalid = validateMatch(update, match);
+                }
+                if (invalid != null) {
+                    results.add(invalid);
+                    continue;
+                }
+                
+                TeamStatsService.CountedResult before = TeamStatsService.CountedResult.of(match);
+                boolean previouslyCompleted = match.getStatus() == Match.MatchStatus.COMPLETED;
+                Integer previousTeam1Score = match.getTeam1Score();
+                Integer previousTeam2Score = match.getTeam2Score();
+                match.setTeam1Score(update.getTeam1Score());
+                match.setTeam2Score(update.getTeam2Score());
+                match.setStatus(Match.MatchStatus.COMPLETED);
+                TeamStatsService.CountedResult after = TeamStatsService.CountedResult.of(match);
+                events.add(MatchResultRecorded.of(match, previouslyCompleted, previousTeam1Score, previousTeam2Score));
+                
+                Tournament tournament = match.getTournament();
+                if (tournament != null && (before == null || !before.sameAs(after))) {
+                    if (before != null) {
+                        reversed.computeIfAbsent(tournament, t -> new ArrayList<>()).add(before);
+                    }
+                    if (after != null) {
+                        counted.computeIfAbsent(tournament, t -> new ArrayList<>()).add(after);
+                    }
+                }
+                posted.add(match);
+                results.add(new ScoreUpdateResult(update, ScoreUpdateResult.Status.POSTED, "Scores posted"));
             }
             
-            // Update scores (implements UpdateScore)
-            match.setTeam1Score(team1Score);
-            match.setTeam2Score(team2Score);
+            if (!writeMatches(em)) {
+                em.getTransaction().rollback();
+                for (int i = 0; i < results.size(); i++) {
+                    ScoreUpdateResult result = results.get(i);
+                    if (result.isSuccessful()) {
+                        results.set(i, new ScoreUpdateResult(result.getUpdate(), ScoreUpdateResult.Status.CONFLICT,
+                                                             "A match in the batch was changed by another user while the scores were posted"));
+                    }
+                }
+                events.clear();
+                return Collections.emptyList();
+            }
             
-            // Update game status (implements UpdateGame)
-            match.setStatus(Match.MatchStatus.COMPLETED);
+            // Ratings depend on order, so they follow the order of the updates
+            ratingService.applyResults(em, posted);
             
-            em.merge(match);
+            Set<Tournament> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+            changed.addAll(reversed.keySet());
+            changed.addAll(counted.keySet());
+            for (Tournament tournament : changed) {
+                teamStatsService.applyChanges(em, tournament,
+                                              reversed.getOrDefault(tournament, List.of()),
+                                              counted.getOrDefault(tournament, List.of()));
+                if (tournament instanceof KnockoutTournament) {
+                    created.addAll(((KnockoutTournament) tournament).advanceToNextRound());
+                }
+            }
             em.getTransaction().commit();
-            return true;
+            return posted;
             
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             if (em.getTransaction().isActive()) {
                 em.getTransaction().rollback();
             }
-            e.printStackTrace();
-            return false;
+            throw e;
             
         } finally {
             em.close();
@@ -55,16 +332,115 @@ public class ScoringService {
     }
     
     /**
-     * Records match results.
-     * Implements RecordMatchResults use case.
-     * This includes both UpdateGame and UpdateScore.
+     * Checks the scores of an update.
      * 
-     * @param matchId the match ID
-     * @param team1Score the score for team 1
-     * @param team2Score the score for team 2
-     * @return true if successful, false otherwise
+     * @return the failed result, or null if the scores can be posted
      */
-    public boolean recordMatchResults(Long matchId, Integer team1Score, Integer team2Score) {
-        return postScores(matchId, team1Score, team2Score);
+    private static ScoreUpdateResult validateScores(ScoreUpdate update) {
+        if (update.getTeam1Score() == null || update.getTeam2Score() == null
+                || update.getTeam1Score() < 0 || update.getTeam2Score() < 0) {
+            return new ScoreUpdateResult(update, ScoreUpdateResult.Status.INVALID_SCORE,
+                                         "Both scores must be given and not negative");
+        }
+        return null;
+    }
+    
+    /**
+     * Checks an update against its loaded match, including the version the
+     * scores were entered against and the rules of knockout results.
+     * 
+     * @return the failed result, or null if the update can be applied
+     */
+    private static ScoreUpdateResult validateMatch(ScoreUpdate update, Match match) {
+        if (match == null) {
+            return new ScoreUpdateResult(update, ScoreUpdateResult.Status.MATCH_NOT_FOUND,
+                                         "No match with ID " + update.getMatchId());
+        }
+        if (update.getExpectedVersion() != null && !update.getExpectedVersion().equals(match.getVersion())) {
+            return new ScoreUpdateResult(update, ScoreUpdateResult.Status.CONFLICT,
+                                         "Match " + match.getId() + " was changed by another user since the scores were entered");
+        }
+        if (match.getTournament() instanceof KnockoutTournament) {
+            String reason = ((KnockoutTournament) match.getTournament())
+                .checkResult(match, update.getTeam1Score(), update.getTeam2Score());
+            if (reason != null) {
+                return new ScoreUpdateResult(update, ScoreUpdateResult.Status.INVALID_SCORE, reason);
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Flushes the score changes on their own, before any team_stats or team_ratings
+     * row is touched, so a version failure here can only mean that another
+     * coordinator changed a match since it was read. The rows locked by the flush
+     * cannot be changed by others until commit, so later failures are never the match's.
+     * 
+     * @return false if a match was changed concurrently
+     */
+    private static boolean writeMatches(EntityManager em) {
+        try {
+            em.flush();
+            return true;
+        } catch (PersistenceException e) {
+            if (isConflict(e)) {
+                logger.info("Match changed concurrently, not retrying: {}", e.getMessage());
+                return false;
+            }
+            throw e;
+        }
+    }
+    
+    private static ScoreUpdateResult failed(ScoreUpdate update, Exception e) {
+        if (isConflict(e)) {
+            return new ScoreUpdateResult(update, ScoreUpdateResult.Status.CONFLICT,
+                                         "Standings or ratings were changed concurrently: " + e.getMessage());
+        }
+        return new ScoreUpdateResult(update, ScoreUpdateResult.Status.FAILED, "Scores not posted: " + e.getMessage());
+    }
+    
+    /**
+     * Checks whether a failure was caused by a concurrent update detected through
+     * a version column, or by a concurrent transaction creating the same team_stats
+     * or team_ratings row first. Once the matches are written, only team_stats and
+     * team_ratings rows are left to fail this way.
+     */
+    private static boolean isConflict(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockException || cause instanceof StaleStateException
+                || (cause instanceof ConstraintViolationException && isDuplicateStatsRow((ConstraintViolationException) cause))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Checks whether a constraint violation is the unique key of team_stats or
+     * team_ratings; NOT NULL and foreign key failures are not races and are
+     * reported as they are.
+     */
+    private static boolean isDuplicateStatsRow(ConstraintViolationException e) {
+        if (!isUniqueViolation(e)) {
+            return false;
+        }
+        // SQLite names the table and columns instead of the constraint
+        String constraint = e.getConstraintName();
+        String message = e.getSQLException().getMessage();
+        String text = ((constraint != null ? constraint : "") + " " + (message != null ? message : ""))
+            .toLowerCase(Locale.ROOT);
+        return text.contains(TeamRating.UNIQUE_TEAM) || text.contains(TeamStats.UNIQUE_TOURNAMENT_TEAM)
+            || (e.getSQLState() == null && (text.contains("team_ratings.") || text.contains("team_stats.")));
+    }
+    
+    private static boolean isUniqueViolation(ConstraintViolationException e) {
+        String state = e.getSQLState();
+        int code = e.getErrorCode();
+        if (state == null) {
+            // SQLite reports the extended result code, e.g. 2067 for SQLITE_CONSTRAINT_UNIQUE
+            String message = e.getSQLException().getMessage();
+            return (code & 0xFF) == SQLITE_CONSTRAINT && message != null && message.contains("UNIQUE");
+        }
+        return UNIQUE_VIOLATION.equals(state) || (state.startsWith("23") && code == MYSQL_DUPLICATE_ENTRY);
     }
 }
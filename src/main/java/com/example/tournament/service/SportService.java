@@ -26,6 +26,7 @@ public class SportService {
                 "SELECT s FROM Sport s ORDER BY s.name",
                 Sport.class
             );
+            ReferenceDataCache.cacheable(query, ReferenceDataCache.SPORTS);
             return query.getResultList();
             
         } finally {
@@ -64,6 +65,7 @@ public class SportService {
                 "SELECT s FROM Sport s WHERE s.name = :name",
                 Sport.class
             );
+            ReferenceDataCache.cacheable(query, ReferenceDataCache.SPORTS);
             query.setParameter("name", name);
             List<Sport> results = query.getResultList();
             return results.isEmpty() ? null : results.get(0);
@@ -88,6 +90,7 @@ public class SportService {
             em.persist(sport);
             
             em.getTransaction().commit();
+            ReferenceDataCache.evict(em, ReferenceDataCache.SPORTS);
             return sport;
             
         } catch (Exception e) {
@@ -0,0 +1,91 @@
+package com.example.tournament.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the standings of every tournament that has been looked at in memory, as a
+ * view of the team_stats table.
+ * 
+ * A tournament's table is loaded from its team_stats rows the first time it is
+ * read. From then on the services pass in each committed result change, and the
+ * table applies it as the same delta the transaction applied to team_stats, so
+ * reading standings never rescans the matches. team_stats stays the only source
+ * of truth: rebuilding it, or changing the teams or rules of a tournament,
+ * discards the view, which is loaded again on the next read.
+ */
+public class StandingsEngine {
+    
+    private static final Logger logger = LoggerFactory.getLogger(StandingsEngine.class);
+    private static final StandingsEngine INSTANCE = new StandingsEngine(new TeamStatsService());
+    
+    private final TeamStatsService teamStatsService;
+    private final Map<Long, StandingsTable> tables = new ConcurrentHashMap<>();
+    
+    // Constructors
+    StandingsEngine(TeamStatsService teamStatsService) {
+        this.teamStatsService = teamStatsService;
+    }
+    
+    /**
+     * Gets the engine shared by the services and dialogs.
+     */
+    public static StandingsEngine getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Gets the standings of a tournament, loading them from team_stats
+     * on first use.
+     * @return the standings, or null if the tournament does not exist
+     */
+    public StandingsTable getStandings(Long tournamentId) {
+        return tables.computeIfAbsent(tournamentId, this::load);
+    }
+    
+    /**
+     * Applies a committed change of a match's result to the standings of its
+     * tournament. Tournaments whose standings have not been loaded yet are
+     * skipped; they will include the result when they are loaded.
+     */
+    public void recordResult(MatchResultRecorded event) {
+        StandingsTable table = event.getTournamentId() != null ? tables.get(event.getTournamentId()) : null;
+        if (table != null && !table.applyResult(event)) {
+            // A team the table does not know yet; load it again instead
+            invalidate(event.getTournamentId());
+        }
+    }
+    
+    /**
+     * Reverses the result of a match that was deleted.
+     */
+    public void removeResult(MatchDeleted event) {
+        StandingsTable table = event.getTournamentId() != null ? tables.get(event.getTournamentId()) : null;
+        if (table != null) {
+            table.removeResult(event.getMatchId());
+        }
+    }
+    
+    /**
+     * Discards the standings of a tournament, e.g. after its teams or points
+     * rules changed; they are loaded again on the next read.
+     */
+    public void invalidate(Long tournamentId) {
+        if (tournamentId != null) {
+            tables.remove(tournamentId);
+        }
+    }
+    
+    private StandingsTable load(Long tournamentId) {
+        long started = System.nanoTime();
+        StandingsTable table = teamStatsService.loadTable(tournamentId);
+        if (table != null) {
+            logger.debug("Loaded standings of tournament {} for {} teams in {} ms", tournamentId,
+                         table.getTeamCount(), (System.nanoTime() - started) / 1_000_000);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.Team;
+
+/**
+ * One team's line of a standings table at the time it was read.
+ */
+public class StandingsRow {
+    
+    private final int rank;
+    private final Team team;
+    private final int played;
+    private final int wins;
+    private final int draws;
+    private final int losses;
+    private final int goalsFor;
+    private final int goalsAgainst;
+    private final int points;
+    
+    // Constructors
+    public StandingsRow(int rank, Team team, int played, int wins, int draws, int losses,
+                        int goalsFor, int goalsAgainst, int points) {
+        this.rank = rank;
+        this.team = team;
+        this.played = played;
+        this.wins = wins;
+        this.draws = draws;
+        this.losses = losses;
+        this.goalsFor = goalsFor;
+        this.goalsAgainst = goalsAgainst;
+        this.points = points;
+    }
+    
+    // Getters
+    public int getRank() {
+        return rank;
+    }
+    
+    public Team getTeam() {
+        return team;
+    }
+    
+    public int getPlayed() {
+        return played;
+    }
+    
+    public int getWins() {
+        return wins;
+    }
+    
+    public int getDraws() {
+        return draws;
+    }
+    
+    public int getLosses() {
+        return losses;
+    }
+    
+    public int getGoalsFor() {
+        return goalsFor;
+    }
+    
+    public int getGoalsAgainst() {
+        return goalsAgainst;
+    }
+    
+    public int getGoalDifference() {
+        return goalsFor - goalsAgainst;
+    }
+    
+    public int getPoints() {
+        return points;
+    }
+    
+    @Override
+    public String toString() {
+        return "StandingsRow{" +
+                "rank=" + rank +
+                ", team=" + (team != null ? team.getName() : null) +
+                ", played=" + played +
+                ", wins=" + wins +
+                ", draws=" + draws +
+                ", losses=" + losses +
+                ", goalsFor=" + goalsFor +
+                ", goalsAgainst=" + goalsAgainst +
+                ", points=" + points +
+                '}';
+    }
+}
@@ -0,0 +1,404 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Standings of one tournament, kept up to date one result at a time.
+ * 
+ * Each result is applied as a delta to the totals of the two teams involved, and
+ * the teams are kept in a sorted set ordered by the RankingPolicy criteria before
+ * head-to-head, so re-ranking after a result costs O(log n). Head-to-head only
+ * reorders groups still tied on those criteria, when the table is read after a
+ * change. The table remembers the result it applied for every match, so a
+ * corrected score first reverses exactly what was counted before.
+ */
+public class StandingsTable {
+    
+    private final int pointsForWin;
+    private final int pointsForDraw;
+    private final int pointsForLoss;
+    private final RankingPolicy rankingPolicy;
+    
+    private final Map<Object, Entry> entries = new HashMap<>();
+    private final List<Entry> bySequence = new ArrayList<>();
+    private final Map<Object, Result> applied = new HashMap<>();
+    private final TreeSet<Entry> ordered;
+    private int[] ranking;
+    
+    // Constructors
+    public StandingsTable(int pointsForWin, int pointsForDraw, int pointsForLoss) {
+        this(pointsForWin, pointsForDraw, pointsForLoss, RankingPolicy.standard());
+    }
+    
+    public StandingsTable(int pointsForWin, int pointsForDraw, int pointsForLoss, RankingPolicy rankingPolicy) {
+        this.pointsForWin = pointsForWin;
+        this.pointsForDraw = pointsForDraw;
+        this.pointsForLoss = pointsForLoss;
+        this.rankingPolicy = rankingPolicy;
+        
+        Snapshot totals = new Snapshot();
+        this.ordered = new TreeSet<>((a, b) -> {
+            int compare = rankingPolicy.compare(totals, a.sequence, b.sequence);
+            return compare != 0 ? compare : Integer.compare(a.sequence, b.sequence);
+        });
+    }
+    
+    /**
+     * Creates an empty table using the tournament's ranking policy and its points
+     * for a win, draw and loss where it defines them.
+     */
+    public static StandingsTable empty(Tournament tournament) {
+        int win = 3;
+        int draw = 1;
+        int loss = 0;
+        if (tournament instanceof LeagueTournament) {
+            LeagueTournament league = (LeagueTournament) tournament;
+            win = valueOr(league.getPointsForWin(), win);
+            draw = valueOr(league.getPointsForDraw(), draw);
+            loss = valueOr(league.getPointsForLoss(), loss);
+        } else if (tournament instanceof RoundRobinTournament) {
+            RoundRobinTournament roundRobin = (RoundRobinTournament) tournament;
+            win = valueOr(roundRobin.getPointsForWin(), win);
+            draw = valueOr(roundRobin.getPointsForDraw(), draw);
+            loss = valueOr(roundRobin.getPointsForLoss(), loss);
+        }
+        return new StandingsTable(win, draw, loss, tournament.getRankingPolicy());
+    }
+    
+    /**
+     * Builds the standings of a tournament from its teams and completed matches.
+     */
+    public static StandingsTable of(Tournament tournament) {
+        StandingsTable table = empty(tournament);
+        for (Team team : tournament.getTeams()) {
+            table.addTeam(team);
+        }
+        for (Match match : tournament.getMatches()) {
+            table.applyResult(match);
+        }
+        return table;
+    }
+    
+    /**
+     * Adds a team with no results yet; does nothing if the team is already listed.
+     */
+    public synchronized void addTeam(Team team) {
+        entryFor(team);
+    }
+    
+    /**
+     * Adds a team with the totals of its team_stats row; does nothing if the team
+     * is already listed.
+     */
+    public synchronized void addTeam(TeamStats stats) {
+        if (entries.containsKey(EntityKeys.of(stats.getTeam()))) {
+            return;
+        }
+        Entry entry = entryFor(stats.getTeam());
+        ordered.remove(entry);
+        entry.played = stats.getMatchesPlayed();
+        entry.wins = stats.getWins();
+        entry.draws = stats.getDraws();
+        entry.losses = stats.getLosses();
+        entry.goalsFor = stats.getGoalsFor();
+        entry.goalsAgainst = stats.getGoalsAgainst();
+        entry.points = stats.getPoints();
+        ordered.add(entry);
+    }
+    
+    /**
+     * Records a result that the teams' totals already include, so that it counts
+     * towards head-to-head and can be reversed when it changes. Results of teams
+     * not in the table are ignored.
+     */
+    synchronized void addCountedResult(Long matchId, Long team1Id, Long team2Id, int score1, int score2) {
+        Entry first = entries.get(team1Id);
+        Entry second = entries.get(team2Id);
+        if (first != null && second != null) {
+            applied.put(matchId, new Result(first, second, score1, score2));
+            ranking = null;
+        }
+    }
+    
+    /**
+     * Brings the table in line with the match: reverses the result previously
+     * counted for it, if any, then counts its current result if it is completed.
+     */
+    public synchronized void applyResult(Match match) {
+        reverse(EntityKeys.of(match));
+        if (isCounted(match)) {
+            Result result = new Result(entryFor(match.getTeam1()), entryFor(match.getTeam2()),
+                                       match.getTeam1Score(), match.getTeam2Score());
+            apply(result, 1);
+            applied.put(EntityKeys.of(match), result);
+        }
+    }
+    
+    /**
+     * Brings the table in line with a committed change of a match's result, the
+     * same way as applyResult(Match).
+     * 
+     * @return false if a team of the result is not in the table, which is left unchanged
+     */
+    public synchronized boolean applyResult(MatchResultRecorded event) {
+        Entry first = null;
+        Entry second = null;
+        boolean counted = event.isCompleted() && event.getTeam1Id() != null && event.getTeam2Id() != null
+            && event.getTeam1Score() != null && event.getTeam2Score() != null;
+        if (counted) {
+            first = entries.get(event.getTeam1Id());
+            second = entries.get(event.getTeam2Id());
+            if (first == null || second == null) {
+                return false;
+            }
+        }
+        
+        reverse(event.getMatchId());
+        if (counted) {
+            Result result = new Result(first, second, event.getTeam1Score(), event.getTeam2Score());
+            apply(result, 1);
+            applied.put(event.getMatchId(), result);
+        }
+        return true;
+    }
+    
+    /**
+     * Reverses the result counted for the match, e.g. when it is deleted.
+     */
+    public synchronized void removeResult(Match match) {
+        reverse(EntityKeys.of(match));
+    }
+    
+    /**
+     * Reverses the result counted for the match with the ID, if any.
+     */
+    public synchronized void removeResult(Long matchId) {
+        reverse(matchId);
+    }
+    
+    private void reverse(Object matchKey) {
+        Result previous = applied.remove(matchKey);
+        if (previous != null) {
+            apply(previous, -1);
+        }
+    }
+    
+    /**
+     * Gets the ranked standings.
+     */
+    public synchronized List<StandingsRow> getRows() {
+        List<StandingsRow> rows = new ArrayList<>(bySequence.size());
+        int rank = 1;
+        for (int team : ranking()) {
+            Entry e = bySequence.get(team);
+            rows.add(new StandingsRow(rank++, e.team, e.played, e.wins, e.draws, e.losses,
+                                      e.goalsFor, e.goalsAgainst, e.points));
+        }
+        return rows;
+    }
+    
+    /**
+     * Gets the points of every team in ranked order.
+     */
+    public synchronized Map<Team, Integer> getPoints() {
+        Map<Team, Integer> points = new LinkedHashMap<>();
+        for (int team : ranking()) {
+            Entry e = bySequence.get(team);
+            points.put(e.team, e.points);
+        }
+        return points;
+    }
+    
+    public synchronized int getTeamCount() {
+        return entries.size();
+    }
+    
+    /**
+     * Gets the points a team earns for a match it finished with the given score.
+     */
+    public int pointsFor(int scored, int conceded) {
+        if (scored > conceded) {
+            return pointsForWin;
+        }
+        return scored < conceded ? pointsForLoss : pointsForDraw;
+    }
+    
+    public RankingPolicy getRankingPolicy() {
+        return rankingPolicy;
+    }
+    
+    private void apply(Result result, int sign) {
+        Entry first = result.first;
+        Entry second = result.second;
+        ordered.remove(first);
+        ordered.remove(second);
+        
+        first.add(result.firstScore, result.secondScore, sign);
+        second.add(result.secondScore, result.firstScore, sign);
+        
+        ordered.add(first);
+        ordered.add(second);
+        ranking = null;
+    }
+    
+    private Entry entryFor(Team team) {
+        return entries.computeIfAbsent(EntityKeys.of(team), k -> {
+            Entry entry = new Entry(team, bySequence.size());
+            bySequence.add(entry);
+            ordered.add(entry);
+            ranking = null;
+            return entry;
+        });
+    }
+    
+    /**
+     * Gets the sequence numbers of the teams in ranked order, breaking the ties
+     * of the sorted set again if anything changed since the last read.
+     */
+    private int[] ranking() {
+        if (ranking == null) {
+            int[] order = new int[ordered.size()];
+            int i = 0;
+            for (Entry entry : ordered) {
+                order[i++] = entry.sequence;
+            }
+            rankingPolicy.breakTies(new Snapshot(), order);
+            ranking = order;
+        }
+        return ranking;
+    }
+    
+    static boolean isCounted(Match match) {
+        return match.getStatus() == Match.MatchStatus.COMPLETED
+            && match.getTeam1() != null && match.getTeam2() != null
+            && match.getTeam1Score() != null && match.getTeam2Score() != null;
+    }
+    
+    private static int valueOr(Integer value, int fallback) {
+        return value != null ? value : fallback;
+    }
+    
+    /**
+     * The table as read by the ranking policy, with teams indexed by sequence.
+     */
+    private final class Snapshot implements RankingPolicy.Standings {
+        private Result[] results;
+        
+        @Override
+        public int getTeamCount() {
+            return bySequence.size();
+        }
+        
+        @Override
+        public int getPoints(int team) {
+            return bySequence.get(team).points;
+        }
+        
+        @Override
+        public int getGoalsFor(int team) {
+            return bySequence.get(team).goalsFor;
+        }
+        
+        @Override
+        public int getGoalsAgainst(int team) {
+            return bySequence.get(team).goalsAgainst;
+        }
+        
+        @Override
+        public int getWins(int team) {
+            return bySequence.get(team).wins;
+        }
+        
+        @Override
+        public int getResultCount() {
+            // Only needed for head-to-head, so copied on first use
+            if (results == null) {
+                results = applied.values().toArray(new Result[0]);
+            }
+            return results.length;
+        }
+        
+        @Override
+        public int getHomeTeam(int result) {
+            return results[result].first.sequence;
+        }
+        
+        @Override
+        public int getAwayTeam(int result) {
+            return results[result].second.sequence;
+        }
+        
+        @Override
+        public int getHomeScore(int result) {
+            return results[result].firstScore;
+        }
+        
+        @Override
+        public int getAwayScore(int result) {
+            return results[result].secondScore;
+        }
+        
+        @Override
+        public int pointsFor(int scored, int conceded) {
+            return StandingsTable.this.pointsFor(scored, conceded);
+        }
+    }
+    
+    /**
+     * Running totals of one team. Must be taken out of the sorted set while it changes.
+     */
+    private final class Entry {
+        final Team team;
+        final int sequence;
+        int played;
+        int wins;
+        int draws;
+        int losses;
+        int goalsFor;
+        int goalsAgainst;
+        int points;
+        
+        Entry(Team team, int sequence) {
+            this.team = team;
+            this.sequence = sequence;
+        }
+        
+        void add(int scored, int conceded, int sign) {
+            played += sign;
+            goalsFor += sign * scored;
+            goalsAgainst += sign * conceded;
+            points += sign * pointsFor(scored, conceded);
+            if (scored > conceded) {
+                wins += sign;
+            } else if (scored < conceded) {
+                losses += sign;
+            } else {
+                draws += sign;
+            }
+        }
+    }
+    
+    /**
+     * A result as it was counted, so that it can be reversed exactly.
+     */
+    private static final class Result {
+        final Entry first;
+        final Entry second;
+        final int firstScore;
+        final int secondScore;
+        
+        Result(Entry first, Entry second, int firstScore, int secondScore) {
+            this.first = first;
+            this.second = second;
+            this.firstScore = firstScore;
+            this.secondScore = secondScore;
+        }
+    }
+}
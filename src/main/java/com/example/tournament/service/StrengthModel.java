@@ -0,0 +1,116 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.RankingPolicy;
+
+import java.util.SplittableRandom;
+
+/**
+ * Attack and defence strength per team, fitted from completed results, giving the
+ * expected goals of each side of a match.
+ * 
+ * A team's attack is its goals scored per match relative to the average and its
+ * defence its goals conceded per match relative to the average; a side's goals are
+ * Poisson distributed with mean average * attack * opposing defence. Every team
+ * starts with PRIOR_MATCHES of average results, so teams that played little stay
+ * close to average instead of being judged on one or two scores.
+ */
+final class StrengthModel {
+    
+    static final double DEFAULT_GOALS_PER_MATCH = 1.4;
+    static final int PRIOR_MATCHES = 3;
+    
+    private final double average;
+    private final double[] attack;
+    private final double[] defence;
+    
+    // Constructors
+    private StrengthModel(double average, double[] attack, double[] defence) {
+        this.average = average;
+        this.attack = attack;
+        this.defence = defence;
+    }
+    
+    /**
+     * Fits the model to the results counted in a table.
+     */
+    static StrengthModel fit(RankingPolicy.Standings standings) {
+        int teamCount = standings.getTeamCount();
+        int resultCount = standings.getResultCount();
+        
+        // Goals per team per match; every result counts for both teams
+        long goals = 0;
+        for (int r = 0; r < resultCount; r++) {
+            goals += standings.getHomeScore(r) + standings.getAwayScore(r);
+        }
+        double average = resultCount > 0 && goals > 0 ? goals / (2.0 * resultCount) : DEFAULT_GOALS_PER_MATCH;
+        
+        int[] played = new int[teamCount];
+        for (int r = 0; r < resultCount; r++) {
+            played[standings.getHomeTeam(r)]++;
+            played[standings.getAwayTeam(r)]++;
+        }
+        
+        double[] attack = new double[teamCount];
+        double[] defence = new double[teamCount];
+        double prior = PRIOR_MATCHES * average;
+        for (int team = 0; team < teamCount; team++) {
+            double matches = played[team] + PRIOR_MATCHES;
+            attack[team] = (standings.getGoalsFor(team) + prior) / matches / average;
+            defence[team] = (standings.getGoalsAgainst(team) + prior) / matches / average;
+        }
+        return new StrengthModel(average, attack, defence);
+    }
+    
+    /**
+     * Gets the expected goals of a team against an opponent.
+     */
+    double expectedGoals(int team, int opponent) {
+        return average * attack[team] * defence[opponent];
+    }
+    
+    /**
+     * Gets the cumulative Poisson probabilities of scoring 0..maxGoals goals, with
+     * the last entry taking the whole tail, for sampling with one uniform draw.
+     */
+    static double[] cumulative(double expectedGoals, int maxGoals) {
+        double[] cdf = new double[maxGoals + 1];
+        double p = Math.exp(-expectedGoals);
+        double sum = 0;
+        for (int k = 0; k < maxGoals; k++) {
+            sum += p;
+            cdf[k] = sum;
+            p *= expectedGoals / (k + 1);
+        }
+        cdf[maxGoals] = 1.0;
+        return cdf;
+    }
+    
+    /**
+     * Draws a number of goals from cumulative probabilities stored at offset in cdf.
+     */
+    static int sample(double[] cdf, int offset, SplittableRandom random) {
+        double u = random.nextDouble();
+        int goals = 0;
+        while (u >= cdf[offset + goals]) {
+            goals++;
+        }
+        return goals;
+    }
+    
+    /**
+     * Draws a number of goals directly, for matches whose teams are only known
+     * during the simulation.
+     */
+    static int sample(double expectedGoals, SplittableRandom random) {
+        double u = random.nextDouble();
+        double p = Math.exp(-expectedGoals);
+        double sum = p;
+        int goals = 0;
+        while (u >= sum && p > 0) {
+            goals++;
+            p *= expectedGoals / goals;
+            sum += p;
+        }
+        return goals;
+    }
+}
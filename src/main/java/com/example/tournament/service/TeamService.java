@@ -29,6 +29,7 @@ public class TeamService {
             em.persist(team);
             
             em.getTransaction().commit();
+            ReferenceDataCache.evict(em, ReferenceDataCache.TEAMS);
             return true;
             
         } catch (Exception e) {
@@ -57,6 +58,7 @@ public class TeamService {
             em.getTransaction().begin();
             em.merge(team);
             em.getTransaction().commit();
+            ReferenceDataCache.evict(em, ReferenceDataCache.TEAMS);
             return true;
             
         } catch (Exception e) {
@@ -84,6 +86,7 @@ public class TeamService {
                 "SELECT DISTINCT t FROM Team t LEFT JOIN FETCH t.players ORDER BY t.name",
                 Team.class
             );
+            ReferenceDataCache.cacheable(query, ReferenceDataCache.TEAMS);
             return query.getResultList();
             
         } finally {
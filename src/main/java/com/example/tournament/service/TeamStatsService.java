@@ -0,0 +1,523 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.Match;
+import com.example.tournament.model.RankingPolicy;
+import com.example.tournament.model.Team;
+import com.example.tournament.model.TeamStats;
+import com.example.tournament.model.Tournament;
+import com.example.tournament.util.JPAUtil;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service class for the materialized team_stats table.
+ * 
+ * Every posted, corrected or deleted result is applied to the rows of the two teams
+ * involved as a delta, inside the same transaction that changes the match, so the
+ * table always agrees with the committed matches and standings screens can read it
+ * directly instead of recomputing from matches. rebuild recomputes a tournament's
+ * rows from its matches and is used for backfills.
+ * 
+ * Thread-Safety: This service is thread-safe as each public method creates
+ * its own EntityManager instance.
+ */
+public class TeamStatsService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TeamStatsService.class);
+    
+    /**
+     * Gets the ranked standings of a tournament from the precomputed rows.
+     * Teams without a row yet are included with no results. Results are only
+     * loaded when the tournament's ranking policy needs head-to-head records.
+     * 
+     * @param tournamentId the tournament ID
+     * @return the standings, ranked by the tournament's ranking policy
+     */
+    public List<StandingsRow> getStandings(Long tournamentId) {
+        EntityManager em = JPAUtil.getEntityManager();
+        
+        try {
+            Tournament tournament = em.find(Tournament.class, tournamentId);
+            if (tournament == null) {
+                return new ArrayList<>();
+            }
+            
+            List<TeamStats> stats = loadStats(em, tournament);
+            StandingsTable rules = StandingsTable.empty(tournament);
+            int[] order = rules.getRankingPolicy().rank(new StatsStandings(em, tournamentId, stats, rules));
+            
+            List<StandingsRow> rows = new ArrayList<>(stats.size());
+            int rank = 1;
+            for (int i : order) {
+                TeamStats s = stats.get(i);
+                rows.add(new StandingsRow(rank++, s.getTeam(), s.getMatchesPlayed(), s.getWins(), s.getDraws(),
+                                          s.getLosses(), s.getGoalsFor(), s.getGoalsAgainst(), s.getPoints()));
+            }
+            return rows;
+            
+        } finally {
+            em.close();
+        }
+    }
+    
+    /**
+     * Loads the standings of a tournament into a table that can follow later
+     * results in memory: every team with the totals of its row, and the counted
+     * results, which the totals already include, for head-to-head and corrections.
+     * A tournament with results but no rows yet is rebuilt first.
+     * 
+     * @param tournamentId the tournament ID
+     * @return the table, or null if the tournament does not exist
+     */
+    public StandingsTable loadTable(Long tournamentId) {
+        EntityManager em = JPAUtil.getEntityManager();
+        
+        try {
+            Tournament tournament = em.find(Tournament.class, tournamentId);
+            if (tournament == null) {
+                return null;
+            }
+            
+            List<Object[]> results = em.createQuery(
+                "SELECT m.id, m.team1.id, m.team2.id, m.team1Score, m.team2Score FROM Match m " +
+                "WHERE m.tournament.id = :tournamentId AND m.status = :status " +
+                "AND m.team1Score IS NOT NULL AND m.team2Score IS NOT NULL",
+                Object[].class
+            ).setParameter("tournamentId", tournamentId)
+             .setParameter("status", Match.MatchStatus.COMPLETED)
+             .getResultList();
+            
+            if (results.isEmpty() || hasStats(em, tournamentId)) {
+                StandingsTable table = StandingsTable.empty(tournament);
+                for (TeamStats stats : loadStats(em, tournament)) {
+                    table.addTeam(stats);
+                }
+                for (Object[] row : results) {
+                    table.addCountedResult((Long) row[0], (Long) row[1], (Long) row[2],
+                                           (Integer) row[3], (Integer) row[4]);
+                }
+                return table;
+            }
+            
+        } finally {
+            em.close();
+        }
+        
+        // Results recorded before team_stats was maintained
+        return rebuildRows(tournamentId) ? loadTable(tournamentId) : null;
+    }
+    
+    /**
+     * Gets a team's results over all its tournaments, summed from its rows.
+     * 
+     * @param teamId the team ID
+     * @return the totals, not persisted and without a tournament; all zero if the
+     *         team has no results yet
+     */
+    public TeamStats getTeamTotals(Long teamId) {
+        EntityManager em = JPAUtil.getEntityManager();
+        
+        try {
+            Object[] sums = em.createQuery(
+                "SELECT COALESCE(SUM(ts.matchesPlayed), 0), COALESCE(SUM(ts.wins), 0), " +
+                "COALESCE(SUM(ts.losses), 0), COALESCE(SUM(ts.draws), 0), " +
+                "COALESCE(SUM(ts.goalsFor), 0), COALESCE(SUM(ts.goalsAgainst), 0) " +
+                "FROM TeamStats ts WHERE ts.team.id = :teamId",
+                Object[].class
+            ).setParameter("teamId", teamId).getSingleResult();
+            
+            TeamStats totals = new TeamStats(toInt(sums[0]), toInt(sums[1]), toInt(sums[2]), toInt(sums[3]));
+            totals.setTeam(em.find(Team.class, teamId));
+            totals.setGoalsFor(toInt(sums[4]));
+            totals.setGoalsAgainst(toInt(sums[5]));
+            return totals;
+            
+        } finally {
+            em.close();
+        }
+    }
+    
+    private static int toInt(Object sum) {
+        return ((Number) sum).intValue();
+    }
+    
+    /**
+     * Reads the rows of a tournament, followed by empty rows for its teams
+     * that have none yet.
+     */
+    private static List<TeamStats> loadStats(EntityManager em, Tournament tournament) {
+        List<TeamStats> stats = em.createQuery(
+            "SELECT ts FROM TeamStats ts " +
+            "JOIN FETCH ts.team " +
+            "WHERE ts.tournament.id = :tournamentId " +
+            "ORDER BY ts.id",
+            TeamStats.class
+        ).setParameter("tournamentId", tournament.getId()).getResultList();
+        
+        List<Team> withoutStats = em.createQuery(
+            "SELECT t FROM Tournament tr JOIN tr.teams t " +
+            "WHERE tr.id = :tournamentId AND NOT EXISTS (" +
+            "SELECT ts FROM TeamStats ts WHERE ts.tournament = tr AND ts.team = t) " +
+            "ORDER BY t.name",
+            Team.class
+        ).setParameter("tournamentId", tournament.getId()).getResultList();
+        for (Team team : withoutStats) {
+            stats.add(new TeamStats(team, tournament));
+        }
+        return stats;
+    }
+    
+    /**
+     * Recomputes the stats of a tournament from its matches, replacing its rows.
+     * 
+     * @param tournamentId the tournament ID
+     * @return true if successful, false otherwise
+     */
+    public boolean rebuild(Long tournamentId) {
+        if (!rebuildRows(tournamentId)) {
+            return false;
+        }
+        // The in-memory standings are a view of the rows just replaced
+        StandingsEngine.getInstance().invalidate(tournamentId);
+        return true;
+    }
+    
+    private boolean rebuildRows(Long tournamentId) {
+        EntityManager em = JPAUtil.getEntityManager();
+        
+        try {
+            em.getTransaction().begin();
+            
+            Tournament tournament = em.find(Tournament.class, tournamentId);
+            if (tournament == null) {
+                em.getTransaction().rollback();
+                return false;
+            }
+            
+            rebuild(em, tournament);
+            
+            em.getTransaction().commit();
+            return true;
+            
+        } catch (Exception e) {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            e.printStackTrace();
+            return false;
+            
+        } finally {
+            em.close();
+        }
+    }
+    
+    /**
+     * Recomputes the stats of every tournament, one transaction per tournament.
+     * Used to backfill team_stats for results recorded before it was maintained.
+     * 
+     * @return the number of tournaments rebuilt
+     */
+    public int rebuildAll() {
+        List<Long> tournamentIds;
+        EntityManager em = JPAUtil.getEntityManager();
+        try {
+            tournamentIds = em.createQuery("SELECT t.id FROM Tournament t ORDER BY t.id", Long.class)
+                              .getResultList();
+        } finally {
+            em.close();
+        }
+        
+        int rebuilt = 0;
+        for (Long tournamentId : tournamentIds) {
+            if (rebuild(tournamentId)) {
+                rebuilt++;
+            }
+        }
+        logger.info("Rebuilt team stats of {} of {} tournaments", rebuilt, tournamentIds.size());
+        return rebuilt;
+    }
+    
+    /**
+     * Replaces the rows of a managed tournament within the caller's transaction.
+     */
+    void rebuild(EntityManager em, Tournament tournament) {
+        deleteForTournament(em, tournament.getId());
+        
+        List<StandingsRow> rows = StandingsTable.of(tournament).getRows();
+        for (StandingsRow row : rows) {
+            TeamStats stats = new TeamStats(row.getTeam(), tournament);
+            stats.setMatchesPlayed(row.getPlayed());
+            stats.setWins(row.getWins());
+            stats.setDraws(row.getDraws());
+            stats.setLosses(row.getLosses());
+            stats.setGoalsFor(row.getGoalsFor());
+            stats.setGoalsAgainst(row.getGoalsAgainst());
+            stats.setPoints(row.getPoints());
+            em.persist(stats);
+        }
+        logger.debug("Rebuilt team stats of '{}' for {} teams", tournament.getName(), rows.size());
+    }
+    
+    /**
+     * Deletes the rows of a tournament within the caller's transaction.
+     */
+    void deleteForTournament(EntityManager em, Long tournamentId) {
+        em.createQuery("DELETE FROM TeamStats ts WHERE ts.tournament.id = :tournamentId")
+          .setParameter("tournamentId", tournamentId)
+          .executeUpdate();
+    }
+    
+    /**
+     * Applies the change of one match's result to the rows of the teams involved,
+     * within the caller's transaction. A tournament that has no rows yet is rebuilt
+     * instead, since a delta alone would miss its earlier results.
+     * 
+     * @param tournament the managed tournament of the match
+     * @param before the result counted for the match before the change, or null
+     * @param after the result to count from now on, or null
+     */
+    void applyChange(EntityManager em, Tournament tournament, CountedResult before, CountedResult after) {
+        if (before == null ? after == null : before.sameAs(after)) {
+            return;
+        }
+        applyChanges(em, tournament,
+                     before != null ? Collections.singletonList(before) : Collections.emptyList(),
+                     after != null ? Collections.singletonList(after) : Collections.emptyList());
+    }
+    
+    /**
+     * Applies the changes of several results of one tournament with a single query
+     * for the rows involved. Deltas commute, so every result that no longer counts
+     * is reversed and every result that now counts is added, in any order.
+     * 
+     * @param tournament the managed tournament of the matches
+     * @param reversed results counted before the changes
+     * @param counted results to count from now on
+     */
+    void applyChanges(EntityManager em, Tournament tournament, List<CountedResult> reversed,
+                      List<CountedResult> counted) {
+        if (tournament == null || (reversed.isEmpty() && counted.isEmpty())) {
+            return;
+        }
+        
+        Set<Long> teamIds = new LinkedHashSet<>();
+        for (List<CountedResult> results : List.of(reversed, counted)) {
+            for (CountedResult result : results) {
+                teamIds.add(result.team1.getId());
+                teamIds.add(result.team2.getId());
+            }
+        }
+        List<TeamStats> existing = em.createQuery(
+            "SELECT ts FROM TeamStats ts " +
+            "WHERE ts.tournament.id = :tournamentId AND ts.team.id IN :teamIds",
+            TeamStats.class
+        ).setParameter("tournamentId", tournament.getId())
+         .setParameter("teamIds", teamIds)
+         .getResultList();
+        
+        if (existing.size() < teamIds.size() && !hasStats(em, tournament.getId())) {
+            em.flush();
+            rebuild(em, tournament);
+            return;
+        }
+        
+        Map<Long, TeamStats> rows = new HashMap<>();
+        for (TeamStats stats : existing) {
+            rows.put(stats.getTeam().getId(), stats);
+        }
+        for (Long teamId : teamIds) {
+            rows.computeIfAbsent(teamId, id -> {
+                // Teams without a row have no counted results yet
+                TeamStats stats = new TeamStats(em.getReference(Team.class, id), tournament);
+                em.persist(stats);
+                return stats;
+            });
+        }
+        
+        StandingsTable rules = StandingsTable.empty(tournament);
+        for (CountedResult result : reversed) {
+            count(rows, result, rules, -1);
+        }
+        for (CountedResult result : counted) {
+            count(rows, result, rules, 1);
+        }
+    }
+    
+    private static boolean hasStats(EntityManager em, Long tournamentId) {
+        return !em.createQuery("SELECT ts.id FROM TeamStats ts WHERE ts.tournament.id = :tournamentId", Long.class)
+                  .setParameter("tournamentId", tournamentId)
+                  .setMaxResults(1)
+                  .getResultList()
+                  .isEmpty();
+    }
+    
+    private static void count(Map<Long, TeamStats> rows, CountedResult result, StandingsTable rules, int sign) {
+        add(rows.get(result.team1.getId()), result.score1, result.score2, rules, sign);
+        add(rows.get(result.team2.getId()), result.score2, result.score1, rules, sign);
+    }
+    
+    private static void add(TeamStats stats, int scored, int conceded, StandingsTable rules, int sign) {
+        stats.setMatchesPlayed(stats.getMatchesPlayed() + sign);
+        stats.setGoalsFor(stats.getGoalsFor() + sign * scored);
+        stats.setGoalsAgainst(stats.getGoalsAgainst() + sign * conceded);
+        stats.setPoints(stats.getPoints() + sign * rules.pointsFor(scored, conceded));
+        if (scored > conceded) {
+            stats.setWins(stats.getWins() + sign);
+        } else if (scored < conceded) {
+            stats.setLosses(stats.getLosses() + sign);
+        } else {
+            stats.setDraws(stats.getDraws() + sign);
+        }
+    }
+    
+    /**
+     * Precomputed rows as read by the ranking policy. Completed results are queried
+     * only if the policy asks for them.
+     */
+    private static final class StatsStandings implements RankingPolicy.Standings {
+        private final EntityManager em;
+        private final Long tournamentId;
+        private final List<TeamStats> stats;
+        private final StandingsTable rules;
+        private int[] results;
+        
+        StatsStandings(EntityManager em, Long tournamentId, List<TeamStats> stats, StandingsTable rules) {
+            this.em = em;
+            this.tournamentId = tournamentId;
+            this.stats = stats;
+            this.rules = rules;
+        }
+        
+        @Override
+        public int getTeamCount() {
+            return stats.size();
+        }
+        
+        @Override
+        public int getPoints(int team) {
+            return stats.get(team).getPoints();
+        }
+        
+        @Override
+        public int getGoalsFor(int team) {
+            return stats.get(team).getGoalsFor();
+        }
+        
+        @Override
+        public int getGoalsAgainst(int team) {
+            return stats.get(team).getGoalsAgainst();
+        }
+        
+        @Override
+        public int getWins(int team) {
+            return stats.get(team).getWins();
+        }
+        
+        @Override
+        public int getResultCount() {
+            if (results == null) {
+                results = loadResults();
+            }
+            return results.length / 4;
+        }
+        
+        @Override
+        public int getHomeTeam(int result) {
+            return results[result * 4];
+        }
+        
+        @Override
+        public int getAwayTeam(int result) {
+            return results[result * 4 + 1];
+        }
+        
+        @Override
+        public int getHomeScore(int result) {
+            return results[result * 4 + 2];
+        }
+        
+        @Override
+        public int getAwayScore(int result) {
+            return results[result * 4 + 3];
+        }
+        
+        @Override
+        public int pointsFor(int scored, int conceded) {
+            return rules.pointsFor(scored, conceded);
+        }
+        
+        private int[] loadResults() {
+            Map<Long, Integer> index = new HashMap<>();
+            for (int i = 0; i < stats.size(); i++) {
+                index.put(stats.get(i).getTeam().getId(), i);
+            }
+            
+            List<Object[]> rows = em.createQuery(
+                "SELECT m.team1.id, m.team2.id, m.team1Score, m.team2Score FROM Match m " +
+                "WHERE m.tournament.id = :tournamentId AND m.status = :status " +
+                "AND m.team1Score IS NOT NULL AND m.team2Score IS NOT NULL",
+                Object[].class
+            ).setParameter("tournamentId", tournamentId)
+             .setParameter("status", Match.MatchStatus.COMPLETED)
+             .getResultList();
+            
+            int[] packed = new int[rows.size() * 4];
+            int count = 0;
+            for (Object[] row : rows) {
+                Integer home = index.get((Long) row[0]);
+                Integer away = index.get((Long) row[1]);
+                if (home != null && away != null) {
+                    packed[count++] = home;
+                    packed[count++] = away;
+                    packed[count++] = (Integer) row[2];
+                    packed[count++] = (Integer) row[3];
+                }
+            }
+            return Arrays.copyOf(packed, count);
+        }
+    }
+    
+    /**
+     * The result of a match as it counts towards the standings, captured so that
+     * it can be reversed after the match has changed.
+     */
+    static final class CountedResult {
+        final Team team1;
+        final Team team2;
+        final int score1;
+        final int score2;
+        
+        private CountedResult(Team team1, Team team2, int score1, int score2) {
+            this.team1 = team1;
+            this.team2 = team2;
+            this.score1 = score1;
+            this.score2 = score2;
+        }
+        
+        /**
+         * Captures the current result of a match, or null if it does not count.
+         */
+        static CountedResult of(Match match) {
+            if (match == null || !StandingsTable.isCounted(match)) {
+                return null;
+            }
+            return new CountedResult(match.getTeam1(), match.getTeam2(),
+                                     match.getTeam1Score(), match.getTeam2Score());
+        }
+        
+        boolean sameAs(CountedResult other) {
+            return other != null && score1 == other.score1 && score2 == other.score2
+                && team1.getId().equals(other.team1.getId()) && team2.getId().equals(other.team2.getId());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.tournament.service;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Projected final standings of a tournament from simulating its remaining matches.
+ */
+public class TournamentProjection {
+    
+    private final Long tournamentId;
+    private final List<ProjectionRow> rows;
+    private final int simulations;
+    private final int remainingMatches;
+    
+    // Constructors
+    public TournamentProjection(Long tournamentId, List<ProjectionRow> rows, int simulations, int remainingMatches) {
+        this.tournamentId = tournamentId;
+        this.rows = Collections.unmodifiableList(rows);
+        this.simulations = simulations;
+        this.remainingMatches = remainingMatches;
+    }
+    
+    // Getters
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+    
+    /**
+     * Gets the teams' projections, best average place first.
+     */
+    public List<ProjectionRow> getRows() {
+        return rows;
+    }
+    
+    public int getSimulations() {
+        return simulations;
+    }
+    
+    /**
+     * Gets the number of matches simulated in each run; for knockout tournaments,
+     * the matches still needed to decide the bracket, later rounds included.
+     */
+    public int getRemainingMatches() {
+        return remainingMatches;
+    }
+    
+    @Override
+    public String toString() {
+        return "TournamentProjection{" +
+                "tournamentId=" + tournamentId +
+                ", teams=" + rows.size() +
+                ", simulations=" + simulations +
+                ", remainingMatches=" + remainingMatches +
+                '}';
+    }
+}
@@ -1,11 +1,19 @@
 package com.example.tournament.service;
 
+import com.example.tournament.model.KnockoutTournament;
+import com.example.tournament.model.Match;
+import com.example.tournament.model.Team;
 import com.example.tournament.model.Tournament;
 import com.example.tournament.model.TournamentStatus;
 import com.example.tournament.util.JPAUtil;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Service class for tournament-related operations.
@@ -13,9 +21,15 @@ import java.util.List;
  */
 public class TournamentService {
     
+    private final TeamStatsService teamStatsService = new TeamStatsService();
+    private final RatingService ratingService = new RatingService();
+    
     /**
      * Retrieves all tournaments in the system.
      * Implements ViewTournament use case.
+     * Not cached: the list includes every match, so any posted result would
+     * invalidate it, and holding every match in the query cache costs more
+     * than the two queries.
      * 
      * @return list of all tournaments
      */
@@ -36,13 +50,12 @@ public class TournamentService {
             // The query result is not stored because the matches are populated
             // into the tournaments already loaded in the persistence context
             if (!tournaments.isEmpty()) {
+                // Every tournament is listed, so no parameter is needed
                 TypedQuery<Tournament> query2 = em.createQuery(
                     "SELECT DISTINCT t FROM Tournament t " +
-                    "LEFT JOIN FETCH t.matches " +
-                    "WHERE t IN :tournaments",
+                    "LEFT JOIN FETCH t.matches",
                     Tournament.class
                 );
-                query2.setParameter("tournaments", tournaments);
                 query2.getResultList();
             }
             
@@ -98,6 +111,85 @@ public class TournamentService {
         }
     }
     
+    /**
+     * Lists the summaries of all tournaments matching a filter, most recent first,
+     * without loading their teams or matches. Meant for pickers and lists that only
+     * show names and counts.
+     * 
+     * @param statuses the statuses to include, or null for any
+     * @param sportId the sport to include, or null for any
+     * @return the matching summaries, by start date then ID, descending
+     */
+    public List<TournamentSummary> getTournamentSummaries(Collection<TournamentStatus> statuses, Long sportId) {
+        return getTournamentSummaries(statuses, sportId, null, 0);
+    }
+    
+    /**
+     * Lists one page of tournament summaries, most recent first. Pages are keyed on
+     * the last summary of the previous page rather than an offset, so each page
+     * costs the same however far into the history it is, and tournaments added
+     * meanwhile do not shift the pages.
+     * 
+     * @param statuses the statuses to include, or null for any
+     * @param sportId the sport to include, or null for any
+     * @param after the last summary of the previous page, or null for the first page
+     * @param limit the maximum number of summaries, or 0 for no limit
+     * @return the summaries following after, by start date then ID, descending;
+     *         tournaments without a start date come last
+     */
+    public List<TournamentSummary> getTournamentSummaries(Collection<TournamentStatus> statuses, Long sportId,
+                                                          TournamentSummary after, int limit) {
+        if (statuses != null && statuses.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        StringBuilder jpql = new StringBuilder(
+            "SELECT new com.example.tournament.service.TournamentSummary(" +
+            "t.id, t.name, s.name, TYPE(t), t.status, t.startDate, t.endDate, " +
+            "SIZE(t.teams), SIZE(t.matches), " +
+            "(SELECT COUNT(m) FROM Match m WHERE m.tournament = t AND m.status = :completed)) " +
+            "FROM Tournament t LEFT JOIN t.sport s WHERE 1 = 1");
+        if (statuses != null) {
+            jpql.append(" AND t.status IN :statuses");
+        }
+        if (sportId != null) {
+            jpql.append(" AND s.id = :sportId");
+        }
+        if (after != null && after.getStartDate() != null) {
+            jpql.append(" AND (t.startDate < :afterDate OR (t.startDate = :afterDate AND t.id < :afterId)" +
+                        " OR t.startDate IS NULL)");
+        } else if (after != null) {
+            jpql.append(" AND t.startDate IS NULL AND t.id < :afterId");
+        }
+        jpql.append(" ORDER BY t.startDate DESC NULLS LAST, t.id DESC");
+        
+        EntityManager em = JPAUtil.getEntityManager();
+        
+        try {
+            TypedQuery<TournamentSummary> query = em.createQuery(jpql.toString(), TournamentSummary.class);
+            query.setParameter("completed", Match.MatchStatus.COMPLETED);
+            if (statuses != null) {
+                query.setParameter("statuses", statuses);
+            }
+            if (sportId != null) {
+                query.setParameter("sportId", sportId);
+            }
+            if (after != null) {
+                query.setParameter("afterId", after.getId());
+                if (after.getStartDate() != null) {
+                    query.setParameter("afterDate", after.getStartDate());
+                }
+            }
+            if (limit > 0) {
+                query.setMaxResults(limit);
+            }
+            return query.getResultList();
+            
+        } finally {
+            em.close();
+        }
+    }
+    
     /**
      * Finalizes a tournament.
      * Implements FinalTournament use case.
@@ -181,9 +273,25 @@ public class TournamentService {
         try {
             em.getTransaction().begin();
             
-            em.merge(tournament);
+            // Read what the standings depend on before the merge overwrites it
+            Tournament current = tournament.getId() != null ? em.find(Tournament.class, tournament.getId()) : null;
+            Set<Long> previousTeams = current != null ? teamIds(current) : null;
+            List<Object> previousRules = current != null ? standingsRules(current) : null;
+            
+            Tournament merged = em.merge(tournament);
+            
+            // Only a change of teams, points rules or tiebreakers affects team_stats
+            boolean standingsChanged = !teamIds(merged).equals(previousTeams)
+                || !standingsRules(merged).equals(previousRules);
+            if (standingsChanged) {
+                teamStatsService.rebuild(em, merged);
+            }
             
             em.getTransaction().commit();
+            
+            if (standingsChanged) {
+                StandingsEngine.getInstance().invalidate(merged.getId());
+            }
             return true;
             
         } catch (Exception e) {
@@ -198,6 +306,23 @@ public class TournamentService {
         }
     }
     
+    private static Set<Long> teamIds(Tournament tournament) {
+        Set<Long> ids = new HashSet<>();
+        for (Team team : tournament.getTeams()) {
+            ids.add(team.getId());
+        }
+        return ids;
+    }
+    
+    /**
+     * The points for a win, draw and loss and the tiebreakers the standings are built with.
+     */
+    private static List<Object> standingsRules(Tournament tournament) {
+        StandingsTable table = StandingsTable.empty(tournament);
+        return Arrays.asList(table.pointsFor(1, 0), table.pointsFor(0, 0), table.pointsFor(0, 1),
+                             tournament.getTiebreakers());
+    }
+    
     /**
      * Deletes a tournament and all its associated matches from the database.
      * 
@@ -220,11 +345,18 @@ public class TournamentService {
             // While JPA should handle this automatically, explicitly clearing ensures
             // the join table entries are removed in all JPA implementations.
             tournament.getTeams().clear();
+            if (tournament instanceof KnockoutTournament) {
+                ((KnockoutTournament) tournament).getSeeds().clear();
+            }
+            teamStatsService.deleteForTournament(em, tournamentId);
+            ratingService.removeForTournament(em, tournamentId);
             
             // Delete the tournament (cascade will delete matches due to CascadeType.ALL)
             em.remove(tournament);
             
             em.getTransaction().commit();
+            
+            StandingsEngine.getInstance().invalidate(tournamentId);
             return true;
             
         } catch (Exception e) {
@@ -0,0 +1,367 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Projects the final standings of a tournament by Monte Carlo simulation of the
+ * matches still to be played.
+ * 
+ * Scores are drawn from a StrengthModel fitted to the completed results. League and
+ * round robin seasons are replayed on a StandingsAccumulator and ranked by the
+ * tournament's RankingPolicy; knockout brackets are played out round by round, a
+ * drawn match going to either side in proportion to its expected goals.
+ * 
+ * Simulations are split into batches run on a fork/join pool. Each batch draws from
+ * its own SplittableRandom, split from the simulator's seed, and reuses one
+ * accumulator for all of its seasons, so the same seed gives the same projection
+ * whatever the number of threads.
+ */
+public class TournamentSimulator {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TournamentSimulator.class);
+    
+    public static final int DEFAULT_SIMULATIONS = 20_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int MAX_GOALS = 15;
+    
+    private final TournamentService tournamentService;
+    private final int simulations;
+    private final long seed;
+    private final ForkJoinPool pool;
+    
+    // Constructors
+    public TournamentSimulator() {
+        this(DEFAULT_SIMULATIONS, System.nanoTime());
+    }
+    
+    public TournamentSimulator(int simulations, long seed) {
+        this(simulations, seed, ForkJoinPool.commonPool());
+    }
+    
+    public TournamentSimulator(int simulations, long seed, ForkJoinPool pool) {
+        if (simulations < 1) {
+            throw new IllegalArgumentException("At least one simulation is needed, got " + simulations);
+        }
+        this.tournamentService = new TournamentService();
+        this.simulations = simulations;
+        this.seed = seed;
+        this.pool = pool;
+    }
+    
+    /**
+     * Projects a tournament loaded from the database.
+     * @return the projection, or null if the tournament does not exist
+     */
+    public TournamentProjection project(Long tournamentId) {
+        Tournament tournament = tournamentService.getTournamentById(tournamentId);
+        return tournament != null ? project(tournament) : null;
+    }
+    
+    /**
+     * Projects a tournament from its teams and matches.
+     */
+    public TournamentProjection project(Tournament tournament) {
+        long started = System.nanoTime();
+        Season season = tournament instanceof KnockoutTournament
+                ? new KnockoutSeason(((KnockoutTournament) tournament).getBracket(), tournament.getMatches())
+                : new LeagueSeason(tournament);
+        
+        Tally tally = pool.invoke(new Batch(season, new SplittableRandom(seed), simulations));
+        TournamentProjection projection = summarise(tournament.getId(), season, tally);
+        
+        logger.info("Projected '{}' from {} simulations of {} remaining matches in {} ms",
+                    tournament.getName(), simulations, season.getRemainingMatches(),
+                    (System.nanoTime() - started) / 1_000_000);
+        return projection;
+    }
+    
+    private TournamentProjection summarise(Long tournamentId, Season season, Tally tally) {
+        int teamCount = season.getTeamCount();
+        List<ProjectionRow> rows = new ArrayList<>(teamCount);
+        for (int team = 0; team < teamCount; team++) {
+            double[] probabilities = new double[teamCount];
+            double averagePlace = 0.0;
+            for (int place = 0; place < teamCount; place++) {
+                probabilities[place] = (double) tally.placeCounts[team * teamCount + place] / simulations;
+                averagePlace += (place + 1) * probabilities[place];
+            }
+            double expectedPoints = (double) tally.points[team] / simulations;
+            rows.add(new ProjectionRow(season.getTeam(team), expectedPoints, averagePlace, probabilities));
+        }
+        rows.sort(Comparator.comparingDouble(ProjectionRow::getAveragePlace));
+        return new TournamentProjection(tournamentId, rows, simulations, season.getRemainingMatches());
+    }
+    
+    static boolean isToBePlayed(Match match) {
+        return match.getStatus() != Match.MatchStatus.COMPLETED && match.getStatus() != Match.MatchStatus.CANCELLED
+            && match.getTeam1() != null && match.getTeam2() != null;
+    }
+    
+    /**
+     * What is simulated: the teams, the fixed part of the tournament and a way to
+     * play out the rest.
+     */
+    private interface Season {
+        int getTeamCount();
+        Team getTeam(int team);
+        int getRemainingMatches();
+        
+        /**
+         * Creates the working state for one batch of simulations.
+         */
+        Run newRun();
+    }
+    
+    private interface Run {
+        void simulate(SplittableRandom random, Tally tally);
+    }
+    
+    /**
+     * Points-based tournament: the remaining fixtures are known up front, so their
+     * score distributions are computed once and shared by every batch.
+     */
+    private static final class LeagueSeason implements Season {
+        private final StandingsAccumulator played;
+        private final RankingPolicy policy;
+        private final int[] home;
+        private final int[] away;
+        
+        // Cumulative goal probabilities of home then away side, per remaining match
+        private final double[] goals;
+        
+        LeagueSeason(Tournament tournament) {
+            StandingsTable rules = StandingsTable.empty(tournament);
+            List<Match> matches = tournament.getMatches();
+            this.policy = rules.getRankingPolicy();
+            this.played = new StandingsAccumulator(tournament.getTeams(), rules.pointsFor(1, 0),
+                                                   rules.pointsFor(0, 0), rules.pointsFor(0, 1), matches.size());
+            
+            int[] home = new int[matches.size()];
+            int[] away = new int[matches.size()];
+            int remaining = 0;
+            for (Match match : matches) {
+                if (played.add(match) || !isToBePlayed(match)) {
+                    continue;
+                }
+                int team1 = played.indexOf(match.getTeam1());
+                int team2 = played.indexOf(match.getTeam2());
+                if (team1 >= 0 && team2 >= 0) {
+                    home[remaining] = team1;
+                    away[remaining] = team2;
+                    remaining++;
+                }
+            }
+            this.home = Arrays.copyOf(home, remaining);
+            this.away = Arrays.copyOf(away, remaining);
+            
+            StrengthModel model = StrengthModel.fit(played);
+            int stride = MAX_GOALS + 1;
+            this.goals = new double[remaining * 2 * stride];
+            for (int m = 0; m < remaining; m++) {
+                double[] homeGoals = StrengthModel.cumulative(model.expectedGoals(this.home[m], this.away[m]), MAX_GOALS);
+                double[] awayGoals = StrengthModel.cumulative(model.expectedGoals(this.away[m], this.home[m]), MAX_GOALS);
+                System.arraycopy(homeGoals, 0, goals, 2 * m * stride, stride);
+                System.arraycopy(awayGoals, 0, goals, (2 * m + 1) * stride, stride);
+            }
+        }
+        
+        @Override
+        public int getTeamCount() {
+            return played.getTeamCount();
+        }
+        
+        @Override
+        public Team getTeam(int team) {
+            return played.getTeam(team);
+        }
+        
+        @Override
+        public int getRemainingMatches() {
+            return home.length;
+        }
+        
+        @Override
+        public Run newRun() {
+            StandingsAccumulator table = new StandingsAccumulator(played);
+            int stride = MAX_GOALS + 1;
+            return (random, tally) -> {
+                table.copyFrom(played);
+                for (int m = 0; m < home.length; m++) {
+                    int homeScore = StrengthModel.sample(goals, 2 * m * stride, random);
+                    int awayScore = StrengthModel.sample(goals, (2 * m + 1) * stride, random);
+                    table.add(home[m], away[m], homeScore, awayScore);
+                }
+                int[] order = policy.rank(table);
+                for (int place = 0; place < order.length; place++) {
+                    tally.record(order[place], place, table.getPoints(order[place]));
+                }
+            };
+        }
+    }
+    
+    /**
+     * Knockout bracket: later pairings depend on earlier simulated winners, so goals
+     * are drawn from the expected goals of each pairing as it comes up.
+     */
+    private static final class KnockoutSeason implements Season {
+        private final List<Team> teams;
+        private final int roundCount;
+        
+        // entrants[r][slot]: seed index in the slot of round r + 1, -1 if undecided
+        private final int[][] entrants;
+        private final StrengthModel model;
+        private final int remaining;
+        
+        KnockoutSeason(KnockoutBracket bracket, List<Match> matches) {
+            this.teams = bracket.getTeams();
+            this.roundCount = bracket.getRoundCount();
+            this.entrants = new int[roundCount + 1][];
+            int undecided = 0;
+            for (int r = 0; r <= roundCount; r++) {
+                entrants[r] = bracket.getEntrants(r + 1);
+                if (r > 0) {
+                    for (int entrant : entrants[r]) {
+                        if (entrant < 0) {
+                            undecided++;
+                        }
+                    }
+                }
+            }
+            this.remaining = undecided;
+            
+            StandingsAccumulator played = new StandingsAccumulator(teams, 3, 1, 0, matches.size());
+            for (Match match : matches) {
+                played.add(match);
+            }
+            this.model = StrengthModel.fit(played);
+        }
+        
+        @Override
+        public int getTeamCount() {
+            return teams.size();
+        }
+        
+        @Override
+        public Team getTeam(int team) {
+            return teams.get(team);
+        }
+        
+        @Override
+        public int getRemainingMatches() {
+            return remaining;
+        }
+        
+        @Override
+        public Run newRun() {
+            int[] slots = new int[entrants[0].length];
+            int[] reached = new int[teams.size()];
+            return (random, tally) -> {
+                System.arraycopy(entrants[0], 0, slots, 0, slots.length);
+                Arrays.fill(reached, 1);
+                
+                // Winners move down into the first half of the slots, round by round
+                for (int r = 1; r <= roundCount; r++) {
+                    int[] decided = entrants[r];
+                    for (int p = 0; p < decided.length; p++) {
+                        int winner = decided[p] >= 0 ? decided[p] : play(slots[2 * p], slots[2 * p + 1], random);
+                        slots[p] = winner;
+                        reached[winner] = r + 1;
+                    }
+                }
+                
+                // Champion first, then the runner-up, then the losers of each earlier round
+                for (int team = 0; team < reached.length; team++) {
+                    int place = reached[team] > roundCount ? 0 : 1 << (roundCount - reached[team]);
+                    tally.record(team, place, 0);
+                }
+            };
+        }
+        
+        private int play(int a, int b, SplittableRandom random) {
+            double expectedA = model.expectedGoals(a, b);
+            double expectedB = model.expectedGoals(b, a);
+            int goalsA = StrengthModel.sample(expectedA, random);
+            int goalsB = StrengthModel.sample(expectedB, random);
+            if (goalsA != goalsB) {
+                return goalsA > goalsB ? a : b;
+            }
+            return random.nextDouble() * (expectedA + expectedB) < expectedA ? a : b;
+        }
+    }
+    
+    /**
+     * Place counts and points totals of a batch, merged up the fork/join tree.
+     */
+    private static final class Tally {
+        private final int teamCount;
+        final long[] placeCounts;
+        final long[] points;
+        
+        Tally(int teamCount) {
+            this.teamCount = teamCount;
+            this.placeCounts = new long[teamCount * teamCount];
+            this.points = new long[teamCount];
+        }
+        
+        void record(int team, int place, int teamPoints) {
+            placeCounts[team * teamCount + place]++;
+            points[team] += teamPoints;
+        }
+        
+        void merge(Tally other) {
+            for (int i = 0; i < placeCounts.length; i++) {
+                placeCounts[i] += other.placeCounts[i];
+            }
+            for (int i = 0; i < points.length; i++) {
+                points[i] += other.points[i];
+            }
+        }
+    }
+    
+    /**
+     * A share of the simulations; halves are forked until they fit in one batch.
+     */
+    private static final class Batch extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+        
+        private final Season season;
+        private final SplittableRandom random;
+        private final int simulations;
+        
+        Batch(Season season, SplittableRandom random, int simulations) {
+            this.season = season;
+            this.random = random;
+            this.simulations = simulations;
+        }
+        
+        @Override
+        protected Tally compute() {
+            if (simulations <= BATCH_SIZE) {
+                Tally tally = new Tally(season.getTeamCount());
+                Run run = season.newRun();
+                for (int i = 0; i < simulations; i++) {
+                    run.simulate(random, tally);
+                }
+                return tally;
+            }
+            
+            // Split the generator before forking so the streams do not depend on scheduling
+            int half = simulations / 2;
+            Batch first = new Batch(season, random.split(), half);
+            first.fork();
+            Tally tally = new Batch(season, random, simulations - half).compute();
+            tally.merge(first.join());
+            return tally;
+        }
+    }
+}
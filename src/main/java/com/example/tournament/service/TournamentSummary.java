@@ -0,0 +1,117 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.KnockoutTournament;
+import com.example.tournament.model.LeagueTournament;
+import com.example.tournament.model.RoundRobinTournament;
+import com.example.tournament.model.TournamentStatus;
+
+import java.time.LocalDate;
+
+/**
+ * A tournament's listing line: its identity, sport, status, dates and how many
+ * teams and matches it has, read without loading the tournament itself.
+ */
+public class TournamentSummary {
+    
+    private final Long id;
+    private final String name;
+    private final String sportName;
+    private final Class<?> type;
+    private final TournamentStatus status;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int teamCount;
+    private final int matchCount;
+    private final int completedMatchCount;
+    
+    // Constructors
+    public TournamentSummary(Long id, String name, String sportName, Class<?> type, TournamentStatus status,
+                             LocalDate startDate, LocalDate endDate,
+                             Number teamCount, Number matchCount, Number completedMatchCount) {
+        this.id = id;
+        this.name = name;
+        this.sportName = sportName;
+        this.type = type;
+        this.status = status;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.teamCount = teamCount.intValue();
+        this.matchCount = matchCount.intValue();
+        this.completedMatchCount = completedMatchCount.intValue();
+    }
+    
+    // Getters
+    public Long getId() {
+        return id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * @return the sport's name, or null if the tournament has no sport
+     */
+    public String getSportName() {
+        return sportName;
+    }
+    
+    /**
+     * @return the tournament's entity class, e.g. KnockoutTournament.class
+     */
+    public Class<?> getType() {
+        return type;
+    }
+    
+    /**
+     * Gets the tournament format as shown to users.
+     */
+    public String getFormat() {
+        if (type == LeagueTournament.class) {
+            return "League";
+        } else if (type == RoundRobinTournament.class) {
+            return "Round Robin";
+        } else if (type == KnockoutTournament.class) {
+            return "Knockout";
+        }
+        return "Unknown";
+    }
+    
+    public TournamentStatus getStatus() {
+        return status;
+    }
+    
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+    
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+    
+    public int getTeamCount() {
+        return teamCount;
+    }
+    
+    public int getMatchCount() {
+        return matchCount;
+    }
+    
+    public int getCompletedMatchCount() {
+        return completedMatchCount;
+    }
+    
+    @Override
+    public String toString() {
+        return "TournamentSummary{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", sport='" + sportName + '\'' +
+                ", format=" + getFormat() +
+                ", status=" + status +
+                ", startDate=" + startDate +
+                ", teams=" + teamCount +
+                ", matches=" + completedMatchCount + "/" + matchCount +
+                '}';
+    }
+}
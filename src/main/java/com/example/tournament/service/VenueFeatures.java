@@ -0,0 +1,117 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.EntityKeys;
+import com.example.tournament.model.Team;
+import com.example.tournament.model.Venue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-venue features of a candidate venue pool, laid out as arrays indexed
+ * by the venue's position in the pool.
+ * 
+ * Capacity and coordinates are read once when the pool is compiled; booking
+ * counts are read live since they change while a schedule is built. Historical
+ * usage per team is expanded into an array on first use and kept in step as
+ * matches are recorded.
+ */
+public class VenueFeatures {
+    
+    private final List<Venue> venues;
+    private final int[] capacity;
+    private final double[] latitude;
+    private final double[] longitude;
+    private final int maxCapacity;
+    
+    private final Map<Object, Integer> venueIndex = new HashMap<>();
+    private final Map<Object, Map<Object, Integer>> history;
+    private final Map<Object, int[]> teamUsage = new HashMap<>();
+    
+    VenueFeatures(List<Venue> venues, Map<Object, Map<Object, Integer>> history) {
+        this.venues = venues;
+        this.history = history;
+        int size = venues.size();
+        capacity = new int[size];
+        latitude = new double[size];
+        longitude = new double[size];
+        
+        int max = 0;
+        for (int i = 0; i < size; i++) {
+            Venue venue = venues.get(i);
+            venueIndex.putIfAbsent(EntityKeys.of(venue), i);
+            capacity[i] = venue.getCapacity() != null ? venue.getCapacity() : -1;
+            max = Math.max(max, capacity[i]);
+            boolean located = venue.getLatitude() != null && venue.getLongitude() != null;
+            latitude[i] = located ? venue.getLatitude() : Double.NaN;
+            longitude[i] = located ? venue.getLongitude() : Double.NaN;
+        }
+        maxCapacity = max;
+    }
+    
+    public int size() {
+        return capacity.length;
+    }
+    
+    public Venue getVenue(int i) {
+        return venues.get(i);
+    }
+    
+    /**
+     * Gets the capacity of the venue, or -1 if it is unknown.
+     */
+    public int getCapacity(int i) {
+        return capacity[i];
+    }
+    
+    public int getMaxCapacity() {
+        return maxCapacity;
+    }
+    
+    public boolean hasLocation(int i) {
+        return !Double.isNaN(latitude[i]);
+    }
+    
+    public double getLatitude(int i) {
+        return latitude[i];
+    }
+    
+    public double getLongitude(int i) {
+        return longitude[i];
+    }
+    
+    public int getBookingCount(int i) {
+        return venues.get(i).getBookings().size();
+    }
+    
+    /**
+     * Gets how many recorded matches the team has played at each venue of the pool.
+     */
+    public int[] getUsage(Team team) {
+        if (team == null) {
+            return new int[size()];
+        }
+        return teamUsage.computeIfAbsent(EntityKeys.of(team), k -> {
+            int[] usage = new int[size()];
+            for (Map.Entry<Object, Integer> entry : history.getOrDefault(k, Map.of()).entrySet()) {
+                Integer i = venueIndex.get(entry.getKey());
+                if (i != null) {
+                    usage[i] = entry.getValue();
+                }
+            }
+            return usage;
+        });
+    }
+    
+    /**
+     * Counts a match the team played at the venue in an already expanded usage array.
+     */
+    void addUsage(Team team, Venue venue) {
+        int[] usage = teamUsage.get(EntityKeys.of(team));
+        Integer i = venueIndex.get(EntityKeys.of(venue));
+        if (usage != null && i != null) {
+            usage[i]++;
+        }
+    }
+}
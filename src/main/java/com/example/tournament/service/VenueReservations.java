@@ -0,0 +1,93 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.TimeSlot;
+import com.example.tournament.model.Venue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Arbitrates venue bookings between scheduling threads.
+ * 
+ * Each venue is guarded by one of a fixed set of lock stripes, so threads booking
+ * different venues rarely contend while two threads can never book the same venue
+ * at the same time. Callers look up a free start, then reserve it optimistically;
+ * if another thread took the slot in between, the reservation fails and the caller
+ * searches again. Every booking of a shared venue must go through this class while
+ * a parallel run is in progress.
+ */
+public class VenueReservations {
+    
+    private static final int DEFAULT_STRIPES = 64;
+    
+    private final ReentrantLock[] stripes;
+    
+    // Constructors
+    public VenueReservations() {
+        this(DEFAULT_STRIPES);
+    }
+    
+    public VenueReservations(int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("stripeCount must be at least 1");
+        }
+        stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+    
+    /**
+     * Finds the earliest start at or after notBefore at which the venue is free for
+     * the given length, keeping the changeover time clear on both sides.
+     */
+    public LocalDateTime findNextFreeStart(Venue venue, LocalDateTime notBefore, Duration length, Duration changeover) {
+        ReentrantLock lock = stripeFor(venue);
+        lock.lock();
+        try {
+            return venue.getCalendar()
+                        .findNextFreeStart(notBefore.minus(changeover), length.plus(changeover).plus(changeover))
+                        .plus(changeover);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Books the time slot if the venue is still free for it, including the changeover
+     * time on both sides.
+     * @return true if the slot was booked, false if another booking got there first
+     */
+    public boolean tryReserve(Venue venue, TimeSlot timeSlot, Duration changeover) {
+        ReentrantLock lock = stripeFor(venue);
+        lock.lock();
+        try {
+            if (!venue.getCalendar().isFree(timeSlot.getStartTime().minus(changeover),
+                                            timeSlot.getEndTime().plus(changeover))) {
+                return false;
+            }
+            timeSlot.setVenue(venue);
+            return venue.bookTimeSlot(timeSlot);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Releases a booking made through this arbiter.
+     */
+    public boolean release(Venue venue, TimeSlot timeSlot) {
+        ReentrantLock lock = stripeFor(venue);
+        lock.lock();
+        try {
+            return venue.releaseTimeSlot(timeSlot);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private ReentrantLock stripeFor(Venue venue) {
+        return stripes[Math.floorMod(System.identityHashCode(venue), stripes.length)];
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.Match;
+
+/**
+ * One criterion of the venue scoring model.
+ * 
+ * A scorer rates every candidate venue for a match in a single pass over the
+ * cached venue features, so it can normalise against the whole candidate pool.
+ */
+@FunctionalInterface
+public interface VenueScorer {
+    
+    /**
+     * Scores every candidate venue for the match.
+     * @param match The match being placed
+     * @param features Cached features of the candidate venues
+     * @param scores Output, one entry per candidate in feature order; higher is better,
+     *               normally between 0 and 1, negative for a venue that should be avoided
+     */
+    void score(Match match, VenueFeatures features, double[] scores);
+}
@@ -0,0 +1,116 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.Team;
+
+/**
+ * Standard venue scoring criteria.
+ */
+public final class VenueScorers {
+    
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    
+    private VenueScorers() {
+    }
+    
+    /**
+     * Prefers the smallest venue that holds the expected attendance; venues that are
+     * too small score negative. Without an expected attendance larger venues score higher.
+     * Venues of unknown capacity score 0.
+     */
+    public static VenueScorer capacityFit(int expectedAttendance) {
+        return (match, features, scores) -> {
+            for (int i = 0; i < features.size(); i++) {
+                int capacity = features.getCapacity(i);
+                if (capacity <= 0) {
+                    scores[i] = 0;
+                } else if (expectedAttendance <= 0) {
+                    scores[i] = (double) capacity / features.getMaxCapacity();
+                } else if (capacity < expectedAttendance) {
+                    scores[i] = -1.0 + (double) capacity / expectedAttendance;
+                } else {
+                    scores[i] = (double) expectedAttendance / capacity;
+                }
+            }
+        };
+    }
+    
+    /**
+     * Prefers the venues with the fewest bookings, spreading matches across the pool.
+     */
+    public static VenueScorer utilisationBalance() {
+        return (match, features, scores) -> {
+            int max = 0;
+            for (int i = 0; i < features.size(); i++) {
+                scores[i] = features.getBookingCount(i);
+                max = Math.max(max, features.getBookingCount(i));
+            }
+            for (int i = 0; i < features.size(); i++) {
+                scores[i] = max == 0 ? 1.0 : 1.0 - scores[i] / max;
+            }
+        };
+    }
+    
+    /**
+     * Prefers the venues closest on average to the home grounds of both teams.
+     * Scores 0 for every venue when no distance is known.
+     */
+    public static VenueScorer travelDistance() {
+        return (match, features, scores) -> {
+            Team team1 = match.getTeam1();
+            Team team2 = match.getTeam2();
+            double max = 0;
+            for (int i = 0; i < features.size(); i++) {
+                double total = 0;
+                int legs = 0;
+                for (Team team : new Team[] {team1, team2}) {
+                    if (team != null && team.getHomeLatitude() != null && team.getHomeLongitude() != null
+                            && features.hasLocation(i)) {
+                        total += distanceKm(team.getHomeLatitude(), team.getHomeLongitude(),
+                                            features.getLatitude(i), features.getLongitude(i));
+                        legs++;
+                    }
+                }
+                scores[i] = legs > 0 ? total / legs : Double.NaN;
+                if (legs > 0) {
+                    max = Math.max(max, scores[i]);
+                }
+            }
+            for (int i = 0; i < features.size(); i++) {
+                if (Double.isNaN(scores[i])) {
+                    scores[i] = 0;
+                } else {
+                    scores[i] = max == 0 ? 1.0 : 1.0 - scores[i] / max;
+                }
+            }
+        };
+    }
+    
+    /**
+     * Prefers the venues where the two teams have played most often.
+     */
+    public static VenueScorer historicalUsage() {
+        return (match, features, scores) -> {
+            int[] usage1 = features.getUsage(match.getTeam1());
+            int[] usage2 = features.getUsage(match.getTeam2());
+            int max = 0;
+            for (int i = 0; i < features.size(); i++) {
+                max = Math.max(max, usage1[i] + usage2[i]);
+            }
+            for (int i = 0; i < features.size(); i++) {
+                scores[i] = max == 0 ? 0 : (double) (usage1[i] + usage2[i]) / max;
+            }
+        };
+    }
+    
+    /**
+     * Great-circle distance between two points in decimal degrees.
+     */
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                 + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                 * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.tournament.service;
+
+import com.example.tournament.model.EntityKeys;
+import com.example.tournament.model.Match;
+import com.example.tournament.model.Team;
+import com.example.tournament.model.Venue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Weighted pipeline of venue scorers used to pick the venue for a match.
+ * 
+ * Each scorer rates the whole candidate pool in one pass and its scores are added
+ * up with the scorer's weight. Venue features are compiled once per venue pool and
+ * reused for as long as the same pool is passed in, so a full season costs one
+ * compilation plus a linear pass per scorer per match.
+ */
+public class VenueScoringModel {
+    
+    private final List<VenueScorer> scorers = new ArrayList<>();
+    private final List<Double> weights = new ArrayList<>();
+    
+    // Matches played per team per venue, keyed by entity ID or identity
+    private final Map<Object, Map<Object, Integer>> history = new HashMap<>();
+    
+    private List<Venue> cachedVenues;
+    private VenueFeatures cachedFeatures;
+    
+    /**
+     * Creates a model with capacity fit, utilisation balance, travel distance
+     * and historical usage.
+     */
+    public static VenueScoringModel standard() {
+        return new VenueScoringModel()
+                .addScorer(VenueScorers.capacityFit(0), 1.0)
+                .addScorer(VenueScorers.utilisationBalance(), 1.0)
+                .addScorer(VenueScorers.travelDistance(), 1.0)
+                .addScorer(VenueScorers.historicalUsage(), 0.5);
+    }
+    
+    /**
+     * Adds a scorer to the pipeline.
+     * @return this model
+     */
+    public VenueScoringModel addScorer(VenueScorer scorer, double weight) {
+        if (scorer == null) {
+            throw new IllegalArgumentException("scorer must not be null");
+        }
+        if (weight < 0 || Double.isNaN(weight)) {
+            throw new IllegalArgumentException("weight must not be negative");
+        }
+        scorers.add(scorer);
+        weights.add(weight);
+        return this;
+    }
+    
+    /**
+     * Scores every venue for the match.
+     * @return the total score of each venue, in the order of the list
+     */
+    public double[] score(Match match, List<Venue> venues) {
+        VenueFeatures features = featuresFor(venues);
+        double[] totals = new double[features.size()];
+        double[] scores = new double[features.size()];
+        for (int k = 0; k < scorers.size(); k++) {
+            Arrays.fill(scores, 0);
+            scorers.get(k).score(match, features, scores);
+            double weight = weights.get(k);
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += weight * scores[i];
+            }
+        }
+        return totals;
+    }
+    
+    /**
+     * Picks the highest scoring venue, the earliest in the list on ties.
+     * @return the chosen venue, or null if the list is empty
+     */
+    public Venue selectBest(Match match, List<Venue> venues) {
+        return selectBest(match, venues, venue -> true);
+    }
+    
+    /**
+     * Picks the highest scoring venue among those accepted by the filter.
+     * @return the chosen venue, or null if no venue is accepted
+     */
+    public Venue selectBest(Match match, List<Venue> venues, Predicate<Venue> eligible) {
+        if (venues.isEmpty()) {
+            return null;
+        }
+        double[] totals = score(match, venues);
+        int best = -1;
+        for (int i = 0; i < totals.length; i++) {
+            if ((best < 0 || totals[i] > totals[best]) && eligible.test(venues.get(i))) {
+                best = i;
+            }
+        }
+        return best >= 0 ? venues.get(best) : null;
+    }
+    
+    /**
+     * Records where a match was played for the historical usage criterion.
+     */
+    public void recordUsage(Match match) {
+        if (match.getVenue() == null) {
+            return;
+        }
+        for (Team team : new Team[] {match.getTeam1(), match.getTeam2()}) {
+            if (team != null) {
+                history.computeIfAbsent(EntityKeys.of(team), k -> new HashMap<>())
+                       .merge(EntityKeys.of(match.getVenue()), 1, Integer::sum);
+                if (cachedFeatures != null) {
+                    cachedFeatures.addUsage(team, match.getVenue());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Adds the matches already played or scheduled at each venue, e.g. as loaded
+     * by VenueService.getVenueUsage, to the historical usage criterion.
+     * 
+     * @param usage number of matches per venue ID, per team ID
+     * @return this model
+     */
+    public VenueScoringModel loadUsage(Map<Long, Map<Long, Integer>> usage) {
+        for (Map.Entry<Long, Map<Long, Integer>> team : usage.entrySet()) {
+            Map<Object, Integer> venues = history.computeIfAbsent(team.getKey(), k -> new HashMap<>());
+            for (Map.Entry<Long, Integer> venue : team.getValue().entrySet()) {
+                venues.merge(venue.getKey(), venue.getValue(), Integer::sum);
+            }
+        }
+        // Usage is compiled into the venue features
+        invalidate();
+        return this;
+    }
+    
+    /**
+     * Discards the compiled venue features, e.g. after a venue's capacity or
+     * location was edited.
+     */
+    public void invalidate() {
+        cachedVenues = null;
+        cachedFeatures = null;
+    }
+    
+    private VenueFeatures featuresFor(List<Venue> venues) {
+        if (cachedFeatures == null || cachedVenues != venues || cachedFeatures.size() != venues.size()) {
+            cachedVenues = venues;
+            cachedFeatures = new VenueFeatures(venues, history);
+        }
+        return cachedFeatures;
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.tournament.service;
 
+import com.example.tournament.model.Match;
 import com.example.tournament.model.Venue;
 import com.example.tournament.util.JPAUtil;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service class for venue-related operations.
@@ -29,6 +32,7 @@ public class VenueService {
                 "SELECT v FROM Venue v ORDER BY v.name",
                 Venue.class
             );
+            ReferenceDataCache.cacheable(query, ReferenceDataCache.VENUES);
             return query.getResultList();
             
         } finally {
@@ -53,6 +57,94 @@ public class VenueService {
         }
     }
     
+    /**
+     * Retrieves a venue together with its bookings, so that its availability
+     * can be checked through the venue's booking calendar.
+     * 
+     * @param venueId the venue ID
+     * @return the venue with bookings loaded, or null if not found
+     */
+    public Venue getVenueWithBookings(Long venueId) {
+        EntityManager em = JPAUtil.getEntityManager();
+        
+        try {
+            TypedQuery<Venue> query = em.createQuery(
+                "SELECT DISTINCT v FROM Venue v LEFT JOIN FETCH v.bookings WHERE v.id = :id",
+                Venue.class
+            );
+            query.setParameter("id", venueId);
+            List<Venue> results = query.getResultList();
+            return results.isEmpty() ? null : results.get(0);
+            
+        } finally {
+            em.close();
+        }
+    }
+    
+    /**
+     * Retrieves all venues together with their bookings, for rescheduling
+     * against every venue's booking calendar.
+     * 
+     * @return list of all venues with bookings loaded
+     */
+    public List<Venue> getAllVenuesWithBookings() {
+        EntityManager em = JPAUtil.getEntityManager();
+        
+        try {
+            TypedQuery<Venue> query = em.createQuery(
+                "SELECT DISTINCT v FROM Venue v LEFT JOIN FETCH v.bookings ORDER BY v.name",
+                Venue.class
+            );
+            return query.getResultList();
+            
+        } finally {
+            em.close();
+        }
+    }
+    
+    /**
+     * Counts the matches each team has played or is scheduled to play at each
+     * venue, leaving out cancelled matches and matches without a venue.
+     * 
+     * @return number of matches per venue ID, per team ID
+     */
+    public Map<Long, Map<Long, Integer>> getVenueUsage() {
+        EntityManager em = JPAUtil.getEntityManager();
+        
+        try {
+            // One grouped query per side, as a team can be either team of a match
+            Map<Long, Map<Long, Integer>> usage = new HashMap<>();
+            for (String side : new String[] {"team1", "team2"}) {
+                List<Object[]> rows = em.createQuery(
+                    "SELECT m." + side + ".id, m.venue.id, COUNT(m) FROM Match m " +
+                    "WHERE m.venue IS NOT NULL AND m.status <> :cancelled " +
+                    "GROUP BY m." + side + ".id, m.venue.id",
+                    Object[].class
+                )
+                .setParameter("cancelled", Match.MatchStatus.CANCELLED)
+                .getResultList();
+                for (Object[] row : rows) {
+                    usage.computeIfAbsent((Long) row[0], k -> new HashMap<>())
+                         .merge((Long) row[1], ((Number) row[2]).intValue(), Integer::sum);
+                }
+            }
+            return usage;
+            
+        } finally {
+            em.close();
+        }
+    }
+    
+    /**
+     * Builds the standard venue scoring model with the venue usage of the matches
+     * already in the database, so historical usage carries over between sessions.
+     * 
+     * @return the scoring model
+     */
+    public VenueScoringModel createScoringModel() {
+        return VenueScoringModel.standard().loadUsage(getVenueUsage());
+    }
+    
     /**
      * Creates a new venue in the database.
      * 
@@ -66,6 +158,7 @@ public class VenueService {
             em.getTransaction().begin();
             em.persist(venue);
             em.getTransaction().commit();
+            ReferenceDataCache.evict(em, ReferenceDataCache.VENUES);
             return true;
             
         } catch (Exception e) {
@@ -93,6 +186,7 @@ public class VenueService {
             em.getTransaction().begin();
             em.merge(venue);
             em.getTransaction().commit();
+            ReferenceDataCache.evict(em, ReferenceDataCache.VENUES);
             return true;
             
         } catch (Exception e) {
@@ -127,6 +221,7 @@ public class VenueService {
             
             em.remove(venue);
             em.getTransaction().commit();
+            ReferenceDataCache.evict(em, ReferenceDataCache.VENUES);
             return true;
             
         } catch (Exception e) {
@@ -0,0 +1,88 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.BatchSchedulingManager;
+import com.example.tournament.service.ScheduleValidationReport;
+import com.example.tournament.service.ScheduleValidator;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test to verify parallel scheduling of several tournaments over one venue pool:
+ * 1. Every match of every tournament is scheduled
+ * 2. No venue is double-booked across tournaments, even with many worker threads
+ * 3. Each round stays within its own day window
+ * This test does not require a database.
+ */
+public class BatchSchedulingTest {
+    
+    public static void main(String[] args) {
+        System.out.println("=== Batch Scheduling Test ===\n");
+        
+        try {
+            testConcurrentTournamentsShareVenues();
+            
+            System.out.println("\n=== All Tests Passed ===");
+        
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Test that a dozen tournaments scheduled at once never share a venue slot
+     */
+    private static void testConcurrentTournamentsShareVenues() {
+        System.out.println("Test 1: Concurrent Tournaments Share Venues");
+        
+        List<Tournament> tournaments = new ArrayList<>();
+        List<Match> allMatches = new ArrayList<>();
+        for (int t = 1; t <= 12; t++) {
+            LeagueTournament league = new LeagueTournament("League " + t, new Sport("Football"),
+                                                           LocalDate.of(2025, 4, 1), LocalDate.of(2025, 6, 30));
+            for (int i = 1; i <= 8; i++) {
+                league.addTeam(new Team("League " + t + " Team " + i));
+            }
+            tournaments.add(league);
+        }
+        List<Venue> venues = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            venues.add(new Venue("Shared Venue " + i, "Street " + i, 2000));
+        }
+        
+        BatchSchedulingManager scheduler = new BatchSchedulingManager();
+        scheduler.setParallelism(8);
+        scheduler.setRoundSpacingDays(3);
+        Map<Tournament, ScheduleValidationReport> reports = scheduler.scheduleTournaments(tournaments, venues);
+        
+        assert reports.size() == tournaments.size() : "Every tournament should have a report";
+        for (Map.Entry<Tournament, ScheduleValidationReport> entry : reports.entrySet()) {
+            assert entry.getValue().isValid() : entry.getKey().getName() + " has issues: " + entry.getValue();
+            allMatches.addAll(entry.getKey().getMatches());
+        }
+        System.out.println("  ✓ All " + allMatches.size() + " matches of " + tournaments.size() + " tournaments scheduled");
+        
+        ScheduleValidationReport combined = new ScheduleValidator(Duration.ZERO).validate(allMatches);
+        assert !combined.hasConflicts() : "Venues double-booked across tournaments: " + combined;
+        int bookings = 0;
+        for (Venue venue : venues) {
+            bookings += venue.getBookings().size();
+        }
+        assert bookings == allMatches.size() : "Every match should hold exactly one venue booking";
+        System.out.println("  ✓ No venue is double-booked across tournaments");
+        
+        for (Match match : allMatches) {
+            LocalDate roundStart = LocalDate.of(2025, 4, 1).plusDays((match.getRound() - 1) * 3L);
+            LocalDate day = match.getScheduledTime().toLocalDate();
+            assert !day.isBefore(roundStart) && day.isBefore(roundStart.plusDays(3))
+                : "Match outside its round window: " + match;
+        }
+        System.out.println("  ✓ Every round is played within its own window");
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.tournament.test;
+
+import com.example.tournament.util.JPAUtil;
+import com.example.tournament.util.PoolMetrics;
+import jakarta.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test to verify the pooled connections behind JPAUtil:
+ * 1. Pool settings are taken from system properties
+ * 2. Many concurrent callers share the pool and give every connection back
+ * 3. Callers waiting on an exhausted pool show up in the metrics
+ */
+public class ConnectionPoolTest {
+    
+    private static final int POOL_SIZE = 3;
+    
+    public static void main(String[] args) {
+        System.out.println("=== Connection Pool Test ===\n");
+        
+        // Initialize database with a small pool
+        System.setProperty("tournament.db.pool.maximumPoolSize", String.valueOf(POOL_SIZE));
+        System.setProperty("tournament.db.pool.connectionTimeout", "5000");
+        JPAUtil.initialize();
+        
+        try {
+            testConfiguration();
+            testConcurrentCallers();
+            testStarvation();
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } catch (Exception e) {
+            System.err.println("Test error: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } finally {
+            JPAUtil.shutdown();
+            assert JPAUtil.getPoolMetrics() == null : "No metrics after shutdown";
+        }
+    }
+    
+    /**
+     * Test that the system properties size the pool
+     */
+    private static void testConfiguration() {
+        System.out.println("Test 1: Configuration");
+        
+        PoolMetrics metrics = JPAUtil.getPoolMetrics();
+        assert metrics != null : "Pool metrics should be available once initialized";
+        assert metrics.getMaximumPoolSize() == POOL_SIZE : "Expected pool size " + POOL_SIZE + ", got " + metrics;
+        assert "TournamentPU-H2".equals(metrics.getPoolName()) : "Pool should be named after the unit";
+        System.out.println("  ✓ " + metrics);
+    }
+    
+    /**
+     * Test that more callers than connections all get served
+     */
+    private static void testConcurrentCallers() throws Exception {
+        System.out.println("\nTest 2: Concurrent Callers");
+        
+        long acquiredBefore = JPAUtil.getPoolMetrics().getConnectionsAcquired();
+        int threads = 12;
+        int queries = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int q = 0; q < queries; q++) {
+                        EntityManager em = JPAUtil.getEntityManager();
+                        try {
+                            em.getTransaction().begin();
+                            em.createQuery("SELECT COUNT(s) FROM Sport s", Long.class).getSingleResult();
+                            em.getTransaction().commit();
+                        } finally {
+                            em.close();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        
+        PoolMetrics metrics = JPAUtil.getPoolMetrics();
+        assert metrics.getConnectionsAcquired() - acquiredBefore >= threads * queries
+            : "Every transaction should borrow a connection, got " + metrics;
+        assert metrics.getTotalConnections() <= POOL_SIZE : "Pool should not grow past its size";
+        assert metrics.getActiveConnections() == 0 : "All connections should be returned, got " + metrics;
+        assert metrics.getTimeouts() == 0 : "No caller should time out";
+        System.out.println("  ✓ " + threads * queries + " transactions on " + threads + " threads: " + metrics);
+    }
+    
+    /**
+     * Test that a caller blocked on an exhausted pool is reported and then served
+     */
+    private static void testStarvation() throws Exception {
+        System.out.println("\nTest 3: Starvation");
+        
+        List<EntityManager> holders = new ArrayList<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (int i = 0; i < POOL_SIZE; i++) {
+                EntityManager em = JPAUtil.getEntityManager();
+                em.getTransaction().begin();
+                holders.add(em);
+            }
+            
+            Future<Long> waiting = executor.submit(() -> {
+                EntityManager em = JPAUtil.getEntityManager();
+                try {
+                    em.getTransaction().begin();
+                    Long count = em.createQuery("SELECT COUNT(s) FROM Sport s", Long.class).getSingleResult();
+                    em.getTransaction().commit();
+                    return count;
+                } finally {
+                    em.close();
+                }
+            });
+            
+            PoolMetrics metrics = JPAUtil.getPoolMetrics();
+            for (int i = 0; i < 100 && metrics.getThreadsAwaitingConnection() == 0; i++) {
+                Thread.sleep(20);
+                metrics = JPAUtil.getPoolMetrics();
+            }
+            assert metrics.getActiveConnections() == POOL_SIZE : "All connections should be in use, got " + metrics;
+            assert metrics.getThreadsAwaitingConnection() == 1 : "The extra caller should be waiting, got " + metrics;
+            System.out.println("  ✓ While exhausted: " + metrics);
+            
+            release(holders.remove(0));
+            assert waiting.get(10, TimeUnit.SECONDS) != null : "Waiting caller should be served once released";
+            
+            metrics = JPAUtil.getPoolMetrics();
+            assert metrics.getMaxWaitMillis() > 0 : "The wait should be recorded";
+            System.out.println("  ✓ After release: " + metrics);
+            
+        } finally {
+            for (EntityManager em : holders) {
+                release(em);
+            }
+            executor.shutdown();
+        }
+    }
+    
+    private static void release(EntityManager em) {
+        em.getTransaction().rollback();
+        em.close();
+    }
+}
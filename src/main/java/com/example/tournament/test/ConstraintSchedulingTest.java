@@ -0,0 +1,116 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.ConstraintSchedulingManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test to verify the constraint-solving scheduler:
+ * 1. A large league is fully scheduled across all venues
+ * 2. No venue is double-booked and no team plays without its rest period
+ * 3. Team time slot preferences are honoured where possible
+ * This test does not require a database.
+ */
+public class ConstraintSchedulingTest {
+    
+    public static void main(String[] args) {
+        System.out.println("=== Constraint Scheduling Test ===\n");
+        
+        try {
+            testLargeLeagueIsFullyScheduled();
+            testPreferencesAreHonoured();
+            
+            System.out.println("\n=== All Tests Passed ===");
+        
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Test that a 64-team league is placed across every venue without conflicts
+     */
+    private static void testLargeLeagueIsFullyScheduled() {
+        System.out.println("Test 1: Large League Is Fully Scheduled");
+        
+        LeagueTournament league = new LeagueTournament("Big League", new Sport("Football"),
+                                                       LocalDate.of(2025, 1, 1), LocalDate.of(2025, 6, 30));
+        for (int i = 1; i <= 64; i++) {
+            league.addTeam(new Team("Team " + i));
+        }
+        List<Venue> venues = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            venues.add(new Venue("Venue " + i, "Street " + i, 1000 * i));
+        }
+        
+        ConstraintSchedulingManager scheduler = new ConstraintSchedulingManager(Duration.ofSeconds(5));
+        long started = System.currentTimeMillis();
+        scheduler.scheduleMatches(league, venues);
+        long elapsed = System.currentTimeMillis() - started;
+        
+        List<Match> matches = league.getMatches();
+        long unscheduled = matches.stream().filter(m -> m.getVenue() == null).count();
+        assert matches.size() == 64 * 63 / 2 : "League should have " + (64 * 63 / 2) + " matches";
+        assert unscheduled == 0 : unscheduled + " matches were left unscheduled";
+        System.out.println("  ✓ " + matches.size() + " matches scheduled in " + elapsed + " ms");
+        
+        for (Venue venue : venues) {
+            assert !venue.getBookings().isEmpty() : venue.getName() + " should be used";
+        }
+        System.out.println("  ✓ All " + venues.size() + " venues are used");
+        
+        for (int i = 0; i < matches.size(); i++) {
+            for (int j = i + 1; j < matches.size(); j++) {
+                Match a = matches.get(i);
+                Match b = matches.get(j);
+                if (a.getVenue() == b.getVenue()) {
+                    assert !a.getTimeSlot().overlapsWith(b.getTimeSlot()) : "Venue double-booked: " + a + " / " + b;
+                }
+                if (shareTeam(a, b)) {
+                    long hours = Math.abs(Duration.between(a.getScheduledTime(), b.getScheduledTime()).toHours());
+                    assert hours >= 14 : "Team plays twice within its rest period: " + a + " / " + b;
+                }
+            }
+        }
+        System.out.println("  ✓ No venue or team conflicts");
+        assert scheduler.validateSchedule(league) : "validateSchedule should accept the schedule";
+    }
+    
+    /**
+     * Test that matches land in windows both teams prefer
+     */
+    private static void testPreferencesAreHonoured() {
+        System.out.println("\nTest 2: Preferences Are Honoured");
+        
+        RoundRobinTournament cup = new RoundRobinTournament("Evening Cup", new Sport("Basketball"),
+                                                            LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+        TimeSlot evenings = new TimeSlot(LocalDate.of(2025, 3, 10).atTime(17, 0),
+                                         LocalDate.of(2025, 3, 20).atTime(21, 0));
+        for (int i = 1; i <= 4; i++) {
+            Team team = new Team("Evening Team " + i);
+            team.addPreferredTimeSlot(evenings);
+            cup.addTeam(team);
+        }
+        
+        new ConstraintSchedulingManager().scheduleMatches(cup, List.of(new Venue("Hall", "Center", 500)));
+        
+        for (Match match : cup.getMatches()) {
+            assert match.getTimeSlot() != null : "Match should be scheduled: " + match;
+            assert !match.getScheduledTime().isBefore(evenings.getStartTime())
+                  && !match.getTimeSlot().getEndTime().isAfter(evenings.getEndTime())
+                : "Match should be inside the preferred window: " + match;
+        }
+        System.out.println("  ✓ All " + cup.getMatches().size() + " matches are inside the preferred window");
+    }
+    
+    private static boolean shareTeam(Match a, Match b) {
+        return a.getTeam1() == b.getTeam1() || a.getTeam1() == b.getTeam2()
+            || a.getTeam2() == b.getTeam1() || a.getTeam2() == b.getTeam2();
+    }
+}
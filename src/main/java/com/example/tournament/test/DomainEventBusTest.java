@@ -0,0 +1,240 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.*;
+import com.example.tournament.util.JPAUtil;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Test to verify that committed match changes are published to subscribers:
+ * 1. Posting and correcting scores publishes the old and new result
+ * 2. A batch publishes one event per posted update
+ * 3. Rescheduling and deleting a match are published
+ * 4. Closed subscriptions and failing subscribers do not affect the publisher
+ * 5. A result taken back publishes the match's new status, and the knockout
+ *    matches a result draws are published as created
+ */
+public class DomainEventBusTest {
+    
+    public static void main(String[] args) {
+        System.out.println("=== Domain Event Bus Test ===\n");
+        
+        // Initialize database
+        JPAUtil.initialize();
+        
+        try {
+            LeagueTournament league = TestFixtures.createLeague("Event", 4);
+            List<Match> matches = TestFixtures.createMatches(league);
+            
+            testResultRecorded(league, matches);
+            testBatch(matches);
+            testRescheduleAndDelete(league, matches);
+            testSubscriptions(matches);
+            testStatusAndCreated();
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } catch (Exception e) {
+            System.err.println("Test error: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } finally {
+            JPAUtil.shutdown();
+        }
+    }
+    
+    /**
+     * Test the result events of a posted and a corrected score
+     */
+    private static void testResultRecorded(LeagueTournament league, List<Match> matches) {
+        System.out.println("Test 1: Result Recorded");
+        
+        List<MatchResultRecorded> events = new ArrayList<>();
+        Long matchId = matches.get(0).getId();
+        DomainEventBus.Subscription subscription =
+            DomainEventBus.getInstance().subscribe(MatchResultRecorded.class, events::add);
+        try {
+            ScoringService scoringService = new ScoringService();
+            boolean posted = scoringService.postScores(matchId, 2, 1);
+            assert posted : "Scores should be posted";
+            boolean corrected = scoringService.postScores(matchId, 0, 0);
+            assert corrected : "Correction should be posted";
+        } finally {
+            subscription.close();
+        }
+        
+        assert events.size() == 2 : "Expected two events, got " + events.size();
+        MatchResultRecorded first = events.get(0);
+        assert first.getTournamentId().equals(league.getId()) && first.getMatchId().equals(matchId) : "Wrong match";
+        assert !first.isPreviouslyCompleted() && first.isCompleted() && first.getTeam1Score() == 2 : "Wrong first event";
+        MatchResultRecorded correction = events.get(1);
+        assert correction.isPreviouslyCompleted() && correction.getPreviousTeam1Score() == 2
+            && correction.getPreviousTeam2Score() == 1 : "Correction should carry the replaced result";
+        assert correction.getTeam1Score() == 0 && correction.getTeam2Score() == 0 : "Wrong corrected result";
+        System.out.println("  ✓ " + first + "\n  ✓ " + correction);
+    }
+    
+    /**
+     * Test that a batch publishes only the updates it posted
+     */
+    private static void testBatch(List<Match> matches) {
+        System.out.println("\nTest 2: Batch");
+        
+        List<MatchResultRecorded> events = new ArrayList<>();
+        DomainEventBus.Subscription subscription =
+            DomainEventBus.getInstance().subscribe(MatchResultRecorded.class, events::add);
+        try {
+            new ScoringService().postScoresBatch(Arrays.asList(
+                new ScoreUpdate(matches.get(1).getId(), 1, 0),
+                new ScoreUpdate(-1L, 1, 0),
+                new ScoreUpdate(matches.get(2).getId(), 3, 3)));
+        } finally {
+            subscription.close();
+        }
+        
+        assert events.size() == 2 : "Only posted updates should be published, got " + events.size();
+        assert events.get(0).getMatchId().equals(matches.get(1).getId()) : "Events should follow the batch order";
+        assert events.get(1).getMatchId().equals(matches.get(2).getId()) : "Events should follow the batch order";
+        System.out.println("  ✓ 2 events for 2 posted updates out of 3");
+    }
+    
+    /**
+     * Test the schedule and delete events
+     */
+    private static void testRescheduleAndDelete(LeagueTournament league, List<Match> matches) {
+        System.out.println("\nTest 3: Reschedule and Delete");
+        
+        List<DomainEvent> events = new ArrayList<>();
+        MatchService matchService = new MatchService();
+        Match match = matchService.getMatchById(matches.get(3).getId());
+        LocalDateTime previous = match.getScheduledTime();
+        LocalDateTime next = LocalDateTime.now().plusDays(3).withNano(0);
+        DomainEventBus.Subscription subscription =
+            DomainEventBus.getInstance().subscribe(DomainEvent.class, events::add);
+        try {
+            match.setScheduledTime(next);
+            boolean saved = matchService.saveRescheduledMatches(Arrays.asList(match));
+            assert saved : "Reschedule should succeed";
+            
+            match.setRound(2);
+            boolean updated = matchService.updateMatch(match);
+            assert updated : "Update should succeed";
+            
+            boolean removed = matchService.deleteMatch(matches.get(2).getId());
+            assert removed : "Delete should succeed";
+        } finally {
+            subscription.close();
+        }
+        
+        assert events.size() == 2 : "Expected a reschedule and a delete only, got " + events;
+        MatchRescheduled rescheduled = (MatchRescheduled) events.get(0);
+        assert rescheduled.getMatchId().equals(match.getId()) && rescheduled.getScheduledTime().equals(next)
+            && Objects.equals(rescheduled.getPreviousScheduledTime(), previous) : "Wrong reschedule event";
+        MatchDeleted deleted = (MatchDeleted) events.get(1);
+        assert deleted.getTournamentId().equals(league.getId()) && deleted.isCompleted()
+            && deleted.getTeam1Score() == 3 : "Deleted event should carry the result to take back";
+        System.out.println("  ✓ " + rescheduled + "\n  ✓ " + deleted);
+    }
+    
+    /**
+     * Test that closed and failing subscribers are isolated
+     */
+    private static void testSubscriptions(List<Match> matches) {
+        System.out.println("\nTest 4: Subscriptions");
+        
+        DomainEventBus bus = DomainEventBus.getInstance();
+        int before = bus.getSubscriberCount();
+        List<MatchResultRecorded> closed = new ArrayList<>();
+        List<MatchResultRecorded> received = new ArrayList<>();
+        
+        DomainEventBus.Subscription subscription = bus.subscribe(MatchResultRecorded.class, closed::add);
+        subscription.close();
+        subscription.close();
+        DomainEventBus.Subscription failing = bus.subscribe(MatchResultRecorded.class, e -> {
+            throw new IllegalStateException("Subscriber failure");
+        });
+        DomainEventBus.Subscription working = bus.subscribe(MatchResultRecorded.class, received::add);
+        try {
+            boolean posted = new ScoringService().postScores(matches.get(4).getId(), 1, 2);
+            assert posted : "A failing subscriber should not fail the post";
+        } finally {
+            failing.close();
+            working.close();
+        }
+        
+        assert closed.isEmpty() : "Closed subscription should not receive events";
+        assert received.size() == 1 : "Other subscribers should still receive the event";
+        assert bus.getSubscriberCount() == before : "All subscriptions should be removed";
+        System.out.println("  ✓ Closed subscription skipped, failing subscriber isolated");
+    }
+    
+    /**
+     * Test the status of a result taken back and the events of a drawn final
+     */
+    private static void testStatusAndCreated() {
+        System.out.println("\nTest 5: Status and Created Matches");
+        
+        EntityManager em = JPAUtil.getEntityManager();
+        KnockoutTournament cup;
+        try {
+            em.getTransaction().begin();
+            Sport sport = new Sport("Event Cup Sport");
+            em.persist(sport);
+            cup = new KnockoutTournament("Event Cup", sport, LocalDate.now(), LocalDate.now().plusDays(7));
+            for (int i = 1; i <= 4; i++) {
+                Team team = new Team("Event Cup Team " + i);
+                em.persist(team);
+                cup.addTeam(team);
+            }
+            cup.generateSchedule();
+            em.persist(cup);
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+        
+        List<DomainEvent> events = new ArrayList<>();
+        Long semiFinal = cup.getMatches().get(0).getId();
+        DomainEventBus.Subscription subscription =
+            DomainEventBus.getInstance().subscribe(DomainEvent.class, events::add);
+        try {
+            ScoringService scoringService = new ScoringService();
+            boolean posted = scoringService.postScores(semiFinal, 2, 0);
+            assert posted : "Scores should be posted";
+            
+            MatchService matchService = new MatchService();
+            Match match = matchService.getMatchById(semiFinal);
+            match.setStatus(Match.MatchStatus.SCHEDULED);
+            boolean reverted = matchService.updateMatch(match);
+            assert reverted : "Result should be taken back";
+            
+            posted = scoringService.postScores(semiFinal, 1, 0);
+            assert posted : "Scores should be posted again";
+            posted = scoringService.postScores(cup.getMatches().get(1).getId(), 0, 1);
+            assert posted : "Second semi-final should be posted";
+        } finally {
+            subscription.close();
+        }
+        
+        TestFixtures.check(events.size() == 5, "Expected four results and a created final, got " + events);
+        MatchResultRecorded takenBack = (MatchResultRecorded) events.get(1);
+        assert takenBack.getStatus() == Match.MatchStatus.SCHEDULED && !takenBack.isCompleted()
+            : "Event should carry the status the match went back to: " + takenBack;
+        assert ((MatchResultRecorded) events.get(2)).getStatus() == Match.MatchStatus.COMPLETED : "Wrong status";
+        MatchCreated created = (MatchCreated) events.get(4);
+        assert created.getTournamentId().equals(cup.getId()) && created.getMatchId() != null
+            && created.getTeam1Name() != null && created.getTeam2Name() != null : "Wrong created event: " + created;
+        System.out.println("  ✓ " + takenBack + "\n  ✓ " + created);
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.ConstraintSchedulingManager;
+import com.example.tournament.service.RescheduleResult;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test to verify incremental rescheduling:
+ * 1. Postponing a match frees its old booking and finds the nearest free slot
+ * 2. Moving a match onto a busy slot shifts only the fixtures that clash with it
+ * 3. A move that cannot be completed leaves the schedule unchanged
+ * This test does not require a database.
+ */
+public class IncrementalReschedulingTest {
+    
+    public static void main(String[] args) {
+        System.out.println("=== Incremental Rescheduling Test ===\n");
+        
+        try {
+            testPostponeFreesOldBooking();
+            testMoveShiftsOnlyClashingFixtures();
+            testFailedMoveIsRolledBack();
+            
+            System.out.println("\n=== All Tests Passed ===");
+        
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Test that postponing releases the old booking and keeps the venue calendar consistent
+     */
+    private static void testPostponeFreesOldBooking() {
+        System.out.println("Test 1: Postpone Frees Old Booking");
+        
+        List<Venue> venues = createVenues(2);
+        LeagueTournament league = createScheduledLeague(venues);
+        ConstraintSchedulingManager scheduler = createScheduler();
+        
+        Match match = league.getMatches().get(0);
+        Venue oldVenue = match.getVenue();
+        LocalDateTime oldStart = match.getScheduledTime();
+        int bookingsBefore = countBookings(venues);
+        
+        boolean moved = scheduler.rescheduleMatch(match, venues);
+        assert moved : "Match should be rescheduled";
+        assert !match.getScheduledTime().equals(oldStart) || match.getVenue() != oldVenue : "Match should have moved";
+        assert countBookings(venues) == bookingsBefore : "Old booking should be released, not duplicated";
+        assert scheduler.getValidationReport(league).isValid() : "Schedule should stay valid";
+        System.out.println("  ✓ Match moved to " + match.getScheduledTime() + " with no leftover booking");
+    }
+    
+    /**
+     * Test that a move onto an occupied slot shifts only the fixtures in the way
+     */
+    private static void testMoveShiftsOnlyClashingFixtures() {
+        System.out.println("\nTest 2: Move Shifts Only Clashing Fixtures");
+        
+        List<Venue> venues = createVenues(2);
+        LeagueTournament league = createScheduledLeague(venues);
+        ConstraintSchedulingManager scheduler = createScheduler();
+        
+        List<Match> matches = league.getMatches();
+        Match moved = matches.get(0);
+        Match target = matches.get(matches.size() - 1);
+        Map<Match, LocalDateTime> before = snapshot(matches);
+        
+        long started = System.nanoTime();
+        RescheduleResult result = scheduler.rescheduleMatch(moved, target.getScheduledTime(), target.getVenue(),
+                                                            matches, venues);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        
+        assert result.isSuccessful() : "Move should succeed: " + result;
+        assert moved.getScheduledTime().equals(before.get(target)) : "Match should be at the requested time";
+        assert result.getShiftedMatches().contains(target) : "The fixture occupying the slot should be shifted";
+        
+        int changed = 0;
+        for (Match match : matches) {
+            if (!match.getScheduledTime().equals(before.get(match))) {
+                changed++;
+                assert match == moved || result.getShiftedMatches().contains(match)
+                    : "Unrelated fixture was moved: " + match;
+            }
+        }
+        assert scheduler.getValidationReport(league).isValid() : "Schedule should stay valid";
+        System.out.println("  ✓ " + changed + " of " + matches.size() + " matches changed in " + elapsedMillis + " ms");
+    }
+    
+    /**
+     * Test that a move blocked by another event restores the original schedule
+     */
+    private static void testFailedMoveIsRolledBack() {
+        System.out.println("\nTest 3: Failed Move Is Rolled Back");
+        
+        List<Venue> venues = createVenues(2);
+        LeagueTournament league = createScheduledLeague(venues);
+        ConstraintSchedulingManager scheduler = createScheduler();
+        
+        // An event outside the tournament blocks the requested slot
+        Venue venue = venues.get(0);
+        LocalDateTime blocked = LocalDate.of(2025, 5, 20).atTime(12, 0);
+        venue.bookTimeSlot(new TimeSlot(blocked, blocked.plusHours(3)));
+        
+        List<Match> matches = league.getMatches();
+        Map<Match, LocalDateTime> before = snapshot(matches);
+        int bookingsBefore = countBookings(venues);
+        
+        RescheduleResult result = scheduler.rescheduleMatch(matches.get(0), blocked, venue, matches, venues);
+        
+        assert !result.isSuccessful() : "Move onto another event should fail";
+        for (Match match : matches) {
+            assert match.getScheduledTime().equals(before.get(match)) : "Match should be restored: " + match;
+        }
+        assert countBookings(venues) == bookingsBefore : "Bookings should be restored";
+        assert scheduler.getValidationReport(league).isValid() : "Schedule should stay valid";
+        System.out.println("  ✓ Schedule unchanged: " + result.getMessage());
+    }
+    
+    private static ConstraintSchedulingManager createScheduler() {
+        return new ConstraintSchedulingManager(Duration.ofSeconds(2));
+    }
+    
+    private static LeagueTournament createScheduledLeague(List<Venue> venues) {
+        LeagueTournament league = new LeagueTournament("Repair League", new Sport("Football"),
+                                                       LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 31));
+        for (int i = 1; i <= 8; i++) {
+            league.addTeam(new Team("Repair Team " + i));
+        }
+        createScheduler().scheduleMatches(league, venues);
+        return league;
+    }
+    
+    private static List<Venue> createVenues(int count) {
+        List<Venue> venues = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            venues.add(new Venue("Repair Venue " + i, "Street " + i, 1000));
+        }
+        return venues;
+    }
+    
+    private static Map<Match, LocalDateTime> snapshot(List<Match> matches) {
+        Map<Match, LocalDateTime> times = new HashMap<>();
+        for (Match match : matches) {
+            times.put(match, match.getScheduledTime());
+        }
+        return times;
+    }
+    
+    private static int countBookings(List<Venue> venues) {
+        int bookings = 0;
+        for (Venue venue : venues) {
+            bookings += venue.getBookings().size();
+        }
+        return bookings;
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Test to verify the knockout bracket:
+ * 1. Round 1 pairs seeds so that the top seeds meet as late as possible
+ * 2. Team counts that are not a power of 2 give byes to the top seeds
+ * 3. The next round is generated only once every match of a round has a winner
+ * 4. Standings give the round each team reached, champion first
+ * 5. Draws are refused, and so is a new winner once the next round's match exists
+ * This test does not require a database.
+ */
+public class KnockoutBracketTest {
+    
+    public static void main(String[] args) {
+        System.out.println("=== Knockout Bracket Test ===\n");
+        
+        try {
+            testSeeding();
+            testByes();
+            testAdvancement();
+            testStandings();
+            testResultChecks();
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Test standard seeding of a full bracket
+     */
+    private static void testSeeding() {
+        System.out.println("Test 1: Seeding");
+        
+        KnockoutTournament tournament = knockout(8);
+        tournament.generateSchedule();
+        
+        List<Match> round1 = tournament.getMatches();
+        assert round1.size() == 4 : "8 teams should play 4 matches, got " + round1.size();
+        String[] expected = {"Seed 1 v Seed 8", "Seed 4 v Seed 5", "Seed 2 v Seed 7", "Seed 3 v Seed 6"};
+        for (int i = 0; i < expected.length; i++) {
+            assert describe(round1.get(i)).equals(expected[i]) : "Match " + (i + 1) + " was " + describe(round1.get(i));
+            assert round1.get(i).getRound() == 1 : "Round number should be set";
+        }
+        assert tournament.getBracket().getRoundCount() == 3 : "8 teams need 3 rounds";
+        System.out.println("  ✓ Round 1: " + String.join(", ", expected));
+    }
+    
+    /**
+     * Test that the top seeds get the byes
+     */
+    private static void testByes() {
+        System.out.println("\nTest 2: Byes");
+        
+        KnockoutTournament tournament = knockout(5);
+        tournament.generateSchedule();
+        
+        assert tournament.getMatches().size() == 1 : "Only seeds 4 and 5 should play in round 1";
+        assert describe(tournament.getMatches().get(0)).equals("Seed 4 v Seed 5") : "Wrong round 1 pairing";
+        
+        KnockoutBracket bracket = tournament.getBracket();
+        for (int seed = 1; seed <= 3; seed++) {
+            assert bracket.getRoundReached(tournament.getSeeds().get(seed - 1)) == 2 : "Seed " + seed + " should have a bye";
+        }
+        assert bracket.getCurrentRound() == 1 : "Round 1 is still being played";
+        
+        // Nobody is left out when the team count is odd
+        Set<Team> entered = new HashSet<>(bracket.getStandings().keySet());
+        assert entered.containsAll(tournament.getTeams()) : "Every team should be in the bracket";
+        System.out.println("  ✓ Seeds 1-3 advance on byes, seeds 4 and 5 play");
+    }
+    
+    /**
+     * Test that rounds are generated from the winners once complete
+     */
+    private static void testAdvancement() {
+        System.out.println("\nTest 3: Advancement");
+        
+        KnockoutTournament tournament = knockout(4);
+        tournament.generateSchedule();
+        List<Match> round1 = new ArrayList<>(tournament.getMatches());
+        
+        // Higher seed number wins the first match; the second is a draw and has no winner yet
+        complete(round1.get(0), 0, 2);
+        complete(round1.get(1), 1, 1);
+        assert tournament.advanceToNextRound().isEmpty() : "Round 2 should wait for a winner";
+        assert tournament.getCurrentRound() == 1 : "Tournament should still be in round 1";
+        
+        complete(round1.get(1), 2, 1);
+        List<Match> round2 = tournament.advanceToNextRound();
+        assert round2.size() == 1 : "Final should be created";
+        assert describe(round2.get(0)).equals("Seed 4 v Seed 2") : "Final was " + describe(round2.get(0));
+        assert round2.get(0).getRound() == 2 && tournament.getCurrentRound() == 2 : "Tournament should be in round 2";
+        List<Match> repeated = tournament.advanceToNextRound();
+        assert repeated.isEmpty() : "Final should only be created once";
+        
+        complete(round2.get(0), 3, 0);
+        KnockoutBracket bracket = tournament.getBracket();
+        assert bracket.isComplete() && bracket.getChampion().getName().equals("Seed 4") : "Seed 4 should be champion";
+        List<Match> afterFinal = tournament.advanceToNextRound();
+        assert afterFinal.isEmpty() : "Nothing follows the final";
+        System.out.println("  ✓ Final drawn from winners: " + describe(round2.get(0)));
+    }
+    
+    /**
+     * Test the round-reached standings
+     */
+    private static void testStandings() {
+        System.out.println("\nTest 4: Standings");
+        
+        KnockoutTournament tournament = knockout(6);
+        tournament.generateSchedule();
+        
+        // Play every round out, the lower seed number always winning
+        List<Match> round = new ArrayList<>(tournament.getMatches());
+        while (!round.isEmpty()) {
+            for (Match match : round) {
+                boolean team1Wins = seedOf(match.getTeam1()) < seedOf(match.getTeam2());
+                complete(match, team1Wins ? 1 : 0, team1Wins ? 0 : 1);
+            }
+            round = tournament.advanceToNextRound();
+        }
+        
+        List<Map.Entry<Team, Integer>> standings = new ArrayList<>(tournament.getStandings().entrySet());
+        assert standings.size() == 6 : "Every team should be ranked";
+        assert standings.get(0).getKey().getName().equals("Seed 1") && standings.get(0).getValue() == 4
+            : "Champion should be placed beyond the final";
+        assert standings.get(1).getKey().getName().equals("Seed 2") && standings.get(1).getValue() == 3
+            : "Finalist should have reached round 3";
+        for (int i = 1; i < standings.size(); i++) {
+            assert standings.get(i - 1).getValue() >= standings.get(i).getValue() : "Standings not ordered";
+        }
+        System.out.println("  ✓ Standings: " + rounds(standings));
+    }
+    
+    /**
+     * Test the results a knockout tournament refuses
+     */
+    private static void testResultChecks() {
+        System.out.println("\nTest 5: Result Checks");
+        
+        KnockoutTournament tournament = knockout(4);
+        tournament.generateSchedule();
+        List<Match> round1 = new ArrayList<>(tournament.getMatches());
+        Match first = round1.get(0);
+        assert tournament.checkResult(first, 1, 1) != null : "A draw should be refused";
+        assert tournament.checkResult(first, 2, 1) == null : "A result with a winner should be accepted";
+        
+        // The winner may still change while the final is not drawn
+        complete(first, 2, 1);
+        assert tournament.checkResult(first, 0, 1) == null : "Winner should be correctable before the final exists";
+        complete(first, 0, 1);
+        complete(round1.get(1), 1, 0);
+        List<Match> finals = tournament.advanceToNextRound();
+        assert finals.size() == 1 && describe(finals.get(0)).equals("Seed 4 v Seed 2")
+            : "Final should be drawn from the corrected winner, got " + describe(finals.get(0));
+        
+        String refused = tournament.checkResult(first, 3, 0);
+        assert refused != null : "Winner should not change once the final exists";
+        assert tournament.checkResult(first, 0, 3) == null : "Score corrections keeping the winner should be accepted";
+        assert tournament.checkResult(finals.get(0), 2, 0) == null : "The final has no next round";
+        assert tournament.getBracket().getUnscheduledPairings(2).isEmpty() : "No second final should be pending";
+        System.out.println("  ✓ " + refused);
+    }
+    
+    private static KnockoutTournament knockout(int teams) {
+        KnockoutTournament tournament = new KnockoutTournament("Cup", new Sport("Football"),
+                                                               LocalDate.now(), LocalDate.now().plusDays(14));
+        for (int i = 1; i <= teams; i++) {
+            tournament.addTeam(new Team("Seed " + i));
+        }
+        return tournament;
+    }
+    
+    private static void complete(Match match, int score1, int score2) {
+        match.setTeam1Score(score1);
+        match.setTeam2Score(score2);
+        match.setStatus(Match.MatchStatus.COMPLETED);
+    }
+    
+    private static int seedOf(Team team) {
+        return Integer.parseInt(team.getName().substring("Seed ".length()));
+    }
+    
+    private static String describe(Match match) {
+        return match.getTeam1().getName() + " v " + match.getTeam2().getName();
+    }
+    
+    private static String rounds(List<Map.Entry<Team, Integer>> standings) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<Team, Integer> entry : standings) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(entry.getKey().getName()).append("=").append(entry.getValue());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.*;
+import com.example.tournament.util.JPAUtil;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Test to verify that match listings load their associations in the match query:
+ * 1. Game listings run one statement, however many matches they return, plus
+ *    one for knockout seeds when knockout matches are listed
+ * 2. Schedule listings likewise
+ * 3. Match service listings and lookups likewise
+ * 4. Associations can be read once the EntityManager has closed
+ */
+public class MatchFetchPlanTest {
+    
+    private static final int MATCHES = 2000;
+    
+    private static Statistics statistics;
+    private static SessionFactory sessionFactory;
+    
+    public static void main(String[] args) {
+        System.out.println("=== Match Fetch Plan Test ===\n");
+        
+        // Initialize database with statistics, to count the statements run
+        JPAUtil.initialize("TournamentPU-H2", Map.of("hibernate.generate_statistics", true,
+                                                     "hibernate.show_sql", false));
+        
+        try {
+            EntityManager em = JPAUtil.getEntityManager();
+            sessionFactory = em.getEntityManagerFactory().unwrap(SessionFactory.class);
+            statistics = sessionFactory.getStatistics();
+            em.close();
+            
+            LeagueTournament league = createSchedule();
+            
+            testGames(league);
+            testSchedule(league);
+            testMatchService(league);
+            testDetached(league);
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } catch (Exception e) {
+            System.err.println("Test error: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } finally {
+            JPAUtil.shutdown();
+        }
+    }
+    
+    /**
+     * Test the game listings
+     */
+    private static void testGames(LeagueTournament league) {
+        System.out.println("Test 1: Games");
+        
+        GameService gameService = new GameService();
+        assertStatements("viewAllGames", 2, gameService::viewAllGames);
+        assertStatements("viewGamesByTournament", 1, () -> gameService.viewGamesByTournament(league.getId()));
+        System.out.println("  ✓ Game listings ran at most two statements each");
+    }
+    
+    /**
+     * Test the schedule listings
+     */
+    private static void testSchedule(LeagueTournament league) {
+        System.out.println("\nTest 2: Schedule");
+        
+        ScheduleService scheduleService = new ScheduleService();
+        assertStatements("viewSchedule", 2, scheduleService::viewSchedule);
+        assertStatements("viewScheduleByTournament", 1, () -> scheduleService.viewScheduleByTournament(league.getId()));
+        assertStatements("viewSchedule page", 2, () -> scheduleService.viewSchedule(null, null, 100));
+        System.out.println("  ✓ Schedule listings ran at most two statements each");
+    }
+    
+    /**
+     * Test the match service listings and lookup by ID
+     */
+    private static void testMatchService(LeagueTournament league) {
+        System.out.println("\nTest 3: Match Service");
+        
+        MatchService matchService = new MatchService();
+        List<Match> matches = assertStatements("getAllMatches", 2, matchService::getAllMatches);
+        assertStatements("getMatchesByTournament", 1, () -> matchService.getMatchesByTournament(league.getId()));
+        Long matchId = matches.get(matches.size() / 2).getId();
+        assertStatements("getMatchById", 1, () -> matchService.getMatchById(matchId));
+        System.out.println("  ✓ Match service listings ran at most two statements each");
+    }
+    
+    /**
+     * Test that the fetched associations are usable after the EntityManager closed
+     */
+    private static void testDetached(LeagueTournament league) {
+        System.out.println("\nTest 4: Detached Access");
+        
+        List<Match> matches = new ScheduleService().viewScheduleByTournament(league.getId());
+        assert matches.size() == MATCHES : "Expected " + MATCHES + " matches, got " + matches.size();
+        for (Match match : matches) {
+            assert match.getTournament().getSport().getName().equals("Fetch Lacrosse") : "Sport should be loaded";
+            assert match.getTeam1().getName() != null && match.getTeam2().getName() != null : "Teams should be loaded";
+            assert match.getVenue().getName() != null : "Venue should be loaded";
+            assert match.getTimeSlot().getStartTime().equals(match.getScheduledTime()) : "Time slot should be loaded";
+            assert match.getSchedule().getTournament().getId().equals(league.getId()) : "Schedule should be loaded";
+        }
+        System.out.println("  ✓ " + matches.size() + " matches read with all associations after close");
+    }
+    
+    /**
+     * Runs a listing against cold caches and checks how many statements it took.
+     */
+    private static <T> T assertStatements(String listing, int max, Supplier<T> lookup) {
+        sessionFactory.getCache().evictAllRegions();
+        long before = statistics.getPrepareStatementCount();
+        T result = lookup.get();
+        long statements = statistics.getPrepareStatementCount() - before;
+        assert statements <= max : listing + " should run at most " + max + " statements, ran " + statements;
+        return result;
+    }
+    
+    /**
+     * Creates a published schedule of 2,000 matches, each with its own time slot,
+     * spread over 20 teams and 10 venues, and three seeded knockout cups.
+     */
+    private static LeagueTournament createSchedule() {
+        EntityManager em = JPAUtil.getEntityManager();
+        try {
+            em.getTransaction().begin();
+            Sport sport = new Sport("Fetch Lacrosse");
+            em.persist(sport);
+            LocalDateTime start = LocalDateTime.of(2032, 1, 1, 9, 0);
+            LeagueTournament league = new LeagueTournament("Fetch League", sport,
+                                                           start.toLocalDate(), start.toLocalDate().plusYears(1));
+            List<Team> teams = new ArrayList<>();
+            for (int i = 1; i <= 20; i++) {
+                Team team = new Team("Fetch Team " + i);
+                em.persist(team);
+                league.addTeam(team);
+                teams.add(team);
+            }
+            em.persist(league);
+            List<Venue> venues = new ArrayList<>();
+            for (int i = 1; i <= 10; i++) {
+                Venue venue = new Venue("Fetch Field " + i, "District " + i, 200 * i);
+                em.persist(venue);
+                venues.add(venue);
+            }
+            Schedule schedule = new Schedule(league);
+            schedule.setPublishedDate(start.minusDays(7));
+            schedule.setPublished(true);
+            em.persist(schedule);
+            
+            for (int i = 0; i < MATCHES; i++) {
+                LocalDateTime time = start.plusHours(i * 3L);
+                TimeSlot slot = new TimeSlot(time, time.plusHours(2));
+                slot.setVenue(venues.get(i % venues.size()));
+                em.persist(slot);
+                
+                Match match = new Match(league, teams.get(i % 20), teams.get((i + 1 + i / 20 % 19) % 20));
+                match.setVenue(slot.getVenue());
+                match.setTimeSlot(slot);
+                match.setScheduledTime(time);
+                match.setSchedule(schedule);
+                em.persist(match);
+            }
+            
+            // Knockout cups listed alongside, whose seeds are loaded in one batch
+            for (int i = 1; i <= 3; i++) {
+                KnockoutTournament cup = new KnockoutTournament("Fetch Cup " + i, sport,
+                                                                start.toLocalDate(), start.toLocalDate().plusDays(7));
+                cup.setSeeds(new ArrayList<>(teams.subList(i, i + 4)));
+                em.persist(cup);
+                Match match = new Match(cup, teams.get(i), teams.get(i + 1));
+                match.setScheduledTime(start.plusMinutes(i));
+                em.persist(match);
+            }
+            em.getTransaction().commit();
+            return league;
+        } finally {
+            em.close();
+        }
+    }
+}
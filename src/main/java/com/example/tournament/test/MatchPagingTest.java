@@ -0,0 +1,232 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.*;
+import com.example.tournament.util.JPAUtil;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test to verify keyset paging and streaming of matches:
+ * 1. Pages cover every match once, in schedule order, unscheduled last
+ * 2. Time window, venue and team filters, and team pages that run into the
+ *    unscheduled matches
+ * 3. Streaming returns the same matches as the list
+ * 4. The (scheduledTime, id) indexes exist
+ */
+public class MatchPagingTest {
+    
+    private static final LocalDateTime START = LocalDateTime.of(2031, 3, 1, 10, 0);
+    
+    public static void main(String[] args) {
+        System.out.println("=== Match Paging Test ===\n");
+        
+        // Initialize database
+        JPAUtil.initialize("TournamentPU-H2");
+        
+        try {
+            List<Venue> venues = new ArrayList<>();
+            List<Team> teams = new ArrayList<>();
+            createMatches(venues, teams);
+            
+            testPaging();
+            testFilters(venues.get(0), teams.get(0));
+            testStreaming();
+            testIndexes();
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } catch (Exception e) {
+            System.err.println("Test error: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } finally {
+            JPAUtil.shutdown();
+        }
+    }
+    
+    /**
+     * Test that walking the pages returns every match in order
+     */
+    private static void testPaging() {
+        System.out.println("Test 1: Paging");
+        
+        MatchService matchService = new MatchService();
+        List<Match> all = matchService.getMatches(null, null, 0);
+        assert all.size() >= 40 : "Expected at least the 40 created matches, got " + all.size();
+        for (int i = 1; i < all.size(); i++) {
+            Match previous = all.get(i - 1);
+            Match current = all.get(i);
+            assert current.getScheduledTime() == null
+                || (previous.getScheduledTime() != null && !previous.getScheduledTime().isAfter(current.getScheduledTime()))
+                : "Matches should be in schedule order, unscheduled last";
+        }
+        
+        List<Match> paged = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        Match last = null;
+        int pages = 0;
+        while (true) {
+            List<Match> page = new ScheduleService().viewSchedule(null, last, 7);
+            if (page.isEmpty()) {
+                break;
+            }
+            assert page.size() <= 7 : "Page exceeds its limit";
+            for (Match match : page) {
+                boolean added = seen.add(match.getId());
+                assert added : "Match " + match.getId() + " listed twice";
+                assert match.getTeam1().getName() != null : "Teams should be loaded with the page";
+            }
+            paged.addAll(page);
+            last = page.get(page.size() - 1);
+            pages++;
+        }
+        
+        assert ids(paged).equals(ids(all)) : "Pages should follow the list order";
+        System.out.println("  ✓ " + all.size() + " matches in " + pages + " pages of at most 7");
+    }
+    
+    /**
+     * Test that the time window, venue and team filters combine
+     */
+    private static void testFilters(Venue venue, Team team) {
+        System.out.println("\nTest 2: Filters");
+        
+        MatchService matchService = new MatchService();
+        List<Match> all = matchService.getMatches(null, null, 0);
+        LocalDateTime from = START.plusDays(2);
+        LocalDateTime to = START.plusDays(5);
+        
+        List<Match> window = new GameService().viewGames(new MatchFilter(from, to), null, 0);
+        List<Long> expected = all.stream()
+            .filter(m -> m.getScheduledTime() != null
+                && !m.getScheduledTime().isBefore(from) && m.getScheduledTime().isBefore(to))
+            .map(Match::getId)
+            .collect(Collectors.toList());
+        assert !expected.isEmpty() && ids(window).equals(expected) : "Window should list " + expected + ", got " + ids(window);
+        
+        List<Match> atVenue = matchService.getMatches(new MatchFilter(from, null, venue.getId(), team.getId()), null, 0);
+        expected = all.stream()
+            .filter(m -> m.getScheduledTime() != null && !m.getScheduledTime().isBefore(from))
+            .filter(m -> m.getVenue() != null && m.getVenue().getId().equals(venue.getId()))
+            .filter(m -> m.getTeam1().getId().equals(team.getId()) || m.getTeam2().getId().equals(team.getId()))
+            .map(Match::getId)
+            .collect(Collectors.toList());
+        assert !expected.isEmpty() && ids(atVenue).equals(expected) : "Venue and team should list " + expected + ", got " + ids(atVenue);
+        
+        // Either side of the team filter, paged across the scheduled and unscheduled matches
+        MatchFilter teamOnly = new MatchFilter(null, null, null, team.getId());
+        List<Match> teamPages = new ArrayList<>();
+        Match last = null;
+        for (List<Match> page = matchService.getMatches(teamOnly, null, 4); !page.isEmpty();
+                page = matchService.getMatches(teamOnly, last, 4)) {
+            teamPages.addAll(page);
+            last = page.get(page.size() - 1);
+        }
+        expected = all.stream()
+            .filter(m -> m.getTeam1().getId().equals(team.getId()) || m.getTeam2().getId().equals(team.getId()))
+            .map(Match::getId)
+            .collect(Collectors.toList());
+        assert teamPages.get(teamPages.size() - 1).getScheduledTime() == null : "Unscheduled matches should be listed last";
+        assert ids(teamPages).equals(expected) : "Team pages should list " + expected + ", got " + ids(teamPages);
+        System.out.println("  ✓ " + window.size() + " matches in the window, " + atVenue.size() +
+                           " for the team at the venue, " + teamPages.size() + " for the team in pages of 4");
+    }
+    
+    /**
+     * Test that the stream returns the same matches as the list
+     */
+    private static void testStreaming() {
+        System.out.println("\nTest 3: Streaming");
+        
+        List<Long> listed = ids(new MatchService().getMatches(null, null, 0));
+        List<Long> streamed;
+        try (Stream<Match> matches = new ScheduleService().streamSchedule(null)) {
+            streamed = matches.map(Match::getId).collect(Collectors.toList());
+        }
+        assert streamed.equals(listed) : "Stream should return the listed matches in order";
+        
+        MatchFilter window = new MatchFilter(START, START.plusDays(1));
+        try (Stream<Match> matches = new MatchService().streamMatches(window)) {
+            assert matches.allMatch(m -> m.getScheduledTime().isBefore(START.plusDays(1)))
+                : "Stream should apply the filter";
+        }
+        System.out.println("  ✓ " + streamed.size() + " matches streamed in list order");
+    }
+    
+    /**
+     * Test that the composite indexes were created
+     */
+    private static void testIndexes() {
+        System.out.println("\nTest 4: Indexes");
+        
+        EntityManager em = JPAUtil.getEntityManager();
+        try {
+            @SuppressWarnings("unchecked")
+            List<String> names = em.createNativeQuery(
+                "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = 'MATCHES'")
+                .getResultList();
+            for (String index : List.of("IDX_MATCHES_TIME", "IDX_MATCHES_VENUE_TIME",
+                                        "IDX_MATCHES_TEAM1_TIME", "IDX_MATCHES_TEAM2_TIME")) {
+                assert names.contains(index) : "Missing index " + index + " in " + names;
+            }
+            System.out.println("  ✓ Indexes " + names);
+        } finally {
+            em.close();
+        }
+    }
+    
+    /**
+     * Creates 40 matches over three venues and four teams; several share a
+     * scheduled time, so pages break inside runs of equal times, and a few are
+     * not scheduled yet.
+     */
+    private static void createMatches(List<Venue> venues, List<Team> teams) {
+        EntityManager em = JPAUtil.getEntityManager();
+        try {
+            em.getTransaction().begin();
+            Sport sport = new Sport("Paging Rugby");
+            em.persist(sport);
+            LeagueTournament league = new LeagueTournament("Paging League", sport,
+                                                           START.toLocalDate(), START.toLocalDate().plusDays(30));
+            for (int i = 1; i <= 4; i++) {
+                Team team = new Team("Paging Team " + i);
+                em.persist(team);
+                league.addTeam(team);
+                teams.add(team);
+            }
+            em.persist(league);
+            for (int i = 1; i <= 3; i++) {
+                Venue venue = new Venue("Paging Ground " + i, "Town " + i, 1000 * i);
+                em.persist(venue);
+                venues.add(venue);
+            }
+            for (int i = 0; i < 40; i++) {
+                Match match = new Match(league, teams.get(i % 4), teams.get((i + 1 + i / 4 % 3) % 4));
+                match.setVenue(venues.get(i % 3));
+                if (i % 9 != 8) {
+                    match.setScheduledTime(START.plusDays(i / 5).plusHours(i % 2));
+                }
+                em.persist(match);
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+    
+    private static List<Long> ids(List<Match> matches) {
+        return matches.stream().map(Match::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.*;
+import com.example.tournament.util.JPAUtil;
+import jakarta.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Test to verify optimistic concurrency on match results:
+ * 1. Scores entered against an outdated match version are rejected as a conflict
+ * 2. Saving a stale copy of a match fails instead of overwriting a newer result
+ * 3. The same copy can be saved repeatedly by one user
+ * 4. Results posted in parallel lose no team_stats updates
+ * 5. Scores posted without a version do not overwrite a match changed meanwhile
+ */
+public class OptimisticConcurrencyTest {
+    
+    public static void main(String[] args) {
+        System.out.println("=== Optimistic Concurrency Test ===\n");
+        
+        // Initialize database
+        JPAUtil.initialize();
+        
+        try {
+            LeagueTournament league = TestFixtures.createLeague("Concurrency", 6);
+            List<Match> matches = TestFixtures.createMatches(league);
+            
+            testStaleScores(matches);
+            testStaleCopy(matches);
+            testRepeatedSave(matches);
+            testParallelResults(league, matches);
+            testChangedWhilePosting(matches);
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } catch (Exception e) {
+            System.err.println("Test error: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } finally {
+            JPAUtil.shutdown();
+        }
+    }
+    
+    /**
+     * Test that two coordinators entering the same result cannot both win
+     */
+    private static void testStaleScores(List<Match> matches) {
+        System.out.println("Test 1: Scores Against an Old Version");
+        
+        ScoringService scoringService = new ScoringService();
+        Match shown = new MatchService().getMatchById(matches.get(0).getId());
+        
+        ScoreUpdateResult first = scoringService.postScore(
+            new ScoreUpdate(shown.getId(), 2, 1, shown.getVersion()));
+        ScoreUpdateResult second = scoringService.postScore(
+            new ScoreUpdate(shown.getId(), 0, 0, shown.getVersion()));
+        assert first.isSuccessful() : "First coordinator should succeed: " + first;
+        assert second.getStatus() == ScoreUpdateResult.Status.CONFLICT : "Second should conflict: " + second;
+        
+        Match stored = new MatchService().getMatchById(shown.getId());
+        assert stored.getTeam1Score() == 2 && stored.getTeam2Score() == 1 : "First result should be kept";
+        System.out.println("  ✓ Second entry rejected: " + second.getMessage());
+    }
+    
+    /**
+     * Test that merging an outdated copy fails
+     */
+    private static void testStaleCopy(List<Match> matches) {
+        System.out.println("\nTest 2: Stale Copy");
+        
+        MatchService matchService = new MatchService();
+        Match stale = matchService.getMatchById(matches.get(1).getId());
+        boolean posted = new ScoringService().postScores(stale.getId(), 3, 0);
+        assert posted : "Scores should be posted";
+        
+        stale.setTeam1Score(0);
+        stale.setTeam2Score(1);
+        stale.setStatus(Match.MatchStatus.COMPLETED);
+        boolean overwritten = matchService.updateMatch(stale);
+        assert !overwritten : "Stale copy should not overwrite the posted result";
+        
+        Match stored = matchService.getMatchById(stale.getId());
+        assert stored.getTeam1Score() == 3 && stored.getTeam2Score() == 0 : "Posted result was lost";
+        System.out.println("  ✓ Stale update rejected, posted result kept");
+    }
+    
+    /**
+     * Test that a copy stays current after each save
+     */
+    private static void testRepeatedSave(List<Match> matches) {
+        System.out.println("\nTest 3: Repeated Save");
+        
+        MatchService matchService = new MatchService();
+        Match match = matchService.getMatchById(matches.get(2).getId());
+        Long version = match.getVersion();
+        
+        match.setRound(1);
+        boolean firstSaved = matchService.updateMatch(match);
+        assert firstSaved : "First save should succeed";
+        match.setRound(2);
+        boolean secondSaved = matchService.updateMatch(match);
+        assert secondSaved : "Second save of the same copy should succeed";
+        List<Match> batch = new ArrayList<>();
+        batch.add(match);
+        boolean batchSaved = matchService.saveMatches(batch);
+        assert batchSaved : "Batch save of the same copy should succeed";
+        assert match.getVersion() > version : "Version should have been refreshed";
+        System.out.println("  ✓ Version refreshed after each save: " + version + " -> " + match.getVersion());
+    }
+    
+    /**
+     * Test that parallel results for teams sharing team_stats rows are all counted
+     */
+    private static void testParallelResults(LeagueTournament league, List<Match> matches) throws Exception {
+        System.out.println("\nTest 4: Parallel Results");
+        
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<ScoreUpdateResult>> futures = new ArrayList<>();
+        for (int i = 3; i < matches.size(); i++) {
+            Long matchId = matches.get(i).getId();
+            int score = i % 3;
+            futures.add(executor.submit(() -> new ScoringService().postScore(new ScoreUpdate(matchId, score, 1))));
+        }
+        
+        int posted = 0;
+        int conflicts = 0;
+        for (Future<ScoreUpdateResult> future : futures) {
+            ScoreUpdateResult result = future.get(60, TimeUnit.SECONDS);
+            assert result.isSuccessful() || result.getStatus() == ScoreUpdateResult.Status.CONFLICT
+                : "Unexpected outcome: " + result;
+            if (result.isSuccessful()) {
+                posted++;
+            } else {
+                conflicts++;
+            }
+        }
+        executor.shutdown();
+        
+        TeamStatsService teamStatsService = new TeamStatsService();
+        List<StandingsRow> maintained = teamStatsService.getStandings(league.getId());
+        boolean refreshed = teamStatsService.rebuild(league.getId());
+        assert refreshed : "Rebuild should succeed";
+        List<StandingsRow> rebuilt = teamStatsService.getStandings(league.getId());
+        for (int i = 0; i < maintained.size(); i++) {
+            StandingsRow a = maintained.get(i);
+            StandingsRow b = rebuilt.get(i);
+            assert a.getTeam().getId().equals(b.getTeam().getId()) && a.getPoints() == b.getPoints()
+                && a.getPlayed() == b.getPlayed() && a.getGoalsFor() == b.getGoalsFor()
+                : "Lost update in row " + (i + 1) + ": " + a + " vs " + b;
+        }
+        System.out.println("  ✓ " + posted + " results posted in parallel (" + conflicts +
+                           " gave up after retries); team_stats matches a rebuild");
+    }
+    
+    /**
+     * Test that a match changed while scores without a version are posted is
+     * reported as a conflict, not retried over the other change
+     */
+    private static void testChangedWhilePosting(List<Match> matches) throws Exception {
+        System.out.println("\nTest 5: Changed While Posting");
+        
+        Long matchId = matches.get(1).getId();
+        EntityManager other = JPAUtil.getEntityManager();
+        try {
+            other.getTransaction().begin();
+            other.find(Match.class, matchId).setRound(7);
+            other.flush();
+            
+            // Post once the other coordinator's change holds the row, then let it commit
+            FutureTask<ScoreUpdateResult> post = new FutureTask<>(
+                () -> new ScoringService().postScore(new ScoreUpdate(matchId, 5, 5)));
+            Thread poster = new Thread(post);
+            poster.start();
+            while (poster.isAlive() && poster.getState() != Thread.State.WAITING
+                   && poster.getState() != Thread.State.TIMED_WAITING) {
+                Thread.sleep(10);
+            }
+            other.getTransaction().commit();
+            
+            ScoreUpdateResult result = post.get(60, TimeUnit.SECONDS);
+            assert result.getStatus() == ScoreUpdateResult.Status.CONFLICT : "Post should conflict: " + result;
+        } finally {
+            other.close();
+        }
+        
+        Match stored = new MatchService().getMatchById(matchId);
+        assert stored.getRound() == 7 : "Other coordinator's change was lost";
+        assert stored.getTeam1Score() == 3 && stored.getTeam2Score() == 0 : "Earlier result should be kept";
+        System.out.println("  ✓ Post rejected without retrying over the other change");
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.SchedulingManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Test to verify that matches are placed inside both teams' preferred times,
+ * as compiled into 15-minute buckets:
+ * 1. Preferences that start or end inside a bucket only count its full buckets
+ * 2. A preference that loses its partial buckets can become too short
+ * 3. Preferences spanning midnight give a match that runs past it
+ * 4. A venue booking that ends inside a bucket blocks the whole bucket
+ * 5. Teams without preferences fall back to the default time
+ * This test does not require a database.
+ */
+public class PreferredTimeSchedulingTest {
+    
+    private static final LocalDate DAY = LocalDate.of(2030, 6, 1);
+    
+    public static void main(String[] args) {
+        System.out.println("=== Preferred Time Scheduling Test ===\n");
+        
+        try {
+            testPartialBuckets();
+            testTooShortAfterRounding();
+            testAcrossMidnight();
+            testVenueBookingInsideBucket();
+            testNoPreferences();
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Test that a preference from 10:07 to 12:22 gives the buckets from 10:15 to 12:15
+     */
+    private static void testPartialBuckets() {
+        System.out.println("Test 1: Partial Buckets");
+        
+        Match match = schedule(new Venue("Bucket Ground", "North"),
+                               window(DAY.atTime(10, 7), DAY.atTime(12, 22)),
+                               window(DAY.atTime(9, 0), DAY.atTime(13, 0)));
+        assert DAY.atTime(10, 15).equals(match.getScheduledTime())
+            : "Match should start at the first full bucket, got " + match.getScheduledTime();
+        assert !match.getTimeSlot().getEndTime().isAfter(DAY.atTime(12, 22)) : "Match should end inside the preference";
+        System.out.println("  ✓ Scheduled " + match.getScheduledTime() + " to " + match.getTimeSlot().getEndTime());
+    }
+    
+    /**
+     * Test that a two-hour preference that starts and ends inside buckets cannot
+     * hold a two-hour match
+     */
+    private static void testTooShortAfterRounding() {
+        System.out.println("\nTest 2: Too Short After Rounding");
+        
+        Match match = schedule(new Venue("Short Ground", "East"),
+                               window(DAY.atTime(10, 7), DAY.atTime(12, 7)),
+                               window(DAY.atTime(10, 7), DAY.atTime(12, 7)));
+        assert DAY.atTime(9, 0).equals(match.getScheduledTime())
+            : "Only 105 minutes of full buckets, so the default time should be used, got " + match.getScheduledTime();
+        System.out.println("  ✓ Fell back to the default time " + match.getScheduledTime());
+    }
+    
+    /**
+     * Test a common preference from 23:00 to 01:30 the next day
+     */
+    private static void testAcrossMidnight() {
+        System.out.println("\nTest 3: Across Midnight");
+        
+        LocalDate next = DAY.plusDays(1);
+        Match match = schedule(new Venue("Night Ground", "South"),
+                               window(DAY.atTime(23, 0), next.atTime(2, 0)),
+                               window(DAY.atTime(22, 30), next.atTime(1, 30)));
+        assert DAY.atTime(23, 0).equals(match.getScheduledTime())
+            : "Match should start at 23:00, got " + match.getScheduledTime();
+        assert next.atTime(1, 0).equals(match.getTimeSlot().getEndTime()) : "Match should end after midnight";
+        System.out.println("  ✓ Scheduled " + match.getScheduledTime() + " to " + match.getTimeSlot().getEndTime());
+    }
+    
+    /**
+     * Test that a booking ending at 23:10 keeps the venue until 23:15
+     */
+    private static void testVenueBookingInsideBucket() {
+        System.out.println("\nTest 4: Venue Booking Inside a Bucket");
+        
+        LocalDate next = DAY.plusDays(1);
+        Venue venue = new Venue("Busy Ground", "West");
+        TimeSlot booking = new TimeSlot(DAY.atTime(21, 0), DAY.atTime(23, 10));
+        booking.setVenue(venue);
+        venue.bookTimeSlot(booking);
+        
+        Match match = schedule(venue,
+                               window(DAY.atTime(22, 0), next.atTime(3, 0)),
+                               window(DAY.atTime(22, 0), next.atTime(3, 0)));
+        assert DAY.atTime(23, 15).equals(match.getScheduledTime())
+            : "Match should start after the booked bucket, got " + match.getScheduledTime();
+        assert match.getVenue() == venue : "Match should be at the only venue";
+        System.out.println("  ✓ Scheduled " + match.getScheduledTime() + " after a booking ending at 23:10");
+    }
+    
+    /**
+     * Test that the default time is used when a team has no preferences
+     */
+    private static void testNoPreferences() {
+        System.out.println("\nTest 5: No Preferences");
+        
+        Match match = schedule(new Venue("Plain Ground", "Centre"),
+                               window(DAY.atTime(14, 0), DAY.atTime(18, 0)),
+                               null);
+        assert DAY.atTime(9, 0).equals(match.getScheduledTime())
+            : "Default time should be used, got " + match.getScheduledTime();
+        System.out.println("  ✓ Default time " + match.getScheduledTime() + " for a team without preferences");
+    }
+    
+    /**
+     * Schedules a two-team league at a single venue and returns its match.
+     */
+    private static Match schedule(Venue venue, TimeSlot homePreference, TimeSlot awayPreference) {
+        LeagueTournament league = new LeagueTournament("Preference League", new Sport("Football"),
+                                                       DAY, DAY.plusDays(2));
+        Team home = new Team("Home");
+        Team away = new Team("Away");
+        if (homePreference != null) {
+            home.addPreferredTimeSlot(homePreference);
+        }
+        if (awayPreference != null) {
+            away.addPreferredTimeSlot(awayPreference);
+        }
+        league.addTeam(home);
+        league.addTeam(away);
+        
+        new SchedulingManager().scheduleMatches(league, List.of(venue));
+        assert league.getMatches().size() == 1 : "Two teams should play one match";
+        Match match = league.getMatches().get(0);
+        assert match.getScheduledTime() != null : "Match should be scheduled";
+        return match;
+    }
+    
+    private static TimeSlot window(LocalDateTime start, LocalDateTime end) {
+        return new TimeSlot(start, end);
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.model.RankingPolicy.Criterion;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Test to verify ranking with configurable tiebreakers:
+ * 1. Teams level on points are separated by goal difference, then goals scored
+ * 2. Teams level on every total are separated by their head-to-head result
+ * 3. The order of the criteria is configurable and round-trips through a string
+ * 4. Packed sort keys rank large tables the same as a comparator
+ * 5. League standings no longer leave ties in arbitrary order
+ * This test does not require a database.
+ */
+public class RankingPolicyTest {
+    
+    public static void main(String[] args) {
+        System.out.println("=== Ranking Policy Test ===\n");
+        
+        try {
+            testTotalsTiebreakers();
+            testHeadToHead();
+            testConfiguredOrder();
+            testLargeTable();
+            testLeagueStandings();
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Test that goal difference and goals scored break ties on points
+     */
+    private static void testTotalsTiebreakers() {
+        System.out.println("Test 1: Goal Difference and Goals Scored");
+        
+        Table table = new Table(3);
+        table.set(0, 6, 5, 4, 2);  // GD +1
+        table.set(1, 6, 7, 5, 2);  // GD +2, 7 scored
+        table.set(2, 6, 4, 2, 2);  // GD +2, 4 scored
+        
+        int[] order = RankingPolicy.standard().rank(table);
+        assert Arrays.equals(order, new int[] {1, 2, 0}) : "Wrong order: " + Arrays.toString(order);
+        System.out.println("  ✓ Ranked by goal difference, then goals scored");
+    }
+    
+    /**
+     * Test that the mutual result decides between teams level on every total
+     */
+    private static void testHeadToHead() {
+        System.out.println("\nTest 2: Head-to-Head");
+        
+        Table table = new Table(4);
+        table.set(0, 9, 6, 3, 3);
+        table.set(1, 4, 4, 4, 1);
+        table.set(2, 4, 4, 4, 1);
+        table.set(3, 4, 4, 4, 1);
+        table.result(1, 2, 0, 1);  // 2 beat 1
+        table.result(3, 1, 1, 1);  // 3 and 1 drew
+        table.result(2, 3, 2, 2);  // 2 and 3 drew
+        table.result(0, 3, 5, 0);  // not between tied teams
+        
+        int[] order = RankingPolicy.standard().rank(table);
+        assert Arrays.equals(order, new int[] {0, 2, 3, 1}) : "Wrong order: " + Arrays.toString(order);
+        System.out.println("  ✓ Tied group ordered by its mini-league");
+        
+        Table untied = new Table(2);
+        untied.set(0, 3, 2, 0, 1);
+        untied.set(1, 0, 0, 2, 0);
+        RankingPolicy.standard().rank(untied);
+        assert !untied.resultsRead : "Results read although no teams were tied";
+        System.out.println("  ✓ Results not read when nothing is tied");
+    }
+    
+    /**
+     * Test a policy with head-to-head before goal difference
+     */
+    private static void testConfiguredOrder() {
+        System.out.println("\nTest 3: Configured Order");
+        
+        Table table = new Table(2);
+        table.set(0, 3, 5, 1, 1);  // better goal difference
+        table.set(1, 3, 2, 3, 1);  // but won the mutual match
+        table.result(0, 1, 0, 1);
+        
+        RankingPolicy policy = new RankingPolicy(Criterion.POINTS, Criterion.HEAD_TO_HEAD, Criterion.GOAL_DIFFERENCE);
+        int[] order = policy.rank(table);
+        assert Arrays.equals(order, new int[] {1, 0}) : "Head-to-head should come first: " + Arrays.toString(order);
+        order = RankingPolicy.standard().rank(table);
+        assert Arrays.equals(order, new int[] {0, 1}) : "Goal difference should come first: " + Arrays.toString(order);
+        
+        RankingPolicy parsed = RankingPolicy.parse(policy.format());
+        assert parsed.getCriteria().equals(policy.getCriteria()) : "Policy does not round-trip: " + policy.format();
+        assert RankingPolicy.parse(null) == RankingPolicy.standard() : "Null should give the standard policy";
+        
+        try {
+            new RankingPolicy(Criterion.POINTS, Criterion.POINTS);
+            throw new AssertionError("Duplicate criterion accepted");
+        } catch (IllegalArgumentException expected) {
+            // Expected
+        }
+        System.out.println("  ✓ Criteria applied in the configured order: " + policy.format());
+    }
+    
+    /**
+     * Test packed keys against a comparator on a large table, including values
+     * too wide to pack
+     */
+    private static void testLargeTable() {
+        System.out.println("\nTest 4: Large Table");
+        
+        Random random = new Random(11);
+        for (int bound : new int[] {100, Integer.MAX_VALUE / 4}) {
+            Table table = new Table(5000);
+            for (int t = 0; t < 5000; t++) {
+                table.set(t, random.nextInt(bound), random.nextInt(bound), random.nextInt(bound), random.nextInt(30));
+            }
+            RankingPolicy policy = new RankingPolicy(Criterion.POINTS, Criterion.GOAL_DIFFERENCE,
+                                                     Criterion.GOALS_FOR, Criterion.WINS);
+            
+            Integer[] expected = new Integer[5000];
+            for (int t = 0; t < 5000; t++) {
+                expected[t] = t;
+            }
+            Arrays.sort(expected, Comparator
+                .comparingLong((Integer t) -> -(long) table.points[t])
+                .thenComparingLong(t -> -((long) table.goalsFor[t] - table.goalsAgainst[t]))
+                .thenComparingLong(t -> -(long) table.goalsFor[t])
+                .thenComparingLong(t -> -(long) table.wins[t])
+                .thenComparingInt(t -> t));
+            
+            int[] order = policy.rank(table);
+            for (int i = 0; i < order.length; i++) {
+                assert order[i] == expected[i] : "Position " + (i + 1) + " differs for values below " + bound;
+            }
+        }
+        System.out.println("  ✓ 5000 teams ranked the same as by a comparator");
+    }
+    
+    /**
+     * Test that league standings apply the tiebreakers
+     */
+    private static void testLeagueStandings() {
+        System.out.println("\nTest 5: League Standings");
+        
+        LeagueTournament league = new LeagueTournament("Ranking League", new Sport("Football"),
+                                                       LocalDate.now(), LocalDate.now().plusDays(30));
+        Team a = new Team("A");
+        Team b = new Team("B");
+        Team c = new Team("C");
+        league.addTeam(a);
+        league.addTeam(b);
+        league.addTeam(c);
+        
+        // Every team wins once, so all are level on points
+        league.addMatch(played(league, a, b, 1, 0));
+        league.addMatch(played(league, b, c, 3, 0));
+        league.addMatch(played(league, c, a, 1, 0));
+        
+        List<Team> ranked = new ArrayList<>(league.getStandings().keySet());
+        assert ranked.get(0) == b : "B should lead on goal difference, got " + ranked.get(0).getName();
+        assert ranked.get(1) == a && ranked.get(2) == c : "A should rank above C";
+        System.out.println("  ✓ League ranked " + ranked.get(0).getName() + ", " + ranked.get(1).getName() +
+                           ", " + ranked.get(2).getName());
+    }
+    
+    private static Match played(Tournament tournament, Team team1, Team team2, int score1, int score2) {
+        Match match = new Match(tournament, team1, team2);
+        match.setTeam1Score(score1);
+        match.setTeam2Score(score2);
+        match.setStatus(Match.MatchStatus.COMPLETED);
+        return match;
+    }
+    
+    /**
+     * Array-backed table with 3 points for a win and 1 for a draw.
+     */
+    private static class Table implements RankingPolicy.Standings {
+        final int[] points;
+        final int[] goalsFor;
+        final int[] goalsAgainst;
+        final int[] wins;
+        final List<int[]> results = new ArrayList<>();
+        boolean resultsRead;
+        
+        Table(int teams) {
+            points = new int[teams];
+            goalsFor = new int[teams];
+            goalsAgainst = new int[teams];
+            wins = new int[teams];
+        }
+        
+        void set(int team, int points, int goalsFor, int goalsAgainst, int wins) {
+            this.points[team] = points;
+            this.goalsFor[team] = goalsFor;
+            this.goalsAgainst[team] = goalsAgainst;
+            this.wins[team] = wins;
+        }
+        
+        void result(int home, int away, int homeScore, int awayScore) {
+            results.add(new int[] {home, away, homeScore, awayScore});
+        }
+        
+        @Override public int getTeamCount() { return points.length; }
+        @Override public int getPoints(int team) { return points[team]; }
+        @Override public int getGoalsFor(int team) { return goalsFor[team]; }
+        @Override public int getGoalsAgainst(int team) { return goalsAgainst[team]; }
+        @Override public int getWins(int team) { return wins[team]; }
+        @Override public int getResultCount() { resultsRead = true; return results.size(); }
+        @Override public int getHomeTeam(int result) { return results.get(result)[0]; }
+        @Override public int getAwayTeam(int result) { return results.get(result)[1]; }
+        @Override public int getHomeScore(int result) { return results.get(result)[2]; }
+        @Override public int getAwayScore(int result) { return results.get(result)[3]; }
+        
+        @Override
+        public int pointsFor(int scored, int conceded) {
+            return scored > conceded ? 3 : scored == conceded ? 1 : 0;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.*;
+import com.example.tournament.util.JPAUtil;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test to verify that team ratings follow the posted results:
+ * 1. Posting a score moves both ratings by the same amount and records it
+ * 2. Corrections reverse the old exchange; unchanged re-posts do nothing
+ * 3. Batches and deletions are rated in order
+ * 4. Replaying all results reproduces the incremental ratings
+ * 5. Knockout seeds follow the ratings
+ */
+public class RatingServiceTest {
+    
+    private static final double EPSILON = 1e-3;
+    
+    public static void main(String[] args) {
+        System.out.println("=== Rating Service Test ===\n");
+        
+        // Initialize database
+        JPAUtil.initialize();
+        
+        try {
+            LeagueTournament league = TestFixtures.createLeague("Rating", 4);
+            List<Match> matches = TestFixtures.createMatches(league);
+            RatingService ratingService = new RatingService();
+            
+            testPostScore(ratingService, league, matches);
+            testCorrection(ratingService, league, matches);
+            testBatchAndDelete(ratingService, league, matches);
+            testReplay(ratingService, league);
+            testSeeding(ratingService, league);
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } catch (Exception e) {
+            System.err.println("Test error: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } finally {
+            JPAUtil.shutdown();
+        }
+    }
+    
+    /**
+     * Test that a posted score exchanges rating points between the two teams
+     */
+    private static void testPostScore(RatingService ratingService, LeagueTournament league, List<Match> matches) {
+        System.out.println("Test 1: Post Score");
+        
+        Match match = matches.get(0);
+        Long team1Id = match.getTeam1().getId();
+        Long team2Id = match.getTeam2().getId();
+        assert ratingService.getRating(team1Id) == EloRating.INITIAL_RATING : "Unrated team should have the initial rating";
+        
+        boolean posted = new ScoringService().postScores(match.getId(), 2, 0);
+        assert posted : "Scores should be posted";
+        
+        double expected = EloRating.delta(EloRating.INITIAL_RATING, EloRating.INITIAL_RATING, 2, 0);
+        double rating1 = ratingService.getRating(team1Id);
+        double rating2 = ratingService.getRating(team2Id);
+        assert Math.abs(rating1 - EloRating.INITIAL_RATING - expected) < EPSILON : "Winner should gain " + expected;
+        assert Math.abs(rating1 + rating2 - 2 * EloRating.INITIAL_RATING) < EPSILON : "Exchange should be zero-sum";
+        
+        List<RatingChange> history = ratingService.getHistory(team1Id);
+        assert history.size() == 1 : "Expected one history row, got " + history.size();
+        assert history.get(0).getTeam1Score() == 2 && history.get(0).getTeam1Before() == (float) EloRating.INITIAL_RATING
+            : "History should record the result and the rating before";
+        assertTotal(ratingService, league);
+        System.out.printf("  ✓ %.2f / %.2f after a 2-0 win%n", rating1, rating2);
+    }
+    
+    /**
+     * Test that a correction replaces the exchange and an identical re-post is ignored
+     */
+    private static void testCorrection(RatingService ratingService, LeagueTournament league, List<Match> matches) {
+        System.out.println("\nTest 2: Correction");
+        
+        Match match = matches.get(0);
+        Long team1Id = match.getTeam1().getId();
+        ScoringService scoringService = new ScoringService();
+        
+        boolean correctionPosted = scoringService.postScores(match.getId(), 0, 1);
+        assert correctionPosted : "Correction should be posted";
+        double expected = EloRating.delta(EloRating.INITIAL_RATING, EloRating.INITIAL_RATING, 0, 1);
+        double corrected = ratingService.getRating(team1Id);
+        assert Math.abs(corrected - EloRating.INITIAL_RATING - expected) < EPSILON
+            : "Correction should rate from the ratings before the match, got " + corrected;
+        assert ratingService.getHistory(team1Id).size() == 1 : "Correction should replace the history row";
+        
+        boolean reposted = scoringService.postScores(match.getId(), 0, 1);
+        assert reposted : "Re-post should succeed";
+        assert ratingService.getRating(team1Id) == corrected : "Re-posting the same score should not change ratings";
+        assertTotal(ratingService, league);
+        System.out.printf("  ✓ %.2f after correcting to 0-1%n", corrected);
+    }
+    
+    /**
+     * Test that a batch rates its matches in order and a deletion takes its exchange back
+     */
+    private static void testBatchAndDelete(RatingService ratingService, LeagueTournament league, List<Match> matches) {
+        System.out.println("\nTest 3: Batch and Delete");
+        
+        List<ScoreUpdateResult> results = new ScoringService().postScoresBatch(Arrays.asList(
+            new ScoreUpdate(matches.get(1).getId(), 3, 1),
+            new ScoreUpdate(matches.get(2).getId(), 1, 1),
+            new ScoreUpdate(matches.get(3).getId(), 0, 2)));
+        assert results != null : "Batch should be posted";
+        
+        // The second match of team 1 is rated from its rating after the first
+        List<RatingChange> history = ratingService.getHistory(matches.get(1).getTeam1().getId());
+        assert history.size() == 3 : "Team should have three rated matches, got " + history.size();
+        assert Math.abs(history.get(1).getTeam1Before() - (history.get(0).getTeam1Before() + history.get(0).getDelta())) < EPSILON
+            : "Each exchange should start from the previous rating";
+        assertTotal(ratingService, league);
+        
+        Match deleted = matches.get(3);
+        double before = ratingService.getRating(deleted.getTeam2().getId());
+        boolean removed = new MatchService().deleteMatch(deleted.getId());
+        assert removed : "Delete should succeed";
+        double after = ratingService.getRating(deleted.getTeam2().getId());
+        assert after < before : "Deleting a win should take the points back";
+        assertTotal(ratingService, league);
+        matches.remove(3);
+        System.out.printf("  ✓ Batch rated in order, delete reverted %.2f -> %.2f%n", before, after);
+    }
+    
+    /**
+     * Test that a replay gives the ratings maintained incrementally
+     */
+    private static void testReplay(RatingService ratingService, LeagueTournament league) {
+        System.out.println("\nTest 4: Replay");
+        
+        List<Long> teamIds = teamIds(league);
+        Map<Long, Double> incremental = ratingService.getRatings(teamIds);
+        
+        // Matches are unscheduled, so the replay goes by ID, the order they were posted
+        int rated = ratingService.replayAll();
+        assert rated == 3 : "Expected three rated matches, got " + rated;
+        
+        Map<Long, Double> replayed = ratingService.getRatings(teamIds);
+        for (Long teamId : teamIds) {
+            double a = incremental.getOrDefault(teamId, EloRating.INITIAL_RATING);
+            double b = replayed.getOrDefault(teamId, EloRating.INITIAL_RATING);
+            assert Math.abs(a - b) < EPSILON : "Team " + teamId + ": incremental " + a + " vs replayed " + b;
+        }
+        System.out.println("  ✓ " + rated + " matches replayed to the same ratings");
+    }
+    
+    /**
+     * Test that an unseeded knockout is seeded strongest first and set seeds are kept
+     */
+    private static void testSeeding(RatingService ratingService, LeagueTournament league) {
+        System.out.println("\nTest 5: Seeding");
+        
+        KnockoutTournament knockout = new KnockoutTournament("Rating Cup", league.getSport(),
+                                                             LocalDate.now(), LocalDate.now().plusDays(7));
+        for (Team team : league.getTeams()) {
+            knockout.addTeam(team);
+        }
+        ratingService.seedByRating(knockout);
+        
+        List<Team> seeds = knockout.getSeeds();
+        assert seeds.size() == league.getTeams().size() : "Every team should be seeded";
+        for (int i = 1; i < seeds.size(); i++) {
+            assert ratingService.getRating(seeds.get(i - 1).getId()) >= ratingService.getRating(seeds.get(i).getId())
+                : "Seeds should be ordered by rating";
+        }
+        
+        List<Team> set = new ArrayList<>(seeds);
+        ratingService.seedByRating(knockout);
+        assert knockout.getSeeds().equals(set) : "Existing seeds should be kept";
+        System.out.println("  ✓ Top seed " + seeds.get(0).getName());
+    }
+    
+    private static void assertTotal(RatingService ratingService, LeagueTournament league) {
+        List<Long> teamIds = teamIds(league);
+        double total = 0;
+        for (Long teamId : teamIds) {
+            total += ratingService.getRating(teamId);
+        }
+        assert Math.abs(total - teamIds.size() * EloRating.INITIAL_RATING) < EPSILON
+            : "Ratings should sum to their initial total, got " + total;
+    }
+    
+    private static List<Long> teamIds(LeagueTournament league) {
+        List<Long> teamIds = new ArrayList<>();
+        for (Team team : league.getTeams()) {
+            teamIds.add(team.getId());
+        }
+        return teamIds;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.*;
+import com.example.tournament.util.JPAUtil;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Test to verify that reference data lookups are served from the second-level cache:
+ * 1. Repeated sport lookups run no SQL, and creating a sport shows up at once
+ * 2. Venue and team lists follow updates
+ * 3. Tournament lists, which include every match, bypass the query cache and
+ *    follow posted results and deletions
+ * 4. Entities found by ID come from the entity cache
+ */
+public class ReferenceDataCacheTest {
+    
+    private static Statistics statistics;
+    
+    public static void main(String[] args) {
+        System.out.println("=== Reference Data Cache Test ===\n");
+        
+        // Initialize database with statistics, to count the statements run
+        JPAUtil.initialize("TournamentPU-H2", Map.of("hibernate.generate_statistics", true));
+        
+        try {
+            EntityManager em = JPAUtil.getEntityManager();
+            statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+            em.close();
+            
+            testSports();
+            testVenuesAndTeams();
+            testTournaments();
+            testFindById();
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } catch (Exception e) {
+            System.err.println("Test error: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } finally {
+            JPAUtil.shutdown();
+        }
+    }
+    
+    /**
+     * Test that sport lookups hit the cache until a sport is created
+     */
+    private static void testSports() {
+        System.out.println("Test 1: Sports");
+        
+        SportService sportService = new SportService();
+        int before = sportService.viewAllSports().size();
+        sportService.getSportByName("Cache Curling");
+        
+        long statements = statementsRunBy(sportService::viewAllSports);
+        assert statements == 0 : "Repeated sport list should not run SQL, ran " + statements;
+        statements = statementsRunBy(() -> sportService.getSportByName("Cache Curling"));
+        assert statements == 0 : "Repeated lookup by name should not run SQL, ran " + statements;
+        
+        Sport created = sportService.createSport(new Sport("Cache Curling"));
+        assert created != null : "Sport should be created";
+        assert sportService.viewAllSports().size() == before + 1 : "New sport should be listed";
+        assert sportService.getSportByName("Cache Curling") != null : "New sport should be found by name";
+        System.out.println("  ✓ Cached lookups ran no SQL; new sport listed after creation");
+    }
+    
+    /**
+     * Test that venue and team lists reflect renames
+     */
+    private static void testVenuesAndTeams() {
+        System.out.println("\nTest 2: Venues and Teams");
+        
+        VenueService venueService = new VenueService();
+        Venue venue = new Venue("Cache Arena", "Downtown", 500);
+        boolean venueCreated = venueService.createVenue(venue);
+        assert venueCreated : "Venue should be created";
+        venueService.getAllVenues();
+        long statements = statementsRunBy(venueService::getAllVenues);
+        assert statements == 0 : "Repeated venue list should not run SQL, ran " + statements;
+        
+        venue.setName("Cache Stadium");
+        boolean venueUpdated = venueService.updateVenue(venue);
+        assert venueUpdated : "Venue should be updated";
+        assert venueService.getAllVenues().stream().anyMatch(v -> v.getName().equals("Cache Stadium"))
+            : "Renamed venue should be listed under its new name";
+        
+        TeamService teamService = new TeamService();
+        Team team = new Team("Cache Team");
+        boolean teamRegistered = teamService.registerTeam(team);
+        assert teamRegistered : "Team should be registered";
+        teamService.getAllTeams();
+        statements = statementsRunBy(teamService::getAllTeams);
+        assert statements == 0 : "Repeated team list should not run SQL, ran " + statements;
+        
+        team.setName("Cache Team Renamed");
+        boolean teamUpdated = teamService.updateTeam(team);
+        assert teamUpdated : "Team should be updated";
+        assert teamService.getAllTeams().stream().anyMatch(t -> t.getName().equals("Cache Team Renamed"))
+            : "Renamed team should be listed under its new name";
+        System.out.println("  ✓ Venue and team lists cached and refreshed on update");
+    }
+    
+    /**
+     * Test that the tournament list is cached with its matches and refreshed by results
+     */
+    private static void testTournaments() {
+        System.out.println("\nTest 3: Tournaments");
+        
+        TournamentService tournamentService = new TournamentService();
+        Sport sport = new SportService().getSportByName("Cache Curling");
+        LeagueTournament league = new LeagueTournament("Cache League", sport,
+                                                       LocalDate.now(), LocalDate.now().plusDays(30));
+        Team home = new Team("Cache Home");
+        Team away = new Team("Cache Away");
+        TeamService teamService = new TeamService();
+        boolean homeRegistered = teamService.registerTeam(home);
+        boolean awayRegistered = teamService.registerTeam(away);
+        assert homeRegistered && awayRegistered : "Teams should be registered";
+        league.addTeam(home);
+        league.addTeam(away);
+        boolean created = tournamentService.createTournament(league);
+        assert created : "Tournament should be created";
+        Match match = new Match(league, home, away);
+        boolean saved = new MatchService().saveMatches(List.of(match));
+        assert saved : "Match should be saved";
+        
+        tournamentService.viewAllTournaments();
+        long statements = statementsRunBy(tournamentService::viewAllTournaments);
+        assert statements == 2 : "Tournament list should run its two queries every time, ran " + statements;
+        
+        boolean posted = new ScoringService().postScores(match.getId(), 4, 2);
+        assert posted : "Scores should be posted";
+        Tournament listed = find(tournamentService.viewAllTournaments(), league.getId());
+        assert listed != null && listed.getMatches().size() == 1 : "Tournament should be listed with its match";
+        assert listed.getMatches().get(0).getTeam1Score() == 4 : "Posted result should be visible in the list";
+        assert listed.getTeams().size() == 2 : "Teams should be loaded from the cached list";
+        
+        boolean deleted = tournamentService.deleteTournament(league.getId());
+        assert deleted : "Tournament should be deleted";
+        assert find(tournamentService.viewAllTournaments(), league.getId()) == null : "Deleted tournament should not be listed";
+        System.out.println("  ✓ Tournament list read from the database, showing a posted result and a deletion");
+    }
+    
+    /**
+     * Test that finding by ID uses the entity cache
+     */
+    private static void testFindById() {
+        System.out.println("\nTest 4: Find by ID");
+        
+        SportService sportService = new SportService();
+        Long sportId = sportService.getSportByName("Cache Curling").getId();
+        sportService.getSportById(sportId);
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long statements = statementsRunBy(() -> sportService.getSportById(sportId));
+        assert statements == 0 : "Sport by ID should not run SQL, ran " + statements;
+        assert statistics.getSecondLevelCacheHitCount() > hits : "Sport should come from the entity cache";
+        System.out.println("  ✓ " + statistics.getSecondLevelCacheHitCount() + " entity cache hits, "
+                           + statistics.getQueryCacheHitCount() + " query cache hits");
+    }
+    
+    private static long statementsRunBy(Supplier<?> lookup) {
+        long before = statistics.getPrepareStatementCount();
+        lookup.get();
+        return statistics.getPrepareStatementCount() - before;
+    }
+    
+    private static Tournament find(List<Tournament> tournaments, Long id) {
+        for (Tournament tournament : tournaments) {
+            if (tournament.getId().equals(id)) {
+                return tournament;
+            }
+        }
+        return null;
+    }
+}
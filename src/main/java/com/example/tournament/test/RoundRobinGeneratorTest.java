@@ -0,0 +1,126 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Test to verify the circle-method round-robin generator:
+ * 1. Every pair of teams meets exactly once per leg
+ * 2. No team plays twice in a round, and odd team counts get one bye per round
+ * 3. Home and away matches are balanced
+ * 4. A double round-robin mirrors the first leg with home and away swapped
+ * This test does not require a database.
+ */
+public class RoundRobinGeneratorTest {
+    
+    public static void main(String[] args) {
+        System.out.println("=== Round-Robin Generator Test ===\n");
+        
+        try {
+            testSingleRoundRobin(8);
+            testSingleRoundRobin(7);
+            testDoubleRoundRobin();
+            
+            System.out.println("\n=== All Tests Passed ===");
+        
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Test rounds, pairings and home/away balance of a single round-robin
+     */
+    private static void testSingleRoundRobin(int teamCount) {
+        System.out.println("Test: Single Round-Robin With " + teamCount + " Teams");
+        
+        List<Team> teams = createTeams(teamCount);
+        List<Match> matches = RoundRobinGenerator.generate(null, teams, false);
+        
+        int expectedRounds = teamCount % 2 == 0 ? teamCount - 1 : teamCount;
+        assert matches.size() == teamCount * (teamCount - 1) / 2 : "Wrong number of matches: " + matches.size();
+        
+        Set<String> pairings = new HashSet<>();
+        for (Match match : matches) {
+            boolean added = pairings.add(pairingKey(match));
+            assert added : "Pairing generated twice: " + match;
+        }
+        System.out.println("  ✓ Every pair meets exactly once");
+        
+        Map<Integer, Set<Team>> teamsByRound = new HashMap<>();
+        for (Match match : matches) {
+            assert match.getRound() >= 1 && match.getRound() <= expectedRounds : "Round out of range: " + match;
+            Set<Team> playing = teamsByRound.computeIfAbsent(match.getRound(), r -> new HashSet<>());
+            boolean team1Added = playing.add(match.getTeam1());
+            boolean team2Added = playing.add(match.getTeam2());
+            assert team1Added && team2Added : "Team plays twice in a round: " + match;
+        }
+        assert teamsByRound.size() == expectedRounds : "Expected " + expectedRounds + " rounds";
+        for (Set<Team> playing : teamsByRound.values()) {
+            assert playing.size() == teamCount - teamCount % 2 : "Round should leave at most one team idle";
+        }
+        System.out.println("  ✓ " + expectedRounds + " rounds with every team playing at most once per round");
+        
+        Map<Team, Integer> homeCounts = new HashMap<>();
+        for (Match match : matches) {
+            homeCounts.merge(match.getTeam1(), 1, Integer::sum);
+        }
+        for (Team team : teams) {
+            int home = homeCounts.getOrDefault(team, 0);
+            int away = (teamCount - 1) - home;
+            assert Math.abs(home - away) <= 1 : team.getName() + " has " + home + " home and " + away + " away matches";
+        }
+        System.out.println("  ✓ Home and away matches are balanced");
+    }
+    
+    /**
+     * Test that the second leg mirrors the first with home and away swapped
+     */
+    private static void testDoubleRoundRobin() {
+        System.out.println("\nTest: Double Round-Robin");
+        
+        LeagueTournament league = new LeagueTournament("Home and Away League", new Sport("Football"),
+                                                       LocalDate.of(2025, 1, 1), LocalDate.of(2025, 6, 30));
+        for (Team team : createTeams(6)) {
+            league.addTeam(team);
+        }
+        league.setDoubleRoundRobin(true);
+        league.generateSchedule();
+        
+        List<Match> matches = league.getMatches();
+        assert matches.size() == 6 * 5 : "Double round-robin should have " + (6 * 5) + " matches";
+        
+        Set<String> fixtures = new HashSet<>();
+        for (Match match : matches) {
+            assert match.getTournament() == league : "Match should belong to the league";
+            boolean added = fixtures.add(match.getTeam1().getName() + ">" + match.getTeam2().getName());
+            assert added : "Home fixture generated twice: " + match;
+        }
+        for (int i = 0; i < 15; i++) {
+            Match first = matches.get(i);
+            Match second = matches.get(i + 15);
+            assert first.getTeam1() == second.getTeam2() && first.getTeam2() == second.getTeam1()
+                : "Second leg should swap home and away: " + first + " / " + second;
+            assert second.getRound() == first.getRound() + 5 : "Second leg should follow the first";
+        }
+        System.out.println("  ✓ 10 rounds; every pairing played once at home and once away");
+    }
+    
+    private static List<Team> createTeams(int count) {
+        List<Team> teams = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            teams.add(new Team("Team " + i));
+        }
+        return teams;
+    }
+    
+    private static String pairingKey(Match match) {
+        String a = match.getTeam1().getName();
+        String b = match.getTeam2().getName();
+        return a.compareTo(b) < 0 ? a + "|" + b : b + "|" + a;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.ScheduleValidationReport;
+import com.example.tournament.service.ScheduleValidationReport.Issue;
+import com.example.tournament.service.ScheduleValidationReport.IssueType;
+import com.example.tournament.service.ScheduleValidator;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test to verify the sort-and-sweep schedule validation:
+ * 1. Every pair of overlapping matches at a venue is reported
+ * 2. A team playing two matches at once is reported, at different venues too
+ * 3. Too little rest between a team's matches is reported, enough rest is not
+ * 4. Bookings that only touch do not overlap, but still need the minimum rest
+ * 5. Unscheduled matches are reported and cancelled matches are ignored
+ * This test does not require a database.
+ */
+public class ScheduleValidatorTest {
+    
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 5, 4, 0, 0);
+    
+    public static void main(String[] args) {
+        System.out.println("=== Schedule Validator Test ===\n");
+        
+        try {
+            testVenueOverlaps();
+            testTeamOverlaps();
+            testRestViolations();
+            testTouchingBookings();
+            testUnscheduledAndCancelled();
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Test that three overlapping bookings of one venue give three conflicts
+     */
+    private static void testVenueOverlaps() {
+        System.out.println("Test 1: Venue Overlaps");
+        
+        Venue venue = new Venue("Main Ground", "North");
+        Team[] teams = teams(6);
+        Match first = match(teams[0], teams[1], venue, 10, 0, 12, 0);
+        Match second = match(teams[2], teams[3], venue, 11, 0, 13, 0);
+        Match third = match(teams[4], teams[5], venue, 11, 30, 12, 30);
+        Match later = match(teams[0], teams[2], venue, 15, 0, 17, 0);
+        
+        ScheduleValidationReport report = new ScheduleValidator().validate(Arrays.asList(first, second, third, later));
+        assert report.getIssueCount(IssueType.VENUE_CONFLICT) == 3 : "Expected three venue conflicts: " + report;
+        assert report.getIssueCount(IssueType.TEAM_CONFLICT) == 0 : "No team plays twice at once: " + report;
+        assert report.getIssues(later).isEmpty() : "The later match overlaps nothing";
+        for (Issue issue : report.getIssues(IssueType.VENUE_CONFLICT)) {
+            assert issue.getVenue() == venue : "Conflict should name the venue";
+        }
+        assert report.getScheduledMatches() == 4 && !report.isValid() : "Wrong counts: " + report;
+        System.out.println("  ✓ " + report);
+    }
+    
+    /**
+     * Test that a team booked twice at once is reported even at different venues
+     */
+    private static void testTeamOverlaps() {
+        System.out.println("\nTest 2: Team Overlaps");
+        
+        Team[] teams = teams(3);
+        Match home = match(teams[0], teams[1], new Venue("East Field", "East"), 10, 0, 12, 0);
+        Match away = match(teams[2], teams[0], new Venue("West Field", "West"), 11, 0, 13, 0);
+        
+        ScheduleValidationReport report = new ScheduleValidator().validate(Arrays.asList(home, away));
+        List<Issue> conflicts = report.getIssues(IssueType.TEAM_CONFLICT);
+        assert conflicts.size() == 1 : "Expected one team conflict: " + report;
+        assert conflicts.get(0).getTeam() == teams[0] : "Conflict should name the team playing twice";
+        assert report.getIssueCount(IssueType.VENUE_CONFLICT) == 0 : "Venues are different: " + report;
+        System.out.println("  ✓ " + conflicts.get(0).getDescription());
+    }
+    
+    /**
+     * Test the minimum rest between a team's consecutive matches
+     */
+    private static void testRestViolations() {
+        System.out.println("\nTest 3: Rest Violations");
+        
+        Team[] teams = teams(4);
+        Venue venue = new Venue("Rest Park", "South");
+        Match morning = match(teams[0], teams[1], venue, 9, 0, 11, 0);
+        Match early = match(teams[0], teams[2], venue, 11, 30, 13, 30);
+        Match rested = match(teams[1], teams[3], venue, 14, 0, 16, 0);
+        
+        ScheduleValidator validator = new ScheduleValidator(Duration.ofHours(1));
+        ScheduleValidationReport report = validator.validate(Arrays.asList(morning, early, rested));
+        List<Issue> violations = report.getIssues(IssueType.REST_VIOLATION);
+        assert violations.size() == 1 : "Expected one rest violation: " + report;
+        Issue violation = violations.get(0);
+        assert violation.getTeam() == teams[0] && violation.getFirst() == morning && violation.getSecond() == early
+            : "Wrong violation: " + violation;
+        assert !report.getIssues(rested).stream().anyMatch(i -> i.getType() == IssueType.REST_VIOLATION)
+            : "Three hours of rest should be enough";
+        assert report.getIssueCount(IssueType.TEAM_CONFLICT) == 0 : "Short rest is not an overlap: " + report;
+        System.out.println("  ✓ " + violation.getDescription());
+    }
+    
+    /**
+     * Test that back-to-back bookings do not overlap but are checked for rest
+     */
+    private static void testTouchingBookings() {
+        System.out.println("\nTest 4: Back-to-Back Bookings");
+        
+        Team[] teams = teams(3);
+        Venue venue = new Venue("Touch Arena", "Centre");
+        Match first = match(teams[0], teams[1], venue, 10, 0, 12, 0);
+        Match second = match(teams[0], teams[2], venue, 12, 0, 14, 0);
+        List<Match> matches = Arrays.asList(first, second);
+        
+        ScheduleValidationReport report = new ScheduleValidator().validate(matches);
+        assert report.isValid() : "Bookings that only touch should not conflict: " + report;
+        
+        report = new ScheduleValidator(Duration.ofMinutes(30)).validate(matches);
+        assert report.getIssueCount(IssueType.REST_VIOLATION) == 1 : "No rest between touching matches: " + report;
+        assert report.getIssueCount(IssueType.VENUE_CONFLICT) == 0 : "Touching bookings share no time: " + report;
+        System.out.println("  ✓ Touching bookings valid without a rest rule, one violation with 30 minutes");
+    }
+    
+    /**
+     * Test unscheduled and cancelled matches, and the default duration of
+     * matches without a time slot
+     */
+    private static void testUnscheduledAndCancelled() {
+        System.out.println("\nTest 5: Unscheduled and Cancelled Matches");
+        
+        Team[] teams = teams(6);
+        Venue venue = new Venue("Spare Ground", "West");
+        Match unscheduled = new Match(teams[0], teams[1]);
+        Match cancelled = match(teams[2], teams[3], venue, 10, 0, 12, 0);
+        cancelled.setStatus(Match.MatchStatus.CANCELLED);
+        Match untimed = match(teams[4], teams[5], venue, 10, 0, 12, 0);
+        untimed.setTimeSlot(null);
+        Match next = match(teams[2], teams[4], venue, 11, 0, 13, 0);
+        
+        ScheduleValidationReport report = new ScheduleValidator(Duration.ZERO, Duration.ofHours(2))
+            .validate(Arrays.asList(unscheduled, cancelled, untimed, next));
+        assert report.getUnscheduledMatches() == 1 && report.getIssues(unscheduled).size() == 1
+            : "Unscheduled match should be reported once: " + report;
+        assert report.getIssues(cancelled).isEmpty() : "Cancelled match should be ignored";
+        assert report.getIssueCount(IssueType.VENUE_CONFLICT) == 1 : "Untimed match should last two hours: " + report;
+        assert report.getScheduledMatches() == 2 : "Wrong scheduled count: " + report;
+        System.out.println("  ✓ " + report);
+    }
+    
+    private static Team[] teams(int count) {
+        Team[] teams = new Team[count];
+        for (int i = 0; i < count; i++) {
+            teams[i] = new Team("Team " + (char) ('A' + i));
+        }
+        return teams;
+    }
+    
+    private static Match match(Team team1, Team team2, Venue venue,
+                               int startHour, int startMinute, int endHour, int endMinute) {
+        LocalDateTime start = DAY.withHour(startHour).withMinute(startMinute);
+        TimeSlot slot = new TimeSlot(start, DAY.withHour(endHour).withMinute(endMinute));
+        slot.setVenue(venue);
+        Match match = new Match(team1, team2);
+        match.setVenue(venue);
+        match.setTimeSlot(slot);
+        match.setScheduledTime(start);
+        return match;
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.*;
+import com.example.tournament.util.JPAUtil;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.example.tournament.test.TestFixtures.check;
+
+/**
+ * Test to verify batch result ingestion:
+ * 1. Every update gets its own outcome, in order, and bad updates do not stop the rest
+ * 2. Later updates of the same match in a batch win
+ * 3. team_stats after a batch matches a rebuild from the matches
+ * 4. A batch completing a knockout round draws the next round
+ */
+public class ScoreBatchTest {
+    
+    public static void main(String[] args) {
+        System.out.println("=== Score Batch Test ===\n");
+        
+        // Initialize database
+        JPAUtil.initialize();
+        
+        try {
+            LeagueTournament league = TestFixtures.createLeague("Batch", 10);
+            List<Match> matches = TestFixtures.createMatches(league);
+            
+            testOutcomes(matches);
+            testRepeatedMatch(matches);
+            testStatsMatchRebuild(league);
+            testKnockoutAdvance();
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } catch (Exception e) {
+            System.err.println("Test error: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } finally {
+            JPAUtil.shutdown();
+        }
+    }
+    
+    /**
+     * Test the per-item outcomes of a mixed batch
+     */
+    private static void testOutcomes(List<Match> matches) {
+        System.out.println("Test 1: Per-Item Outcomes");
+        
+        List<ScoreUpdate> updates = Arrays.asList(
+            new ScoreUpdate(matches.get(0).getId(), 2, 0),
+            new ScoreUpdate(-1L, 1, 0),
+            new ScoreUpdate(matches.get(1).getId(), null, 3),
+            new ScoreUpdate(matches.get(2).getId(), 1, 1));
+        
+        List<ScoreUpdateResult> results = new ScoringService().postScoresBatch(updates);
+        check(results.size() == 4, "One result per update expected");
+        check(results.get(0).getStatus() == ScoreUpdateResult.Status.POSTED, "First update should be posted");
+        check(results.get(1).getStatus() == ScoreUpdateResult.Status.MATCH_NOT_FOUND, "Unknown match not reported");
+        check(results.get(2).getStatus() == ScoreUpdateResult.Status.INVALID_SCORE, "Missing score not reported");
+        check(results.get(3).getStatus() == ScoreUpdateResult.Status.POSTED, "Last update should be posted");
+        
+        Match first = new MatchService().getMatchById(matches.get(0).getId());
+        Match skipped = new MatchService().getMatchById(matches.get(1).getId());
+        check(first.getStatus() == Match.MatchStatus.COMPLETED && first.getTeam1Score() == 2, "Scores not saved");
+        check(skipped.getStatus() != Match.MatchStatus.COMPLETED, "Invalid update should not be applied");
+        System.out.println("  ✓ Outcomes: " + results.get(0).getStatus() + ", " + results.get(1).getStatus() +
+                           ", " + results.get(2).getStatus() + ", " + results.get(3).getStatus());
+    }
+    
+    /**
+     * Test that repeated updates of a match are applied in order
+     */
+    private static void testRepeatedMatch(List<Match> matches) {
+        System.out.println("\nTest 2: Repeated Match");
+        
+        Long matchId = matches.get(3).getId();
+        List<ScoreUpdateResult> results = new ScoringService().postScoresBatch(Arrays.asList(
+            new ScoreUpdate(matchId, 4, 0),
+            new ScoreUpdate(matchId, 1, 2)));
+        check(results.get(0).isSuccessful() && results.get(1).isSuccessful(), "Both updates should be posted");
+        
+        Match match = new MatchService().getMatchById(matchId);
+        check(match.getTeam1Score() == 1 && match.getTeam2Score() == 2, "Last update should win");
+        System.out.println("  ✓ Last update kept: " + match.getTeam1Score() + "-" + match.getTeam2Score());
+    }
+    
+    /**
+     * Test that the maintained rows equal a rebuild after a large batch
+     */
+    private static void testStatsMatchRebuild(LeagueTournament league) {
+        System.out.println("\nTest 3: Stats After Batch");
+        
+        List<ScoreUpdate> updates = new ArrayList<>();
+        for (Match match : new MatchService().getMatchesByTournament(league.getId())) {
+            updates.add(new ScoreUpdate(match.getId(), (int) (match.getId() % 4), (int) (match.getId() % 3)));
+        }
+        long start = System.nanoTime();
+        List<ScoreUpdateResult> results = new ScoringService().postScoresBatch(updates);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        for (ScoreUpdateResult result : results) {
+            check(result.isSuccessful(), "Update failed: " + result);
+        }
+        
+        TeamStatsService teamStatsService = new TeamStatsService();
+        List<StandingsRow> maintained = teamStatsService.getStandings(league.getId());
+        boolean rebuilt = teamStatsService.rebuild(league.getId());
+        check(rebuilt, "Rebuild should succeed");
+        List<StandingsRow> fromRebuild = teamStatsService.getStandings(league.getId());
+        for (int i = 0; i < maintained.size(); i++) {
+            StandingsRow a = maintained.get(i);
+            StandingsRow b = fromRebuild.get(i);
+            check(a.getTeam().getId().equals(b.getTeam().getId()) && a.getPoints() == b.getPoints()
+                && a.getPlayed() == b.getPlayed() && a.getGoalsFor() == b.getGoalsFor()
+                && a.getGoalsAgainst() == b.getGoalsAgainst(), "Row " + (i + 1) + " differs: " + a + " vs " + b);
+        }
+        System.out.println("  ✓ " + updates.size() + " scores posted in " + elapsed + " ms; rows match a rebuild");
+    }
+    
+    /**
+     * Test that finishing a knockout round in a batch creates the next round
+     */
+    private static void testKnockoutAdvance() {
+        System.out.println("\nTest 4: Knockout Round in One Batch");
+        
+        EntityManager em = JPAUtil.getEntityManager();
+        KnockoutTournament cup;
+        try {
+            em.getTransaction().begin();
+            Sport sport = new Sport("Batch Cup Sport");
+            em.persist(sport);
+            cup = new KnockoutTournament("Batch Cup", sport, LocalDate.now(), LocalDate.now().plusDays(7));
+            for (int i = 1; i <= 4; i++) {
+                Team team = new Team("Batch Cup Team " + i);
+                em.persist(team);
+                cup.addTeam(team);
+            }
+            cup.generateSchedule();
+            em.persist(cup);
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+        
+        List<ScoreUpdate> updates = new ArrayList<>();
+        for (Match match : cup.getMatches()) {
+            updates.add(new ScoreUpdate(match.getId(), 1, 0));
+        }
+        new ScoringService().postScoresBatch(updates);
+        
+        List<Match> matches = new MatchService().getMatchesByTournament(cup.getId());
+        check(matches.size() == 3, "Final should have been created, got " + matches.size() + " matches");
+        System.out.println("  ✓ Final created after the semi-finals were posted together");
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Test to verify the shared standings accumulator:
+ * 1. Played, wins, draws, losses, goals and points are counted per team
+ * 2. Unfinished matches and matches with teams outside the table are skipped
+ * 3. League and round-robin tournaments give the same standings for the same results
+ * This test does not require a database.
+ */
+public class StandingsAccumulatorTest {
+    
+    public static void main(String[] args) {
+        System.out.println("=== Standings Accumulator Test ===\n");
+        
+        try {
+            testColumns();
+            testSkippedMatches();
+            testTournamentTypesAgree();
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Test the totals counted for each team
+     */
+    private static void testColumns() {
+        System.out.println("Test 1: Columns");
+        
+        List<Team> teams = teams(3);
+        StandingsAccumulator totals = new StandingsAccumulator(teams, 3, 1, 0);
+        totals.add(played(teams.get(0), teams.get(1), 2, 1));
+        totals.add(played(teams.get(1), teams.get(2), 0, 0));
+        totals.add(played(teams.get(2), teams.get(0), 4, 1));
+        
+        int first = totals.indexOf(teams.get(0));
+        assert totals.getPlayed(first) == 2 : "Played should be 2";
+        assert totals.getWins(first) == 1 && totals.getDraws(first) == 0 && totals.getLosses(first) == 1
+            : "Team 1 should have one win and one loss";
+        assert totals.getGoalsFor(first) == 3 && totals.getGoalsAgainst(first) == 5 : "Team 1 goals wrong";
+        assert totals.getPoints(first) == 3 : "Team 1 should have 3 points";
+        
+        int third = totals.indexOf(teams.get(2));
+        assert totals.getDraws(third) == 1 && totals.getPoints(third) == 4 : "Team 3 should have 4 points";
+        assert totals.getResultCount() == 3 : "Every result should be kept for head-to-head";
+        
+        Map<Team, Integer> ranked = totals.toRankedPoints(RankingPolicy.standard());
+        assert ranked.keySet().iterator().next() == teams.get(2) : "Team 3 should lead";
+        System.out.println("  ✓ Totals counted and ranked: " + ranked.values());
+    }
+    
+    /**
+     * Test that only completed matches within the table are counted
+     */
+    private static void testSkippedMatches() {
+        System.out.println("\nTest 2: Skipped Matches");
+        
+        List<Team> teams = teams(2);
+        StandingsAccumulator totals = new StandingsAccumulator(teams, 3, 1, 0);
+        
+        Match scheduled = new Match(teams.get(0), teams.get(1));
+        Match outsider = played(teams.get(0), new Team("Outsider"), 1, 0);
+        boolean scheduledCounted = totals.add(scheduled);
+        assert !scheduledCounted : "Scheduled match should not count";
+        boolean outsiderCounted = totals.add(outsider);
+        assert !outsiderCounted : "Match against a team outside the table should not count";
+        assert totals.getPlayed(0) == 0 && totals.getResultCount() == 0 : "Nothing should be counted";
+        assert totals.indexOf(new Team("Team 1")) == -1 : "Teams are indexed by identity";
+        System.out.println("  ✓ Unfinished and foreign matches skipped");
+    }
+    
+    /**
+     * Test that both points-based tournament types share the same standings
+     */
+    private static void testTournamentTypesAgree() {
+        System.out.println("\nTest 3: Tournament Types Agree");
+        
+        List<Team> teams = teams(8);
+        LeagueTournament league = new LeagueTournament("League", new Sport("Football"),
+                                                       LocalDate.now(), LocalDate.now().plusDays(60));
+        RoundRobinTournament roundRobin = new RoundRobinTournament("Round Robin", new Sport("Football"),
+                                                                   LocalDate.now(), LocalDate.now().plusDays(60));
+        for (Team team : teams) {
+            league.addTeam(team);
+            roundRobin.addTeam(team);
+        }
+        
+        Random random = new Random(3);
+        for (int i = 0; i < teams.size(); i++) {
+            for (int j = i + 1; j < teams.size(); j++) {
+                int score1 = random.nextInt(4);
+                int score2 = random.nextInt(4);
+                Match leagueMatch = played(teams.get(i), teams.get(j), score1, score2);
+                Match roundRobinMatch = played(teams.get(i), teams.get(j), score1, score2);
+                league.addMatch(leagueMatch);
+                roundRobin.addMatch(roundRobinMatch);
+            }
+        }
+        
+        List<Map.Entry<Team, Integer>> a = new ArrayList<>(league.getStandings().entrySet());
+        List<Map.Entry<Team, Integer>> b = new ArrayList<>(roundRobin.getStandings().entrySet());
+        assert a.equals(b) : "Standings differ: " + a + " vs " + b;
+        System.out.println("  ✓ League and round-robin standings identical for " + teams.size() + " teams");
+    }
+    
+    private static List<Team> teams(int count) {
+        List<Team> teams = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            teams.add(new Team("Team " + i));
+        }
+        return teams;
+    }
+    
+    private static Match played(Team team1, Team team2, int score1, int score2) {
+        Match match = new Match(team1, team2);
+        match.setTeam1Score(score1);
+        match.setTeam2Score(score2);
+        match.setStatus(Match.MatchStatus.COMPLETED);
+        return match;
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.StandingsRow;
+import com.example.tournament.service.StandingsTable;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Test to verify incremental standings:
+ * 1. Results applied one at a time match standings built from all matches
+ * 2. A corrected score reverses the old result before counting the new one
+ * 3. A removed result is reversed
+ * 4. Teams are ranked by points, then goal difference, then goals scored
+ * 5. The ranking kept up to date result by result agrees with a full sort,
+ *    including ties broken head-to-head
+ * This test does not require a database.
+ */
+public class StandingsEngineTest {
+    
+    public static void main(String[] args) {
+        System.out.println("=== Standings Engine Test ===\n");
+        
+        try {
+            testIncrementalMatchesRebuild();
+            testCorrectedScore();
+            testRemovedResult();
+            testRanking();
+            testIncrementalRanking();
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Test that posting every result in turn gives the same table as a full rebuild
+     */
+    private static void testIncrementalMatchesRebuild() {
+        System.out.println("Test 1: Incremental Updates Match a Full Rebuild");
+        
+        LeagueTournament league = createLeague(10);
+        league.generateSchedule();
+        StandingsTable table = StandingsTable.of(league);
+        
+        Random random = new Random(7);
+        for (Match match : league.getMatches()) {
+            play(match, random.nextInt(4), random.nextInt(4));
+            table.applyResult(match);
+        }
+        
+        assertSameRows(table.getRows(), StandingsTable.of(league).getRows());
+        System.out.println("  ✓ " + league.getMatches().size() + " incremental results match a full rebuild");
+    }
+    
+    /**
+     * Test that editing a score replaces the old result instead of adding to it
+     */
+    private static void testCorrectedScore() {
+        System.out.println("\nTest 2: Corrected Score");
+        
+        LeagueTournament league = createLeague(4);
+        league.generateSchedule();
+        StandingsTable table = StandingsTable.of(league);
+        Match match = league.getMatches().get(0);
+        
+        play(match, 2, 0);
+        table.applyResult(match);
+        play(match, 1, 1);
+        table.applyResult(match);
+        
+        StandingsRow home = rowOf(table, match.getTeam1());
+        StandingsRow away = rowOf(table, match.getTeam2());
+        assert home.getPlayed() == 1 && away.getPlayed() == 1 : "Corrected match counted twice";
+        assert home.getWins() == 0 && home.getDraws() == 1 : "Old win not reversed";
+        assert home.getPoints() == 1 && away.getPoints() == 1 : "Draw should give one point each";
+        assert home.getGoalsFor() == 1 && away.getGoalsAgainst() == 1 : "Old goals not reversed";
+        assertSameRows(table.getRows(), StandingsTable.of(league).getRows());
+        System.out.println("  ✓ A 2-0 corrected to 1-1 counts as one draw");
+    }
+    
+    /**
+     * Test that removing a result restores the table
+     */
+    private static void testRemovedResult() {
+        System.out.println("\nTest 3: Removed Result");
+        
+        LeagueTournament league = createLeague(4);
+        league.generateSchedule();
+        StandingsTable table = StandingsTable.of(league);
+        Match match = league.getMatches().get(0);
+        
+        play(match, 3, 1);
+        table.applyResult(match);
+        table.removeResult(match);
+        
+        for (StandingsRow row : table.getRows()) {
+            assert row.getPlayed() == 0 && row.getPoints() == 0 : "Removed result still counted: " + row;
+        }
+        System.out.println("  ✓ Removing the only result empties the table");
+    }
+    
+    /**
+     * Test the ranking order and the tournament's points rules
+     */
+    private static void testRanking() {
+        System.out.println("\nTest 4: Ranking");
+        
+        LeagueTournament league = createLeague(3);
+        league.setPointsForWin(2);
+        List<Team> teams = league.getTeams();
+        
+        // A and B both beat C; A by the larger margin
+        league.addMatch(played(league, teams.get(0), teams.get(2), 3, 0));
+        league.addMatch(played(league, teams.get(1), teams.get(2), 1, 0));
+        
+        List<StandingsRow> rows = StandingsTable.of(league).getRows();
+        assert rows.get(0).getTeam() == teams.get(0) : "Better goal difference should rank first";
+        assert rows.get(1).getTeam() == teams.get(1) : "Second place wrong";
+        assert rows.get(2).getTeam() == teams.get(2) : "Team without points should be last";
+        assert rows.get(0).getPoints() == 2 : "League points for a win not used";
+        assert rows.get(0).getRank() == 1 && rows.get(2).getRank() == 3 : "Ranks not assigned";
+        System.out.println("  ✓ Ranked by points, then goal difference");
+    }
+    
+    /**
+     * Test that the incrementally kept ranking matches ranking every team from scratch
+     */
+    private static void testIncrementalRanking() {
+        System.out.println("\nTest 5: Incremental Ranking");
+        
+        LeagueTournament league = createLeague(12);
+        league.generateSchedule();
+        StandingsTable table = StandingsTable.of(league);
+        
+        // Low scores leave many teams level on points and goals, so head-to-head decides
+        Random random = new Random(11);
+        List<Match> matches = league.getMatches();
+        for (int i = 0; i < matches.size() * 2; i++) {
+            Match match = matches.get(random.nextInt(matches.size()));
+            play(match, random.nextInt(2), random.nextInt(2));
+            table.applyResult(match);
+            
+            List<Team> expected = new ArrayList<>(league.getStandings().keySet());
+            List<Team> actual = new ArrayList<>(table.getPoints().keySet());
+            assert actual.equals(expected) : "Ranking differs from a full sort after " + (i + 1) + " results";
+        }
+        System.out.println("  ✓ Ranking matched a full sort after each of " + matches.size() * 2 + " results and corrections");
+    }
+    
+    private static LeagueTournament createLeague(int teamCount) {
+        LeagueTournament league = new LeagueTournament("Test League", new Sport("Football"),
+                                                       LocalDate.now(), LocalDate.now().plusDays(60));
+        for (int i = 1; i <= teamCount; i++) {
+            league.addTeam(new Team("Team " + i));
+        }
+        return league;
+    }
+    
+    private static Match played(Tournament tournament, Team team1, Team team2, int score1, int score2) {
+        Match match = new Match(tournament, team1, team2);
+        play(match, score1, score2);
+        return match;
+    }
+    
+    private static void play(Match match, int score1, int score2) {
+        match.setTeam1Score(score1);
+        match.setTeam2Score(score2);
+        match.setStatus(Match.MatchStatus.COMPLETED);
+    }
+    
+    private static StandingsRow rowOf(StandingsTable table, Team team) {
+        for (StandingsRow row : table.getRows()) {
+            if (row.getTeam() == team) {
+                return row;
+            }
+        }
+        throw new AssertionError("Team missing from standings: " + team.getName());
+    }
+    
+    private static void assertSameRows(List<StandingsRow> actual, List<StandingsRow> expected) {
+        assert actual.size() == expected.size() : "Different number of rows";
+        for (int i = 0; i < actual.size(); i++) {
+            StandingsRow a = actual.get(i);
+            StandingsRow e = expected.get(i);
+            assert a.getTeam() == e.getTeam() && a.getPlayed() == e.getPlayed() && a.getPoints() == e.getPoints()
+                && a.getWins() == e.getWins() && a.getDraws() == e.getDraws() && a.getLosses() == e.getLosses()
+                && a.getGoalsFor() == e.getGoalsFor() && a.getGoalsAgainst() == e.getGoalsAgainst()
+                : "Row " + (i + 1) + " differs: " + a + " vs " + e;
+        }
+    }
+}
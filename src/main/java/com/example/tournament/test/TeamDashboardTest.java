@@ -2,7 +2,6 @@ package com.example.tournament.test;
 
 import com.example.tournament.model.Team;
 import com.example.tournament.model.Player;
-import com.example.tournament.model.TeamStats;
 import com.example.tournament.model.TeamManager;
 
 /**
@@ -19,7 +18,6 @@ public class TeamDashboardTest {
             testAddPlayer();
             testRemovePlayer();
             testGetPlayers();
-            testGetTeamStats();
             testHasPlayer();
             testValidateInfo();
             testSaveTeam();
@@ -80,21 +78,8 @@ public class TeamDashboardTest {
         System.out.println("  ✓ getPlayers() returned correct list of " + team.getPlayers().size() + " players");
     }
     
-    private static void testGetTeamStats() {
-        System.out.println("Test 4: getTeamStats()");
-        Team team = new Team("Test Team");
-        
-        TeamStats stats = team.getTeamStats();
-        assert stats != null : "getTeamStats() returned null";
-        
-        System.out.println("  ✓ getTeamStats() returned team statistics");
-        System.out.println("    Games Played: " + stats.getGamesPlayed());
-        System.out.println("    Wins: " + stats.getWins());
-        System.out.println("    Losses: " + stats.getLosses());
-    }
-    
     private static void testHasPlayer() {
-        System.out.println("Test 5: hasPlayer()");
+        System.out.println("Test 4: hasPlayer()");
         Team team = new Team("Test Team");
         Player player1 = new Player("John Doe", 10, "Forward");
         player1.setId(1L);
@@ -107,7 +92,7 @@ public class TeamDashboardTest {
     }
     
     private static void testValidateInfo() {
-        System.out.println("Test 6: ValidateInfo()");
+        System.out.println("Test 5: ValidateInfo()");
         Team validTeam = new Team("Valid Team");
         Team invalidTeam = new Team("");
         Team nullTeam = new Team(null);
@@ -120,7 +105,7 @@ public class TeamDashboardTest {
     }
     
     private static void testSaveTeam() {
-        System.out.println("Test 7: SaveTeam()");
+        System.out.println("Test 6: SaveTeam()");
         Team team = new Team("Test Team");
         
         // This is a placeholder method, just verify it doesn't throw exception
@@ -130,7 +115,7 @@ public class TeamDashboardTest {
     }
     
     private static void testRequestApproval() {
-        System.out.println("Test 8: RequestApproval()");
+        System.out.println("Test 7: RequestApproval()");
         Team team = new Team("Test Team");
         
         // This is a placeholder method, just verify it doesn't throw exception
@@ -140,7 +125,7 @@ public class TeamDashboardTest {
     }
     
     private static void testUpdateTeam() {
-        System.out.println("Test 9: UpdateTeam()");
+        System.out.println("Test 8: UpdateTeam()");
         Team team = new Team("Test Team");
         
         // This is a placeholder method, just verify it doesn't throw exception
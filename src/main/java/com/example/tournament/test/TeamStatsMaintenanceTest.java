@@ -0,0 +1,234 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.MatchService;
+import com.example.tournament.service.ScoringService;
+import com.example.tournament.service.StandingsEngine;
+import com.example.tournament.service.StandingsRow;
+import com.example.tournament.service.StandingsTable;
+import com.example.tournament.service.TeamService;
+import com.example.tournament.service.TeamStatsService;
+import com.example.tournament.service.TournamentService;
+import com.example.tournament.util.JPAUtil;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test to verify that team_stats is maintained as scores are posted:
+ * 1. Posting the first score creates the tournament's rows
+ * 2. Further and corrected scores are applied as deltas
+ * 3. Deleting a match reverses its result
+ * 4. The in-memory standings, loaded from team_stats, follow the same changes
+ * 5. A rebuild from the matches gives the same rows as the maintained ones
+ * 6. Updating a tournament rebuilds the rows only when its points rules change
+ * 7. A team's totals add up its rows, as shown on the team dashboard
+ */
+public class TeamStatsMaintenanceTest {
+    
+    public static void main(String[] args) {
+        System.out.println("=== Team Stats Maintenance Test ===\n");
+        
+        // Initialize database
+        JPAUtil.initialize();
+        
+        try {
+            LeagueTournament league = TestFixtures.createLeague("Stats", 4);
+            List<Match> matches = TestFixtures.createMatches(league);
+            
+            testFirstScore(league, matches);
+            testDeltas(league, matches);
+            testDeletedMatch(league, matches);
+            testEngineView(league);
+            testRebuild(league);
+            testTournamentUpdate(league);
+            testTeamTotals(league);
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } catch (Exception e) {
+            System.err.println("Test error: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } finally {
+            JPAUtil.shutdown();
+        }
+    }
+    
+    /**
+     * Test that the first posted score creates rows for every team
+     */
+    private static void testFirstScore(LeagueTournament league, List<Match> matches) {
+        System.out.println("Test 1: First Posted Score");
+        
+        ScoringService scoringService = new ScoringService();
+        boolean posted = scoringService.postScores(matches.get(0).getId(), 2, 0);
+        assert posted : "Scores should be posted";
+        
+        List<StandingsRow> rows = new TeamStatsService().getStandings(league.getId());
+        assert rows.size() == 4 : "Every team should be listed, got " + rows.size();
+        StandingsRow leader = rows.get(0);
+        assert leader.getTeam().getId().equals(matches.get(0).getTeam1().getId()) : "Winner should lead";
+        assert leader.getPlayed() == 1 && leader.getWins() == 1 && leader.getPoints() == 3 : "Wrong row: " + leader;
+        
+        // Load the in-memory standings now, so the later changes reach them as deltas
+        TestFixtures.check(StandingsEngine.getInstance().getStandings(league.getId()) != null,
+                           "Standings should load from team_stats");
+        System.out.println("  ✓ Rows created with the first result: " + leader);
+    }
+    
+    /**
+     * Test that new and corrected scores are applied as deltas
+     */
+    private static void testDeltas(LeagueTournament league, List<Match> matches) {
+        System.out.println("\nTest 2: New and Corrected Scores");
+        
+        // The last match is between the two teams not involved in the first
+        ScoringService scoringService = new ScoringService();
+        boolean drawPosted = scoringService.postScores(matches.get(5).getId(), 1, 1);
+        assert drawPosted : "Scores should be posted";
+        boolean corrected = scoringService.postScores(matches.get(0).getId(), 0, 3);
+        assert corrected : "Corrected scores should be posted";
+        
+        StandingsRow winner = rowOf(league, matches.get(0).getTeam2());
+        StandingsRow loser = rowOf(league, matches.get(0).getTeam1());
+        assert winner.getPlayed() == 1 && winner.getWins() == 1 && winner.getGoalsFor() == 3 : "Wrong row: " + winner;
+        assert loser.getPlayed() == 1 && loser.getWins() == 0 && loser.getLosses() == 1 : "Old win not reversed: " + loser;
+        assert loser.getPoints() == 0 && loser.getGoalsFor() == 0 : "Old result not reversed: " + loser;
+        
+        StandingsRow drawn = rowOf(league, matches.get(5).getTeam1());
+        assert drawn.getDraws() == 1 && drawn.getPoints() == 1 : "Draw not counted: " + drawn;
+        System.out.println("  ✓ A 2-0 corrected to 0-3 counts as one loss and one win");
+    }
+    
+    /**
+     * Test that deleting a match reverses its result
+     */
+    private static void testDeletedMatch(LeagueTournament league, List<Match> matches) {
+        System.out.println("\nTest 3: Deleted Match");
+        
+        boolean deleted = new MatchService().deleteMatch(matches.get(5).getId());
+        assert deleted : "Match should be deleted";
+        
+        StandingsRow row = rowOf(league, matches.get(5).getTeam1());
+        assert row.getPlayed() == 0 && row.getDraws() == 0 && row.getPoints() == 0 : "Result not reversed: " + row;
+        System.out.println("  ✓ Deleted match no longer counted");
+    }
+    
+    /**
+     * Test that the in-memory standings agree with team_stats after the changes
+     */
+    private static void testEngineView(LeagueTournament league) {
+        System.out.println("\nTest 4: In-Memory Standings");
+        
+        Map<Long, StandingsRow> stored = new HashMap<>();
+        for (StandingsRow row : new TeamStatsService().getStandings(league.getId())) {
+            stored.put(row.getTeam().getId(), row);
+        }
+        List<StandingsRow> rows = StandingsEngine.getInstance().getStandings(league.getId()).getRows();
+        assert rows.size() == stored.size() : "Different number of rows";
+        for (StandingsRow row : rows) {
+            StandingsRow expected = stored.get(row.getTeam().getId());
+            assert expected != null && row.getPlayed() == expected.getPlayed()
+                && row.getPoints() == expected.getPoints() && row.getGoalsFor() == expected.getGoalsFor()
+                && row.getGoalsAgainst() == expected.getGoalsAgainst() : "Row differs: " + row + " vs " + expected;
+        }
+        System.out.println("  ✓ In-memory standings match the " + rows.size() + " team_stats rows");
+    }
+    
+    /**
+     * Test that rebuilding from the matches reproduces the maintained rows
+     */
+    private static void testRebuild(LeagueTournament league) {
+        System.out.println("\nTest 5: Rebuild");
+        
+        ScoringService scoringService = new ScoringService();
+        for (Match match : new MatchService().getMatchesByTournament(league.getId())) {
+            if (match.getStatus() != Match.MatchStatus.COMPLETED) {
+                scoringService.postScores(match.getId(), 1, 0);
+            }
+        }
+        
+        TeamStatsService teamStatsService = new TeamStatsService();
+        List<StandingsRow> maintained = teamStatsService.getStandings(league.getId());
+        boolean refreshed = teamStatsService.rebuild(league.getId());
+        assert refreshed : "Rebuild should succeed";
+        List<StandingsRow> rebuilt = teamStatsService.getStandings(league.getId());
+        
+        assert maintained.size() == rebuilt.size() : "Different number of rows";
+        for (int i = 0; i < maintained.size(); i++) {
+            StandingsRow a = maintained.get(i);
+            StandingsRow b = rebuilt.get(i);
+            assert a.getTeam().getId().equals(b.getTeam().getId()) && a.getPlayed() == b.getPlayed()
+                && a.getPoints() == b.getPoints() && a.getGoalsFor() == b.getGoalsFor()
+                && a.getGoalsAgainst() == b.getGoalsAgainst() : "Row " + (i + 1) + " differs: " + a + " vs " + b;
+        }
+        System.out.println("  ✓ Rebuilt rows match the " + maintained.size() + " maintained rows");
+    }
+    
+    /**
+     * Test that renaming a tournament keeps its standings and changing its
+     * points rules recomputes them
+     */
+    private static void testTournamentUpdate(LeagueTournament league) {
+        System.out.println("\nTest 6: Tournament Updates");
+        
+        TournamentService tournamentService = new TournamentService();
+        StandingsTable before = StandingsEngine.getInstance().getStandings(league.getId());
+        LeagueTournament loaded = (LeagueTournament) tournamentService.getTournamentById(league.getId());
+        loaded.setName("Stats League Renamed");
+        boolean renamed = tournamentService.updateTournament(loaded);
+        assert renamed : "Tournament should be renamed";
+        TestFixtures.check(StandingsEngine.getInstance().getStandings(league.getId()) == before,
+                           "Renaming should keep the standings");
+        
+        loaded = (LeagueTournament) tournamentService.getTournamentById(league.getId());
+        loaded.setPointsForWin(2);
+        boolean updated = tournamentService.updateTournament(loaded);
+        assert updated : "Points rules should be updated";
+        TestFixtures.check(StandingsEngine.getInstance().getStandings(league.getId()) != before,
+                           "New points rules should reload the standings");
+        for (StandingsRow row : new TeamStatsService().getStandings(league.getId())) {
+            assert row.getPoints() == 2 * row.getWins() + row.getDraws() : "Points not recomputed: " + row;
+        }
+        System.out.println("  ✓ Renaming kept the standings, two points for a win recomputed them");
+    }
+    
+    /**
+     * Test that a team's totals match its rows, here a single tournament's
+     */
+    private static void testTeamTotals(LeagueTournament league) {
+        System.out.println("\nTest 7: Team Totals");
+        
+        TeamStatsService teamStatsService = new TeamStatsService();
+        for (StandingsRow row : teamStatsService.getStandings(league.getId())) {
+            TeamStats totals = teamStatsService.getTeamTotals(row.getTeam().getId());
+            assert totals.getTeam().getId().equals(row.getTeam().getId()) : "Totals should name the team";
+            assert totals.getGamesPlayed() == row.getPlayed() && totals.getWins() == row.getWins()
+                && totals.getDraws() == row.getDraws() && totals.getLosses() == row.getLosses()
+                && totals.getGoalsFor() == row.getGoalsFor() && totals.getGoalsAgainst() == row.getGoalsAgainst()
+                : "Totals differ from the row: " + totals + " vs " + row;
+        }
+        
+        Team newcomer = new Team("Stats Newcomer");
+        TestFixtures.check(new TeamService().registerTeam(newcomer), "Team should be registered");
+        TeamStats none = teamStatsService.getTeamTotals(newcomer.getId());
+        assert none.getGamesPlayed() == 0 && none.getWins() == 0 && none.getGoalsFor() == 0
+            : "A team without results should have zero totals: " + none;
+        System.out.println("  ✓ Totals match every row; a team without results has none");
+    }
+    
+    private static StandingsRow rowOf(Tournament tournament, Team team) {
+        for (StandingsRow row : new TeamStatsService().getStandings(tournament.getId())) {
+            if (row.getTeam().getId().equals(team.getId())) {
+                return row;
+            }
+        }
+        throw new AssertionError("Team missing from standings: " + team.getName());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.LeagueTournament;
+import com.example.tournament.model.Match;
+import com.example.tournament.model.Sport;
+import com.example.tournament.model.Team;
+import com.example.tournament.service.MatchService;
+import com.example.tournament.util.JPAUtil;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared setup for the tests that post results into a league.
+ * 
+ * Setup failures throw AssertionError directly rather than through assert,
+ * so the data is created and checked even when assertions are disabled.
+ */
+final class TestFixtures {
+    
+    private TestFixtures() {
+    }
+    
+    /**
+     * Creates a league with its own sport and teams, named after the prefix,
+     * e.g. "Batch League" with "Batch Team 1" to "Batch Team 10".
+     */
+    static LeagueTournament createLeague(String prefix, int teamCount) {
+        EntityManager em = JPAUtil.getEntityManager();
+        try {
+            em.getTransaction().begin();
+            Sport sport = new Sport(prefix + " Football");
+            em.persist(sport);
+            
+            LeagueTournament league = new LeagueTournament(prefix + " League", sport,
+                                                           LocalDate.now(), LocalDate.now().plusDays(30));
+            for (int i = 1; i <= teamCount; i++) {
+                Team team = new Team(prefix + " Team " + i);
+                em.persist(team);
+                league.addTeam(team);
+            }
+            em.persist(league);
+            em.getTransaction().commit();
+            return league;
+        } finally {
+            em.close();
+        }
+    }
+    
+    /**
+     * Creates and saves one match for every pair of the league's teams.
+     */
+    static List<Match> createMatches(LeagueTournament league) {
+        List<Team> teams = league.getTeams();
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < teams.size(); i++) {
+            for (int j = i + 1; j < teams.size(); j++) {
+                matches.add(new Match(league, teams.get(i), teams.get(j)));
+            }
+        }
+        boolean saved = new MatchService().saveMatches(matches);
+        check(saved, "Matches should be saved");
+        return matches;
+    }
+    
+    /**
+     * Fails the test unless the condition holds, whether or not assertions are enabled.
+     */
+    static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
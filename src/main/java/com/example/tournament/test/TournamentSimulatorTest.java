@@ -0,0 +1,219 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.ProjectionRow;
+import com.example.tournament.service.TournamentProjection;
+import com.example.tournament.service.TournamentSimulator;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test to verify the Monte Carlo tournament projection:
+ * 1. A finished league projects its actual final table with certainty
+ * 2. Probabilities add up, and the same seed gives the same projection on any pool
+ * 3. A dominant team is projected first in a half-played league
+ * 4. Knockout projections respect the matches already decided
+ * 5. 100,000 simulations of a half-played 40-team league finish in seconds
+ * This test does not require a database.
+ */
+public class TournamentSimulatorTest {
+    
+    public static void main(String[] args) {
+        System.out.println("=== Tournament Simulator Test ===\n");
+        
+        try {
+            testFinishedLeague();
+            testConsistency();
+            testDominantTeam();
+            testKnockout();
+            testPerformance();
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Test that nothing is left to chance once every match is played
+     */
+    private static void testFinishedLeague() {
+        System.out.println("Test 1: Finished League");
+        
+        LeagueTournament league = league(6);
+        for (Match match : league.getMatches()) {
+            // Lower team number always wins
+            boolean team1Wins = number(match.getTeam1()) < number(match.getTeam2());
+            complete(match, team1Wins ? 1 : 0, team1Wins ? 0 : 1);
+        }
+        
+        TournamentProjection projection = new TournamentSimulator(500, 1L).project(league);
+        assert projection.getRemainingMatches() == 0 : "No matches should be left";
+        List<ProjectionRow> rows = projection.getRows();
+        for (int i = 0; i < rows.size(); i++) {
+            ProjectionRow row = rows.get(i);
+            assert row.getTeam().getName().equals("Team " + (i + 1)) : "Wrong team in place " + (i + 1);
+            assert row.getProbability(i + 1) == 1.0 : "Place should be certain: " + row;
+            assert row.getExpectedPoints() == 3 * (5 - i) : "Points should be the actual points: " + row;
+        }
+        System.out.println("  ✓ Final table reproduced with certainty");
+    }
+    
+    /**
+     * Test that the distributions are complete and reproducible
+     */
+    private static void testConsistency() {
+        System.out.println("\nTest 2: Consistency");
+        
+        LeagueTournament league = halfPlayed(league(10));
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            TournamentProjection a = new TournamentSimulator(5_000, 42L, single).project(league);
+            TournamentProjection b = new TournamentSimulator(5_000, 42L, several).project(league);
+            
+            for (int i = 0; i < a.getRows().size(); i++) {
+                ProjectionRow rowA = a.getRows().get(i);
+                ProjectionRow rowB = b.getRows().get(i);
+                assert rowA.getTeam() == rowB.getTeam() && rowA.getAveragePlace() == rowB.getAveragePlace()
+                    && rowA.getExpectedPoints() == rowB.getExpectedPoints() : "Projections differ: " + rowA + " vs " + rowB;
+                assert Math.abs(rowA.getTopProbability(10) - 1.0) < 1e-9 : "Place probabilities should add up to 1";
+            }
+            for (int place = 1; place <= 10; place++) {
+                double total = 0;
+                for (ProjectionRow row : a.getRows()) {
+                    total += row.getProbability(place);
+                }
+                assert Math.abs(total - 1.0) < 1e-9 : "Place " + place + " should be taken exactly once";
+            }
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+        System.out.println("  ✓ Same seed, same projection on 1 and 4 threads; probabilities add up");
+    }
+    
+    /**
+     * Test that the strength model follows the results so far
+     */
+    private static void testDominantTeam() {
+        System.out.println("\nTest 3: Dominant Team");
+        
+        LeagueTournament league = league(8);
+        Team strongest = league.getTeams().get(7);
+        int played = 0;
+        for (Match match : league.getMatches()) {
+            if (played++ % 2 == 1) {
+                continue;
+            }
+            boolean involved = match.getTeam1() == strongest || match.getTeam2() == strongest;
+            if (involved) {
+                boolean home = match.getTeam1() == strongest;
+                complete(match, home ? 4 : 0, home ? 0 : 4);
+            } else {
+                complete(match, 1, 1);
+            }
+        }
+        
+        TournamentProjection projection = new TournamentSimulator(10_000, 7L).project(league);
+        ProjectionRow first = projection.getRows().get(0);
+        assert first.getTeam() == strongest : "Strongest team should be projected first, got " + first;
+        assert first.getProbability(1) > 0.9 : "Title should be very likely: " + first;
+        System.out.println("  ✓ " + first.getTeam().getName() + " wins the league in " +
+                           String.format("%.1f%%", first.getProbability(1) * 100) + " of simulations");
+    }
+    
+    /**
+     * Test knockout places and decided matches
+     */
+    private static void testKnockout() {
+        System.out.println("\nTest 4: Knockout");
+        
+        KnockoutTournament cup = new KnockoutTournament("Cup", new Sport("Football"),
+                                                        LocalDate.now(), LocalDate.now().plusDays(14));
+        for (int i = 1; i <= 8; i++) {
+            cup.addTeam(new Team("Seed " + i));
+        }
+        cup.generateSchedule();
+        
+        // Seed 8 knocks out seed 1; the rest of round 1 is still to be played
+        Match upset = cup.getMatches().get(0);
+        complete(upset, 0, 1);
+        
+        TournamentProjection projection = new TournamentSimulator(20_000, 3L).project(cup);
+        assert projection.getRemainingMatches() == 6 : "3 matches in round 1, 2 semi-finals and the final remain";
+        double champions = 0;
+        for (ProjectionRow row : projection.getRows()) {
+            champions += row.getProbability(1);
+            assert row.getProbability(4) == 0.0 : "Places are 1, 2, 3 and 5 in an 8-team bracket";
+            if (row.getTeam().getName().equals("Seed 1")) {
+                assert row.getProbability(5) == 1.0 : "Seed 1 is out in round 1";
+            }
+            if (row.getTeam().getName().equals("Seed 8")) {
+                assert row.getTopProbability(4) > 0.3 : "Seed 8 reaches the semi-finals in about half the runs";
+            }
+        }
+        assert Math.abs(champions - 1.0) < 1e-9 : "Exactly one champion per simulation";
+        System.out.println("  ✓ Seed 1 eliminated in every run; " + projection.getRows().get(0));
+    }
+    
+    /**
+     * Test the throughput on a full-size league
+     */
+    private static void testPerformance() {
+        System.out.println("\nTest 5: Performance");
+        
+        LeagueTournament league = halfPlayed(league(40));
+        TournamentSimulator simulator = new TournamentSimulator(100_000, 11L);
+        
+        // Warm up, then time the full run
+        new TournamentSimulator(10_000, 5L).project(league);
+        long start = System.nanoTime();
+        TournamentProjection projection = simulator.project(league);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        
+        assert projection.getRemainingMatches() == 390 : "Half of 780 matches should remain";
+        assert elapsed < 10_000 : "100k simulations took " + elapsed + " ms";
+        System.out.println("  ✓ 100,000 simulations of 390 matches in " + elapsed + " ms on " +
+                           ForkJoinPool.commonPool().getParallelism() + " worker thread(s)");
+    }
+    
+    private static LeagueTournament league(int teams) {
+        LeagueTournament league = new LeagueTournament("League", new Sport("Football"),
+                                                       LocalDate.now(), LocalDate.now().plusDays(300));
+        for (int i = 1; i <= teams; i++) {
+            league.addTeam(new Team("Team " + i));
+        }
+        league.generateSchedule();
+        return league;
+    }
+    
+    /**
+     * Completes every other match with a result that favours lower team numbers.
+     */
+    private static LeagueTournament halfPlayed(LeagueTournament league) {
+        List<Match> matches = new ArrayList<>(league.getMatches());
+        for (int i = 0; i < matches.size(); i += 2) {
+            Match match = matches.get(i);
+            int gap = number(match.getTeam2()) - number(match.getTeam1());
+            complete(match, gap > 0 ? 2 : 1, gap > 0 ? 1 : i % 3);
+        }
+        return league;
+    }
+    
+    private static void complete(Match match, int score1, int score2) {
+        match.setTeam1Score(score1);
+        match.setTeam2Score(score2);
+        match.setStatus(Match.MatchStatus.COMPLETED);
+    }
+    
+    private static int number(Team team) {
+        return Integer.parseInt(team.getName().substring("Team ".length()));
+    }
+}
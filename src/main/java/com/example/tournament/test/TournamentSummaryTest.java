@@ -0,0 +1,234 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.*;
+import com.example.tournament.util.JPAUtil;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Test to verify the tournament summary listing:
+ * 1. Summaries carry the sport, format and team and match counts
+ * 2. Status and sport filters
+ * 3. Keyset pages cover every tournament once, in order, including undated ones
+ * 4. Listing loads no entities
+ */
+public class TournamentSummaryTest {
+    
+    public static void main(String[] args) {
+        System.out.println("=== Tournament Summary Test ===\n");
+        
+        // Initialize database with statistics, to count the entities loaded
+        JPAUtil.initialize("TournamentPU-H2", Map.of("hibernate.generate_statistics", true));
+        
+        try {
+            Sport football = persist(new Sport("Summary Football"));
+            Sport hockey = persist(new Sport("Summary Hockey"));
+            LeagueTournament league = createLeague(football);
+            createHistory(football, hockey);
+            
+            testCounts(league);
+            testFilters(football, hockey);
+            testPaging();
+            testNoEntitiesLoaded();
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } catch (Exception e) {
+            System.err.println("Test error: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } finally {
+            JPAUtil.shutdown();
+        }
+    }
+    
+    /**
+     * Test the counts and labels of a league with teams and matches
+     */
+    private static void testCounts(LeagueTournament league) {
+        System.out.println("Test 1: Counts");
+        
+        TournamentSummary summary = find(new TournamentService().getTournamentSummaries(null, null), league.getId());
+        assert summary != null : "League should be listed";
+        assert summary.getName().equals("Summary League") && summary.getSportName().equals("Summary Football")
+            : "Wrong name or sport: " + summary;
+        assert summary.getType() == LeagueTournament.class && summary.getFormat().equals("League")
+            : "Wrong format: " + summary;
+        assert summary.getStatus() == TournamentStatus.SCHEDULED : "Wrong status: " + summary;
+        assert summary.getTeamCount() == 3 : "Expected 3 teams, got " + summary.getTeamCount();
+        assert summary.getMatchCount() == 3 : "Expected 3 matches, got " + summary.getMatchCount();
+        assert summary.getCompletedMatchCount() == 1 : "Expected 1 completed match, got " + summary.getCompletedMatchCount();
+        System.out.println("  ✓ " + summary);
+    }
+    
+    /**
+     * Test that the status and sport filters combine
+     */
+    private static void testFilters(Sport football, Sport hockey) {
+        System.out.println("\nTest 2: Filters");
+        
+        TournamentService tournamentService = new TournamentService();
+        List<TournamentSummary> all = tournamentService.getTournamentSummaries(null, null);
+        List<TournamentSummary> hockeyOnly = tournamentService.getTournamentSummaries(null, hockey.getId());
+        assert !hockeyOnly.isEmpty() : "Hockey tournaments should be listed";
+        for (TournamentSummary summary : hockeyOnly) {
+            assert "Summary Hockey".equals(summary.getSportName()) : "Sport filter let through " + summary;
+        }
+        
+        List<TournamentSummary> open = tournamentService.getTournamentSummaries(
+            EnumSet.complementOf(EnumSet.of(TournamentStatus.COMPLETED)), football.getId());
+        for (TournamentSummary summary : open) {
+            assert summary.getStatus() != TournamentStatus.COMPLETED : "Status filter let through " + summary;
+            assert "Summary Football".equals(summary.getSportName()) : "Sport filter let through " + summary;
+        }
+        long expected = all.stream()
+            .filter(s -> "Summary Football".equals(s.getSportName()) && s.getStatus() != TournamentStatus.COMPLETED)
+            .count();
+        assert open.size() == expected : "Expected " + expected + " open football tournaments, got " + open.size();
+        assert tournamentService.getTournamentSummaries(EnumSet.noneOf(TournamentStatus.class), null).isEmpty()
+            : "No statuses should match nothing";
+        System.out.println("  ✓ " + hockeyOnly.size() + " hockey, " + open.size() + " open football of " + all.size());
+    }
+    
+    /**
+     * Test that walking the pages returns the full list in order
+     */
+    private static void testPaging() {
+        System.out.println("\nTest 3: Paging");
+        
+        TournamentService tournamentService = new TournamentService();
+        List<TournamentSummary> all = tournamentService.getTournamentSummaries(null, null);
+        for (int i = 1; i < all.size(); i++) {
+            LocalDate previous = all.get(i - 1).getStartDate();
+            LocalDate current = all.get(i).getStartDate();
+            assert current == null || (previous != null && !previous.isBefore(current))
+                : "Summaries should be most recent first, undated last";
+        }
+        
+        List<TournamentSummary> paged = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        TournamentSummary last = null;
+        int pages = 0;
+        while (true) {
+            List<TournamentSummary> page = tournamentService.getTournamentSummaries(null, null, last, 4);
+            if (page.isEmpty()) {
+                break;
+            }
+            assert page.size() <= 4 : "Page exceeds its limit";
+            for (TournamentSummary summary : page) {
+                boolean added = seen.add(summary.getId());
+                assert added : "Tournament " + summary.getId() + " listed twice";
+            }
+            paged.addAll(page);
+            last = page.get(page.size() - 1);
+            pages++;
+        }
+        
+        assert paged.size() == all.size() : "Pages should cover all " + all.size() + " tournaments, got " + paged.size();
+        for (int i = 0; i < all.size(); i++) {
+            assert paged.get(i).getId().equals(all.get(i).getId()) : "Pages should follow the list order at " + i;
+        }
+        System.out.println("  ✓ " + all.size() + " tournaments in " + pages + " pages of at most 4");
+    }
+    
+    /**
+     * Test that listing runs one query and loads no entities
+     */
+    private static void testNoEntitiesLoaded() {
+        System.out.println("\nTest 4: No Entities Loaded");
+        
+        EntityManager em = JPAUtil.getEntityManager();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        em.close();
+        
+        long loads = statistics.getEntityLoadCount();
+        long statements = statistics.getPrepareStatementCount();
+        int listed = new TournamentService().getTournamentSummaries(null, null).size();
+        assert statistics.getEntityLoadCount() == loads : "Listing should not load entities";
+        assert statistics.getPrepareStatementCount() - statements == 1 : "Listing should run one statement";
+        System.out.println("  ✓ " + listed + " summaries from one statement, no entities loaded");
+    }
+    
+    private static LeagueTournament createLeague(Sport sport) {
+        EntityManager em = JPAUtil.getEntityManager();
+        try {
+            em.getTransaction().begin();
+            LeagueTournament league = new LeagueTournament("Summary League", em.merge(sport),
+                                                           LocalDate.of(2030, 6, 1), LocalDate.of(2030, 7, 1));
+            List<Team> teams = new ArrayList<>();
+            for (int i = 1; i <= 3; i++) {
+                Team team = new Team("Summary Team " + i);
+                em.persist(team);
+                league.addTeam(team);
+                teams.add(team);
+            }
+            em.persist(league);
+            for (int i = 0; i < teams.size(); i++) {
+                Match match = new Match(league, teams.get(i), teams.get((i + 1) % teams.size()));
+                if (i == 0) {
+                    match.setTeam1Score(2);
+                    match.setTeam2Score(0);
+                    match.setStatus(Match.MatchStatus.COMPLETED);
+                }
+                em.persist(match);
+            }
+            em.getTransaction().commit();
+            return league;
+        } finally {
+            em.close();
+        }
+    }
+    
+    /**
+     * Creates tournaments sharing start dates, plus some without one, so pages
+     * break inside runs of equal dates.
+     */
+    private static void createHistory(Sport football, Sport hockey) {
+        EntityManager em = JPAUtil.getEntityManager();
+        try {
+            em.getTransaction().begin();
+            Sport managedFootball = em.merge(football);
+            Sport managedHockey = em.merge(hockey);
+            for (int i = 0; i < 15; i++) {
+                LocalDate start = i % 5 == 4 ? null : LocalDate.of(2020 + i % 3, 1, 1);
+                Tournament tournament = i % 2 == 0
+                    ? new KnockoutTournament("Summary Cup " + i, managedHockey, start, start)
+                    : new RoundRobinTournament("Summary Round Robin " + i, managedFootball, start, start);
+                if (i % 3 == 0) {
+                    tournament.setStatus(TournamentStatus.COMPLETED);
+                }
+                em.persist(tournament);
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+    
+    private static Sport persist(Sport sport) {
+        return new SportService().createSport(sport);
+    }
+    
+    private static TournamentSummary find(List<TournamentSummary> summaries, Long id) {
+        for (TournamentSummary summary : summaries) {
+            if (summary.getId().equals(id)) {
+                return summary;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.TimeSlot;
+import com.example.tournament.model.Venue;
+import com.example.tournament.model.VenueCalendar;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test to verify the sorted booking index of a venue:
+ * 1. Overlapping bookings are found in start order, including a long booking
+ *    that starts well before the window, and touching bookings are not
+ * 2. The next free start skips runs of bookings and gaps that are too short
+ * 3. The next free start can ignore the booking of the match being moved
+ * 4. Releasing a booking frees its time and keeps the index in step with the venue
+ * This test does not require a database.
+ */
+public class VenueCalendarTest {
+    
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 9, 7, 0, 0);
+    private static final Duration TWO_HOURS = Duration.ofHours(2);
+    
+    public static void main(String[] args) {
+        System.out.println("=== Venue Calendar Test ===\n");
+        
+        try {
+            testOverlapping();
+            testNextFreeStart();
+            testIgnoredBooking();
+            testRelease();
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Test which bookings overlap a window
+     */
+    private static void testOverlapping() {
+        System.out.println("Test 1: Overlapping Bookings");
+        
+        TimeSlot allDay = slot(6, 0, 20, 0);
+        TimeSlot morning = slot(9, 0, 11, 0);
+        TimeSlot noon = slot(11, 0, 13, 0);
+        TimeSlot evening = slot(18, 0, 20, 0);
+        VenueCalendar calendar = new VenueCalendar(Arrays.asList(evening, noon, allDay, morning));
+        
+        List<TimeSlot> overlapping = calendar.getOverlapping(at(10, 0), at(12, 0));
+        assert overlapping.equals(Arrays.asList(allDay, morning, noon))
+            : "Expected the all-day, morning and noon bookings in start order, got " + overlapping;
+        
+        // Bookings that end at the start of the window or start at its end do not overlap it
+        VenueCalendar touching = new VenueCalendar(Arrays.asList(morning, evening));
+        assert touching.getOverlapping(at(11, 0), at(18, 0)).isEmpty() : "Touching bookings should not overlap";
+        assert touching.isFree(at(11, 0), at(18, 0)) : "The gap between touching bookings should be free";
+        assert !touching.isFree(at(10, 59), at(12, 0)) : "One minute of overlap should count";
+        assert calendar.size() == 4 : "All four bookings should be indexed";
+        System.out.println("  ✓ " + overlapping.size() + " bookings overlap 10:00-12:00, touching bookings do not");
+    }
+    
+    /**
+     * Test the next free start after runs of bookings and short gaps
+     */
+    private static void testNextFreeStart() {
+        System.out.println("\nTest 2: Next Free Start");
+        
+        // 9-11, 11-13, a one-hour gap, then 14-16
+        VenueCalendar calendar = new VenueCalendar(Arrays.asList(
+            slot(9, 0, 11, 0), slot(11, 0, 13, 0), slot(14, 0, 16, 0)));
+        
+        assert at(7, 0).equals(calendar.findNextFreeStart(at(7, 0), TWO_HOURS)) : "7:00-9:00 is free";
+        assert at(16, 0).equals(calendar.findNextFreeStart(at(8, 0), TWO_HOURS))
+            : "The one-hour gap is too short, so the next start should be 16:00";
+        assert at(13, 0).equals(calendar.findNextFreeStart(at(10, 0), Duration.ofHours(1)))
+            : "A one-hour booking fits the gap at 13:00";
+        assert at(16, 0).equals(calendar.findNextFreeStart(at(15, 0), TWO_HOURS))
+            : "A start inside a booking should move to its end";
+        assert at(9, 0).equals(new VenueCalendar().findNextFreeStart(at(9, 0), TWO_HOURS))
+            : "An empty calendar is always free";
+        System.out.println("  ✓ Two hours from 08:00 fit at 16:00, one hour from 10:00 at 13:00");
+    }
+    
+    /**
+     * Test that a match's own booking does not push its suggested start back
+     */
+    private static void testIgnoredBooking() {
+        System.out.println("\nTest 3: Ignored Booking");
+        
+        TimeSlot own = slot(10, 0, 12, 0);
+        own.setId(7L);
+        TimeSlot other = slot(12, 0, 14, 0);
+        VenueCalendar calendar = new VenueCalendar(Arrays.asList(own, other));
+        
+        assert at(14, 0).equals(calendar.findNextFreeStart(at(10, 0), TWO_HOURS))
+            : "Both bookings should block without an ignored booking";
+        assert at(10, 0).equals(calendar.findNextFreeStart(at(10, 0), TWO_HOURS, own))
+            : "The match's own booking should be ignored";
+        
+        // A copy loaded by another EntityManager is matched by ID
+        TimeSlot loaded = slot(10, 0, 12, 0);
+        loaded.setId(7L);
+        assert at(10, 0).equals(calendar.findNextFreeStart(at(10, 0), TWO_HOURS, loaded))
+            : "The booking should be matched by ID";
+        assert at(14, 0).equals(calendar.findNextFreeStart(at(10, 0), TWO_HOURS, slot(10, 0, 12, 0)))
+            : "An unsaved copy is a different booking";
+        assert at(14, 0).equals(calendar.findNextFreeStart(at(11, 0), TWO_HOURS, own))
+            : "Other bookings still block";
+        System.out.println("  ✓ Own booking ignored, by identity or by ID");
+    }
+    
+    /**
+     * Test releasing bookings through the venue
+     */
+    private static void testRelease() {
+        System.out.println("\nTest 4: Release");
+        
+        Venue venue = new Venue("Calendar Ground", "North");
+        TimeSlot first = slot(10, 0, 12, 0);
+        TimeSlot second = slot(12, 0, 14, 0);
+        boolean booked = venue.bookTimeSlot(first) && venue.bookTimeSlot(second);
+        TestFixtures.check(booked, "Both bookings should succeed");
+        boolean clash = venue.bookTimeSlot(slot(11, 0, 13, 0));
+        assert !clash : "An overlapping booking should be refused";
+        
+        boolean released = venue.releaseTimeSlot(first);
+        assert released : "A booked slot should be released";
+        assert venue.getCalendar().size() == 1 && venue.getBookings().size() == 1
+            : "The index and the bookings should both lose the released slot";
+        assert venue.isAvailable(slot(10, 0, 12, 0)) : "The released time should be free";
+        assert at(10, 0).equals(venue.findNextAvailableStart(at(10, 0), TWO_HOURS)) : "10:00 should be free again";
+        
+        boolean releasedAgain = venue.releaseTimeSlot(first);
+        assert !releasedAgain : "A slot can only be released once";
+        boolean rebooked = venue.bookTimeSlot(slot(10, 0, 12, 0));
+        assert rebooked : "The released time should be bookable again";
+        System.out.println("  ✓ Released 10:00-12:00 and booked it again");
+    }
+    
+    private static TimeSlot slot(int startHour, int startMinute, int endHour, int endMinute) {
+        return new TimeSlot(at(startHour, startMinute), at(endHour, endMinute));
+    }
+    
+    private static LocalDateTime at(int hour, int minute) {
+        return DAY.withHour(hour).withMinute(minute);
+    }
+}
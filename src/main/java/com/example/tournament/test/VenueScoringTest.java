@@ -0,0 +1,243 @@
+package com.example.tournament.test;
+
+import com.example.tournament.model.*;
+import com.example.tournament.service.VenueScorer;
+import com.example.tournament.service.VenueScorers;
+import com.example.tournament.service.VenueScoringModel;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test to verify the venue scoring criteria and the model combining them:
+ * 1. Capacity fit prefers the smallest venue that holds the crowd
+ * 2. Travel distance prefers venues near both teams' home grounds, and
+ *    scores venues without coordinates 0
+ * 3. Utilisation balance prefers the least booked venues
+ * 4. Historical usage follows the matches recorded with the model
+ * 5. Usage loaded by team and venue ID adds to the recorded matches
+ * 6. The standard model picks a venue without coordinates on its other
+ *    criteria and respects the eligibility filter
+ * This test does not require a database.
+ */
+public class VenueScoringTest {
+    
+    private static final double EPSILON = 1e-9;
+    
+    public static void main(String[] args) {
+        System.out.println("=== Venue Scoring Test ===\n");
+        
+        try {
+            testCapacityFit();
+            testTravelDistance();
+            testUtilisationBalance();
+            testHistoricalUsage();
+            testLoadedUsage();
+            testStandardModel();
+            
+            System.out.println("\n=== All Tests Passed ===");
+            
+        } catch (AssertionError e) {
+            System.err.println("Test failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Test capacity scores with and without an expected attendance
+     */
+    private static void testCapacityFit() {
+        System.out.println("Test 1: Capacity Fit");
+        
+        List<Venue> venues = Arrays.asList(new Venue("Small", "A", 3000), new Venue("Snug", "B", 6000),
+                                           new Venue("Stadium", "C", 20000), new Venue("Unknown", "D"));
+        Match match = new Match(new Team("Home"), new Team("Away"));
+        
+        double[] scores = scoresOf(VenueScorers.capacityFit(5000), match, venues);
+        assertScores(scores, -0.4, 5000.0 / 6000, 0.25, 0.0);
+        assert only(VenueScorers.capacityFit(5000)).selectBest(match, venues) == venues.get(1)
+            : "The smallest venue holding 5,000 should win";
+        
+        scores = scoresOf(VenueScorers.capacityFit(0), match, venues);
+        assertScores(scores, 0.15, 0.3, 1.0, 0.0);
+        System.out.println("  ✓ Snug ground chosen for 5,000; largest ground without an attendance");
+    }
+    
+    /**
+     * Test distance scores, including venues and teams without coordinates
+     */
+    private static void testTravelDistance() {
+        System.out.println("\nTest 2: Travel Distance");
+        
+        Venue near = located(new Venue("Near", "City"), 51.50, -0.12);
+        Venue far = located(new Venue("Far", "Coast"), 53.48, -2.24);
+        Venue unmapped = new Venue("Unmapped", "Unknown");
+        List<Venue> venues = Arrays.asList(far, unmapped, near);
+        
+        Team home = new Team("Home");
+        home.setHomeLatitude(51.51);
+        home.setHomeLongitude(-0.13);
+        Team away = new Team("Away");
+        away.setHomeLatitude(51.45);
+        away.setHomeLongitude(-0.05);
+        double[] scores = scoresOf(VenueScorers.travelDistance(), new Match(home, away), venues);
+        assert Math.abs(scores[0]) < EPSILON : "The farthest venue should score 0, got " + scores[0];
+        assert scores[1] == 0.0 : "A venue without coordinates should score 0, got " + scores[1];
+        assert scores[2] > 0.9 && scores[2] <= 1.0 : "The nearest venue should score close to 1, got " + scores[2];
+        double nearest = scores[2];
+        
+        // Only one team's home is known: the venues are rated on that team alone
+        Team roaming = new Team("Roaming");
+        scores = scoresOf(VenueScorers.travelDistance(), new Match(home, roaming), venues);
+        assert scores[2] > scores[0] : "The nearest venue should still win: " + Arrays.toString(scores);
+        
+        scores = scoresOf(VenueScorers.travelDistance(), new Match(roaming, new Team("Unknown")), venues);
+        assertScores(scores, 0.0, 0.0, 0.0);
+        System.out.println("  ✓ Nearest venue scored " + String.format("%.3f", nearest)
+                           + ", unknown locations score 0");
+    }
+    
+    /**
+     * Test that venues with fewer bookings score higher
+     */
+    private static void testUtilisationBalance() {
+        System.out.println("\nTest 3: Utilisation Balance");
+        
+        Venue busy = new Venue("Busy", "A");
+        Venue used = new Venue("Used", "B");
+        Venue idle = new Venue("Idle", "C");
+        List<Venue> venues = Arrays.asList(busy, used, idle);
+        Match match = new Match(new Team("Home"), new Team("Away"));
+        
+        assertScores(scoresOf(VenueScorers.utilisationBalance(), match, venues), 1.0, 1.0, 1.0);
+        
+        LocalDateTime start = LocalDateTime.of(2030, 7, 1, 10, 0);
+        book(busy, start);
+        book(busy, start.plusHours(3));
+        book(used, start);
+        assertScores(scoresOf(VenueScorers.utilisationBalance(), match, venues), 0.0, 0.5, 1.0);
+        System.out.println("  ✓ Two, one and no bookings scored 0, 0.5 and 1");
+    }
+    
+    /**
+     * Test that the matches recorded with the model shape the usage scores
+     */
+    private static void testHistoricalUsage() {
+        System.out.println("\nTest 4: Historical Usage");
+        
+        Venue usual = new Venue("Usual", "A");
+        Venue sometimes = new Venue("Sometimes", "B");
+        Venue never = new Venue("Never", "C");
+        List<Venue> venues = Arrays.asList(usual, sometimes, never);
+        Team home = new Team("Home");
+        Team away = new Team("Away");
+        Match match = new Match(home, away);
+        
+        VenueScoringModel model = only(VenueScorers.historicalUsage());
+        assertScores(model.score(match, venues), 0.0, 0.0, 0.0);
+        
+        model.recordUsage(played(home, new Team("Other"), usual));
+        model.recordUsage(played(away, new Team("Another"), usual));
+        model.recordUsage(played(home, new Team("Third"), sometimes));
+        assertScores(model.score(match, venues), 1.0, 0.5, 0.0);
+        assert model.selectBest(match, venues) == usual : "The most used venue should win";
+        System.out.println("  ✓ Usage 2, 1 and 0 scored 1, 0.5 and 0");
+    }
+    
+    /**
+     * Test that usage loaded for saved teams and venues is combined with the
+     * matches recorded during the run
+     */
+    private static void testLoadedUsage() {
+        System.out.println("\nTest 5: Loaded Usage");
+        
+        Venue usual = saved(new Venue("Usual", "A"), 1L);
+        Venue sometimes = saved(new Venue("Sometimes", "B"), 2L);
+        List<Venue> venues = Arrays.asList(usual, sometimes);
+        Team home = new Team("Home");
+        home.setId(10L);
+        Team away = new Team("Away");
+        away.setId(20L);
+        Match match = new Match(home, away);
+        
+        VenueScoringModel model = only(VenueScorers.historicalUsage());
+        assertScores(model.score(match, venues), 0.0, 0.0);
+        
+        // Loading discards the features compiled for this venue list
+        model.loadUsage(Map.of(10L, Map.of(1L, 3, 2L, 1), 20L, Map.of(1L, 1)));
+        assertScores(model.score(match, venues), 1.0, 0.25);
+        
+        model.recordUsage(played(away, new Team("Other"), sometimes));
+        model.recordUsage(played(home, new Team("Another"), sometimes));
+        assertScores(model.score(match, venues), 1.0, 0.75);
+        System.out.println("  ✓ Loaded usage 4 and 1, then 4 and 3 with the recorded matches");
+    }
+    
+    /**
+     * Test the standard model with venues lacking coordinates, and the filter
+     */
+    private static void testStandardModel() {
+        System.out.println("\nTest 6: Standard Model");
+        
+        Venue small = new Venue("Small Unmapped", "A", 500);
+        Venue large = new Venue("Large Unmapped", "B", 10000);
+        List<Venue> venues = Arrays.asList(small, large);
+        Team home = new Team("Home");
+        home.setHomeLatitude(51.5);
+        home.setHomeLongitude(-0.1);
+        Match match = new Match(home, new Team("Away"));
+        
+        VenueScoringModel model = VenueScoringModel.standard();
+        double[] totals = model.score(match, venues);
+        assert !Double.isNaN(totals[0]) && !Double.isNaN(totals[1]) : "Missing coordinates must not give NaN";
+        assert model.selectBest(match, venues) == large : "Larger venue should win without an attendance";
+        assert model.selectBest(match, venues, venue -> venue != large) == small : "Filter should be respected";
+        assert model.selectBest(match, venues, venue -> false) == null : "No eligible venue gives null";
+        assert model.selectBest(match, List.of()) == null : "No venues gives null";
+        System.out.println("  ✓ Totals " + Arrays.toString(totals) + ", filter respected");
+    }
+    
+    private static VenueScoringModel only(VenueScorer scorer) {
+        return new VenueScoringModel().addScorer(scorer, 1.0);
+    }
+    
+    private static double[] scoresOf(VenueScorer scorer, Match match, List<Venue> venues) {
+        return only(scorer).score(match, venues);
+    }
+    
+    private static void assertScores(double[] scores, double... expected) {
+        assert scores.length == expected.length : "Expected " + expected.length + " scores, got " + scores.length;
+        for (int i = 0; i < expected.length; i++) {
+            assert Math.abs(scores[i] - expected[i]) < EPSILON
+                : "Score " + i + " should be " + expected[i] + ", got " + Arrays.toString(scores);
+        }
+    }
+    
+    private static Venue saved(Venue venue, Long id) {
+        venue.setId(id);
+        return venue;
+    }
+    
+    private static Venue located(Venue venue, double latitude, double longitude) {
+        venue.setLatitude(latitude);
+        venue.setLongitude(longitude);
+        return venue;
+    }
+    
+    private static void book(Venue venue, LocalDateTime start) {
+        TimeSlot slot = new TimeSlot(start, start.plusHours(2));
+        slot.setVenue(venue);
+        if (!venue.bookTimeSlot(slot)) {
+            throw new AssertionError("Booking should succeed");
+        }
+    }
+    
+    private static Match played(Team team1, Team team2, Venue venue) {
+        Match match = new Match(team1, team2);
+        match.setVenue(venue);
+        return match;
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.tournament.ui;
 
 import com.example.tournament.model.*;
+import com.example.tournament.service.RatingService;
 import com.example.tournament.service.TeamService;
+import com.example.tournament.service.TeamStatsService;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -118,6 +120,10 @@ public class ParticipantTeamController {
     // Service for team operations
     private TeamService teamService = new TeamService();
     
+    // Services for the team's results and rating
+    private TeamStatsService teamStatsService = new TeamStatsService();
+    private RatingService ratingService = new RatingService();
+    
     // Service for tournament operations
     private com.example.tournament.service.TournamentService tournamentService = 
         new com.example.tournament.service.TournamentService();
@@ -685,8 +691,15 @@ public class ParticipantTeamController {
             return;
         }
         
+        if (selectedTeam.getId() == null) {
+            statusLabel.setText("Error: Please save the team first.");
+            showAlert("Team Not Saved", "Statistics are available once the team has been saved.");
+            return;
+        }
+        
         try {
-            TeamStats stats = selectedTeam.getTeamStats();
+            TeamStats stats = teamStatsService.getTeamTotals(selectedTeam.getId());
+            double rating = ratingService.getRating(selectedTeam.getId());
             
             StringBuilder statsMessage = new StringBuilder();
             statsMessage.append("Team: ").append(selectedTeam.getName()).append("\n\n");
@@ -694,6 +707,9 @@ public class ParticipantTeamController {
             statsMessage.append("Wins: ").append(stats.getWins()).append("\n");
             statsMessage.append("Losses: ").append(stats.getLosses()).append("\n");
             statsMessage.append("Draws: ").append(stats.getDraws()).append("\n");
+            statsMessage.append("Goals: ").append(stats.getGoalsFor()).append(" for, ")
+                        .append(stats.getGoalsAgainst()).append(" against\n");
+            statsMessage.append("Rating: ").append(Math.round(rating)).append("\n");
             statsMessage.append("Total Players: ").append(selectedTeam.getPlayers().size()).append("\n");
             
             statusLabel.setText("Displaying team statistics");
@@ -784,12 +800,12 @@ public class ParticipantTeamController {
     }
     
     /**
-     * Gets the team statistics for the selected team.
-     * @return team statistics, or null if no team is selected
+     * Gets the results of the selected team over all its tournaments.
+     * @return team statistics, or null if no saved team is selected
      */
     public TeamStats getTeamStats() {
-        if (selectedTeam != null) {
-            return selectedTeam.getTeamStats();
+        if (selectedTeam != null && selectedTeam.getId() != null) {
+            return teamStatsService.getTeamTotals(selectedTeam.getId());
         }
         return null;
     }
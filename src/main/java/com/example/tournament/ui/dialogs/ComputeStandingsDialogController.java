@@ -1,8 +1,18 @@
 package com.example.tournament.ui.dialogs;
 
 import com.example.tournament.model.*;
+import com.example.tournament.service.DomainEvent;
+import com.example.tournament.service.MatchDeleted;
+import com.example.tournament.service.MatchResultRecorded;
+import com.example.tournament.service.ProjectionRow;
+import com.example.tournament.service.StandingsEngine;
+import com.example.tournament.service.StandingsRow;
+import com.example.tournament.service.StandingsTable;
+import com.example.tournament.service.TeamStatsService;
+import com.example.tournament.service.TournamentProjection;
 import com.example.tournament.service.TournamentService;
-import com.example.tournament.util.JPAUtil;
+import com.example.tournament.service.TournamentSimulator;
+import javafx.application.Platform;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -11,14 +21,16 @@ import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.stage.Stage;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.TypedQuery;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Controller for the Compute Standings Dialog.
  * Allows Game Coordinator to compute and view tournament standings.
+ * Computed standings stay live: results recorded while the dialog is open are
+ * applied to the shown rows in place. The final standings can be projected by
+ * simulating the remaining matches.
  */
 public class ComputeStandingsDialogController {
     
@@ -32,15 +44,26 @@ public class ComputeStandingsDialogController {
     @FXML private TableColumn<StandingEntry, Integer> drawsColumn;
     @FXML private TableColumn<StandingEntry, Integer> pointsColumn;
     @FXML private TableColumn<StandingEntry, String> goalsColumn;
+    @FXML private TableColumn<StandingEntry, String> projectedPointsColumn;
+    @FXML private TableColumn<StandingEntry, String> averagePlaceColumn;
+    @FXML private TableColumn<StandingEntry, String> titleOddsColumn;
+    @FXML private TableColumn<StandingEntry, String> topFourOddsColumn;
     @FXML private Label tournamentInfoLabel;
     @FXML private Label statusLabel;
     
     private TournamentService tournamentService;
+    private TeamStatsService teamStatsService;
     private ObservableList<Tournament> tournaments;
     
+    // Standings currently shown, by team ID, for live updates
+    private Long shownTournamentId;
+    private final Map<Long, StandingEntry> entriesByTeam = new HashMap<>();
+    private final AtomicBoolean updatePending = new AtomicBoolean();
+    
     @FXML
     public void initialize() {
         tournamentService = new TournamentService();
+        teamStatsService = new TeamStatsService();
         
         // Set up table columns
         rankColumn.setCellValueFactory(new PropertyValueFactory<>("rank"));
@@ -51,6 +74,10 @@ public class ComputeStandingsDialogController {
         drawsColumn.setCellValueFactory(new PropertyValueFactory<>("draws"));
         pointsColumn.setCellValueFactory(new PropertyValueFactory<>("points"));
         goalsColumn.setCellValueFactory(new PropertyValueFactory<>("goals"));
+        projectedPointsColumn.setCellValueFactory(new PropertyValueFactory<>("projectedPoints"));
+        averagePlaceColumn.setCellValueFactory(new PropertyValueFactory<>("averagePlace"));
+        titleOddsColumn.setCellValueFactory(new PropertyValueFactory<>("titleOdds"));
+        topFourOddsColumn.setCellValueFactory(new PropertyValueFactory<>("topFourOdds"));
         
         // Load tournaments
         loadTournaments();
@@ -58,6 +85,10 @@ public class ComputeStandingsDialogController {
         // Set up tournament selection listener
         tournamentComboBox.setOnAction(e -> handleTournamentSelection());
         
+        // Apply results recorded elsewhere while the dialog is open
+        LiveUpdates.subscribe(standingsTable, MatchResultRecorded.class, this::handleResultChanged);
+        LiveUpdates.subscribe(standingsTable, MatchDeleted.class, this::handleResultChanged);
+        
         statusLabel.setText("Ready");
     }
     
@@ -109,7 +140,7 @@ public class ComputeStandingsDialogController {
             tournamentInfoLabel.setText(info);
             
             // Clear standings
-            standingsTable.getItems().clear();
+            clearStandings();
         }
     }
     
@@ -123,116 +154,73 @@ public class ComputeStandingsDialogController {
             return;
         }
         
-        EntityManager em = JPAUtil.getEntityManager();
         try {
-            em.getTransaction().begin();
-            
-            // Fetch tournament with all matches
-            Tournament tournament = tournamentService.getTournamentById(selected.getId());
-            
-            if (tournament == null) {
-                showAlert("Error", "Tournament not found.", Alert.AlertType.ERROR);
-                return;
-            }
-            
-            // Compute standings
-            Map<Long, StandingEntry> standingsMap = new HashMap<>();
-            
-            // Initialize standings for all teams
-            for (Team team : tournament.getTeams()) {
-                standingsMap.put(team.getId(), new StandingEntry(team.getName()));
-            }
-            
-            // Process all completed matches
-            List<Match> matches = tournament.getMatches();
-            for (Match match : matches) {
-                if (match.getStatus() == Match.MatchStatus.COMPLETED && 
-                    match.getTeam1() != null && match.getTeam2() != null &&
-                    match.getTeam1Score() != null && match.getTeam2Score() != null) {
-                    
-                    StandingEntry team1Standing = standingsMap.get(match.getTeam1().getId());
-                    StandingEntry team2Standing = standingsMap.get(match.getTeam2().getId());
-                    
-                    if (team1Standing != null && team2Standing != null) {
-                        int score1 = match.getTeam1Score();
-                        int score2 = match.getTeam2Score();
-                        
-                        team1Standing.addMatch(score1, score2);
-                        team2Standing.addMatch(score2, score1);
-                    }
-                }
-            }
-            
-            // Save standings to database (update TeamStats)
-            for (Team team : tournament.getTeams()) {
-                StandingEntry standing = standingsMap.get(team.getId());
-                if (standing != null) {
-                    // Find or create TeamStats for this team in this tournament
-                    TypedQuery<TeamStats> query = em.createQuery(
-                        "SELECT ts FROM TeamStats ts WHERE ts.team.id = :teamId AND ts.tournament.id = :tournamentId",
-                        TeamStats.class
-                    );
-                    query.setParameter("teamId", team.getId());
-                    query.setParameter("tournamentId", tournament.getId());
-                    List<TeamStats> statsList = query.getResultList();
-                    
-                    TeamStats stats;
-                    if (statsList.isEmpty()) {
-                        stats = new TeamStats();
-                        stats.setTeam(em.find(Team.class, team.getId()));
-                        stats.setTournament(em.find(Tournament.class, tournament.getId()));
-                        em.persist(stats);
-                    } else {
-                        stats = statsList.get(0);
-                    }
-                    
-                    // Update stats
-                    stats.setMatchesPlayed(standing.getPlayed());
-                    stats.setWins(standing.getWins());
-                    stats.setLosses(standing.getLosses());
-                    stats.setDraws(standing.getDraws());
-                    stats.setPoints(standing.getPoints());
-                    stats.setGoalsFor(standing.getGoalsFor());
-                    stats.setGoalsAgainst(standing.getGoalsAgainst());
-                    
-                    em.merge(stats);
-                }
-            }
-            
-            em.getTransaction().commit();
-            
-            // Sort standings by points (descending), then goal difference
-            List<StandingEntry> sortedStandings = new ArrayList<>(standingsMap.values());
-            sortedStandings.sort((a, b) -> {
-                int pointsDiff = b.getPoints() - a.getPoints();
-                if (pointsDiff != 0) return pointsDiff;
-                return b.getGoalDifference() - a.getGoalDifference();
-            });
+            // Standings are kept in team_stats as scores are posted
+            List<StandingsRow> rows = teamStatsService.getStandings(selected.getId());
             
-            // Assign ranks
-            for (int i = 0; i < sortedStandings.size(); i++) {
-                sortedStandings.get(i).setRank(i + 1);
+            // Rows are already ranked by the tournament's tiebreakers
+            List<StandingEntry> sortedStandings = new ArrayList<>();
+            entriesByTeam.clear();
+            for (StandingsRow row : rows) {
+                StandingEntry entry = new StandingEntry(row);
+                sortedStandings.add(entry);
+                entriesByTeam.put(row.getTeam().getId(), entry);
             }
             
             // Display standings
             ObservableList<StandingEntry> standings = FXCollections.observableArrayList(sortedStandings);
             standingsTable.setItems(standings);
+            shownTournamentId = selected.getId();
             
-            statusLabel.setText("Standings computed and saved successfully!");
-            showAlert("Success", "Tournament standings have been computed and saved to the database.", 
-                     Alert.AlertType.INFORMATION);
+            statusLabel.setText("Standings loaded successfully!");
             
         } catch (Exception e) {
-            if (em.getTransaction().isActive()) {
-                em.getTransaction().rollback();
-            }
             e.printStackTrace();
             showAlert("Error", "Failed to compute standings: " + e.getMessage(), Alert.AlertType.ERROR);
-        } finally {
-            em.close();
         }
     }
     
+    /**
+     * Projects the final standings of the shown tournament in the background and
+     * adds the projection to the rows.
+     */
+    @FXML
+    private void handleProjectStandings() {
+        if (shownTournamentId == null) {
+            showAlert("No Standings", "Please compute standings first.", Alert.AlertType.WARNING);
+            return;
+        }
+        
+        Long tournamentId = shownTournamentId;
+        boolean knockout = tournamentComboBox.getValue() instanceof KnockoutTournament;
+        statusLabel.setText("Simulating the remaining matches...");
+        Thread worker = new Thread(() -> {
+            try {
+                TournamentProjection projection = new TournamentSimulator().project(tournamentId);
+                Platform.runLater(() -> applyProjection(projection, knockout));
+            } catch (Exception e) {
+                e.printStackTrace();
+                Platform.runLater(() -> statusLabel.setText("Projection failed: " + e.getMessage()));
+            }
+        });
+        worker.setDaemon(true);
+        worker.start();
+    }
+    
+    private void applyProjection(TournamentProjection projection, boolean knockout) {
+        if (projection == null || !projection.getTournamentId().equals(shownTournamentId)) {
+            return;
+        }
+        for (ProjectionRow row : projection.getRows()) {
+            StandingEntry entry = entriesByTeam.get(row.getTeam().getId());
+            if (entry != null) {
+                entry.setProjection(row, knockout);
+            }
+        }
+        statusLabel.setText("Projected from " + projection.getSimulations() + " simulations of " +
+                            projection.getRemainingMatches() + " remaining matches");
+    }
+    
     /**
      * Handles export of standings report.
      * TODO: Implement PDF export functionality using a PDF library (e.g., iText, Apache PDFBox)
@@ -246,14 +234,62 @@ public class ComputeStandingsDialogController {
         
         statusLabel.setText("Export functionality requires additional PDF library implementation");
         showAlert("Export Not Implemented", 
-                 "Export functionality requires PDF library integration.\nStandings are saved to database and can be viewed here.", 
+                 "Export functionality requires PDF library integration.\nStandings are kept in the database and can be viewed here.", 
                  Alert.AlertType.INFORMATION);
     }
     
+    /**
+     * Reads the standings in the background after a result of the shown
+     * tournament changed. Results posted together are applied in one update.
+     */
+    private void handleResultChanged(DomainEvent event) {
+        if (shownTournamentId == null || !shownTournamentId.equals(event.getTournamentId())
+                || !updatePending.compareAndSet(false, true)) {
+            return;
+        }
+        Long tournamentId = shownTournamentId;
+        LiveUpdates.read(() -> {
+            // Changes from here on schedule another read
+            updatePending.set(false);
+            StandingsTable table = StandingsEngine.getInstance().getStandings(tournamentId);
+            return table != null ? table.getRows() : null;
+        }, rows -> applyStandingsUpdate(tournamentId, rows));
+    }
+    
+    /**
+     * Updates the shown rows in place from the in-memory standings, which the
+     * services have already updated, and moves rows whose rank changed.
+     */
+    private void applyStandingsUpdate(Long tournamentId, List<StandingsRow> rows) {
+        if (rows == null || !tournamentId.equals(shownTournamentId)) {
+            return;
+        }
+        
+        ObservableList<StandingEntry> items = standingsTable.getItems();
+        for (StandingsRow row : rows) {
+            StandingEntry entry = entriesByTeam.get(row.getTeam().getId());
+            if (entry == null) {
+                entry = new StandingEntry(row);
+                entriesByTeam.put(row.getTeam().getId(), entry);
+                items.add(entry);
+            } else {
+                entry.update(row);
+            }
+        }
+        items.sort(Comparator.comparingInt(StandingEntry::getRank));
+        statusLabel.setText("Standings updated with the latest results");
+    }
+    
+    private void clearStandings() {
+        standingsTable.getItems().clear();
+        entriesByTeam.clear();
+        shownTournamentId = null;
+    }
+    
     @FXML
     private void handleRefresh() {
         loadTournaments();
-        standingsTable.getItems().clear();
+        clearStandings();
         tournamentInfoLabel.setText("");
         statusLabel.setText("Data refreshed");
     }
@@ -284,6 +320,10 @@ public class ComputeStandingsDialogController {
         private final SimpleIntegerProperty draws = new SimpleIntegerProperty(0);
         private final SimpleIntegerProperty points = new SimpleIntegerProperty(0);
         private final SimpleStringProperty goals = new SimpleStringProperty("0:0");
+        private final SimpleStringProperty projectedPoints = new SimpleStringProperty("");
+        private final SimpleStringProperty averagePlace = new SimpleStringProperty("");
+        private final SimpleStringProperty titleOdds = new SimpleStringProperty("");
+        private final SimpleStringProperty topFourOdds = new SimpleStringProperty("");
         private int goalsFor = 0;
         private int goalsAgainst = 0;
         
@@ -291,24 +331,37 @@ public class ComputeStandingsDialogController {
             this.teamName = new SimpleStringProperty(teamName);
         }
         
-        public void addMatch(int scored, int conceded) {
-            played.set(played.get() + 1);
-            goalsFor += scored;
-            goalsAgainst += conceded;
-            
-            if (scored > conceded) {
-                wins.set(wins.get() + 1);
-                points.set(points.get() + 3); // 3 points for a win
-            } else if (scored < conceded) {
-                losses.set(losses.get() + 1);
-            } else {
-                draws.set(draws.get() + 1);
-                points.set(points.get() + 1); // 1 point for a draw
-            }
-            
+        public StandingEntry(StandingsRow row) {
+            this(row.getTeam().getName());
+            update(row);
+        }
+        
+        /**
+         * Copies the totals of a row; the table shows the change without
+         * replacing the entry.
+         */
+        public void update(StandingsRow row) {
+            rank.set(row.getRank());
+            played.set(row.getPlayed());
+            wins.set(row.getWins());
+            losses.set(row.getLosses());
+            draws.set(row.getDraws());
+            points.set(row.getPoints());
+            goalsFor = row.getGoalsFor();
+            goalsAgainst = row.getGoalsAgainst();
             goals.set(goalsFor + ":" + goalsAgainst);
         }
         
+        /**
+         * Shows a team's projected finish; knockout tournaments have no points.
+         */
+        public void setProjection(ProjectionRow row, boolean knockout) {
+            projectedPoints.set(knockout ? "-" : String.format("%.1f", row.getExpectedPoints()));
+            averagePlace.set(String.format("%.1f", row.getAveragePlace()));
+            titleOdds.set(String.format("%.1f", row.getProbability(1) * 100));
+            topFourOdds.set(String.format("%.1f", row.getTopProbability(4) * 100));
+        }
+        
         public int getGoalDifference() {
             return goalsFor - goalsAgainst;
         }
@@ -325,5 +378,23 @@ public class ComputeStandingsDialogController {
         public String getGoals() { return goals.get(); }
         public int getGoalsFor() { return goalsFor; }
         public int getGoalsAgainst() { return goalsAgainst; }
+        public String getProjectedPoints() { return projectedPoints.get(); }
+        public String getAveragePlace() { return averagePlace.get(); }
+        public String getTitleOdds() { return titleOdds.get(); }
+        public String getTopFourOdds() { return topFourOdds.get(); }
+        
+        // Properties, so the table follows live updates
+        public SimpleIntegerProperty rankProperty() { return rank; }
+        public SimpleStringProperty teamNameProperty() { return teamName; }
+        public SimpleIntegerProperty playedProperty() { return played; }
+        public SimpleIntegerProperty winsProperty() { return wins; }
+        public SimpleIntegerProperty lossesProperty() { return losses; }
+        public SimpleIntegerProperty drawsProperty() { return draws; }
+        public SimpleIntegerProperty pointsProperty() { return points; }
+        public SimpleStringProperty goalsProperty() { return goals; }
+        public SimpleStringProperty projectedPointsProperty() { return projectedPoints; }
+        public SimpleStringProperty averagePlaceProperty() { return averagePlace; }
+        public SimpleStringProperty titleOddsProperty() { return titleOdds; }
+        public SimpleStringProperty topFourOddsProperty() { return topFourOdds; }
     }
 }
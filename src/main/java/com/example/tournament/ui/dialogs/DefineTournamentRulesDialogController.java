@@ -2,14 +2,14 @@ package com.example.tournament.ui.dialogs;
 
 import com.example.tournament.model.*;
 import com.example.tournament.service.TournamentService;
+import com.example.tournament.service.TournamentSummary;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-
-import java.util.List;
+import javafx.util.StringConverter;
 
 /**
  * Controller for the Define Tournament Rules Dialog.
@@ -17,7 +17,7 @@ import java.util.List;
 public class DefineTournamentRulesDialogController {
     
     @FXML
-    private ComboBox<String> tournamentComboBox;
+    private ComboBox<TournamentSummary> tournamentComboBox;
     
     @FXML
     private Label tournamentNameLabel;
@@ -49,6 +49,9 @@ public class DefineTournamentRulesDialogController {
     @FXML
     private Spinner<Integer> pointsForLossSpinner;
     
+    @FXML
+    private CheckBox doubleRoundRobinCheckBox;
+    
     @FXML
     private VBox knockoutRulesBox;
     
@@ -114,14 +117,21 @@ public class DefineTournamentRulesDialogController {
      */
     private void loadTournaments() {
         try {
-            List<Tournament> tournaments = tournamentService.viewAllTournaments();
-            ObservableList<String> tournamentNames = FXCollections.observableArrayList();
-            
-            for (Tournament tournament : tournaments) {
-                tournamentNames.add(tournament.getName());
-            }
+            ObservableList<TournamentSummary> tournamentNames = FXCollections.observableArrayList(
+                tournamentService.getTournamentSummaries(null, null));
             
             tournamentComboBox.setItems(tournamentNames);
+            tournamentComboBox.setConverter(new StringConverter<TournamentSummary>() {
+                @Override
+                public String toString(TournamentSummary summary) {
+                    return summary == null ? "" : summary.getName();
+                }
+                
+                @Override
+                public TournamentSummary fromString(String string) {
+                    return null;
+                }
+            });
             
             if (!tournamentNames.isEmpty()) {
                 statusLabel.setText("Found " + tournamentNames.size() + " tournament(s)");
@@ -141,17 +151,14 @@ public class DefineTournamentRulesDialogController {
      */
     @FXML
     private void handleTournamentSelection() {
-        String selectedName = tournamentComboBox.getValue();
-        if (selectedName == null) {
+        TournamentSummary selected = tournamentComboBox.getValue();
+        if (selected == null) {
             return;
         }
         
         try {
-            List<Tournament> tournaments = tournamentService.viewAllTournaments();
-            selectedTournament = tournaments.stream()
-                .filter(t -> t.getName().equals(selectedName))
-                .findFirst()
-                .orElse(null);
+            // Only the chosen tournament is loaded in full, for its rules
+            selectedTournament = tournamentService.getTournamentById(selected.getId());
             
             if (selectedTournament != null) {
                 // Update tournament info
@@ -178,6 +185,7 @@ public class DefineTournamentRulesDialogController {
                     if (league.getPointsForLoss() != null) {
                         pointsForLossSpinner.getValueFactory().setValue(league.getPointsForLoss());
                     }
+                    doubleRoundRobinCheckBox.setSelected(Boolean.TRUE.equals(league.getDoubleRoundRobin()));
                     
                 } else if (selectedTournament instanceof RoundRobinTournament) {
                     tournamentTypeLabel.setText("Round Robin");
@@ -197,6 +205,7 @@ public class DefineTournamentRulesDialogController {
                     if (roundRobin.getPointsForLoss() != null) {
                         pointsForLossSpinner.getValueFactory().setValue(roundRobin.getPointsForLoss());
                     }
+                    doubleRoundRobinCheckBox.setSelected(Boolean.TRUE.equals(roundRobin.getDoubleRoundRobin()));
                     
                 } else if (selectedTournament instanceof KnockoutTournament) {
                     tournamentTypeLabel.setText("Knockout");
@@ -246,11 +255,13 @@ public class DefineTournamentRulesDialogController {
                 league.setPointsForWin(pointsForWinSpinner.getValue());
                 league.setPointsForDraw(pointsForDrawSpinner.getValue());
                 league.setPointsForLoss(pointsForLossSpinner.getValue());
+                league.setDoubleRoundRobin(doubleRoundRobinCheckBox.isSelected());
             } else if (selectedTournament instanceof RoundRobinTournament) {
                 RoundRobinTournament roundRobin = (RoundRobinTournament) selectedTournament;
                 roundRobin.setPointsForWin(pointsForWinSpinner.getValue());
                 roundRobin.setPointsForDraw(pointsForDrawSpinner.getValue());
                 roundRobin.setPointsForLoss(pointsForLossSpinner.getValue());
+                roundRobin.setDoubleRoundRobin(doubleRoundRobinCheckBox.isSelected());
             } else if (selectedTournament instanceof KnockoutTournament) {
                 KnockoutTournament knockout = (KnockoutTournament) selectedTournament;
                 knockout.setCurrentRound(numberOfRoundsSpinner.getValue());
@@ -275,11 +286,13 @@ public class DefineTournamentRulesDialogController {
                     rulesMessage.append("- Points for Win: ").append(pointsForWinSpinner.getValue()).append("\n");
                     rulesMessage.append("- Points for Draw: ").append(pointsForDrawSpinner.getValue()).append("\n");
                     rulesMessage.append("- Points for Loss: ").append(pointsForLossSpinner.getValue()).append("\n");
+                    rulesMessage.append("- Home and Away: ").append(doubleRoundRobinCheckBox.isSelected() ? "Yes" : "No").append("\n");
                 } else if (selectedTournament instanceof RoundRobinTournament) {
                     rulesMessage.append("\nRound Robin Rules:\n");
                     rulesMessage.append("- Points for Win: ").append(pointsForWinSpinner.getValue()).append("\n");
                     rulesMessage.append("- Points for Draw: ").append(pointsForDrawSpinner.getValue()).append("\n");
                     rulesMessage.append("- Points for Loss: ").append(pointsForLossSpinner.getValue()).append("\n");
+                    rulesMessage.append("- Home and Away: ").append(doubleRoundRobinCheckBox.isSelected() ? "Yes" : "No").append("\n");
                 } else if (selectedTournament instanceof KnockoutTournament) {
                     rulesMessage.append("\nKnockout Rules:\n");
                     rulesMessage.append("- Number of Rounds: ").append(numberOfRoundsSpinner.getValue()).append("\n");
@@ -2,13 +2,15 @@ package com.example.tournament.ui.dialogs;
 
 import com.example.tournament.model.*;
 import com.example.tournament.service.TournamentService;
+import com.example.tournament.service.TournamentSummary;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.stage.Stage;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.util.StringConverter;
 
-import java.util.List;
+import java.util.EnumSet;
 
 /**
  * Controller for the End Tournament Dialog.
@@ -16,7 +18,7 @@ import java.util.List;
 public class EndTournamentDialogController {
     
     @FXML
-    private ComboBox<String> tournamentComboBox;
+    private ComboBox<TournamentSummary> tournamentComboBox;
     
     @FXML
     private Label tournamentNameLabel;
@@ -46,7 +48,7 @@ public class EndTournamentDialogController {
     private Label statusLabel;
     
     private TournamentService tournamentService;
-    private Tournament selectedTournament;
+    private TournamentSummary selectedTournament;
     
     /**
      * Initialize the dialog.
@@ -62,19 +64,25 @@ public class EndTournamentDialogController {
      */
     private void loadTournaments() {
         try {
-            List<Tournament> tournaments = tournamentService.viewAllTournaments();
-            ObservableList<String> tournamentNames = FXCollections.observableArrayList();
-            
             // Only show tournaments that are not already completed
-            for (Tournament tournament : tournaments) {
-                if (tournament.getStatus() != TournamentStatus.COMPLETED) {
-                    tournamentNames.add(tournament.getName());
-                }
-            }
+            ObservableList<TournamentSummary> tournaments = FXCollections.observableArrayList(
+                tournamentService.getTournamentSummaries(
+                    EnumSet.complementOf(EnumSet.of(TournamentStatus.COMPLETED)), null));
             
-            tournamentComboBox.setItems(tournamentNames);
+            tournamentComboBox.setItems(tournaments);
+            tournamentComboBox.setConverter(new StringConverter<TournamentSummary>() {
+                @Override
+                public String toString(TournamentSummary summary) {
+                    return summary == null ? "" : summary.getName();
+                }
+                
+                @Override
+                public TournamentSummary fromString(String string) {
+                    return null;
+                }
+            });
             
-            if (tournamentNames.isEmpty()) {
+            if (tournaments.isEmpty()) {
                 statusLabel.setText("No active tournaments found.");
                 statusLabel.setStyle("-fx-text-fill: #666;");
             }
@@ -91,44 +99,30 @@ public class EndTournamentDialogController {
      */
     @FXML
     private void handleTournamentSelection() {
-        String selectedName = tournamentComboBox.getValue();
-        if (selectedName == null) {
+        selectedTournament = tournamentComboBox.getValue();
+        if (selectedTournament == null) {
             return;
         }
         
         try {
-            List<Tournament> tournaments = tournamentService.viewAllTournaments();
-            selectedTournament = tournaments.stream()
-                .filter(t -> t.getName().equals(selectedName))
-                .findFirst()
-                .orElse(null);
-            
             if (selectedTournament != null) {
                 // Update tournament details
                 tournamentNameLabel.setText(selectedTournament.getName());
-                sportLabel.setText(selectedTournament.getSport() != null ? 
-                    selectedTournament.getSport().getName() : "N/A");
+                sportLabel.setText(selectedTournament.getSportName() != null ? 
+                    selectedTournament.getSportName() : "N/A");
                 
-                if (selectedTournament instanceof LeagueTournament) {
+                if (selectedTournament.getType() == LeagueTournament.class) {
                     typeLabel.setText("League/Round Robin");
-                } else if (selectedTournament instanceof RoundRobinTournament) {
-                    typeLabel.setText("Round Robin");
-                } else if (selectedTournament instanceof KnockoutTournament) {
-                    typeLabel.setText("Knockout");
                 } else {
-                    typeLabel.setText("Unknown");
+                    typeLabel.setText(selectedTournament.getFormat());
                 }
                 
                 currentStatusLabel.setText(selectedTournament.getStatus() != null ? 
                     selectedTournament.getStatus().toString() : "UNKNOWN");
                 
-                totalTeamsLabel.setText(String.valueOf(selectedTournament.getTeams().size()));
-                totalMatchesLabel.setText(String.valueOf(selectedTournament.getMatches().size()));
-                
-                int completedMatches = (int) selectedTournament.getMatches().stream()
-                    .filter(m -> m.getStatus() == Match.MatchStatus.COMPLETED)
-                    .count();
-                completedMatchesLabel.setText(String.valueOf(completedMatches));
+                totalTeamsLabel.setText(String.valueOf(selectedTournament.getTeamCount()));
+                totalMatchesLabel.setText(String.valueOf(selectedTournament.getMatchCount()));
+                completedMatchesLabel.setText(String.valueOf(selectedTournament.getCompletedMatchCount()));
                 
                 statusLabel.setText("Tournament selected. Review details before ending.");
                 statusLabel.setStyle("-fx-text-fill: #666;");
@@ -151,8 +145,8 @@ public class EndTournamentDialogController {
             return;
         }
         
-        // Note: selectedTournament's teams and matches are already loaded via viewAllTournaments()
-        // which uses JOIN FETCH, so no lazy loading issues here
+        // Note: selectedTournament is a summary, so its team and match counts were
+        // read with the listing and nothing is loaded lazily here
         
         // Confirm the action
         Alert confirmAlert = new Alert(Alert.AlertType.CONFIRMATION);
@@ -162,8 +156,8 @@ public class EndTournamentDialogController {
                                    "This action is PERMANENT and CANNOT be undone.\n\n" +
                                    "The tournament and all its matches will be DELETED from the database.\n\n" +
                                    "Tournament: " + selectedTournament.getName() + "\n" +
-                                   "Teams: " + selectedTournament.getTeams().size() + "\n" +
-                                   "Matches: " + selectedTournament.getMatches().size());
+                                   "Teams: " + selectedTournament.getTeamCount() + "\n" +
+                                   "Matches: " + selectedTournament.getMatchCount());
         
         ButtonType result = confirmAlert.showAndWait().orElse(ButtonType.CANCEL);
         
@@ -187,8 +181,8 @@ public class EndTournamentDialogController {
                 showAlert("Success", 
                          "Tournament '" + selectedTournament.getName() + "' has been ended and deleted!\n\n" +
                          "The tournament and all its matches have been removed from the database.\n" +
-                         "Total Teams: " + selectedTournament.getTeams().size() + "\n" +
-                         "Total Matches Deleted: " + selectedTournament.getMatches().size() + "\n" +
+                         "Total Teams: " + selectedTournament.getTeamCount() + "\n" +
+                         "Total Matches Deleted: " + selectedTournament.getMatchCount() + "\n" +
                          "Completed Matches: " + completedMatchesLabel.getText() +
                          notesMessage,
                          Alert.AlertType.INFORMATION);
@@ -0,0 +1,78 @@
+package com.example.tournament.ui.dialogs;
+
+import com.example.tournament.service.DomainEvent;
+import com.example.tournament.service.DomainEventBus;
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Node;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Subscribes dialogs to domain events for as long as their window is open,
+ * delivering the events on the FX thread, and reads what the events call for
+ * off the FX thread.
+ */
+final class LiveUpdates {
+    
+    // One reader for all dialogs, so reads are applied in the order they were requested
+    private static final ExecutorService READER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "live-updates");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private LiveUpdates() {
+    }
+    
+    /**
+     * Subscribes a handler until the window showing the node is closed.
+     * 
+     * @param node any node of the dialog; it need not be in a scene yet
+     */
+    static <E extends DomainEvent> void subscribe(Node node, Class<E> type, Consumer<? super E> handler) {
+        DomainEventBus.Subscription subscription = DomainEventBus.getInstance().subscribe(type, event -> {
+            if (Platform.isFxApplicationThread()) {
+                handler.accept(event);
+            } else {
+                Platform.runLater(() -> handler.accept(event));
+            }
+        });
+        
+        // Controllers are initialized before their root is placed in a scene and window
+        ChangeListener<Window> onWindow = (obs, oldWindow, window) -> {
+            if (window != null) {
+                window.addEventHandler(WindowEvent.WINDOW_HIDDEN, e -> subscription.close());
+            }
+        };
+        node.sceneProperty().addListener((obs, oldScene, scene) -> {
+            if (scene != null) {
+                scene.windowProperty().addListener(onWindow);
+                onWindow.changed(null, null, scene.getWindow());
+            }
+        });
+    }
+    
+    /**
+     * Runs a read in the background and hands its result to the FX thread.
+     * Reads run one at a time, so a later read is never applied before an
+     * earlier one; a read that fails is logged and not applied.
+     */
+    static <T> void read(Supplier<T> read, Consumer<? super T> apply) {
+        READER.execute(() -> {
+            T result;
+            try {
+                result = read.get();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+                return;
+            }
+            Platform.runLater(() -> apply.accept(result));
+        });
+    }
+}
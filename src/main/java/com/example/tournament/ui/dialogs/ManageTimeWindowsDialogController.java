@@ -5,6 +5,7 @@ import com.example.tournament.model.TimeSlot;
 import com.example.tournament.model.Tournament;
 import com.example.tournament.model.Venue;
 import com.example.tournament.service.TournamentService;
+import com.example.tournament.service.VenueService;
 import com.example.tournament.util.JPAUtil;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,6 +15,7 @@ import javafx.stage.Stage;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -34,6 +36,7 @@ public class ManageTimeWindowsDialogController {
     @FXML private Label statusLabel;
     
     private TournamentService tournamentService;
+    private VenueService venueService;
     private ObservableList<Tournament> tournaments;
     private ObservableList<Match> matches;
     private ObservableList<TimeSlot> timeSlots;
@@ -42,6 +45,7 @@ public class ManageTimeWindowsDialogController {
     @FXML
     public void initialize() {
         tournamentService = new TournamentService();
+        venueService = new VenueService();
         
         // Load tournaments
         loadTournaments();
@@ -206,6 +210,19 @@ public class ManageTimeWindowsDialogController {
             LocalDateTime endDateTime = datePicker.getValue()
                 .atTime(Integer.parseInt(endParts[0]), Integer.parseInt(endParts[1]));
             
+            // Check the venue's booking calendar before assigning
+            if (selectedVenue != null) {
+                Venue venue = venueService.getVenueWithBookings(selectedVenue.getId());
+                if (venue != null && !findClashingBookings(venue, selectedMatch, startDateTime, endDateTime).isEmpty()) {
+                    LocalDateTime nextFree = venue.findNextAvailableStart(startDateTime,
+                        Duration.between(startDateTime, endDateTime), selectedMatch.getTimeSlot());
+                    showAlert("Venue Unavailable", venue.getName() + " is already booked during this time window.\n" +
+                             "Next free start: " + nextFree.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
+                             Alert.AlertType.WARNING);
+                    return;
+                }
+            }
+            
             // Create and save time slot
             EntityManager em = JPAUtil.getEntityManager();
             try {
@@ -262,6 +279,18 @@ public class ManageTimeWindowsDialogController {
         stage.close();
     }
     
+    /**
+     * Returns the venue's bookings that overlap the requested window,
+     * ignoring the match's own current booking.
+     */
+    private List<TimeSlot> findClashingBookings(Venue venue, Match match, LocalDateTime start, LocalDateTime end) {
+        List<TimeSlot> clashes = venue.getCalendar().getOverlapping(start, end);
+        if (match.getTimeSlot() != null && match.getTimeSlot().getId() != null) {
+            clashes.removeIf(booking -> match.getTimeSlot().getId().equals(booking.getId()));
+        }
+        return clashes;
+    }
+    
     private void clearFields() {
         matchComboBox.setValue(null);
         datePicker.setValue(null);
@@ -1,9 +1,14 @@
 package com.example.tournament.ui.dialogs;
 
 import com.example.tournament.model.Match;
-import com.example.tournament.model.Tournament;
 import com.example.tournament.model.Venue;
+import com.example.tournament.service.MatchService;
+import com.example.tournament.service.RescheduleResult;
+import com.example.tournament.service.SchedulingManager;
+import com.example.tournament.service.SchedulingService;
 import com.example.tournament.service.TournamentService;
+import com.example.tournament.service.TournamentSummary;
+import com.example.tournament.service.VenueService;
 import com.example.tournament.util.JPAUtil;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
@@ -13,16 +18,23 @@ import javafx.collections.ObservableList;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 
 /**
  * Controller for the Postpone Match Dialog.
  */
 public class PostponeMatchDialogController {
     
+    private static final Duration DEFAULT_MATCH_LENGTH = Duration.ofHours(2);
+    
     @FXML
-    private ComboBox<Tournament> tournamentComboBox;
+    private ComboBox<TournamentSummary> tournamentComboBox;
     
     @FXML
     private ComboBox<Match> matchComboBox;
@@ -49,7 +61,10 @@ public class PostponeMatchDialogController {
     private TextArea reasonArea;
     
     private TournamentService tournamentService;
-    private ObservableList<Tournament> tournaments;
+    private VenueService venueService;
+    private MatchService matchService;
+    private SchedulingService schedulingService;
+    private ObservableList<TournamentSummary> tournaments;
     private ObservableList<Match> matches;
     private ObservableList<Venue> venues;
     
@@ -59,6 +74,11 @@ public class PostponeMatchDialogController {
     @FXML
     public void initialize() {
         tournamentService = new TournamentService();
+        venueService = new VenueService();
+        matchService = new MatchService();
+        SchedulingManager schedulingManager = new SchedulingManager();
+        schedulingManager.setVenueScoringModel(venueService.createScoringModel());
+        schedulingService = schedulingManager;
         
         // Load tournaments from database
         loadTournaments();
@@ -78,31 +98,31 @@ public class PostponeMatchDialogController {
     
     private void loadTournaments() {
         tournaments = FXCollections.observableArrayList(
-            tournamentService.viewAllTournaments()
+            tournamentService.getTournamentSummaries(null, null)
         );
         tournamentComboBox.setItems(tournaments);
         
         // Custom cell factory for tournaments to show user-friendly names
-        tournamentComboBox.setCellFactory(lv -> new ListCell<Tournament>() {
+        tournamentComboBox.setCellFactory(lv -> new ListCell<TournamentSummary>() {
             @Override
-            protected void updateItem(Tournament item, boolean empty) {
+            protected void updateItem(TournamentSummary item, boolean empty) {
                 super.updateItem(item, empty);
                 if (empty || item == null) {
                     setText(null);
                 } else {
-                    String sportName = item.getSport() != null ? " (" + item.getSport().getName() + ")" : "";
+                    String sportName = item.getSportName() != null ? " (" + item.getSportName() + ")" : "";
                     setText(item.getName() + sportName);
                 }
             }
         });
-        tournamentComboBox.setButtonCell(new ListCell<Tournament>() {
+        tournamentComboBox.setButtonCell(new ListCell<TournamentSummary>() {
             @Override
-            protected void updateItem(Tournament item, boolean empty) {
+            protected void updateItem(TournamentSummary item, boolean empty) {
                 super.updateItem(item, empty);
                 if (empty || item == null) {
                     setText(null);
                 } else {
-                    String sportName = item.getSport() != null ? " (" + item.getSport().getName() + ")" : "";
+                    String sportName = item.getSportName() != null ? " (" + item.getSportName() + ")" : "";
                     setText(item.getName() + sportName);
                 }
             }
@@ -150,16 +170,16 @@ public class PostponeMatchDialogController {
     }
     
     private void handleTournamentSelection() {
-        Tournament selected = tournamentComboBox.getValue();
+        TournamentSummary selected = tournamentComboBox.getValue();
         if (selected != null) {
             EntityManager em = JPAUtil.getEntityManager();
             try {
                 // Load matches for selected tournament
                 TypedQuery<Match> query = em.createQuery(
-                    "SELECT m FROM Match m WHERE m.tournament = :tournament AND m.status != 'COMPLETED' ORDER BY m.id",
+                    "SELECT m FROM Match m WHERE m.tournament.id = :tournamentId AND m.status != 'COMPLETED' ORDER BY m.id",
                     Match.class
                 );
-                query.setParameter("tournament", selected);
+                query.setParameter("tournamentId", selected.getId());
                 matches = FXCollections.observableArrayList(query.getResultList());
                 matchComboBox.setItems(matches);
                 
@@ -244,7 +264,7 @@ public class PostponeMatchDialogController {
      */
     @FXML
     private void handlePostpone() {
-        Tournament selectedTournament = tournamentComboBox.getValue();
+        TournamentSummary selectedTournament = tournamentComboBox.getValue();
         Match selectedMatch = matchComboBox.getValue();
         LocalDate newDate = newDatePicker.getValue();
         String newTime = newTimeField.getText();
@@ -282,6 +302,16 @@ public class PostponeMatchDialogController {
             return;
         }
         
+        LocalTime startTime;
+        try {
+            startTime = LocalTime.parse(newTime.trim());
+        } catch (DateTimeParseException e) {
+            showAlert("Invalid Time Format", "Please enter time in HH:MM format (e.g., 14:30)", Alert.AlertType.WARNING);
+            return;
+        }
+        
+        LocalDateTime newStart = newDate.atTime(startTime);
+        
         // Build match description
         String team1 = selectedMatch.getTeam1() != null ? selectedMatch.getTeam1().getName() : "TBD";
         String team2 = selectedMatch.getTeam2() != null ? selectedMatch.getTeam2().getName() : "TBD";
@@ -297,10 +327,43 @@ public class PostponeMatchDialogController {
         
         confirm.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
+                // Repair the schedule against every venue's bookings and the tournament's other fixtures
+                List<Venue> bookedVenues = venueService.getAllVenuesWithBookings();
+                List<Match> fixtures = matchService.getMatchesByTournament(selectedTournament.getId());
+                RescheduleResult result = schedulingService.rescheduleMatch(selectedMatch, newStart, newVenue,
+                                                                            fixtures, bookedVenues);
+                
+                if (!result.isSuccessful()) {
+                    String nextFree = findNextFreeStart(bookedVenues, newVenue, selectedMatch, newStart);
+                    showAlert("Venue Unavailable", "The match could not be moved: " + result.getMessage() + "\n" +
+                             (nextFree != null ? "Next free start at " + newVenue.getName() + ": " + nextFree : ""),
+                             Alert.AlertType.WARNING);
+                    return;
+                }
+                
+                selectedMatch.setStatus(Match.MatchStatus.POSTPONED);
+                if (!matchService.saveRescheduledMatches(result.getChangedMatches())) {
+                    showAlert("Error", "Failed to save the new schedule to the database.", Alert.AlertType.ERROR);
+                    return;
+                }
+                
+                StringBuilder shifted = new StringBuilder();
+                for (Match other : result.getShiftedMatches()) {
+                    shifted.append("\n- ")
+                           .append(other.getTeam1() != null ? other.getTeam1().getName() : "TBD")
+                           .append(" vs ")
+                           .append(other.getTeam2() != null ? other.getTeam2().getName() : "TBD")
+                           .append(" moved to ")
+                           .append(other.getScheduledTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")))
+                           .append(" at ").append(other.getVenue().getName());
+                }
+                
                 showAlert("Success", matchDesc + " has been postponed!\n\n" +
                          "New schedule: " + newDate + " at " + newTime + "\n" +
                          "Venue: " + newVenue.getName() + "\n\n" +
-                         "Reason: " + reason, Alert.AlertType.INFORMATION);
+                         "Reason: " + reason +
+                         (shifted.length() > 0 ? "\n\nFixtures shifted to make room:" + shifted : ""),
+                         Alert.AlertType.INFORMATION);
                 
                 // Clear form
                 tournamentComboBox.setValue(null);
@@ -316,6 +379,24 @@ public class PostponeMatchDialogController {
         });
     }
     
+    /**
+     * Finds the next start at which the venue is free for the match, for suggesting
+     * an alternative when the requested slot cannot be used. The match's own
+     * booking is ignored, as the match gives it up when it moves.
+     */
+    private String findNextFreeStart(List<Venue> bookedVenues, Venue venue, Match match, LocalDateTime notBefore) {
+        Duration length = match.getTimeSlot() != null
+            ? Duration.between(match.getTimeSlot().getStartTime(), match.getTimeSlot().getEndTime())
+            : DEFAULT_MATCH_LENGTH;
+        for (Venue bookedVenue : bookedVenues) {
+            if (bookedVenue.getId().equals(venue.getId())) {
+                return bookedVenue.findNextAvailableStart(notBefore, length, match.getTimeSlot())
+                                  .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+            }
+        }
+        return null;
+    }
+    
     /**
      * Handle close button click.
      */
@@ -1,9 +1,11 @@
 package com.example.tournament.ui.dialogs;
 
+import com.example.tournament.model.KnockoutTournament;
 import com.example.tournament.model.Match;
 import com.example.tournament.model.Tournament;
 import com.example.tournament.service.TournamentService;
 import com.example.tournament.service.MatchService;
+import com.example.tournament.service.RatingService;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.stage.Stage;
@@ -60,6 +62,7 @@ public class PublishScheduleDialogController {
     
     private TournamentService tournamentService;
     private MatchService matchService;
+    private RatingService ratingService;
     private DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("MMM dd, yyyy");
     private DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("MMM dd, yyyy - HH:mm");
     
@@ -70,6 +73,7 @@ public class PublishScheduleDialogController {
     public void initialize() {
         tournamentService = new TournamentService();
         matchService = new MatchService();
+        ratingService = new RatingService();
         
         // Set up table columns
         matchColumn.setCellValueFactory(new PropertyValueFactory<>("match"));
@@ -182,6 +186,10 @@ public class PublishScheduleDialogController {
             if (response == ButtonType.OK) {
                 // Generate schedule and save matches to database
                 try {
+                    // Knockout brackets keep the strongest teams apart until the late rounds
+                    if (tournament instanceof KnockoutTournament) {
+                        ratingService.seedByRating((KnockoutTournament) tournament);
+                    }
                     tournament.generateSchedule();
                     
                     // Save generated matches to database
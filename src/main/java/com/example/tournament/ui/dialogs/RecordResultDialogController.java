@@ -2,6 +2,8 @@ package com.example.tournament.ui.dialogs;
 
 import com.example.tournament.model.Match;
 import com.example.tournament.model.Tournament;
+import com.example.tournament.service.ScoreUpdate;
+import com.example.tournament.service.ScoreUpdateResult;
 import com.example.tournament.service.ScoringService;
 import com.example.tournament.service.TournamentService;
 import com.example.tournament.util.JPAUtil;
@@ -205,7 +207,10 @@ public class RecordResultDialogController {
             
             confirm.showAndWait().ifPresent(response -> {
                 if (response == ButtonType.OK) {
-                    if (scoringService.recordMatchResults(selectedMatch.getId(), team1Score, team2Score)) {
+                    // Scores are posted against the version shown, so a result entered meanwhile is not overwritten
+                    ScoreUpdateResult result = scoringService.postScore(
+                        new ScoreUpdate(selectedMatch.getId(), team1Score, team2Score, selectedMatch.getVersion()));
+                    if (result.isSuccessful()) {
                         statusLabel.setText("Result recorded successfully!");
                         showAlert("Success", "Match result has been recorded and saved to the database.", 
                                  Alert.AlertType.INFORMATION);
@@ -214,6 +219,13 @@ public class RecordResultDialogController {
                         loadCompletedMatches();
                         handleTournamentSelection(); // Reload matches for tournament
                         clearMatchDetails();
+                    } else if (result.getStatus() == ScoreUpdateResult.Status.CONFLICT) {
+                        showAlert("Result Changed", "Another user updated this match while you were entering the result. " +
+                                 "The matches have been reloaded; please check the current result and enter it again.",
+                                 Alert.AlertType.WARNING);
+                        loadCompletedMatches();
+                        handleTournamentSelection();
+                        clearMatchDetails();
                     } else {
                         showAlert("Error", "Failed to record match result.", Alert.AlertType.ERROR);
                     }
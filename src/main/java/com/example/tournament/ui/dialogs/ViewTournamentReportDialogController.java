@@ -1,6 +1,15 @@
 package com.example.tournament.ui.dialogs;
 
 import com.example.tournament.model.*;
+import com.example.tournament.service.DomainEvent;
+import com.example.tournament.service.MatchCreated;
+import com.example.tournament.service.MatchDeleted;
+import com.example.tournament.service.MatchRescheduled;
+import com.example.tournament.service.MatchResultRecorded;
+import com.example.tournament.service.StandingsEngine;
+import com.example.tournament.service.StandingsRow;
+import com.example.tournament.service.StandingsTable;
+import com.example.tournament.service.TeamStatsService;
 import com.example.tournament.service.TournamentService;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
@@ -11,12 +20,17 @@ import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 /**
  * Controller for the View Tournament Report Dialog.
+ * While open, the report follows results, reschedules and deletions of the
+ * selected tournament's matches without reloading it.
  */
 public class ViewTournamentReportDialogController {
     
@@ -105,14 +119,24 @@ public class ViewTournamentReportDialogController {
     private TableColumn<MatchData, String> matchStatusColumn;
     
     private TournamentService tournamentService;
+    private TeamStatsService teamStatsService;
     private Tournament selectedTournament;
     
+    // Shown rows by ID and running totals, for live updates
+    private final Map<Long, MatchData> matchRows = new HashMap<>();
+    private final Map<Long, StandingData> standingRows = new HashMap<>();
+    private int totalMatches;
+    private int completedMatches;
+    private int totalGoals;
+    private final AtomicBoolean standingsUpdatePending = new AtomicBoolean();
+    
     /**
      * Initialize the dialog.
      */
     @FXML
     public void initialize() {
         tournamentService = new TournamentService();
+        teamStatsService = new TeamStatsService();
         
         // Set up standings table columns
         positionColumn.setCellValueFactory(new PropertyValueFactory<>("position"));
@@ -130,6 +154,12 @@ public class ViewTournamentReportDialogController {
         team2Column.setCellValueFactory(new PropertyValueFactory<>("team2"));
         matchStatusColumn.setCellValueFactory(new PropertyValueFactory<>("matchStatus"));
         
+        // Follow changes made elsewhere while the report is open
+        LiveUpdates.subscribe(matchesTableView, MatchResultRecorded.class, this::handleResultRecorded);
+        LiveUpdates.subscribe(matchesTableView, MatchCreated.class, this::handleCreated);
+        LiveUpdates.subscribe(matchesTableView, MatchRescheduled.class, this::handleRescheduled);
+        LiveUpdates.subscribe(matchesTableView, MatchDeleted.class, this::handleDeleted);
+        
         // Load tournaments
         loadTournaments();
     }
@@ -210,26 +240,35 @@ public class ViewTournamentReportDialogController {
         
         // Statistics
         int totalTeams = selectedTournament.getTeams().size();
-        int totalMatches = selectedTournament.getMatches().size();
-        int completedMatches = (int) selectedTournament.getMatches().stream()
+        totalMatches = selectedTournament.getMatches().size();
+        completedMatches = (int) selectedTournament.getMatches().stream()
             .filter(m -> m.getStatus() == Match.MatchStatus.COMPLETED)
             .count();
-        int upcomingMatches = totalMatches - completedMatches;
         
         totalTeamsLabel.setText(String.valueOf(totalTeams));
-        totalMatchesLabel.setText(String.valueOf(totalMatches));
-        completedMatchesLabel.setText(String.valueOf(completedMatches));
-        upcomingMatchesLabel.setText(String.valueOf(upcomingMatches));
         
         // Calculate total goals
-        int totalGoals = selectedTournament.getMatches().stream()
+        totalGoals = selectedTournament.getMatches().stream()
             .filter(m -> m.getStatus() == Match.MatchStatus.COMPLETED)
-            .mapToInt(m -> {
-                int score1 = m.getTeam1Score() != null ? m.getTeam1Score() : 0;
-                int score2 = m.getTeam2Score() != null ? m.getTeam2Score() : 0;
-                return score1 + score2;
-            })
+            .mapToInt(m -> goals(m.getTeam1Score(), m.getTeam2Score()))
             .sum();
+        updateStatisticLabels();
+        
+        // Populate standings table
+        populateStandings();
+        
+        // Populate matches table
+        populateMatches();
+    }
+    
+    /**
+     * Update the match statistics from the running totals.
+     */
+    private void updateStatisticLabels() {
+        int upcomingMatches = totalMatches - completedMatches;
+        totalMatchesLabel.setText(String.valueOf(totalMatches));
+        completedMatchesLabel.setText(String.valueOf(completedMatches));
+        upcomingMatchesLabel.setText(String.valueOf(upcomingMatches));
         totalGoalsLabel.setText(String.valueOf(totalGoals));
         
         // Average score
@@ -239,12 +278,6 @@ public class ViewTournamentReportDialogController {
         // Completion percentage
         double completion = totalMatches > 0 ? (double) completedMatches / totalMatches * 100 : 0.0;
         completionLabel.setText(String.format("%.1f%%", completion));
-        
-        // Populate standings table
-        populateStandings();
-        
-        // Populate matches table
-        populateMatches();
     }
     
     /**
@@ -252,45 +285,15 @@ public class ViewTournamentReportDialogController {
      */
     private void populateStandings() {
         ObservableList<StandingData> standings = FXCollections.observableArrayList();
+        standingRows.clear();
         
         if (selectedTournament instanceof LeagueTournament || selectedTournament instanceof RoundRobinTournament) {
-            // Both League and Round Robin tournaments use the same standings logic
-            Map<Team, Integer> standingsMap;
-            if (selectedTournament instanceof LeagueTournament) {
-                standingsMap = ((LeagueTournament) selectedTournament).getStandings();
-            } else {
-                standingsMap = ((RoundRobinTournament) selectedTournament).getStandings();
-            }
-            
-            int position = 1;
-            for (var entry : standingsMap.entrySet()) {
-                Team team = entry.getKey();
-                int points = entry.getValue();
-                
-                // Calculate team statistics
-                int played = 0, wins = 0, draws = 0, losses = 0;
-                for (Match match : selectedTournament.getMatches()) {
-                    if (match.getStatus() == Match.MatchStatus.COMPLETED &&
-                        match.getTeam1Score() != null && match.getTeam2Score() != null &&
-                        (match.getTeam1().equals(team) || match.getTeam2().equals(team))) {
-                        played++;
-                        
-                        int score1 = match.getTeam1Score();
-                        int score2 = match.getTeam2Score();
-                        
-                        if (match.getTeam1().equals(team)) {
-                            if (score1 > score2) wins++;
-                            else if (score1 == score2) draws++;
-                            else losses++;
-                        } else {
-                            if (score2 > score1) wins++;
-                            else if (score2 == score1) draws++;
-                            else losses++;
-                        }
-                    }
-                }
-                
-                standings.add(new StandingData(position++, team.getName(), played, wins, draws, losses, points));
+            // Both League and Round Robin tournaments use the same standings,
+            // kept in team_stats as scores are posted
+            for (StandingsRow row : teamStatsService.getStandings(selectedTournament.getId())) {
+                StandingData data = new StandingData(row);
+                standings.add(data);
+                standingRows.put(row.getTeam().getId(), data);
             }
         } else {
             // For knockout tournaments, show all teams with basic info
@@ -308,28 +311,148 @@ public class ViewTournamentReportDialogController {
      */
     private void populateMatches() {
         ObservableList<MatchData> matches = FXCollections.observableArrayList();
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("MMM dd, yyyy");
+        matchRows.clear();
         
         for (Match match : selectedTournament.getMatches()) {
-            String date = match.getScheduledTime() != null ? 
-                match.getScheduledTime().format(dateFormatter) : "TBD";
             String team1 = match.getTeam1() != null ? match.getTeam1().getName() : "TBD";
             String team2 = match.getTeam2() != null ? match.getTeam2().getName() : "TBD";
-            String score = "-";
-            
-            if (match.getStatus() == Match.MatchStatus.COMPLETED) {
-                score = (match.getTeam1Score() != null ? match.getTeam1Score() : 0) + " - " + 
-                        (match.getTeam2Score() != null ? match.getTeam2Score() : 0);
-            }
-            
+            boolean completed = match.getStatus() == Match.MatchStatus.COMPLETED;
             String status = match.getStatus() != null ? match.getStatus().toString() : "UNKNOWN";
             
-            matches.add(new MatchData(date, team1, score, team2, status));
+            MatchData data = new MatchData(match.getId(), formatDate(match.getScheduledTime()), team1,
+                                           formatScore(completed, match.getTeam1Score(), match.getTeam2Score()),
+                                           team2, status);
+            matches.add(data);
+            matchRows.put(match.getId(), data);
         }
         
         matchesTableView.setItems(matches);
     }
     
+    /**
+     * Apply a recorded or corrected result to the shown match and totals.
+     */
+    private void handleResultRecorded(MatchResultRecorded event) {
+        MatchData row = isShown(event) ? matchRows.get(event.getMatchId()) : null;
+        if (row == null) {
+            return;
+        }
+        
+        if (event.isPreviouslyCompleted()) {
+            completedMatches--;
+            totalGoals -= goals(event.getPreviousTeam1Score(), event.getPreviousTeam2Score());
+        }
+        if (event.isCompleted()) {
+            completedMatches++;
+            totalGoals += goals(event.getTeam1Score(), event.getTeam2Score());
+        }
+        row.setMatchStatus(event.getStatus() != null ? event.getStatus().toString() : "UNKNOWN");
+        row.setScore(formatScore(event.isCompleted(), event.getTeam1Score(), event.getTeam2Score()));
+        updateStatisticLabels();
+        scheduleStandingsUpdate();
+    }
+    
+    /**
+     * Add a match drawn for the next knockout round.
+     */
+    private void handleCreated(MatchCreated event) {
+        if (!isShown(event) || matchRows.containsKey(event.getMatchId())) {
+            return;
+        }
+        
+        MatchData data = new MatchData(event.getMatchId(), formatDate(event.getScheduledTime()),
+                                       event.getTeam1Name() != null ? event.getTeam1Name() : "TBD",
+                                       formatScore(false, null, null),
+                                       event.getTeam2Name() != null ? event.getTeam2Name() : "TBD",
+                                       event.getStatus() != null ? event.getStatus().toString() : "UNKNOWN");
+        matchesTableView.getItems().add(data);
+        matchRows.put(event.getMatchId(), data);
+        totalMatches++;
+        updateStatisticLabels();
+    }
+    
+    /**
+     * Show the new date of a rescheduled match.
+     */
+    private void handleRescheduled(MatchRescheduled event) {
+        MatchData row = isShown(event) ? matchRows.get(event.getMatchId()) : null;
+        if (row != null) {
+            row.setMatchDate(formatDate(event.getScheduledTime()));
+        }
+    }
+    
+    /**
+     * Remove a deleted match and its result from the report.
+     */
+    private void handleDeleted(MatchDeleted event) {
+        MatchData row = isShown(event) ? matchRows.remove(event.getMatchId()) : null;
+        if (row == null) {
+            return;
+        }
+        
+        matchesTableView.getItems().remove(row);
+        totalMatches--;
+        if (event.isCompleted()) {
+            completedMatches--;
+            totalGoals -= goals(event.getTeam1Score(), event.getTeam2Score());
+        }
+        updateStatisticLabels();
+        scheduleStandingsUpdate();
+    }
+    
+    private boolean isShown(DomainEvent event) {
+        return selectedTournament != null && selectedTournament.getId().equals(event.getTournamentId());
+    }
+    
+    /**
+     * Read the standings in the background, once for results posted together.
+     */
+    private void scheduleStandingsUpdate() {
+        if (standingRows.isEmpty() || !standingsUpdatePending.compareAndSet(false, true)) {
+            return;
+        }
+        Long tournamentId = selectedTournament.getId();
+        LiveUpdates.read(() -> {
+            // Changes from here on schedule another read
+            standingsUpdatePending.set(false);
+            StandingsTable table = StandingsEngine.getInstance().getStandings(tournamentId);
+            return table != null ? table.getRows() : null;
+        }, rows -> updateStandings(tournamentId, rows));
+    }
+    
+    /**
+     * Update the shown standings in place from the in-memory standings, which
+     * the services have already updated.
+     */
+    private void updateStandings(Long tournamentId, List<StandingsRow> rows) {
+        if (rows == null || selectedTournament == null || !selectedTournament.getId().equals(tournamentId)) {
+            return;
+        }
+        
+        for (StandingsRow row : rows) {
+            StandingData data = standingRows.get(row.getTeam().getId());
+            if (data != null) {
+                data.update(row);
+            }
+        }
+        standingsTableView.getItems().sort((a, b) -> Integer.compare(a.getPosition(), b.getPosition()));
+    }
+    
+    private static String formatDate(LocalDateTime time) {
+        return time != null ? time.format(DateTimeFormatter.ofPattern("MMM dd, yyyy")) : "TBD";
+    }
+    
+    private static String formatScore(boolean completed, Integer score1, Integer score2) {
+        if (!completed) {
+            return "-";
+        }
+        return (score1 != null ? score1 : 0) + " - " + (score2 != null ? score2 : 0);
+    }
+    
+    private static int goals(Integer score1, Integer score2) {
+        return (score1 != null ? score1 : 0) + (score2 != null ? score2 : 0);
+    }
+    
     /**
      * Handle export report button click.
      */
@@ -388,6 +511,23 @@ public class ViewTournamentReportDialogController {
             this.points = new SimpleIntegerProperty(points);
         }
         
+        public StandingData(StandingsRow row) {
+            this(row.getRank(), row.getTeam().getName(), row.getPlayed(),
+                 row.getWins(), row.getDraws(), row.getLosses(), row.getPoints());
+        }
+        
+        /**
+         * Copy the totals of a row, keeping the entry shown in the table.
+         */
+        public void update(StandingsRow row) {
+            position.set(row.getRank());
+            matchesPlayed.set(row.getPlayed());
+            wins.set(row.getWins());
+            draws.set(row.getDraws());
+            losses.set(row.getLosses());
+            points.set(row.getPoints());
+        }
+        
         public int getPosition() { return position.get(); }
         public String getTeamName() { return teamName.get(); }
         public int getMatchesPlayed() { return matchesPlayed.get(); }
@@ -395,19 +535,29 @@ public class ViewTournamentReportDialogController {
         public int getDraws() { return draws.get(); }
         public int getLosses() { return losses.get(); }
         public int getPoints() { return points.get(); }
+        
+        public SimpleIntegerProperty positionProperty() { return position; }
+        public SimpleStringProperty teamNameProperty() { return teamName; }
+        public SimpleIntegerProperty matchesPlayedProperty() { return matchesPlayed; }
+        public SimpleIntegerProperty winsProperty() { return wins; }
+        public SimpleIntegerProperty drawsProperty() { return draws; }
+        public SimpleIntegerProperty lossesProperty() { return losses; }
+        public SimpleIntegerProperty pointsProperty() { return points; }
     }
     
     /**
      * Data class for match information.
      */
     public static class MatchData {
+        private final Long matchId;
         private final SimpleStringProperty matchDate;
         private final SimpleStringProperty team1;
         private final SimpleStringProperty score;
         private final SimpleStringProperty team2;
         private final SimpleStringProperty matchStatus;
         
-        public MatchData(String matchDate, String team1, String score, String team2, String matchStatus) {
+        public MatchData(Long matchId, String matchDate, String team1, String score, String team2, String matchStatus) {
+            this.matchId = matchId;
             this.matchDate = new SimpleStringProperty(matchDate);
             this.team1 = new SimpleStringProperty(team1);
             this.score = new SimpleStringProperty(score);
@@ -415,10 +565,21 @@ public class ViewTournamentReportDialogController {
             this.matchStatus = new SimpleStringProperty(matchStatus);
         }
         
+        public Long getMatchId() { return matchId; }
         public String getMatchDate() { return matchDate.get(); }
         public String getTeam1() { return team1.get(); }
         public String getScore() { return score.get(); }
         public String getTeam2() { return team2.get(); }
         public String getMatchStatus() { return matchStatus.get(); }
+        
+        public void setMatchDate(String value) { matchDate.set(value); }
+        public void setScore(String value) { score.set(value); }
+        public void setMatchStatus(String value) { matchStatus.set(value); }
+        
+        public SimpleStringProperty matchDateProperty() { return matchDate; }
+        public SimpleStringProperty team1Property() { return team1; }
+        public SimpleStringProperty scoreProperty() { return score; }
+        public SimpleStringProperty team2Property() { return team2; }
+        public SimpleStringProperty matchStatusProperty() { return matchStatus; }
     }
 }
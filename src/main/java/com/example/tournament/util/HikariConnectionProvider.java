@@ -0,0 +1,177 @@
+package com.example.tournament.util;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Stoppable;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hibernate connection provider backed by a HikariCP pool, so every persistence
+ * unit gets a production pool instead of Hibernate's built-in one.
+ * 
+ * The pool is configured from the unit's JDBC settings and any hibernate.hikari.*
+ * properties (HikariConfig property names, e.g. hibernate.hikari.maximumPoolSize or
+ * hibernate.hikari.dataSource.cachePrepStmts). Without a configured size the pool
+ * holds 2 * processors + 1 connections. Connection wait times are recorded so that
+ * JPAUtil can report them alongside the pool's active and idle counts.
+ */
+public class HikariConnectionProvider implements ConnectionProvider, Configurable, Stoppable {
+    
+    private static final long serialVersionUID = 1L;
+    private static final String HIKARI_PREFIX = "hibernate.hikari.";
+    
+    private HikariDataSource dataSource;
+    private final WaitTimeTracker waitTimes = new WaitTimeTracker();
+    
+    @Override
+    public void configure(Map<String, Object> settings) {
+        Properties properties = new Properties();
+        for (Map.Entry<String, Object> entry : settings.entrySet()) {
+            if (entry.getKey().startsWith(HIKARI_PREFIX) && entry.getValue() != null) {
+                properties.setProperty(entry.getKey().substring(HIKARI_PREFIX.length()), entry.getValue().toString());
+            }
+        }
+        
+        HikariConfig config = new HikariConfig(properties);
+        if (config.getJdbcUrl() == null) {
+            config.setJdbcUrl(setting(settings, AvailableSettings.URL, AvailableSettings.JAKARTA_JDBC_URL));
+        }
+        if (config.getDriverClassName() == null) {
+            String driver = setting(settings, AvailableSettings.DRIVER, AvailableSettings.JAKARTA_JDBC_DRIVER);
+            if (driver != null) {
+                config.setDriverClassName(driver);
+            }
+        }
+        if (config.getUsername() == null) {
+            config.setUsername(setting(settings, AvailableSettings.USER, AvailableSettings.JAKARTA_JDBC_USER));
+        }
+        if (config.getPassword() == null) {
+            config.setPassword(setting(settings, AvailableSettings.PASS, AvailableSettings.JAKARTA_JDBC_PASSWORD));
+        }
+        if (config.getPoolName() == null) {
+            config.setPoolName(setting(settings, AvailableSettings.PERSISTENCE_UNIT_NAME, AvailableSettings.SESSION_FACTORY_NAME));
+        }
+        if (!properties.containsKey("maximumPoolSize")) {
+            config.setMaximumPoolSize(2 * Runtime.getRuntime().availableProcessors() + 1);
+        }
+        config.setMetricsTrackerFactory(waitTimes);
+        
+        dataSource = new HikariDataSource(config);
+    }
+    
+    private static String setting(Map<String, Object> settings, String name, String fallback) {
+        Object value = settings.get(name);
+        if (value == null) {
+            value = settings.get(fallback);
+        }
+        return value != null ? value.toString() : null;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+    
+    @Override
+    public void closeConnection(Connection connection) throws SQLException {
+        connection.close();
+    }
+    
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+    
+    /**
+     * Gets a snapshot of the pool's connections and wait times.
+     */
+    public PoolMetrics getMetrics() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        long acquired = waitTimes.acquired.sum();
+        return new PoolMetrics(
+            dataSource.getPoolName(),
+            pool.getActiveConnections(),
+            pool.getIdleConnections(),
+            pool.getTotalConnections(),
+            dataSource.getMaximumPoolSize(),
+            pool.getThreadsAwaitingConnection(),
+            acquired,
+            acquired > 0 ? waitTimes.waitNanos.sum() / (acquired * 1_000_000.0) : 0.0,
+            waitTimes.maxWaitNanos.get() / 1_000_000.0,
+            waitTimes.timeouts.sum()
+        );
+    }
+    
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isAssignableFrom(getClass())
+            || unwrapType.isAssignableFrom(HikariDataSource.class);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (unwrapType.isAssignableFrom(getClass())) {
+            return (T) this;
+        }
+        if (unwrapType.isAssignableFrom(HikariDataSource.class)) {
+            return (T) dataSource;
+        }
+        throw new IllegalArgumentException("Cannot unwrap " + getClass().getName() + " as " + unwrapType.getName());
+    }
+    
+    /**
+     * The underlying pool, e.g. for a health check.
+     */
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+    
+    @Override
+    public void stop() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+    
+    /**
+     * Records how long callers waited for a connection; counts come from the pool.
+     */
+    private static final class WaitTimeTracker implements MetricsTrackerFactory, IMetricsTracker {
+        final LongAdder acquired = new LongAdder();
+        final LongAdder waitNanos = new LongAdder();
+        final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+        final LongAdder timeouts = new LongAdder();
+        
+        @Override
+        public IMetricsTracker create(String poolName, PoolStats poolStats) {
+            return this;
+        }
+        
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquired.increment();
+            waitNanos.add(elapsedAcquiredNanos);
+            maxWaitNanos.accumulate(elapsedAcquiredNanos);
+        }
+        
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+    }
+}
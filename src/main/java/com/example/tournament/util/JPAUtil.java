@@ -1,26 +1,60 @@
 package com.example.tournament.util;
 
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Utility class for managing JPA EntityManager instances.
  * Provides centralized database connection management for the Tournament Management System.
+ * 
+ * Connections come from a HikariCP pool per persistence unit, and entities and
+ * queries marked cacheable are kept in a Caffeine second-level cache through
+ * Hibernate's JCache integration, sized in application.conf. The unit, its JDBC
+ * connection, pool and cache size can be overridden without editing persistence.xml,
+ * through system properties or, failing that, environment variables:
+ * 
+ *   tournament.db.unit               TOURNAMENT_DB_UNIT
+ *   tournament.db.url                TOURNAMENT_DB_URL
+ *   tournament.db.user               TOURNAMENT_DB_USER
+ *   tournament.db.password           TOURNAMENT_DB_PASSWORD
+ *   tournament.db.pool.<setting>     TOURNAMENT_DB_POOL_<SETTING>
+ *   tournament.db.cache.maxEntries   TOURNAMENT_DB_CACHE_MAX_ENTRIES
+ * 
+ * where a pool setting is a HikariConfig property, e.g. tournament.db.pool.maximumPoolSize
+ * or TOURNAMENT_DB_POOL_MAXIMUM_POOL_SIZE.
  */
 public class JPAUtil {
     
     private static final Logger logger = LoggerFactory.getLogger(JPAUtil.class);
     private static EntityManagerFactory entityManagerFactory;
+    private static HikariConnectionProvider connectionProvider;
     private static final String DEFAULT_PERSISTENCE_UNIT = "TournamentPU-H2";
     
+    private static final String PROPERTY_PREFIX = "tournament.db.";
+    private static final String[] POOL_SETTINGS = {
+        "maximumPoolSize", "minimumIdle", "connectionTimeout", "idleTimeout",
+        "maxLifetime", "keepaliveTime", "leakDetectionThreshold"
+    };
+    
     /**
-     * Initialize the EntityManagerFactory with the default persistence unit (H2 in-memory database).
+     * Initialize the EntityManagerFactory with the default persistence unit (H2 in-memory database),
+     * unless another unit is configured through tournament.db.unit or TOURNAMENT_DB_UNIT.
      */
     public static void initialize() {
-        initialize(DEFAULT_PERSISTENCE_UNIT);
+        String unit = configured("unit");
+        initialize(unit != null ? unit : DEFAULT_PERSISTENCE_UNIT);
     }
     
     /**
@@ -31,11 +65,28 @@ public class JPAUtil {
      *                                    TournamentPU-PostgreSQL, TournamentPU-SQLite
      */
     public static void initialize(String persistenceUnitName) {
+        initialize(persistenceUnitName, Map.of());
+    }
+    
+    /**
+     * Initialize the EntityManagerFactory with a specific persistence unit,
+     * overriding some of its properties.
+     * 
+     * @param persistenceUnitName Name of the persistence unit to use
+     * @param properties Properties that take precedence over persistence.xml and the
+     *                   configured overrides, e.g. a different JDBC URL or hibernate.show_sql
+     */
+    public static void initialize(String persistenceUnitName, Map<String, ?> properties) {
         if (entityManagerFactory == null || !entityManagerFactory.isOpen()) {
             try {
                 logger.info("Initializing JPA with persistence unit: {}", persistenceUnitName);
-                entityManagerFactory = Persistence.createEntityManagerFactory(persistenceUnitName);
-                logger.info("JPA initialized successfully!");
+                Map<String, Object> settings = configuredSettings();
+                settings.putAll(properties);
+                entityManagerFactory = Persistence.createEntityManagerFactory(persistenceUnitName, settings);
+                connectionProvider = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry().getService(ConnectionProvider.class)
+                    .unwrap(HikariConnectionProvider.class);
+                logger.info("JPA initialized successfully with {}", connectionProvider.getMetrics());
                 
                 // Initialize standard dummy data
                 DataInitializer.initializeData();
@@ -46,6 +97,51 @@ public class JPAUtil {
         }
     }
     
+    /**
+     * Builds the settings given by system properties and environment variables, on
+     * top of the pooled connection provider.
+     */
+    private static Map<String, Object> configuredSettings() {
+        Map<String, Object> settings = new HashMap<>();
+        settings.put(AvailableSettings.CONNECTION_PROVIDER, HikariConnectionProvider.class.getName());
+        
+        // Second-level and query cache for the entities and queries marked cacheable
+        settings.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, "ENABLE_SELECTIVE");
+        settings.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+        settings.put(AvailableSettings.USE_QUERY_CACHE, true);
+        settings.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+        settings.put(ConfigSettings.PROVIDER, CaffeineCachingProvider.class.getName());
+        settings.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+        
+        putConfigured(settings, "url", AvailableSettings.JAKARTA_JDBC_URL);
+        putConfigured(settings, "user", AvailableSettings.JAKARTA_JDBC_USER);
+        putConfigured(settings, "password", AvailableSettings.JAKARTA_JDBC_PASSWORD);
+        for (String setting : POOL_SETTINGS) {
+            putConfigured(settings, "pool." + setting, "hibernate.hikari." + setting);
+        }
+        return settings;
+    }
+    
+    private static void putConfigured(Map<String, Object> settings, String name, String setting) {
+        String value = configured(name);
+        if (value != null) {
+            settings.put(setting, value);
+        }
+    }
+    
+    /**
+     * Looks up tournament.db.<name> in the system properties, then in the environment
+     * as TOURNAMENT_DB_<NAME>, camel case words separated by underscores.
+     */
+    private static String configured(String name) {
+        String value = System.getProperty(PROPERTY_PREFIX + name);
+        if (value != null) {
+            return value;
+        }
+        String variable = (PROPERTY_PREFIX + name).replaceAll("([a-z])([A-Z])", "$1_$2").replace('.', '_');
+        return System.getenv(variable.toUpperCase(Locale.ROOT));
+    }
+    
     /**
      * Get an EntityManager instance.
      * Initializes the factory if not already done.
@@ -65,12 +161,23 @@ public class JPAUtil {
      */
     public static void shutdown() {
         if (entityManagerFactory != null && entityManagerFactory.isOpen()) {
-            logger.info("Shutting down JPA...");
+            logger.info("Shutting down JPA, connection pool: {}", connectionProvider.getMetrics());
             entityManagerFactory.close();
+            connectionProvider = null;
             logger.info("JPA shutdown complete.");
         }
     }
     
+    /**
+     * Get the connection pool's current connections and wait times, e.g. to spot
+     * starvation when many services request EntityManagers at once.
+     * 
+     * @return the pool metrics, or null if JPA is not initialized
+     */
+    public static PoolMetrics getPoolMetrics() {
+        return isInitialized() ? connectionProvider.getMetrics() : null;
+    }
+    
     /**
      * Check if the EntityManagerFactory is initialized and open.
      * 
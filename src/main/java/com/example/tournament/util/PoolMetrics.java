@@ -0,0 +1,100 @@
+package com.example.tournament.util;
+
+/**
+ * Snapshot of a connection pool: its connections at the time of the snapshot and
+ * the time callers have waited for one since the pool was started.
+ */
+public class PoolMetrics {
+    
+    private final String poolName;
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int totalConnections;
+    private final int maximumPoolSize;
+    private final int threadsAwaitingConnection;
+    private final long connectionsAcquired;
+    private final double averageWaitMillis;
+    private final double maxWaitMillis;
+    private final long timeouts;
+    
+    // Constructors
+    public PoolMetrics(String poolName, int activeConnections, int idleConnections, int totalConnections,
+                       int maximumPoolSize, int threadsAwaitingConnection, long connectionsAcquired,
+                       double averageWaitMillis, double maxWaitMillis, long timeouts) {
+        this.poolName = poolName;
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.totalConnections = totalConnections;
+        this.maximumPoolSize = maximumPoolSize;
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+        this.connectionsAcquired = connectionsAcquired;
+        this.averageWaitMillis = averageWaitMillis;
+        this.maxWaitMillis = maxWaitMillis;
+        this.timeouts = timeouts;
+    }
+    
+    // Getters
+    public String getPoolName() {
+        return poolName;
+    }
+    
+    /**
+     * Connections currently lent out to an EntityManager.
+     */
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+    
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+    
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+    
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+    
+    /**
+     * Callers blocked waiting for a connection; non-zero under starvation.
+     */
+    public int getThreadsAwaitingConnection() {
+        return threadsAwaitingConnection;
+    }
+    
+    public long getConnectionsAcquired() {
+        return connectionsAcquired;
+    }
+    
+    public double getAverageWaitMillis() {
+        return averageWaitMillis;
+    }
+    
+    public double getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+    
+    /**
+     * Requests that gave up after the pool's connection timeout.
+     */
+    public long getTimeouts() {
+        return timeouts;
+    }
+    
+    @Override
+    public String toString() {
+        return "PoolMetrics{" +
+                "poolName='" + poolName + '\'' +
+                ", active=" + activeConnections +
+                ", idle=" + idleConnections +
+                ", total=" + totalConnections + "/" + maximumPoolSize +
+                ", awaiting=" + threadsAwaitingConnection +
+                ", acquired=" + connectionsAcquired +
+                ", averageWaitMillis=" + String.format("%.3f", averageWaitMillis) +
+                ", maxWaitMillis=" + String.format("%.3f", maxWaitMillis) +
+                ", timeouts=" + timeouts +
+                '}';
+    }
+}
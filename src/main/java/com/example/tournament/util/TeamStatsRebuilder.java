@@ -0,0 +1,37 @@
+package com.example.tournament.util;
+
+import com.example.tournament.service.TeamStatsService;
+
+/**
+ * Command-line entry point that recomputes the team_stats table from the recorded
+ * matches, e.g. to backfill a database whose results were posted before the table
+ * was maintained.
+ * 
+ * Usage: TeamStatsRebuilder [persistence unit] [tournament ID ...]
+ * Without tournament IDs every tournament is rebuilt.
+ */
+public class TeamStatsRebuilder {
+    
+    public static void main(String[] args) {
+        JPAUtil.initialize(args.length > 0 ? args[0] : "TournamentPU-H2");
+        
+        try {
+            TeamStatsService teamStatsService = new TeamStatsService();
+            if (args.length <= 1) {
+                int rebuilt = teamStatsService.rebuildAll();
+                System.out.println("Rebuilt team stats of " + rebuilt + " tournaments");
+                return;
+            }
+            
+            for (int i = 1; i < args.length; i++) {
+                Long tournamentId = Long.valueOf(args[i]);
+                boolean rebuilt = teamStatsService.rebuild(tournamentId);
+                System.out.println((rebuilt ? "Rebuilt" : "Could not rebuild") +
+                                   " team stats of tournament " + tournamentId);
+            }
+            
+        } finally {
+            JPAUtil.shutdown();
+        }
+    }
+}